@@ -0,0 +1,121 @@
+package core.game.eval;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import core.game.Match;
+import core.game.Move;
+import core.game.grid.Board;
+import core.game.grid.Tile;
+import core.game.mechanics.Wildlife;
+
+/**
+ * Checks the chance nodes of {@link EndgameSolver} on games redrawing the market on 3 identical tokens:
+ * - Each sample draws its market from the tiles kept from the previous market, whatever an earlier sample
+ * redrew: the same draws give the same market however the array of the market was left
+ * - Positions of seeded games within the last turns are solved to a legal move and a finite margin, the same
+ * ones for two new solvers
+ *
+ * Run by {@code ant check-endgame}; exits with status 1 if a check fails.
+ */
+public final class EndgameSolverCheck {
+	private static final int GAMES = 20;
+	private static final int SOLVED_GAMES = 5; // Chaque résolution prend plusieurs secondes sur un seul thread
+	private static final int SAMPLES = 256;
+	private static final int ALL_WILDLIFE = (1 << Wildlife.values().length) - 1;
+
+	private EndgameSolverCheck() {
+	}
+
+	/**
+	 * Runs the check
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		int failures = 0;
+		int redraws = 0;
+		for (long seed = 0; seed < GAMES; seed++) {
+			Match match = endgame(seed);
+			short[] from = encode(match.getMarket());
+			for (int taken = 0; taken < from.length; taken++) {
+				short[] shared = new short[4];
+				for (int k = 0; k < SAMPLES; k++) {
+					int count = EndgameSolver.sampleMarket(from, from.length, taken, shared,
+							new SplittableRandom(seed * SAMPLES + k), ALL_WILDLIFE, true);
+					short[] fresh = new short[4];
+					int freshCount = EndgameSolver.sampleMarket(from, from.length, taken, fresh,
+							new SplittableRandom(seed * SAMPLES + k), ALL_WILDLIFE, true);
+					if (count != freshCount || !Arrays.equals(shared, 0, count, fresh, 0, freshCount)) {
+						System.out.println("Partie " + seed + " : le tirage " + k + " dépend des tirages précédents");
+						failures++;
+					}
+					redraws += keeps(from, taken, shared) ? 0 : 1;
+				}
+			}
+			if (seed < SOLVED_GAMES) {
+				failures += solves(match, seed) ? 0 : 1;
+			}
+		}
+		System.out.println(redraws + " marchés tirés à nouveau sur " + GAMES * 4 * SAMPLES);
+		if (failures > 0) {
+			System.out.println(failures + " vérifications en échec");
+			System.exit(1);
+		}
+		System.out.println("Noeuds de hasard et solutions cohérents");
+	}
+
+	/**
+	 * Plays random moves of a seeded game redrawing on 3 identical tokens until the solver applies
+	 * @param seed Seed of the game and of the moves
+	 * @return Match within the last turns
+	 */
+	private static Match endgame(long seed) {
+		Match match = new Match(3, 2, seed, true); // Variante normale, tirage à nouveau sur 3 jetons identiques
+		Random random = new Random(seed);
+		while (EndgameSolver.remainingTurns(match) > EndgameSolver.DEFAULT_TURNS) {
+			List<Move> moves = match.legalMoves();
+			match.play(moves.get(random.nextInt(moves.size())));
+		}
+		return match;
+	}
+
+	private static boolean solves(Match match, long seed) {
+		EndgameSolver.Solution first;
+		EndgameSolver.Solution second;
+		try (EndgameSolver solver = new EndgameSolver(EndgameSolver.DEFAULT_TURNS, EndgameSolver.DEFAULT_SAMPLES, 1)) {
+			first = solver.solve(match);
+		}
+		try (EndgameSolver solver = new EndgameSolver(EndgameSolver.DEFAULT_TURNS, EndgameSolver.DEFAULT_SAMPLES, 1)) {
+			second = solver.solve(match);
+		}
+		if (first == null || !match.legalMoves().contains(first.move()) || !Double.isFinite(first.margin())) {
+			System.out.println("Partie " + seed + " : solution invalide " + first);
+			return false;
+		}
+		if (!first.equals(second)) {
+			System.out.println("Partie " + seed + " : solutions différentes " + first + " et " + second);
+			return false;
+		}
+		return true;
+	}
+
+	private static boolean keeps(short[] from, int taken, short[] market) {
+		int kept = 0;
+		for (int slot = 0; slot < from.length; slot++) {
+			if (slot != taken && market[kept++] != from[slot]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static short[] encode(List<Tile> market) {
+		short[] tiles = new short[market.size()];
+		for (int i = 0; i < tiles.length; i++) {
+			tiles[i] = Board.encode(market.get(i));
+		}
+		return tiles;
+	}
+}
@@ -0,0 +1,548 @@
+package graphical.main;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.lang.management.ManagementFactory;
+import java.text.AttributedCharacterIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.github.forax.zen.ApplicationContext;
+import com.github.forax.zen.Event;
+import com.github.forax.zen.ScreenInfo;
+
+import core.game.grid.Board;
+import core.game.grid.Grid;
+import core.game.grid.Tile;
+import core.game.player.Player;
+import graphical.model.GameMode;
+import graphical.model.GameSnapshot;
+import graphical.model.GameStateManager;
+import graphical.model.PlacementHeatmap;
+import graphical.view.components.Camera;
+import graphical.view.components.GraphicalCard;
+import graphical.view.components.GraphicalGrid;
+import graphical.view.components.GraphicalTile;
+import graphical.view.renderers.RenderGame;
+import graphical.view.resources.ScoringCardsImageManager;
+import graphical.view.resources.TileImageManager;
+
+/**
+ * Checks that a steady-state frame of the game screen allocates nothing, from the bytes allocated by the
+ * rendering thread as counted by {@link com.sun.management.ThreadMXBean}.
+ * The game screen of a new game is drawn in square then hexagonal mode, with placement hints:
+ * after warming up, rendering many frames must not allocate more than rendering a few ones.
+ * - The check is made on a graphics context that draws nothing, so that only the renderers are measured
+ * - The same frames are then drawn into an image, and the bytes allocated inside Java2D, which allocates on
+ * most of its drawing calls, are reported without failing the check
+ *
+ * Run by {@code ant check-allocations}; exits with status 1 if frames allocate.
+ */
+public final class FrameAllocationCheck {
+	private static final int WIDTH = 1920;
+	private static final int HEIGHT = 1080;
+	private static final int WARM_UP_FRAMES = 500;
+	private static final int FEW_FRAMES = 10;
+	private static final int MANY_FRAMES = 1000;
+	// Tolérance pour les allocations ponctuelles (compilation, caches), moins de 5 octets par image
+	private static final long TOLERANCE_BYTES = 4 * 1024;
+
+	private FrameAllocationCheck() {
+	}
+
+	/**
+	 * Runs the check
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!threads.isThreadAllocatedMemorySupported()) {
+			System.out.println("Mesure des allocations non supportée par cette JVM");
+			return;
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+		boolean allocating = false;
+		for (GameMode mode : new GameMode[] { GameMode.GRAPHICAL_SQUARE_TILES, GameMode.GRAPHICAL_HEXAGON_TILES }) {
+			Consumer<Graphics2D> frame = gameFrame(mode);
+			BufferedImage screen = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = screen.createGraphics();
+			long perFrame = allocatedPerFrame(threads, frame, new NullGraphics(graphics));
+			long java2d = allocatedPerFrame(threads, frame, graphics);
+			graphics.dispose();
+			System.out.printf("%s : %d octets par image dans les rendus, %d octets par image avec Java2D%n", mode,
+					perFrame, java2d);
+			allocating |= perFrame > 0;
+		}
+		if (allocating) {
+			System.out.println("Les rendus allouent à chaque image");
+			System.exit(1);
+		}
+		System.out.println("Aucune allocation par image dans les rendus");
+	}
+
+	/**
+	 * Bytes allocated by one frame once warmed up, from the difference between many frames and a few ones
+	 * @param threads Bean counting the bytes allocated by the current thread
+	 * @param frame   Renderer of one frame
+	 * @param graphics Graphics context the frames are drawn on
+	 * @return Bytes allocated per frame, 0 if the difference stays under the tolerance
+	 */
+	private static long allocatedPerFrame(com.sun.management.ThreadMXBean threads, Consumer<Graphics2D> frame,
+			Graphics2D graphics) {
+		long id = Thread.currentThread().threadId();
+		render(frame, graphics, WARM_UP_FRAMES);
+		long start = threads.getThreadAllocatedBytes(id);
+		render(frame, graphics, FEW_FRAMES);
+		long few = threads.getThreadAllocatedBytes(id) - start;
+		start = threads.getThreadAllocatedBytes(id);
+		render(frame, graphics, MANY_FRAMES);
+		long many = threads.getThreadAllocatedBytes(id) - start;
+		return many - few > TOLERANCE_BYTES ? (many - few) / (MANY_FRAMES - FEW_FRAMES) : 0;
+	}
+
+	private static void render(Consumer<Graphics2D> frame, Graphics2D graphics, int frames) {
+		for (int i = 0; i < frames; i++) {
+			frame.accept(graphics);
+		}
+	}
+
+	/**
+	 * Game screen of a new game, as drawn by GameEventManager
+	 * @param mode Game mode
+	 * @return Renderer of one frame, reused for every frame
+	 */
+	private static Consumer<Graphics2D> gameFrame(GameMode mode) {
+		GameStateManager stateManager = new GameStateManager(new OffscreenContext());
+		stateManager.setGameMode(mode);
+		stateManager.initializePlayers();
+		Player player = stateManager.getPlayers().get(0);
+		Grid grid = stateManager.getGame().getGridForPlayer(player);
+
+		TileImageManager tileImages = new TileImageManager(stateManager);
+		tileImages.loadTileImages();
+		GraphicalGrid graphicalGrid = new GraphicalGrid(grid, tileImages, stateManager);
+		List<Tile> drawn = stateManager.getGame().drawValidTiles(grid, false);
+		List<GraphicalTile> tiles = new ArrayList<>();
+		graphicalGrid.displayTileChoices(drawn, tiles, tileImages);
+		List<GraphicalTile> market = new ArrayList<>();
+		for (GraphicalTile tile : tiles) {
+			market.add(tile.freeze());
+		}
+
+		ScoringCardsImageManager cardImages = new ScoringCardsImageManager();
+		cardImages.loadScoringCardImages();
+		List<GraphicalCard> cards = new ArrayList<>();
+		for (String name : cardImages.getScoringCardNames()) {
+			cards.add(new GraphicalCard(name, cardImages, 180, 140));
+		}
+
+		PlacementHeatmap.Position position = PlacementHeatmap.Position.of(Board.of(grid), drawn);
+		int[][] gains = new int[PlacementHeatmap.Position.MARKET_SIZE][grid.getSize() * grid.getSize()];
+		for (int slot = 0; slot < gains.length; slot++) {
+			for (int index = 0; index < gains[slot].length; index++) {
+				gains[slot][index] = (slot + index) % 13 - 6; // Gains négatifs compris
+			}
+		}
+		PlacementHeatmap heatmap = PlacementHeatmap.of(position, gains);
+		GameSnapshot snapshot = new GameSnapshot(1, player.getName(), graphicalGrid.getLayout(),
+				graphicalGrid.snapshotCells(), graphicalGrid.snapshotAvailableCells(), market, market.get(0), null, false,
+				null, 0, 0, position);
+
+		RenderGame renderer = new RenderGame(new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB), WIDTH,
+				HEIGHT, cards, new Camera(WIDTH, HEIGHT));
+		return graphics -> {
+			renderer.render(graphics, snapshot, heatmap);
+			renderer.renderTurnInfo(graphics, snapshot.playerName(), snapshot.turn());
+			GraphicalTile selected = snapshot.selectedTile();
+			selected.renderSelectedTile(graphics, selected);
+		};
+	}
+
+	/**
+	 * Context without window nor events, enough to build the managers of the game
+	 */
+	private static final class OffscreenContext implements ApplicationContext {
+		@Override
+		public ScreenInfo getScreenInfo() {
+			return new ScreenInfo(WIDTH, HEIGHT);
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public Event pollEvent() {
+			return null;
+		}
+
+		@Override
+		public Event pollOrWaitEvent(long timeout) {
+			return null;
+		}
+
+		@Override
+		public void renderFrame(Consumer<Graphics2D> renderer) {
+			throw new UnsupportedOperationException("No screen");
+		}
+	}
+
+	/**
+	 * Graphics context drawing nothing, keeping only the state the renderers read back.
+	 * Fonts are measured by a real graphics context.
+	 */
+	private static final class NullGraphics extends Graphics2D {
+		private final Graphics2D metrics;
+		private Color color = Color.BLACK;
+		private Color background = Color.BLACK;
+		private Paint paint = Color.BLACK;
+		private Font font;
+		private Stroke stroke;
+		private Composite composite;
+		private Shape clip;
+
+		NullGraphics(Graphics2D metrics) {
+			this.metrics = metrics;
+			this.font = metrics.getFont();
+			this.stroke = metrics.getStroke();
+			this.composite = metrics.getComposite();
+		}
+
+		@Override
+		public FontMetrics getFontMetrics(Font f) {
+			return metrics.getFontMetrics(f);
+		}
+
+		@Override
+		public FontRenderContext getFontRenderContext() {
+			return metrics.getFontRenderContext();
+		}
+
+		@Override
+		public GraphicsConfiguration getDeviceConfiguration() {
+			return metrics.getDeviceConfiguration();
+		}
+
+		@Override
+		public Graphics create() {
+			return this;
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public Color getColor() {
+			return color;
+		}
+
+		@Override
+		public void setColor(Color c) {
+			color = c;
+			paint = c;
+		}
+
+		@Override
+		public Paint getPaint() {
+			return paint;
+		}
+
+		@Override
+		public void setPaint(Paint p) {
+			paint = p;
+		}
+
+		@Override
+		public Color getBackground() {
+			return background;
+		}
+
+		@Override
+		public void setBackground(Color c) {
+			background = c;
+		}
+
+		@Override
+		public Font getFont() {
+			return font;
+		}
+
+		@Override
+		public void setFont(Font f) {
+			font = f;
+		}
+
+		@Override
+		public Stroke getStroke() {
+			return stroke;
+		}
+
+		@Override
+		public void setStroke(Stroke s) {
+			stroke = s;
+		}
+
+		@Override
+		public Composite getComposite() {
+			return composite;
+		}
+
+		@Override
+		public void setComposite(Composite c) {
+			composite = c;
+		}
+
+		@Override
+		public Shape getClip() {
+			return clip;
+		}
+
+		@Override
+		public void setClip(Shape s) {
+			clip = s;
+		}
+
+		@Override
+		public void setClip(int x, int y, int width, int height) {
+			clip = null; // Rien n'est dessiné : la découpe n'a pas d'effet
+		}
+
+		@Override
+		public Rectangle getClipBounds() {
+			return null;
+		}
+
+		@Override
+		public void clip(Shape s) {
+		}
+
+		@Override
+		public void clipRect(int x, int y, int width, int height) {
+		}
+
+		@Override
+		public void setPaintMode() {
+		}
+
+		@Override
+		public void setXORMode(Color c) {
+		}
+
+		@Override
+		public void setRenderingHint(RenderingHints.Key key, Object value) {
+		}
+
+		@Override
+		public Object getRenderingHint(RenderingHints.Key key) {
+			return null;
+		}
+
+		@Override
+		public void setRenderingHints(Map<?, ?> hints) {
+		}
+
+		@Override
+		public void addRenderingHints(Map<?, ?> hints) {
+		}
+
+		@Override
+		public RenderingHints getRenderingHints() {
+			return metrics.getRenderingHints();
+		}
+
+		@Override
+		public void translate(int x, int y) {
+		}
+
+		@Override
+		public void translate(double tx, double ty) {
+		}
+
+		@Override
+		public void rotate(double theta) {
+		}
+
+		@Override
+		public void rotate(double theta, double x, double y) {
+		}
+
+		@Override
+		public void scale(double sx, double sy) {
+		}
+
+		@Override
+		public void shear(double shx, double shy) {
+		}
+
+		@Override
+		public void transform(AffineTransform tx) {
+		}
+
+		@Override
+		public void setTransform(AffineTransform tx) {
+		}
+
+		@Override
+		public AffineTransform getTransform() {
+			return new AffineTransform();
+		}
+
+		@Override
+		public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+			return false;
+		}
+
+		@Override
+		public void draw(Shape s) {
+		}
+
+		@Override
+		public void fill(Shape s) {
+		}
+
+		@Override
+		public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+		}
+
+		@Override
+		public void drawLine(int x1, int y1, int x2, int y2) {
+		}
+
+		@Override
+		public void fillRect(int x, int y, int width, int height) {
+		}
+
+		@Override
+		public void clearRect(int x, int y, int width, int height) {
+		}
+
+		@Override
+		public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		}
+
+		@Override
+		public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		}
+
+		@Override
+		public void drawOval(int x, int y, int width, int height) {
+		}
+
+		@Override
+		public void fillOval(int x, int y, int width, int height) {
+		}
+
+		@Override
+		public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		}
+
+		@Override
+		public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		}
+
+		@Override
+		public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+		}
+
+		@Override
+		public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+		}
+
+		@Override
+		public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+		}
+
+		@Override
+		public void drawString(String str, int x, int y) {
+		}
+
+		@Override
+		public void drawString(String str, float x, float y) {
+		}
+
+		@Override
+		public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+		}
+
+		@Override
+		public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+		}
+
+		@Override
+		public void drawGlyphVector(GlyphVector g, float x, float y) {
+		}
+
+		@Override
+		public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+			return true;
+		}
+
+		@Override
+		public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+		}
+
+		@Override
+		public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+		}
+
+		@Override
+		public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+		}
+
+		@Override
+		public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+			return true;
+		}
+
+		@Override
+		public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+			return true;
+		}
+
+		@Override
+		public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+			return true;
+		}
+
+		@Override
+		public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor,
+				ImageObserver observer) {
+			return true;
+		}
+
+		@Override
+		public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+				ImageObserver observer) {
+			return true;
+		}
+
+		@Override
+		public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+				Color bgcolor, ImageObserver observer) {
+			return true;
+		}
+	}
+}
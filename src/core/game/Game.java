@@ -1,6 +1,13 @@
 package core.game;
 
+import core.game.event.GameEventBus;
+import core.game.event.GameOver;
+import core.game.event.MarketRefreshed;
+import core.game.event.TurnEnded;
 import core.game.grid.*;
+import core.game.jfr.TileDrawEvent;
+import core.game.jfr.TurnEvent;
+import core.game.metrics.GameMetrics;
 import core.game.player.*;
 import graphical.model.GameMode;
 import terminal.ui.GameUI;
@@ -17,6 +24,8 @@ import java.util.Objects;
  * Defines the game logic of Cascadia.
  */
 public class Game {
+	public static final int NUMBER_OF_TURNS = 20;
+
 	private final Deck deck;
 	private final PositionInput input;
 	private GameVariant variant;
@@ -24,17 +33,65 @@ public class Game {
 	private final GameUI gameUI;
 	private final List<Player> players;
 	private final Map<Player, Grid> playerGrids;
+	private final Map<Player, BoardHistory> histories;
+	private final GameEventBus events = new GameEventBus();
+	private GameMetrics metrics = GameMetrics.global();
+	private boolean started;
+	private boolean completed;
+	private int drawRetries;
 
 	/**
 	 * Constructs a new game instance.
 	 */
 	public Game(int variantNumber) {
-		this.deck = new Deck();
+		this(variantNumber, new Deck());
+	}
+
+	/**
+	 * Constructs a game whose deck only depends on a seed, so that it can be replayed.
+	 * 
+	 * @param variantNumber Game variant (1 to 3)
+	 * @param seed          Seed of the deck
+	 */
+	public Game(int variantNumber, long seed) {
+		this(variantNumber, new Deck(seed));
+	}
+
+	private Game(int variantNumber, Deck deck) {
+		this.deck = deck;
 		this.variant = new GameVariant(variantNumber);
 		input = new PositionInput(0, 0);
 		this.gameUI = new GameUI(this);
 		this.players = new ArrayList<>();
 		this.playerGrids = new HashMap<>();
+		this.histories = new HashMap<>();
+	}
+
+	/**
+	 * Records the start of the game in the metrics, once its players begin to play.
+	 * A game only built and never played is not counted as active.
+	 * Calling it again has no effect.
+	 */
+	public void markStarted() {
+		if (!started) {
+			started = true;
+			metrics.gameStarted();
+		}
+	}
+
+	/**
+	 * Sets the registry recording the game, its deck and its players: {@link GameMetrics#global()} by default,
+	 * {@link GameMetrics#disabled()} for a game played offline. To be called before players are added, since
+	 * each player draws its starting tiles.
+	 * 
+	 * @param metrics Registry of the game
+	 */
+	public void setMetrics(GameMetrics metrics) {
+		this.metrics = Objects.requireNonNull(metrics);
+		deck.setMetrics(metrics);
+		for (Player player : players) {
+			player.setMetrics(metrics);
+		}
 	}
 
 	/**
@@ -51,9 +108,93 @@ public class Game {
 	 */
 	public void addPlayer(String playerName, GameMode gamemode) {
 		Player player = new Player(playerName);
+		player.setEventBus(events);
+		player.setMetrics(metrics);
 		players.add(player);
 		Grid grid = new Grid(5, deck, player, gamemode);
 		playerGrids.put(player, grid);
+		histories.put(player, new BoardHistory(Board.of(grid)));
+		grid.addGridListener(new HistoryRecorder(player));
+	}
+
+	/**
+	 * Records a version of a grid after each placement. Restored cells are not recorded: they come from the history
+	 * or replace it, see {@link Game#restoreGrid(Player, Board)}.
+	 */
+	private final class HistoryRecorder implements GridListener {
+		private final Player player;
+
+		private HistoryRecorder(Player player) {
+			this.player = player;
+		}
+
+		@Override
+		public void tileAdded(Grid grid, int x, int y, Tile tile) {
+			BoardHistory history = histories.get(player);
+			history.record(history.current().withTile(x, y, tile));
+		}
+
+		@Override
+		public void wildlifeAdded(Grid grid, int x, int y, Tile tile) {
+			BoardHistory history = histories.get(player);
+			history.record(history.current().withTile(x, y, tile));
+		}
+	}
+
+	/**
+	 * Getter of the versions of a player's grid, one per placement
+	 * 
+	 * @param player Player of the grid
+	 * @return History of the grid
+	 */
+	public BoardHistory getHistory(Player player) {
+		return histories.get(player);
+	}
+
+	/**
+	 * Brings a player's grid back to its version before the last placement
+	 * 
+	 * @param player Player of the grid
+	 * @return true if a placement was undone
+	 */
+	public boolean undo(Player player) {
+		BoardHistory history = histories.get(player);
+		if (history == null || !history.canUndo()) {
+			return false;
+		}
+		history.undo().restoreInto(playerGrids.get(player));
+		return true;
+	}
+
+	/**
+	 * Places again on a player's grid the placement last undone
+	 * 
+	 * @param player Player of the grid
+	 * @return true if a placement was redone
+	 */
+	public boolean redo(Player player) {
+		BoardHistory history = histories.get(player);
+		if (history == null || !history.canRedo()) {
+			return false;
+		}
+		history.redo().restoreInto(playerGrids.get(player));
+		return true;
+	}
+
+	/**
+	 * Replaces the content of a player's grid by a board, which starts a new history
+	 * 
+	 * @param player Player of the grid
+	 * @param board  New content of the grid
+	 */
+	public void restoreGrid(Player player, Board board) {
+		Objects.requireNonNull(board);
+		Grid grid = playerGrids.get(player);
+		if (grid == null) {
+			throw new IllegalArgumentException("Unknown player: " + player);
+		}
+		board.restoreInto(grid);
+		histories.put(player, new BoardHistory(board));
 	}
 
 	/**
@@ -84,6 +225,51 @@ public class Game {
 		return playerGrids;
 	}
 
+	/**
+	 * Getter of the bus on which the events of the game are published
+	 * 
+	 * @return Event bus of the game
+	 */
+	public GameEventBus getEvents() {
+		return events;
+	}
+
+	/**
+	 * Getter of the game variant
+	 * 
+	 * @return Variant number (1 to 3)
+	 */
+	public int getVariant() {
+		return variant.getVariant();
+	}
+
+	/**
+	 * Getter of the draw pile
+	 * 
+	 * @return Deck of the game
+	 */
+	public Deck getDeck() {
+		return deck;
+	}
+
+	/**
+	 * Getter of the number of markets drawn again by {@link #drawValidTiles(Grid, boolean)} since the start
+	 * 
+	 * @return Number of rejected draws
+	 */
+	public int getDrawRetries() {
+		return drawRetries;
+	}
+
+	/**
+	 * Tells whether all tiles have been drawn
+	 * 
+	 * @return true if the deck is empty
+	 */
+	public boolean isDeckEmpty() {
+		return deck.isEmpty();
+	}
+
 	/**
 	 * Sets variant to a specified variant
 	 * 
@@ -102,7 +288,7 @@ public class Game {
 	 */
 	public void removeTiles(List<Tile> tiles) {
 		tiles.removeIf(t -> t == null); // on retire la tuile qu'on a marqué null car jouée
-		if (!deck.getTiles().isEmpty()) {
+		if (!deck.isEmpty()) {
 			tiles.add(deck.drawTiles(1).get(0));
 		}
 	}
@@ -113,15 +299,17 @@ public class Game {
 	 */
 	public void startGame() {
 		int roundCount = 1;
-		int numberOfTurns = 20;
+		int numberOfTurns = NUMBER_OF_TURNS;
+		events.subscribe(gameUI);
 		gameUI.displayStartMenu();
 		variant.variantChoice(); // Choice of variant
 		boolean redrawFor3 = gameUI.askForRedrawPreference(); // Choice of redraw preference
 		List<Tile> currentTiles = drawValidTiles(getGridForPlayer(players.get(0)), redrawFor3);
-		while (roundCount <= numberOfTurns && !deck.getTiles().isEmpty()) {
+		markStarted();
+		while (roundCount <= numberOfTurns && !deck.isEmpty()) {
 			System.out.println("------ Tour " + roundCount + " ------");
 			for (Player player : players) {
-				if (!deck.getTiles().isEmpty()) {
+				if (!deck.isEmpty()) {
 					Grid currentGrid = getGridForPlayer(player);
 					if (!areTilesPlayable(currentGrid, currentTiles) || Tile.getMaxCombinationCount(currentTiles) == 4
 							|| (Tile.getMaxCombinationCount(currentTiles) == 3 && redrawFor3)) {
@@ -137,11 +325,29 @@ public class Game {
 
 	// Draws valid tiles according to the state of the game.
 	public List<Tile> drawValidTiles(Grid grid, boolean redrawFor3) {
-		List<Tile> pickedTiles;
+		TileDrawEvent event = new TileDrawEvent();
+		event.begin();
+		List<Tile> pickedTiles = null;
+		int draws = 0;
+		int burned = 0;
 		do {
+			if (pickedTiles != null) {
+				burned += pickedTiles.size(); // Tirage rejeté, ses tuiles sont perdues
+			}
 			pickedTiles = deck.drawTiles(4);
+			draws++;
 		} while (!areTilesPlayable(grid, pickedTiles) || Tile.getMaxCombinationCount(pickedTiles) == 4
 				|| (Tile.getMaxCombinationCount(pickedTiles) == 3 && redrawFor3));
+		drawRetries += draws - 1;
+		metrics.validTilesDrawn(draws - 1, burned);
+		if (event.shouldCommit()) {
+			event.player = grid.getPlayerOnGrid();
+			event.variant = variant.getVariant();
+			event.gridSize = grid.getSize();
+			event.redraws = draws - 1;
+			event.redrawFor3 = redrawFor3;
+			event.commit();
+		}
 		return pickedTiles;
 	}
 
@@ -157,10 +363,22 @@ public class Game {
 
 	// Manages a complete round of a player.
 	public void executePlayerTurn(String playerName, Player player, Grid grid, List<Tile> pickedTiles) {
-		System.out.println(playerName + " :");
-		gameUI.displayTileChoices(pickedTiles);
+		TurnEvent event = new TurnEvent();
+		event.begin();
+		if (events.hasSubscribers()) {
+			events.publish(new MarketRefreshed(playerName, grid, pickedTiles));
+		}
 		player_Round(player, grid, pickedTiles);
 		removeTiles(pickedTiles);
+		if (events.hasSubscribers()) {
+			events.publish(new TurnEnded(playerName, grid));
+		}
+		if (event.shouldCommit()) {
+			event.player = playerName;
+			event.variant = variant.getVariant();
+			event.gridSize = grid.getSize();
+			event.commit();
+		}
 	}
 
 	/**
@@ -180,6 +398,15 @@ public class Game {
 			}
 			currentPlayer.calculatePlayerScores(playerGrids.get(currentPlayer), opponentGrids, mode);
 		}
+		if (!completed) {
+			completed = true;
+			if (started) { // Comptée comme terminée seulement si elle a été comptée comme commencée
+				metrics.gameCompleted();
+			}
+			if (events.hasSubscribers()) {
+				events.publish(new GameOver(players, playerGrids));
+			}
+		}
 	}
 
 	/**
@@ -193,7 +420,6 @@ public class Game {
 		Objects.requireNonNull(player, "player cannot be null");
 		Objects.requireNonNull(grid, "grid cannot be null");
 		Objects.requireNonNull(availableTiles, "availableTiles cannot be null");
-		grid.displayGrid();
 		System.out.println("Sélectionnez une tuile (1-" + availableTiles.size() + ") :");
 		Tile chosenTile = Tile.chooseTile(grid, availableTiles);
 		Wildlife animal = chosenTile.getWildlife().get(0);
@@ -203,8 +429,6 @@ public class Game {
 			input.readPositions(grid);
 		} while (!player.placeTile(chosenTile, grid, input.getY(), input.getX()));
 
-		grid.displayGrid();
-
 		do { // Placement of a wildlife token
 			System.out.println(player.getName() + ", où voulez-vous placer l'animal " + animal + " ?");
 			input.readPositions(grid);
@@ -0,0 +1,343 @@
+package core.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.event.GameEventBus;
+import core.game.event.MarketRefreshed;
+import core.game.event.MovePlayed;
+import core.game.event.TurnEnded;
+import core.game.grid.AllNeighbors;
+import core.game.grid.Grid;
+import core.game.grid.HexNeighborsOdd;
+import core.game.grid.HexNeighborsPair;
+import core.game.grid.NeighborStrategy;
+import core.game.grid.Tile;
+import core.game.mechanics.Wildlife;
+import core.game.metrics.GameMetrics;
+import core.game.player.Player;
+import graphical.model.GameMode;
+
+/**
+ * Game played turn by turn without any prompt, by bots or by a remote interface.
+ * Follows the rules of {@link Game#startGame()}: players play in turn for {@link Game#NUMBER_OF_TURNS} rounds,
+ * each turn taking one tile of the market and placing it, then placing its wildlife token.
+ */
+public class Match {
+	private static final NeighborStrategy SQUARE_NEIGHBORS = new AllNeighbors();
+	private static final NeighborStrategy ODD_COLUMN_NEIGHBORS = new HexNeighborsOdd();
+	private static final NeighborStrategy EVEN_COLUMN_NEIGHBORS = new HexNeighborsPair();
+
+	private final Game game;
+	private final List<Player> players;
+	private final long seed;
+	private final GameMode mode;
+	private final boolean redrawFor3;
+	private final List<Move> moves = new ArrayList<>();
+	private List<Tile> market;
+	private int turn;
+	private boolean over;
+
+	/**
+	 * Constructor for Match
+	 * @param variant    Game variant (1 to 3)
+	 * @param players    Number of players
+	 * @param seed       Seed of the deck
+	 * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+	 */
+	public Match(int variant, int players, long seed, boolean redrawFor3) {
+		this(variant, players, seed, redrawFor3, GameMode.TERMINAL);
+	}
+
+	/**
+	 * Constructor for Match
+	 * @param variant    Game variant (1 to 3)
+	 * @param players    Number of players
+	 * @param seed       Seed of the deck
+	 * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+	 * @param mode       Game mode, which decides of the neighbors of a cell
+	 */
+	public Match(int variant, int players, long seed, boolean redrawFor3, GameMode mode) {
+		this(variant, players, seed, redrawFor3, mode, GameMetrics.global());
+	}
+
+	/**
+	 * Constructor for Match
+	 * @param variant    Game variant (1 to 3)
+	 * @param players    Number of players
+	 * @param seed       Seed of the deck
+	 * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+	 * @param mode       Game mode, which decides of the neighbors of a cell
+	 * @param metrics    Registry recording the match, {@link GameMetrics#disabled()} for a match played offline
+	 */
+	public Match(int variant, int players, long seed, boolean redrawFor3, GameMode mode, GameMetrics metrics) {
+		if (players < 1 || players > 4) {
+			throw new IllegalArgumentException("Number of players must be between 1 and 4");
+		}
+		this.mode = Objects.requireNonNull(mode);
+		this.game = new Game(variant, seed);
+		game.setMetrics(metrics);
+		for (int i = 1; i <= players; i++) {
+			game.addPlayer("Joueur " + i, mode);
+		}
+		this.players = game.getPlayers();
+		this.seed = seed;
+		this.redrawFor3 = redrawFor3;
+		this.market = game.drawValidTiles(game.getGridForPlayer(this.players.get(0)), redrawFor3);
+		beginTurn();
+	}
+
+	private Match(Game game, GameMode mode, boolean redrawFor3, List<Tile> market, int turn) {
+		this.game = game;
+		this.mode = mode;
+		this.players = game.getPlayers();
+		this.seed = game.getDeck().getSeed();
+		this.redrawFor3 = redrawFor3;
+		this.market = new ArrayList<>(market);
+		this.turn = turn;
+	}
+
+	/**
+	 * Views a game played elsewhere, for instance by {@link Game#startGame()}, at the turn of a player, so that
+	 * it can be evaluated. The moves of the view must not be played: the game is still played by its own loop.
+	 * @param game       Game in progress
+	 * @param mode       Game mode of its grids
+	 * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+	 * @param market     Tiles offered to the current player
+	 * @param turn       Turns already played, all players included
+	 * @return Match at the turn of the current player
+	 */
+	public static Match inProgress(Game game, GameMode mode, boolean redrawFor3, List<Tile> market, int turn) {
+		Objects.requireNonNull(game);
+		Objects.requireNonNull(mode);
+		Objects.requireNonNull(market);
+		if (turn < 0) {
+			throw new IllegalArgumentException("Turn cannot be negative");
+		}
+		return new Match(game, mode, redrawFor3, market, turn);
+	}
+
+	private void beginTurn() {
+		if (turn >= Game.NUMBER_OF_TURNS * players.size() || game.isDeckEmpty()) {
+			over = true;
+			game.calculateAllPlayersScores(players, game.getGrids(), mode);
+			return;
+		}
+		Grid grid = getCurrentGrid();
+		if (!game.areTilesPlayable(grid, market) || Tile.getMaxCombinationCount(market) == 4
+				|| (Tile.getMaxCombinationCount(market) == 3 && redrawFor3)) {
+			market = game.drawValidTiles(grid, redrawFor3);
+		}
+		GameEventBus events = game.getEvents();
+		if (events.hasSubscribers()) {
+			events.publish(new MarketRefreshed(getCurrentPlayer().getName(), grid, market));
+		}
+	}
+
+	private NeighborStrategy neighbors(int x) {
+		if (mode != GameMode.GRAPHICAL_HEXAGON_TILES) {
+			return SQUARE_NEIGHBORS;
+		}
+		return x % 2 != 0 ? ODD_COLUMN_NEIGHBORS : EVEN_COLUMN_NEIGHBORS; // Comme Grid.addTile
+	}
+
+	/**
+	 * Getter of the underlying game
+	 * @return Game
+	 */
+	public Game getGame() {
+		return game;
+	}
+
+	/**
+	 * Getter of the players, in playing order
+	 * @return Unmodifiable list of players
+	 */
+	public List<Player> getPlayers() {
+		return players;
+	}
+
+	/**
+	 * Getter of the seed of the deck
+	 * @return Seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Getter of the game mode
+	 * @return Game mode
+	 */
+	public GameMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Getter of the moves played, in order: move {@code i} is played by player {@code i % players}
+	 * @return Unmodifiable view of the moves
+	 */
+	public List<Move> getMoves() {
+		return Collections.unmodifiableList(moves);
+	}
+
+	/**
+	 * Tells whether the market is drawn again when 3 of its tokens are identical
+	 * @return true if so
+	 */
+	public boolean isRedrawFor3() {
+		return redrawFor3;
+	}
+
+	/**
+	 * Getter of the number of turns played so far, all players included
+	 * @return Number of turns
+	 */
+	public int getTurn() {
+		return turn;
+	}
+
+	/**
+	 * Getter of the index of the player who has to play
+	 * @return Index in {@link #getPlayers()}
+	 */
+	public int getCurrentPlayerIndex() {
+		return turn % players.size();
+	}
+
+	/**
+	 * Getter of the player who has to play
+	 * @return Current player
+	 */
+	public Player getCurrentPlayer() {
+		return players.get(getCurrentPlayerIndex());
+	}
+
+	/**
+	 * Getter of the grid of the player who has to play
+	 * @return Grid of current player
+	 */
+	public Grid getCurrentGrid() {
+		return game.getGridForPlayer(getCurrentPlayer());
+	}
+
+	/**
+	 * Getter of the tiles proposed to the current player
+	 * @return Unmodifiable view of the market, taken tiles being null
+	 */
+	public List<Tile> getMarket() {
+		return Collections.unmodifiableList(market);
+	}
+
+	/**
+	 * Tells whether the game is over, in which case scores of players are calculated
+	 * @return true if no move can be played anymore
+	 */
+	public boolean isOver() {
+		return over;
+	}
+
+	/**
+	 * Checks whether the current player may play a move, without changing the game
+	 * @param move Move to be checked
+	 * @return null if the move is legal, otherwise the reason why it is not
+	 */
+	public String check(Move move) {
+		Objects.requireNonNull(move);
+		if (over) {
+			return "game over";
+		}
+		Grid grid = getCurrentGrid();
+		if (move.tile() >= market.size() || market.get(move.tile()) == null) {
+			return "no such tile";
+		}
+		Tile tile = market.get(move.tile());
+		if (!Tile.isTilePlayable(grid, tile)) {
+			return "wildlife token cannot be placed";
+		}
+		int size = grid.getSize();
+		if (move.x() >= size || move.y() >= size || move.wildlifeX() >= size || move.wildlifeY() >= size) {
+			return "out of grid";
+		}
+		if (grid.getTile(move.x(), move.y()) != null || !grid.nonEmptyNeighbor(move.x(), move.y(), neighbors(move.x()))) {
+			return "cell occupied or not adjacent";
+		}
+		Wildlife token = tile.getWildlife().get(0);
+		boolean onPlacedTile = move.wildlifeX() == move.x() && move.wildlifeY() == move.y();
+		Tile target = onPlacedTile ? tile : grid.getTile(move.wildlifeX(), move.wildlifeY());
+		if (target == null || (!onPlacedTile && !target.getWildlife().isEmpty())
+				|| !target.getAuthorizedWildlife().contains(token)) {
+			return "wildlife token not accepted";
+		}
+		return null;
+	}
+
+	/**
+	 * Lists the moves the current player may play, ordered by market slot, then tile cell, then token cell
+	 * @return Legal moves, empty if the game is over
+	 */
+	public List<Move> legalMoves() {
+		List<Move> moves = new ArrayList<>();
+		if (over) {
+			return moves;
+		}
+		Grid grid = getCurrentGrid();
+		int size = grid.getSize();
+		for (int i = 0; i < market.size(); i++) {
+			Tile tile = market.get(i);
+			if (tile == null || !Tile.isTilePlayable(grid, tile)) {
+				continue;
+			}
+			Wildlife token = tile.getWildlife().get(0);
+			for (int x = 0; x < size; x++) {
+				for (int y = 0; y < size; y++) {
+					if (grid.getTile(x, y) != null || !grid.nonEmptyNeighbor(x, y, neighbors(x))) {
+						continue;
+					}
+					for (int wx = 0; wx < size; wx++) {
+						for (int wy = 0; wy < size; wy++) {
+							boolean onPlacedTile = wx == x && wy == y;
+							Tile target = onPlacedTile ? tile : grid.getTile(wx, wy);
+							if (target != null && (onPlacedTile || target.getWildlife().isEmpty())
+									&& target.getAuthorizedWildlife().contains(token)) {
+								moves.add(new Move(i, x, y, wx, wy));
+							}
+						}
+					}
+				}
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * Plays a move for the current player, then gives the turn to the next player.
+	 * @param move Move to be played
+	 * @throws IllegalArgumentException if the move is not legal, see {@link #check(Move)}
+	 */
+	public void play(Move move) {
+		String reason = check(move);
+		if (reason != null) {
+			throw new IllegalArgumentException("Illegal move " + move + ": " + reason);
+		}
+		game.markStarted();
+		Player player = getCurrentPlayer();
+		Grid grid = getCurrentGrid();
+		Tile tile = market.get(move.tile());
+		Wildlife token = tile.getWildlife().get(0);
+		market.set(move.tile(), null); // Marque la tuile comme jouée
+		player.placeTile(tile, grid, move.x(), move.y());
+		player.placeWildlife(grid, move.wildlifeX(), move.wildlifeY(), token);
+		game.removeTiles(market);
+		moves.add(move);
+		GameEventBus events = game.getEvents();
+		if (events.hasSubscribers()) {
+			events.publish(new MovePlayed(player.getName(), turn, move));
+			events.publish(new TurnEnded(player.getName(), grid));
+		}
+		turn++;
+		beginTurn();
+	}
+}
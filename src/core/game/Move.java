@@ -0,0 +1,63 @@
+package core.game;
+
+/**
+ * A complete turn of a player: the tile taken from the market, where it is placed and where its
+ * wildlife token is placed.
+ * 
+ * Moves are written in a compact notation of 5 characters, for example {@code b1203}:
+ * - market slot as a letter, {@code a} being the first tile
+ * - X and Y coordinates of the tile, as digits
+ * - X and Y coordinates of the wildlife token, as digits
+ * 
+ * Coordinates are the ones of {@link core.game.grid.Grid#getTile(int, int)}.
+ *
+ * @param tile      Index of the tile in the market
+ * @param x         X coordinate of the tile
+ * @param y         Y coordinate of the tile
+ * @param wildlifeX X coordinate of the wildlife token
+ * @param wildlifeY Y coordinate of the wildlife token
+ */
+public record Move(int tile, int x, int y, int wildlifeX, int wildlifeY) {
+	public static final int MAX_COORDINATE = 9;
+
+	public Move {
+		if (tile < 0 || tile >= 26) {
+			throw new IllegalArgumentException("Market slot must be between 0 and 25");
+		}
+		if (x < 0 || y < 0 || wildlifeX < 0 || wildlifeY < 0 || x > MAX_COORDINATE || y > MAX_COORDINATE
+				|| wildlifeX > MAX_COORDINATE || wildlifeY > MAX_COORDINATE) {
+			throw new IllegalArgumentException("Coordinates must be between 0 and " + MAX_COORDINATE);
+		}
+	}
+
+	/**
+	 * Reads a move written in compact notation
+	 * 
+	 * @param notation Move such as {@code b1203}
+	 * @return Move
+	 * @throws IllegalArgumentException if the notation is malformed
+	 */
+	public static Move parse(String notation) {
+		if (notation.length() != 5 || notation.charAt(0) < 'a' || notation.charAt(0) > 'z') {
+			throw new IllegalArgumentException("Malformed move: " + notation);
+		}
+		int[] values = new int[4];
+		for (int i = 0; i < 4; i++) {
+			char c = notation.charAt(i + 1);
+			if (c < '0' || c > '9') {
+				throw new IllegalArgumentException("Malformed move: " + notation);
+			}
+			values[i] = c - '0';
+		}
+		return new Move(notation.charAt(0) - 'a', values[0], values[1], values[2], values[3]);
+	}
+
+	/**
+	 * Returns the move in compact notation
+	 */
+	@Override
+	public String toString() {
+		return new String(new char[] { (char) ('a' + tile), (char) ('0' + x), (char) ('0' + y), (char) ('0' + wildlifeX),
+				(char) ('0' + wildlifeY) });
+	}
+}
@@ -0,0 +1,106 @@
+package core.game;
+
+import java.util.List;
+
+import core.game.grid.Grid;
+import core.game.grid.Tile;
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+
+/**
+ * Compact text notation of tiles and grids, used by the engine protocol.
+ * 
+ * Habitats are upper case letters and wildlives lower case letters (English initials, which do not collide):
+ * - Fleuve {@code R}, Marais {@code W}, Forêt {@code F}, Prairie {@code P}, Montagne {@code M}
+ * - Ours {@code b}, Wapiti {@code e}, Renard {@code f}, Saumon {@code s}, Buse {@code h}
+ * 
+ * A tile of a grid is its habitat followed either by its wildlife token in upper case, or by the wildlives it
+ * accepts in lower case: {@code Fbe}, {@code RS}. A grid lists its rows of X coordinate separated by
+ * {@code /}, runs of empty cells being written as a number, for example {@code Fbe2RS1/5/...}.
+ * A tile of the market is written as its habitat, the wildlives it accepts, then {@code :} and its token:
+ * {@code Fbe:s}.
+ */
+public final class Notation {
+	private static final char[] HABITATS = { 'R', 'W', 'F', 'P', 'M' };
+	private static final char[] WILDLIFE = { 'b', 'e', 'f', 's', 'h' };
+
+	private Notation() {
+	}
+
+	/**
+	 * Letter of a habitat
+	 * @param habitat Habitat
+	 * @return Upper case letter
+	 */
+	public static char of(Habitat habitat) {
+		return HABITATS[habitat.ordinal()];
+	}
+
+	/**
+	 * Letter of a wildlife
+	 * @param wildlife Wildlife
+	 * @return Lower case letter
+	 */
+	public static char of(Wildlife wildlife) {
+		return WILDLIFE[wildlife.ordinal()];
+	}
+
+	/**
+	 * Writes a grid
+	 * @param grid Grid to be written
+	 * @return Notation of the grid
+	 */
+	public static String format(Grid grid) {
+		StringBuilder builder = new StringBuilder(grid.getSize() * (grid.getSize() * 3 + 1));
+		for (int x = 0; x < grid.getSize(); x++) {
+			if (x > 0) {
+				builder.append('/');
+			}
+			int empty = 0;
+			for (int y = 0; y < grid.getSize(); y++) {
+				Tile tile = grid.getTile(x, y);
+				if (tile == null) {
+					empty++;
+					continue;
+				}
+				if (empty > 0) {
+					builder.append(empty);
+					empty = 0;
+				}
+				builder.append(of(tile.getHabitat()));
+				if (!tile.getWildlife().isEmpty()) {
+					builder.append(Character.toUpperCase(of(tile.getWildlife().get(0))));
+				} else {
+					appendWildlife(builder, tile.getAuthorizedWildlife());
+				}
+			}
+			if (empty > 0) {
+				builder.append(empty);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Writes a tile of the market
+	 * @param tile Tile to be written, may be null
+	 * @return Notation of the tile, {@code -} for a tile already taken
+	 */
+	public static String format(Tile tile) {
+		if (tile == null) {
+			return "-";
+		}
+		StringBuilder builder = new StringBuilder(6);
+		builder.append(of(tile.getHabitat()));
+		appendWildlife(builder, tile.getAuthorizedWildlife());
+		builder.append(':');
+		appendWildlife(builder, tile.getWildlife());
+		return builder.toString();
+	}
+
+	private static void appendWildlife(StringBuilder builder, List<Wildlife> wildlife) {
+		for (int i = 0; i < wildlife.size(); i++) {
+			builder.append(of(wildlife.get(i)));
+		}
+	}
+}
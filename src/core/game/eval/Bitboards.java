@@ -0,0 +1,123 @@
+package core.game.eval;
+
+import java.util.Arrays;
+
+/**
+ * Bitboards of a grid: a bit per cell, rows separated by an always empty column so that shifting a row never
+ * reaches the next one. Neighbors are the eight cells around on square grids, the six cells of
+ * {@link core.game.grid.HexNeighborsOdd} and {@link core.game.grid.HexNeighborsPair} on hexagonal grids.
+ */
+final class Bitboards {
+	static final int MAX_SIZE = 7;
+
+	private final int size;
+	private final int stride;
+	private final long cells;
+	private final boolean hexagonal;
+	private final long oddRows; // Lignes d'indice x impair
+
+	Bitboards(int size) {
+		this(size, false);
+	}
+
+	Bitboards(int size, boolean hexagonal) {
+		if (size <= 0 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("Grid size must be between 1 and " + MAX_SIZE);
+		}
+		this.size = size;
+		this.stride = size + 1;
+		long row = (1L << size) - 1;
+		long mask = 0;
+		long odd = 0;
+		for (int x = 0; x < size; x++) {
+			mask |= row << (x * stride);
+			if (x % 2 != 0) {
+				odd |= row << (x * stride);
+			}
+		}
+		this.cells = mask;
+		this.hexagonal = hexagonal;
+		this.oddRows = odd;
+	}
+
+	int getSize() {
+		return size;
+	}
+
+	// Toutes les cases de la grille
+	long getCells() {
+		return cells;
+	}
+
+	// Bit de la case d'indice x * size + y
+	long bit(int index) {
+		return 1L << (index / size * stride + index % size);
+	}
+
+	/**
+	 * Fills the bitboards of packed cells
+	 * @param packed     Cells packed by {@link core.game.grid.Board#encode(core.game.grid.Tile)}, by x * size + y
+	 * @param habitats   Cells of each habitat, overwritten
+	 * @param tokens     Cells holding each wildlife token, overwritten
+	 * @param authorized Tiles without token authorizing each wildlife, overwritten, or null
+	 * @return Cells holding a tile
+	 */
+	long fill(short[] packed, long[] habitats, long[] tokens, int[] authorized) {
+		Arrays.fill(habitats, 0);
+		Arrays.fill(tokens, 0);
+		if (authorized != null) {
+			Arrays.fill(authorized, 0);
+		}
+		long tiles = 0;
+		for (int x = 0, i = 0; x < size; x++) {
+			for (int y = 0; y < size; y++, i++) {
+				int cell = packed[i];
+				if (cell == 0) {
+					continue;
+				}
+				long bit = 1L << (x * stride + y);
+				tiles |= bit;
+				habitats[cell & 7] |= bit;
+				int token = (cell >> 3) & 7;
+				if (token != 0) {
+					tokens[token - 1] |= bit;
+				} else if (authorized != null) {
+					addAuthorized(authorized, (cell >> 6) & 7);
+					addAuthorized(authorized, (cell >> 9) & 7);
+				}
+			}
+		}
+		return tiles;
+	}
+
+	private static void addAuthorized(int[] authorized, int wildlife) {
+		if (wildlife != 0) {
+			authorized[wildlife - 1]++;
+		}
+	}
+
+	// Cases voisines d'au moins une case de l'ensemble, y compris celles de l'ensemble qui ont un voisin dedans
+	long neighbors(long set) {
+		if (hexagonal) {
+			// Lignes voisines : y et y + 1 depuis une ligne impaire, y - 1 et y depuis une paire, comme Grid.addTile
+			long odd = set & oddRows;
+			long even = set & ~oddRows;
+			long row = odd | (odd << 1) | even | (even >>> 1);
+			return ((row << stride) | (row >>> stride) | (set << 1) | (set >>> 1)) & cells;
+		}
+		long row = set | (set << 1) | (set >>> 1);
+		return ((row << stride) | (row >>> stride) | (set << 1) | (set >>> 1)) & cells;
+	}
+
+	// Composante connexe de la graine dans l'ensemble
+	long grow(long seed, long set) {
+		long component = seed;
+		while (true) {
+			long next = (component | neighbors(component)) & set;
+			if (next == component) {
+				return component;
+			}
+			component = next;
+		}
+	}
+}
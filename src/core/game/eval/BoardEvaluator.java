@@ -0,0 +1,166 @@
+package core.game.eval;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Static evaluation of an unfinished grid, from the features of {@link BoardFeatures}: a linear model, or a
+ * perceptron with one hidden layer of ReLU units. Estimates the final score of the player of the grid.
+ * Weights are trained offline by {@link EvaluatorTrainer}, feature scaling folded into the first layer, so that an
+ * evaluation is at most a few hundred multiply-adds. Immutable, shared between threads.
+ *
+ * File layout, big-endian: magic {@code CSCE}, version on one byte, number of features and of hidden units
+ * (shorts, 0 hidden units for a linear model), then the floats of the first layer row after row, its biases, and
+ * for a perceptron the output weights and bias.
+ */
+public final class BoardEvaluator {
+	private static final int MAGIC = 0x43534345; // "CSCE"
+	private static final byte VERSION = 1;
+
+	private final int features;
+	private final int hidden;
+	private final float[] weights; // Une ligne de features poids par unité cachée, ou une seule si linéaire
+	private final float[] columns; // Les mêmes, une ligne par feature
+	private final float[] biases;
+	private final float[] output;
+	private final float outputBias;
+
+	BoardEvaluator(int features, int hidden, float[] weights, float[] biases, float[] output, float outputBias) {
+		int rows = Math.max(hidden, 1);
+		if (features <= 0 || hidden < 0 || weights.length != rows * features || biases.length != rows
+				|| output.length != hidden) {
+			throw new IllegalArgumentException("Inconsistent layer sizes");
+		}
+		this.features = features;
+		this.hidden = hidden;
+		this.weights = weights;
+		this.columns = new float[weights.length];
+		for (int unit = 0; unit < hidden; unit++) {
+			for (int i = 0; i < features; i++) {
+				columns[i * hidden + unit] = weights[unit * features + i];
+			}
+		}
+		this.biases = biases;
+		this.output = output;
+		this.outputBias = outputBias;
+	}
+
+	/**
+	 * Reads an evaluator written by {@link #write(Path)}
+	 * @param path File
+	 * @return Evaluator
+	 * @throws IOException if the file cannot be read or is not an evaluator
+	 */
+	public static BoardEvaluator load(Path path) throws IOException {
+		Objects.requireNonNull(path);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+				throw new IOException("Not an evaluator: " + path);
+			}
+			int features = in.readUnsignedShort();
+			int hidden = in.readUnsignedShort();
+			if (features != BoardFeatures.COUNT) {
+				throw new IOException("Evaluator of " + features + " features, " + BoardFeatures.COUNT + " expected");
+			}
+			float[] weights = readFloats(in, Math.max(hidden, 1) * features);
+			float[] biases = readFloats(in, Math.max(hidden, 1));
+			float[] output = readFloats(in, hidden);
+			float outputBias = hidden == 0 ? 0 : in.readFloat();
+			return new BoardEvaluator(features, hidden, weights, biases, output, outputBias);
+		}
+	}
+
+	private static float[] readFloats(DataInputStream in, int count) throws IOException {
+		float[] values = new float[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = in.readFloat();
+		}
+		return values;
+	}
+
+	/**
+	 * Writes the weights of the evaluator. Any existing file is replaced.
+	 * @param path File
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path path) throws IOException {
+		Objects.requireNonNull(path);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeShort(features);
+			out.writeShort(hidden);
+			for (float[] values : new float[][] { weights, biases, output }) {
+				for (float value : values) {
+					out.writeFloat(value);
+				}
+			}
+			if (hidden > 0) {
+				out.writeFloat(outputBias);
+			}
+		}
+	}
+
+	/**
+	 * Getter of the number of hidden units
+	 * @return Number of units, 0 for a linear model
+	 */
+	public int getHidden() {
+		return hidden;
+	}
+
+	/**
+	 * Evaluates a grid, without allocating: the evaluator being shared, each thread brings its own scratch array
+	 * @param values      Features extracted by {@link BoardFeatures}
+	 * @param activations Array of at least {@link #getHidden()} values, overwritten
+	 * @return Estimated final score
+	 */
+	public float evaluate(float[] values, float[] activations) {
+		Objects.checkFromIndexSize(0, features, values.length);
+		Objects.checkFromIndexSize(0, hidden, activations.length);
+		if (hidden == 0) {
+			return biases[0] + dot(0, values);
+		}
+		// Feature après feature, les features nulles (nombreuses) étant sautées
+		System.arraycopy(biases, 0, activations, 0, hidden);
+		for (int i = 0; i < features; i++) {
+			float value = values[i];
+			if (value != 0) {
+				int offset = i * hidden;
+				for (int unit = 0; unit < hidden; unit++) {
+					activations[unit] += columns[offset + unit] * value;
+				}
+			}
+		}
+		float result = outputBias;
+		for (int unit = 0; unit < hidden; unit++) {
+			result += output[unit] * Math.max(activations[unit], 0);
+		}
+		return result;
+	}
+
+	private float dot(int offset, float[] values) {
+		// Quatre sommes indépendantes, pour ne pas attendre chaque addition
+		float sum0 = 0;
+		float sum1 = 0;
+		float sum2 = 0;
+		float sum3 = 0;
+		int i = 0;
+		for (; i + 3 < features; i += 4) {
+			sum0 += weights[offset + i] * values[i];
+			sum1 += weights[offset + i + 1] * values[i + 1];
+			sum2 += weights[offset + i + 2] * values[i + 2];
+			sum3 += weights[offset + i + 3] * values[i + 3];
+		}
+		for (; i < features; i++) {
+			sum0 += weights[offset + i] * values[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+}
@@ -0,0 +1,151 @@
+package core.game.eval;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import core.game.grid.Board;
+import core.game.grid.Grid;
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+import graphical.model.GameMode;
+
+/**
+ * Extractor of the features of an unfinished grid, read by {@link BoardEvaluator}.
+ * Cells are read once, in the packing of {@link Board#encode(core.game.grid.Tile)}, to fill one bitboard per
+ * habitat and per wildlife: corridors and groups are then grown by shifts of these bitboards, without any other
+ * pass over the cells. Neighbors are the eight cells around, as on square grids; grids are at most
+ * {@link #MAX_GRID_SIZE} cells wide.
+ *
+ * Features, as counts:
+ * - {@link #CORRIDORS}: size of the largest corridor of each {@link Habitat}
+ * - {@link #FRONTIERS}: empty cells next to each habitat, where a corridor may grow
+ * - {@link #GROUPS}: groups of each {@link Wildlife} of size 1, 2, 3 and 4 or more
+ * - {@link #FOX_DIVERSITY}: species around each fox, summed
+ * - {@link #ISOLATED_HAWKS}: hawks without any hawk around
+ * - {@link #AUTHORIZED}: tiles without token still authorizing each wildlife
+ * - {@link #TILES}: tiles on the grid
+ *
+ * An extractor reuses its arrays: one per thread.
+ */
+public final class BoardFeatures {
+	public static final int MAX_GRID_SIZE = Bitboards.MAX_SIZE;
+	public static final int GROUP_SIZES = 4;
+	public static final int CORRIDORS = 0;
+	public static final int FRONTIERS = CORRIDORS + Habitat.values().length;
+	public static final int GROUPS = FRONTIERS + Habitat.values().length;
+	public static final int FOX_DIVERSITY = GROUPS + Wildlife.values().length * GROUP_SIZES;
+	public static final int ISOLATED_HAWKS = FOX_DIVERSITY + 1;
+	public static final int AUTHORIZED = ISOLATED_HAWKS + 1;
+	public static final int TILES = AUTHORIZED + Wildlife.values().length;
+	public static final int COUNT = TILES + 1;
+
+	private static final int HABITATS = Habitat.values().length;
+	private static final int SPECIES = Wildlife.values().length;
+	private static final int FOX = Wildlife.Renard.ordinal();
+	private static final int HAWK = Wildlife.Buse.ordinal();
+
+	private final int size;
+	private final Bitboards bitboards;
+	private final short[] cells;
+	private final long[] habitats = new long[HABITATS];
+	private final long[] tokens = new long[SPECIES];
+	private final int[] authorized = new int[SPECIES];
+
+	/**
+	 * Constructor for BoardFeatures
+	 * @param gridSize Size of the grids, at most {@link #MAX_GRID_SIZE}
+	 */
+	public BoardFeatures(int gridSize) {
+		this.bitboards = new Bitboards(gridSize);
+		this.size = gridSize;
+		this.cells = new short[gridSize * gridSize];
+	}
+
+	/**
+	 * Getter of the size of the grids
+	 * @return Size of grid
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Extracts the features of a grid
+	 * @param grid     Square grid of the extractor size
+	 * @param features Array of at least {@link #COUNT} values, overwritten
+	 * @throws IllegalArgumentException if the grid is hexagonal: its neighbors are not the eight cells around
+	 */
+	public void extract(Grid grid, float[] features) {
+		if (grid.getGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
+			throw new IllegalArgumentException("Features of hexagonal grids are not supported");
+		}
+		checkSize(grid.getSize());
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				cells[x * size + y] = Board.encode(grid.getTile(x, y));
+			}
+		}
+		extract(cells, features);
+	}
+
+	/**
+	 * Extracts the features of a board
+	 * @param board    Board of the extractor size
+	 * @param features Array of at least {@link #COUNT} values, overwritten
+	 */
+	public void extract(Board board, float[] features) {
+		checkSize(board.getSize());
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				cells[x * size + y] = board.getCell(x, y);
+			}
+		}
+		extract(cells, features);
+	}
+
+	private void checkSize(int gridSize) {
+		if (gridSize != size) {
+			throw new IllegalArgumentException("Grid of size " + size + " expected");
+		}
+	}
+
+	/**
+	 * Extracts the features of packed cells, the fastest way
+	 * @param packed   Cells packed by {@link Board#encode(core.game.grid.Tile)}, indexed by x * size + y
+	 * @param features Array of at least {@link #COUNT} values, overwritten
+	 */
+	public void extract(short[] packed, float[] features) {
+		Objects.requireNonNull(packed);
+		Objects.checkFromIndexSize(0, size * size, packed.length);
+		Objects.checkFromIndexSize(0, COUNT, features.length);
+		Arrays.fill(features, 0, COUNT, 0);
+		long tiles = bitboards.fill(packed, habitats, tokens, authorized);
+		long empty = bitboards.getCells() & ~tiles;
+		for (int habitat = 0; habitat < HABITATS; habitat++) {
+			long rest = habitats[habitat];
+			int largest = 0;
+			while (rest != 0) {
+				long corridor = bitboards.grow(Long.lowestOneBit(rest), rest);
+				largest = Math.max(largest, Long.bitCount(corridor));
+				rest &= ~corridor;
+			}
+			features[CORRIDORS + habitat] = largest;
+			features[FRONTIERS + habitat] = Long.bitCount(bitboards.neighbors(habitats[habitat]) & empty);
+		}
+		long foxes = tokens[FOX];
+		for (int wildlife = 0; wildlife < SPECIES; wildlife++) {
+			long rest = tokens[wildlife];
+			while (rest != 0) {
+				long group = bitboards.grow(Long.lowestOneBit(rest), rest);
+				features[GROUPS + wildlife * GROUP_SIZES + Math.min(Long.bitCount(group), GROUP_SIZES) - 1]++;
+				rest &= ~group;
+			}
+			features[FOX_DIVERSITY] += Long.bitCount(bitboards.neighbors(tokens[wildlife]) & foxes);
+		}
+		features[ISOLATED_HAWKS] = Long.bitCount(tokens[HAWK] & ~bitboards.neighbors(tokens[HAWK]));
+		for (int wildlife = 0; wildlife < SPECIES; wildlife++) {
+			features[AUTHORIZED + wildlife] = authorized[wildlife];
+		}
+		features[TILES] = Long.bitCount(tiles);
+	}
+}
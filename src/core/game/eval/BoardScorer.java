@@ -0,0 +1,154 @@
+package core.game.eval;
+
+import java.util.Objects;
+
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+import graphical.model.GameMode;
+
+/**
+ * Final scoring of packed grids, giving the same points as the {@link core.game.player.PlayerScore} of each
+ * variant on square and hexagonal grids, without building any {@link core.game.grid.Grid}: fast enough to score every leaf
+ * of a search. Corridors and wildlife groups are grown on bitboards.
+ *
+ * A scorer reuses its arrays: one per thread.
+ */
+public final class BoardScorer {
+	private static final int HABITATS = Habitat.values().length;
+	private static final int SPECIES = Wildlife.values().length;
+	private static final int BEAR = Wildlife.Ours.ordinal();
+	private static final int ELK = Wildlife.Wapiti.ordinal();
+	private static final int FOX = Wildlife.Renard.ordinal();
+	private static final int SALMON = Wildlife.Saumon.ordinal();
+	private static final int HAWK = Wildlife.Buse.ordinal();
+
+	// Barèmes de StandardScoring, indexés par taille de groupe ou nombre de groupes
+	private static final int[] ELK_POINTS = { 0, 2, 4, 7, 10, 14, 18, 23, 28 };
+	private static final int[] SALMON_POINTS = { 0, 2, 5, 8, 12, 16, 20, 25 };
+	private static final int[] BEAR_PAIR_POINTS = { 0, 4, 11, 19, 27 };
+	private static final int[] SINGLE_HAWK_POINTS = { 0, 2, 5, 8, 11, 14, 18, 22, 26 };
+	// Barèmes des variantes famille et intermédiaire, toutes espèces confondues
+	private static final int[] FAMILY_POINTS = { 0, 2, 5, 9 };
+	private static final int[] INTERMEDIATE_POINTS = { 0, 0, 5, 8, 12 };
+	private static final int[] GROUP_SCORED = { BEAR, ELK, SALMON };
+
+	private final int variant;
+	private final Bitboards bitboards;
+	private final long[] habitats = new long[HABITATS];
+	private final long[] tokens = new long[SPECIES];
+
+	/**
+	 * Constructor for BoardScorer
+	 * @param variant  Game variant (1 to 3)
+	 * @param gridSize Size of the grids, at most {@link BoardFeatures#MAX_GRID_SIZE}
+	 */
+	public BoardScorer(int variant, int gridSize) {
+		this(variant, gridSize, GameMode.GRAPHICAL_SQUARE_TILES);
+	}
+
+	/**
+	 * Constructor for BoardScorer
+	 * @param variant  Game variant (1 to 3)
+	 * @param gridSize Size of the grids, at most {@link BoardFeatures#MAX_GRID_SIZE}
+	 * @param mode     Game mode of the grids, which decides of the neighbors of a cell
+	 */
+	public BoardScorer(int variant, int gridSize, GameMode mode) {
+		if (variant < 1 || variant > 3) {
+			throw new IllegalArgumentException("Variant must be between 1 and 3");
+		}
+		this.variant = variant;
+		this.bitboards = new Bitboards(gridSize, Objects.requireNonNull(mode) == GameMode.GRAPHICAL_HEXAGON_TILES);
+	}
+
+	/**
+	 * Getter of the game variant
+	 * @return Variant (1 to 3)
+	 */
+	public int getVariant() {
+		return variant;
+	}
+
+	/**
+	 * Scores a grid, majority bonus aside
+	 * @param packed    Cells packed by {@link core.game.grid.Board#encode(core.game.grid.Tile)}, by x * size + y
+	 * @param corridors Size of the largest corridor of each habitat, overwritten, for
+	 *                  {@link #majorityBonus(int[], int[])}
+	 * @return Wildlife score plus habitat score
+	 */
+	public int score(short[] packed, int[] corridors) {
+		Objects.checkFromIndexSize(0, bitboards.getSize() * bitboards.getSize(), packed.length);
+		bitboards.fill(packed, habitats, tokens, null);
+		int score = 0;
+		for (int habitat = 0; habitat < HABITATS; habitat++) {
+			long rest = habitats[habitat];
+			int largest = 0;
+			while (rest != 0) {
+				long corridor = bitboards.grow(Long.lowestOneBit(rest), rest);
+				largest = Math.max(largest, Long.bitCount(corridor));
+				rest &= ~corridor;
+			}
+			corridors[habitat] = largest;
+			score += largest;
+		}
+		if (variant == 3) {
+			return score + standardWildlife();
+		}
+		return score + groupWildlife(variant == 1 ? FAMILY_POINTS : INTERMEDIATE_POINTS);
+	}
+
+	private int groupWildlife(int[] points) {
+		int score = 0;
+		for (int wildlife = 0; wildlife < SPECIES; wildlife++) {
+			long rest = tokens[wildlife];
+			while (rest != 0) {
+				long group = bitboards.grow(Long.lowestOneBit(rest), rest);
+				score += points[Math.min(Long.bitCount(group), points.length - 1)];
+				rest &= ~group;
+			}
+		}
+		return score;
+	}
+
+	private int standardWildlife() {
+		int score = 0;
+		int bearPairs = 0;
+		for (int wildlife : GROUP_SCORED) {
+			long rest = tokens[wildlife];
+			while (rest != 0) {
+				long group = bitboards.grow(Long.lowestOneBit(rest), rest);
+				int size = Long.bitCount(group);
+				if (wildlife == BEAR) {
+					bearPairs += size == 2 ? 1 : 0;
+				} else {
+					int[] points = wildlife == ELK ? ELK_POINTS : SALMON_POINTS;
+					score += points[Math.min(size, points.length - 1)];
+				}
+				rest &= ~group;
+			}
+		}
+		score += BEAR_PAIR_POINTS[Math.min(bearPairs, BEAR_PAIR_POINTS.length - 1)];
+		long hawks = tokens[HAWK];
+		int singleHawks = Long.bitCount(hawks & ~bitboards.neighbors(hawks));
+		score += SINGLE_HAWK_POINTS[Math.min(singleHawks, SINGLE_HAWK_POINTS.length - 1)];
+		long foxes = tokens[FOX];
+		for (int wildlife = 0; wildlife < SPECIES; wildlife++) {
+			score += Long.bitCount(bitboards.neighbors(tokens[wildlife]) & foxes); // Un point par espèce voisine
+		}
+		return score;
+	}
+
+	/**
+	 * Majority bonus of a grid against another one: for each habitat, 2 points if its largest corridor is larger,
+	 * 1 point if both are equal
+	 * @param corridors Largest corridors of the grid, see {@link #score(short[], int[])}
+	 * @param opponent  Largest corridors of the other grid
+	 * @return Bonus points of the grid
+	 */
+	public static int majorityBonus(int[] corridors, int[] opponent) {
+		int bonus = 0;
+		for (int habitat = 0; habitat < HABITATS; habitat++) {
+			bonus += corridors[habitat] > opponent[habitat] ? 2 : corridors[habitat] == opponent[habitat] ? 1 : 0;
+		}
+		return bonus;
+	}
+}
@@ -0,0 +1,608 @@
+package core.game.eval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import core.game.Game;
+import core.game.Match;
+import core.game.Move;
+import core.game.grid.Board;
+import core.game.grid.Tile;
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+import graphical.model.GameMode;
+
+/**
+ * Solver of the last turns of a {@link Match}: expectimax over the remaining turns of every player, the current
+ * player maximizing its margin over the best opponent and the opponents minimizing it (alpha-beta), each move
+ * being followed by the draw of the tile refilling the market (chance node).
+ * - Positions are packed grids, scored at the end of the game by {@link BoardScorer}
+ * - Chance nodes average a few tiles drawn as by the deck, the same ones for every position of a turn so that
+ * positions stay comparable; a market that would be drawn again is replaced by a new draw. Star1 pruning
+ * bounds the remaining draws by the largest possible margin
+ * - Moves are searched in decreasing order of the score they give to their player
+ * - Values are kept in a transposition table shared by the threads, written without lock: an entry whose key
+ * does not match its value is ignored
+ * - The first move of the root is searched first, then the others in parallel with its value as lower bound
+ * - An interrupted search unwinds within a few thousand positions, so that the threads are soon free again
+ *
+ * Grids must be square, of at most 32 cells; the deck is assumed not to run out before the end of the game.
+ */
+public final class EndgameSolver implements AutoCloseable {
+	public static final int DEFAULT_TURNS = 4;
+	public static final int DEFAULT_SAMPLES = 4;
+
+	private static final int HABITATS = Habitat.values().length;
+	private static final int SPECIES = Wildlife.values().length;
+	private static final int PRESENT = 1 << 15;
+	private static final int TOKEN = 7 << 3;
+	private static final int AUTHORIZED = 0x3F << 6;
+	private static final double MAX_MARGIN = 200; // Aucune marge ne l'atteint, même à 4 joueurs
+	private static final int TABLE_BITS = 20;
+	private static final int MAX_CELLS = 32; // Case de la tuile et case du jeton codées sur 5 bits dans un coup
+	private static final long EXACT = 0;
+	private static final long LOWER = 1; // Valeur au moins égale
+	private static final long UPPER = 2; // Valeur au plus égale
+	private static final long INTERRUPT_CHECK_MASK = (1 << 12) - 1; // Interruption vérifiée toutes les 4096 positions
+
+	private final int maxTurns;
+	private final int samples;
+	private final ExecutorService executor;
+	private final long[] tableKeys = new long[1 << TABLE_BITS];
+	private final long[] tableData = new long[1 << TABLE_BITS];
+	private final AtomicLong solves = new AtomicLong();
+
+	/**
+	 * Best move found by the solver
+	 * @param move   Move of the current player
+	 * @param margin Expected final score of the player minus the best final score of its opponents
+	 * @param nodes  Number of positions searched
+	 */
+	public record Solution(Move move, double margin, long nodes) {
+	}
+
+	/**
+	 * Thrown through a search whose thread is interrupted, without stack trace
+	 */
+	private static final class Abandoned extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private Abandoned() {
+			super(null, null, false, false);
+		}
+	}
+
+	private static final Abandoned ABANDONED = new Abandoned();
+
+	/**
+	 * Constructor for EndgameSolver
+	 * @param maxTurns Number of remaining turns, all players included, from which the solver applies
+	 * @param samples  Number of tiles drawn at each chance node
+	 * @param threads  Number of threads searching the moves of the root, 1 to search in the calling thread only
+	 */
+	public EndgameSolver(int maxTurns, int samples, int threads) {
+		if (maxTurns <= 0 || samples <= 0 || threads <= 0) {
+			throw new IllegalArgumentException("Turns, samples and threads must be positive");
+		}
+		this.maxTurns = maxTurns;
+		this.samples = samples;
+		this.executor = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "endgame-solver");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Number of turns left in a match
+	 * @param match Match
+	 * @return Turns of all players until the end of the game
+	 */
+	public static int remainingTurns(Match match) {
+		return match.isOver() ? 0 : Game.NUMBER_OF_TURNS * match.getPlayers().size() - match.getTurn();
+	}
+
+	/**
+	 * Tells whether the solver applies to a match
+	 * @param match Match
+	 * @return true if the game is not over, on square grids of at most 32 cells, and close enough to its end
+	 */
+	public boolean canSolve(Match match) {
+		Objects.requireNonNull(match);
+		if (match.isOver() || match.getMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
+			return false;
+		}
+		int size = match.getCurrentGrid().getSize();
+		return size <= Bitboards.MAX_SIZE && size * size <= MAX_CELLS && remainingTurns(match) <= maxTurns;
+	}
+
+	/**
+	 * Searches the best move of the current player until the end of the game
+	 * @param match Match, see {@link #canSolve(Match)}
+	 * @return Best move, or null if the player has no legal move. If interrupted, the best move found so far,
+	 *         with a margin of negative infinity if no move was searched to the end.
+	 */
+	public Solution solve(Match match) {
+		if (!canSolve(match)) {
+			throw new IllegalStateException("Match is not in its last " + maxTurns + " turns");
+		}
+		long salt = mix(solves.incrementAndGet() * 0x9E3779B97F4A7C15L ^ match.getSeed());
+		Search root = new Search(match, salt);
+		int count = root.generate(0, root.root);
+		if (count == 0) {
+			return null;
+		}
+		root.order(0, root.root, count);
+		int[] moves = new int[count];
+		System.arraycopy(root.moves[0], 0, moves, 0, count);
+		double[] best = { Double.NEGATIVE_INFINITY };
+		int[] bestMove = { moves[0] };
+		long[] nodes = { 0 };
+		try {
+			best[0] = root.rootValue(moves[0], Double.NEGATIVE_INFINITY);
+		} catch (Abandoned e) {
+			return new Solution(root.toMove(moves[0]), best[0], root.nodes);
+		}
+		nodes[0] = root.nodes;
+		if (executor == null) {
+			try {
+				for (int i = 1; i < count; i++) {
+					double value = root.rootValue(moves[i], best[0]);
+					if (value > best[0]) {
+						best[0] = value;
+						bestMove[0] = moves[i];
+					}
+				}
+			} catch (Abandoned e) {
+				// Meilleur coup trouvé jusque-là
+			}
+			nodes[0] = root.nodes;
+		} else {
+			List<Future<?>> running = new ArrayList<>();
+			for (int i = 1; i < count; i++) {
+				int move = moves[i];
+				running.add(executor.submit(() -> {
+					Search search = new Search(match, salt);
+					double alpha;
+					synchronized (best) {
+						alpha = best[0];
+					}
+					double value;
+					try {
+						value = search.rootValue(move, alpha);
+					} catch (Abandoned e) {
+						return; // Recherche annulée par solve
+					}
+					synchronized (best) {
+						if (value > best[0]) {
+							best[0] = value;
+							bestMove[0] = move;
+						}
+						nodes[0] += search.nodes;
+					}
+				}));
+			}
+			try {
+				for (Future<?> future : running) {
+					future.get();
+				}
+			} catch (InterruptedException e) {
+				for (Future<?> future : running) {
+					future.cancel(true);
+				}
+				Thread.currentThread().interrupt(); // Meilleur coup trouvé jusque-là
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("Search failed", e.getCause());
+			}
+		}
+		synchronized (best) {
+			return new Solution(root.toMove(bestMove[0]), best[0], nodes[0]);
+		}
+	}
+
+	/**
+	 * Stops the threads of the solver
+	 */
+	@Override
+	public void close() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	private static long mix(long value) {
+		// Finaliseur de SplitMix64
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+	private static long cellKey(int player, int index, int cell) {
+		return mix(((long) player << 40) | ((long) index << 16) | (cell & 0xFFFF));
+	}
+
+	private static long marketKey(int tile) {
+		return mix(0x5EEDL << 48 | (tile & 0xFFFF));
+	}
+
+	/**
+	 * State of a search, owned by one thread. Moves are packed on an int: market slot, tile cell, token cell.
+	 */
+	private final class Search {
+		private final int players;
+		private final int root;
+		private final int size;
+		private final int cellCount;
+		private final int endTurn;
+		private final int startTurn;
+		private final boolean redrawFor3;
+		private final long salt;
+		private final BoardScorer scorer;
+		private final int[][] adjacent;
+		private final short[][] cells;
+		private final int[][] corridors;
+		private final int[] base;
+		private final int[] marketSlots; // Emplacement dans le marché du match, par tuile du marché de la racine
+		private final short[][] markets;
+		private final int[] marketSizes;
+		private final int[][] moves;
+		private final int[][] gains;
+		private final int[][] savedCorridors;
+		private long hash;
+		private long nodes;
+
+		private Search(Match match, long salt) {
+			this.players = match.getPlayers().size();
+			this.root = match.getCurrentPlayerIndex();
+			this.size = match.getCurrentGrid().getSize();
+			this.cellCount = size * size;
+			this.startTurn = match.getTurn();
+			this.endTurn = Game.NUMBER_OF_TURNS * players;
+			this.redrawFor3 = match.isRedrawFor3();
+			this.salt = salt;
+			this.scorer = new BoardScorer(match.getGame().getVariant(), size);
+			this.adjacent = new int[cellCount][];
+			for (int x = 0; x < size; x++) {
+				for (int y = 0; y < size; y++) {
+					List<Integer> around = new ArrayList<>();
+					for (int dx = -1; dx <= 1; dx++) {
+						for (int dy = -1; dy <= 1; dy++) {
+							int nx = x + dx;
+							int ny = y + dy;
+							if ((dx != 0 || dy != 0) && nx >= 0 && ny >= 0 && nx < size && ny < size) {
+								around.add(nx * size + ny);
+							}
+						}
+					}
+					adjacent[x * size + y] = around.stream().mapToInt(Integer::intValue).toArray();
+				}
+			}
+			this.cells = new short[players][cellCount];
+			this.corridors = new int[players][HABITATS];
+			this.base = new int[players];
+			for (int p = 0; p < players; p++) {
+				Board board = match.getGame().getHistory(match.getPlayers().get(p)).current();
+				for (int i = 0; i < cellCount; i++) {
+					cells[p][i] = board.getCell(i / size, i % size);
+					hash ^= cellKey(p, i, cells[p][i]);
+				}
+				base[p] = scorer.score(cells[p], corridors[p]);
+			}
+			int depths = endTurn - startTurn + 2;
+			this.markets = new short[depths][4];
+			this.marketSizes = new int[depths];
+			this.moves = new int[depths][];
+			this.gains = new int[depths][];
+			this.savedCorridors = new int[depths][HABITATS];
+			List<Tile> market = match.getMarket();
+			this.marketSlots = new int[market.size()];
+			for (int slot = 0; slot < market.size(); slot++) {
+				if (market.get(slot) != null) {
+					marketSlots[marketSizes[0]] = slot;
+					markets[0][marketSizes[0]++] = Board.encode(market.get(slot));
+				}
+			}
+			int maxMoves = 4 * cellCount * (cellCount + 1);
+			for (int depth = 0; depth < depths; depth++) {
+				moves[depth] = new int[maxMoves];
+				gains[depth] = new int[maxMoves];
+			}
+		}
+
+		private Move toMove(int move) {
+			int cell = (move >> 5) & 31;
+			int target = move & 31;
+			return new Move(marketSlots[move >> 10], cell / size, cell % size, target / size, target % size);
+		}
+
+		// Wildlife que les tuiles sans jeton d'un joueur autorisent, un bit par espèce
+		private int authorizedWildlife(int player) {
+			int mask = 0;
+			for (short cell : cells[player]) {
+				if (cell != 0 && (cell & TOKEN) == 0) {
+					mask |= authorizedBits(cell);
+				}
+			}
+			return mask;
+		}
+
+		private int authorizedBits(int cell) {
+			int mask = 0;
+			for (int shift = 6; shift <= 9; shift += 3) {
+				int wildlife = (cell >> shift) & 7;
+				if (wildlife != 0) {
+					mask |= 1 << (wildlife - 1);
+				}
+			}
+			return mask;
+		}
+
+		// Mêmes coups que Match.legalMoves, dans le même ordre
+		private int generate(int depth, int player) {
+			short[] grid = cells[player];
+			int playable = authorizedWildlife(player);
+			int count = 0;
+			for (int slot = 0; slot < marketSizes[depth]; slot++) {
+				int tile = markets[depth][slot];
+				int token = ((tile >> 3) & 7) - 1;
+				if ((playable & (1 << token)) == 0) {
+					continue;
+				}
+				for (int cell = 0; cell < cellCount; cell++) {
+					if (grid[cell] != 0 || !touchesTile(grid, cell)) {
+						continue;
+					}
+					for (int target = 0; target < cellCount; target++) {
+						int value = target == cell ? tile : grid[target];
+						boolean free = target == cell || (value != 0 && (value & TOKEN) == 0);
+						if (free && (authorizedBits(value) & (1 << token)) != 0) {
+							moves[depth][count++] = slot << 10 | cell << 5 | target;
+						}
+					}
+				}
+			}
+			return count;
+		}
+
+		private boolean touchesTile(short[] grid, int cell) {
+			for (int neighbor : adjacent[cell]) {
+				if (grid[neighbor] != 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		// Coups triés par points gagnés par leur joueur, les meilleurs d'abord
+		private void order(int depth, int player, int count) {
+			int[] list = moves[depth];
+			int[] gain = gains[depth];
+			for (int i = 0; i < count; i++) {
+				int before = base[player];
+				long undo = apply(depth, player, list[i]);
+				gain[i] = base[player] - before;
+				undo(depth, player, list[i], undo, before);
+			}
+			for (int i = 1; i < count; i++) { // Tri par insertion : listes courtes
+				int move = list[i];
+				int value = gain[i];
+				int j = i - 1;
+				for (; j >= 0 && gain[j] < value; j--) {
+					list[j + 1] = list[j];
+					gain[j + 1] = gain[j];
+				}
+				list[j + 1] = move;
+				gain[j + 1] = value;
+			}
+		}
+
+		// Joue un coup sur la grille du joueur, renvoie de quoi l'annuler
+		private long apply(int depth, int player, int move) {
+			int tile = markets[depth][move >> 10];
+			int cell = (move >> 5) & 31;
+			int target = move & 31;
+			short[] grid = cells[player];
+			int token = tile & TOKEN;
+			int previous = grid[target];
+			set(player, cell, tile & ~TOKEN); // Jeton du marché retiré de la tuile posée
+			set(player, target, (grid[target] & ~AUTHORIZED) | token);
+			System.arraycopy(corridors[player], 0, savedCorridors[depth], 0, HABITATS);
+			base[player] = scorer.score(grid, corridors[player]);
+			return previous;
+		}
+
+		private void undo(int depth, int player, int move, long previous, int previousBase) {
+			int cell = (move >> 5) & 31;
+			int target = move & 31;
+			set(player, target, (int) previous);
+			set(player, cell, 0);
+			System.arraycopy(savedCorridors[depth], 0, corridors[player], 0, HABITATS);
+			base[player] = previousBase;
+		}
+
+		private void set(int player, int index, int cell) {
+			hash ^= cellKey(player, index, cells[player][index]) ^ cellKey(player, index, cell);
+			cells[player][index] = (short) cell;
+		}
+
+		private double margin() {
+			double own = total(root);
+			double best = Double.NEGATIVE_INFINITY;
+			for (int p = 0; p < players; p++) {
+				if (p != root) {
+					best = Math.max(best, total(p));
+				}
+			}
+			return players == 1 ? own : own - best;
+		}
+
+		private int total(int player) {
+			int total = base[player];
+			for (int p = 0; p < players; p++) {
+				if (p != player) {
+					total += BoardScorer.majorityBonus(corridors[player], corridors[p]);
+				}
+			}
+			return total;
+		}
+
+		private double rootValue(int move, double alpha) {
+			int before = base[root];
+			long undo = apply(0, root, move);
+			double value = chance(startTurn + 1, 1, 0, move >> 10, alpha, Double.POSITIVE_INFINITY);
+			undo(0, root, move, undo, before);
+			return value;
+		}
+
+		private long key(int turn, int depth) {
+			long key = hash ^ salt ^ mix(turn);
+			for (int slot = 0; slot < marketSizes[depth]; slot++) {
+				key += marketKey(markets[depth][slot]); // Somme : le marché est un multiensemble
+			}
+			return key;
+		}
+
+		private double search(int turn, int depth, double alpha, double beta) {
+			if ((++nodes & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+				throw ABANDONED; // Grilles laissées en l'état : la recherche n'est plus utilisée
+			}
+			if (turn >= endTurn) {
+				return margin();
+			}
+			long key = key(turn, depth);
+			int index = (int) (key & ((1 << TABLE_BITS) - 1));
+			long data = tableData[index];
+			if ((tableKeys[index] ^ data) == key) {
+				double value = Float.intBitsToFloat((int) (data >>> 2));
+				long bound = data & 3;
+				if (bound == EXACT || (bound == LOWER && value >= beta) || (bound == UPPER && value <= alpha)) {
+					return value;
+				}
+			}
+			int player = turn % players;
+			boolean maximizing = player == root;
+			int count = generate(depth, player);
+			if (count == 0) { // Ne devrait pas arriver : le marché est tiré à nouveau s'il n'est pas jouable
+				System.arraycopy(markets[depth], 0, markets[depth + 1], 0, marketSizes[depth]);
+				marketSizes[depth + 1] = marketSizes[depth];
+				return search(turn + 1, depth + 1, alpha, beta);
+			}
+			if (turn + 1 < endTurn) { // Au dernier tour, chaque coup est évalué une seule fois : inutile de trier
+				order(depth, player, count);
+			}
+			double low = alpha;
+			double high = beta;
+			double best = maximizing ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+			for (int i = 0; i < count && low < high; i++) {
+				int move = moves[depth][i];
+				int before = base[player];
+				long undo = apply(depth, player, move);
+				double value = chance(turn + 1, depth + 1, depth, move >> 10, low, high);
+				undo(depth, player, move, undo, before);
+				if (maximizing) {
+					best = Math.max(best, value);
+					low = Math.max(low, value);
+				} else {
+					best = Math.min(best, value);
+					high = Math.min(high, value);
+				}
+			}
+			long bound = best <= alpha ? UPPER : best >= beta ? LOWER : EXACT;
+			data = ((long) Float.floatToIntBits((float) best) << 2) | bound;
+			tableData[index] = data;
+			tableKeys[index] = key ^ data;
+			return best;
+		}
+
+		// Tirage de la tuile qui complète le marché, après que le coup a pris la tuile taken du marché de from
+		private double chance(int turn, int depth, int from, int taken, double alpha, double beta) {
+			if (turn >= endTurn) {
+				nodes++;
+				return margin();
+			}
+			int playable = authorizedWildlife(turn % players);
+			double sum = 0;
+			for (int k = 0; k < samples; k++) {
+				SplittableRandom random = new SplittableRandom(salt ^ mix((long) turn * samples + k));
+				marketSizes[depth] = sampleMarket(markets[from], marketSizes[from], taken, markets[depth], random, playable,
+						redrawFor3);
+				// Star1 : bornes sur la moyenne, les tirages restants valant au pire -MAX_MARGIN, au mieux MAX_MARGIN
+				double low = samples * alpha - sum - (samples - 1 - k) * MAX_MARGIN;
+				double high = samples * beta - sum + (samples - 1 - k) * MAX_MARGIN;
+				double value = search(turn, depth, Math.max(low, -MAX_MARGIN), Math.min(high, MAX_MARGIN));
+				if (value <= low) {
+					return alpha;
+				}
+				if (value >= high) {
+					return beta;
+				}
+				sum += value;
+			}
+			return sum / samples;
+		}
+	}
+
+	/**
+	 * Draws the market of one sample of a chance node: the tiles kept from the previous market, then a new tile.
+	 * The whole market is drawn again, as by the game, while it must be. The kept tiles are copied at each call,
+	 * so that a redraw of a sample never leaks into the next one.
+	 * @param from       Previous market
+	 * @param fromSize   Number of tiles of the previous market
+	 * @param taken      Slot of the tile taken from the previous market
+	 * @param market     Market of the sample, overwritten
+	 * @param random     Draws of the sample
+	 * @param playable   Wildlife the player can place, one bit per ordinal
+	 * @param redrawFor3 true if 3 identical tokens redraw the market
+	 * @return Number of tiles of the market
+	 */
+	static int sampleMarket(short[] from, int fromSize, int taken, short[] market, SplittableRandom random, int playable,
+			boolean redrawFor3) {
+		int kept = 0;
+		for (int slot = 0; slot < fromSize; slot++) {
+			if (slot != taken) {
+				market[kept++] = from[slot];
+			}
+		}
+		market[kept] = drawTile(random);
+		int count = kept + 1;
+		while (mustRedraw(market, count, playable, redrawFor3)) {
+			for (int slot = 0; slot < 4; slot++) {
+				market[slot] = drawTile(random);
+			}
+			count = 4;
+		}
+		return count;
+	}
+
+	// Même tirage que Deck : habitat, jeton, puis deux animaux autorisés différents
+	private static short drawTile(SplittableRandom random) {
+		int habitat = random.nextInt(HABITATS);
+		int token = random.nextInt(SPECIES);
+		int first = random.nextInt(SPECIES);
+		int second;
+		do {
+			second = random.nextInt(SPECIES);
+		} while (second == first);
+		return (short) (PRESENT | habitat | (token + 1) << 3 | (first + 1) << 6 | (second + 1) << 9);
+	}
+
+	// Mêmes conditions que Match : aucune tuile jouable, ou trop de jetons identiques
+	private static boolean mustRedraw(short[] market, int count, int playable, boolean redrawFor3) {
+		boolean any = false;
+		int[] same = new int[SPECIES];
+		int max = 0;
+		for (int slot = 0; slot < count; slot++) {
+			int token = ((market[slot] >> 3) & 7) - 1;
+			any |= (playable & (1 << token)) != 0;
+			max = Math.max(max, ++same[token]);
+		}
+		return !any || max == 4 || (max == 3 && redrawFor3);
+	}
+}
@@ -0,0 +1,205 @@
+package core.game.eval;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Offline training of a {@link BoardEvaluator} on the positions of a {@link PositionBuffer}, labelled with the
+ * final score of their player. Minibatch gradient descent with momentum on the squared error, features and
+ * labels being standardized on a first sample of the buffer; the scaling is folded into the weights once trained.
+ */
+public final class EvaluatorTrainer {
+	private static final int STATISTICS_BATCHES = 32;
+	private static final float MOMENTUM = 0.9f;
+
+	private final int hidden;
+	private final int batchSize;
+	private final float learningRate;
+	private final SplittableRandom random;
+	private double loss = Double.NaN;
+
+	/**
+	 * Constructor for EvaluatorTrainer
+	 * @param hidden       Number of hidden units, 0 for a linear model
+	 * @param batchSize    Number of positions of a minibatch
+	 * @param learningRate Step of the gradient descent, on standardized values
+	 * @param seed         Seed of the initial weights and of the sampling
+	 */
+	public EvaluatorTrainer(int hidden, int batchSize, float learningRate, long seed) {
+		if (hidden < 0 || batchSize <= 0 || !(learningRate > 0)) {
+			throw new IllegalArgumentException("Invalid training parameters");
+		}
+		this.hidden = hidden;
+		this.batchSize = batchSize;
+		this.learningRate = learningRate;
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Trains an evaluator. The buffer may still be appended to meanwhile.
+	 * @param buffer Labelled positions, not empty
+	 * @param steps  Number of minibatches
+	 * @return Trained evaluator
+	 */
+	public BoardEvaluator train(PositionBuffer buffer, int steps) {
+		Objects.requireNonNull(buffer);
+		if (buffer.size() == 0) {
+			throw new IllegalStateException("No position to train on");
+		}
+		int count = BoardFeatures.COUNT;
+		int rows = Math.max(hidden, 1);
+		BoardFeatures extractor = new BoardFeatures(buffer.getGridSize());
+		float[][] inputs = new float[batchSize][count];
+		float[] labels = new float[batchSize];
+		try (Arena arena = Arena.ofConfined()) {
+			MemorySegment batch = buffer.newBatch(arena, batchSize);
+
+			// Moyenne et écart type des features et des étiquettes
+			double[] sum = new double[count + 1];
+			double[] squares = new double[count + 1];
+			for (int b = 0; b < STATISTICS_BATCHES; b++) {
+				fill(buffer, batch, extractor, inputs, labels);
+				for (int i = 0; i < batchSize; i++) {
+					for (int f = 0; f <= count; f++) {
+						double value = f < count ? inputs[i][f] : labels[i];
+						sum[f] += value;
+						squares[f] += value * value;
+					}
+				}
+			}
+			double samples = (double) STATISTICS_BATCHES * batchSize;
+			float[] mean = new float[count + 1];
+			float[] scale = new float[count + 1];
+			for (int f = 0; f <= count; f++) {
+				mean[f] = (float) (sum[f] / samples);
+				double deviation = Math.sqrt(Math.max(squares[f] / samples - mean[f] * (double) mean[f], 0));
+				scale[f] = deviation > 1e-6 ? (float) (1 / deviation) : 0; // Feature constante : ignorée
+			}
+			float labelDeviation = scale[count] == 0 ? 1 : 1 / scale[count];
+
+			float[] weights = new float[rows * count];
+			float[] biases = new float[rows];
+			float[] output = new float[hidden];
+			float[] outputBias = new float[1];
+			for (int i = 0; i < weights.length && hidden > 0; i++) {
+				weights[i] = (float) (random.nextGaussian() * Math.sqrt(2.0 / count));
+			}
+			for (int i = 0; i < hidden; i++) {
+				output[i] = (float) (random.nextGaussian() * Math.sqrt(1.0 / hidden));
+			}
+			float[][] parameters = { weights, biases, output, outputBias };
+			float[][] gradients = { new float[weights.length], new float[rows], new float[hidden], new float[1] };
+			float[][] velocities = { new float[weights.length], new float[rows], new float[hidden], new float[1] };
+			float[] x = new float[count];
+			float[] activations = new float[rows];
+
+			for (int step = 0; step < steps; step++) {
+				fill(buffer, batch, extractor, inputs, labels);
+				for (float[] gradient : gradients) {
+					Arrays.fill(gradient, 0);
+				}
+				double squaredError = 0;
+				for (int i = 0; i < batchSize; i++) {
+					for (int f = 0; f < count; f++) {
+						x[f] = (inputs[i][f] - mean[f]) * scale[f];
+					}
+					float prediction = hidden == 0 ? 0 : outputBias[0];
+					for (int unit = 0; unit < rows; unit++) {
+						float activation = biases[unit];
+						for (int f = 0; f < count; f++) {
+							activation += weights[unit * count + f] * x[f];
+						}
+						activations[unit] = activation;
+						if (hidden == 0) {
+							prediction += activation;
+						} else if (activation > 0) {
+							prediction += output[unit] * activation;
+						}
+					}
+					float error = prediction - (labels[i] - mean[count]) / labelDeviation;
+					squaredError += error * error;
+
+					// Rétropropagation de l'erreur quadratique
+					for (int unit = 0; unit < rows; unit++) {
+						float delta = error;
+						if (hidden > 0) {
+							if (activations[unit] <= 0) {
+								continue;
+							}
+							gradients[2][unit] += error * activations[unit];
+							delta = error * output[unit];
+						}
+						gradients[1][unit] += delta;
+						for (int f = 0; f < count; f++) {
+							gradients[0][unit * count + f] += delta * x[f];
+						}
+					}
+					if (hidden > 0) {
+						gradients[3][0] += error;
+					}
+				}
+				loss = squaredError / batchSize * labelDeviation * labelDeviation;
+				for (int p = 0; p < parameters.length; p++) {
+					for (int i = 0; i < parameters[p].length; i++) {
+						velocities[p][i] = MOMENTUM * velocities[p][i] - learningRate * gradients[p][i] / batchSize;
+						parameters[p][i] += velocities[p][i];
+					}
+				}
+			}
+			return fold(weights, biases, output, hidden == 0 ? 0 : outputBias[0], mean, scale, labelDeviation);
+		}
+	}
+
+	private BoardEvaluator fold(float[] weights, float[] biases, float[] output, float outputBias, float[] mean,
+			float[] scale, float labelDeviation) {
+		int count = BoardFeatures.COUNT;
+		int rows = biases.length;
+		float labelMean = mean[count];
+		for (int unit = 0; unit < rows; unit++) {
+			float shift = 0;
+			for (int f = 0; f < count; f++) {
+				weights[unit * count + f] *= scale[f];
+				shift += weights[unit * count + f] * mean[f];
+			}
+			biases[unit] -= shift;
+		}
+		if (hidden == 0) {
+			for (int f = 0; f < count; f++) {
+				weights[f] *= labelDeviation;
+			}
+			biases[0] = biases[0] * labelDeviation + labelMean;
+			return new BoardEvaluator(count, 0, weights, biases, output, 0);
+		}
+		for (int unit = 0; unit < hidden; unit++) {
+			output[unit] *= labelDeviation;
+		}
+		return new BoardEvaluator(count, hidden, weights, biases, output, outputBias * labelDeviation + labelMean);
+	}
+
+	private void fill(PositionBuffer buffer, MemorySegment batch, BoardFeatures extractor, float[][] inputs,
+			float[] labels) {
+		int size = buffer.getGridSize();
+		short[] cells = new short[size * size];
+		buffer.sample(random, batch, batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			for (int x = 0; x < size; x++) {
+				for (int y = 0; y < size; y++) {
+					cells[x * size + y] = buffer.getCell(batch, i, x, y);
+				}
+			}
+			extractor.extract(cells, inputs[i]);
+			labels[i] = buffer.getLabel(batch, i);
+		}
+	}
+
+	/**
+	 * Getter of the mean squared error of the last minibatch, before its update
+	 * @return Error in squared points, NaN before any training
+	 */
+	public double getLoss() {
+		return loss;
+	}
+}
@@ -0,0 +1,212 @@
+package core.game.eval;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import core.game.grid.Board;
+import core.game.grid.BoardHistory;
+
+/**
+ * Off-heap ring of board positions labelled with a score, meant to train an evaluator on millions of positions
+ * without the garbage collector ever scanning them.
+ * - Positions live in one {@link MemorySegment} of a shared {@link Arena}, in fixed-size slots: a stamp, the label
+ * and the cells packed as by {@link Board#encode(core.game.grid.Tile)} (habitat, token, authorized wildlife)
+ * - Appending reserves a slot with a single atomic increment; once full, the ring overwrites its oldest positions
+ * - Each slot is guarded by its stamp, odd while the slot is being written (sequence lock): sampling never blocks
+ * appending, and retries another slot when it reads one being written. The stamp is only accessed through a
+ * {@link VarHandle}: taken by a volatile compare-and-set, released once the slot is written, read with acquire
+ * semantics, as {@link java.util.concurrent.locks.StampedLock} does for its optimistic reads
+ *
+ * Minibatches are copied into segments allocated by {@link #newBatch(Arena, int)}, read with
+ * {@link #getLabel(MemorySegment, int)} and {@link #getCell(MemorySegment, int, int, int)}.
+ * An append only waits when the ring came back to a slot whose previous position is still being written, which
+ * does not happen when the ring is much larger than the number of appending threads.
+ */
+public final class PositionBuffer implements AutoCloseable {
+	private static final long STAMP = 0;
+	private static final long LABEL = Long.BYTES;
+	private static final long CELLS = LABEL + Float.BYTES;
+	private static final VarHandle STAMPS = ValueLayout.JAVA_LONG.varHandle(); // Segment, position en octets
+
+	private final Arena arena = Arena.ofShared();
+	private final MemorySegment slots;
+	private final int size;
+	private final long capacity;
+	private final long slotSize;
+	private final long sampleSize;
+	private final AtomicLong appended = new AtomicLong();
+
+	/**
+	 * Constructor for PositionBuffer
+	 * @param gridSize Size of the boards
+	 * @param capacity Number of positions kept
+	 */
+	public PositionBuffer(int gridSize, long capacity) {
+		if (gridSize <= 0 || capacity <= 0) {
+			throw new IllegalArgumentException("Grid size and capacity must be positive");
+		}
+		this.size = gridSize;
+		this.capacity = capacity;
+		long cells = (long) gridSize * gridSize * Short.BYTES;
+		this.slotSize = align(CELLS + cells, Long.BYTES);
+		this.sampleSize = align(Float.BYTES + cells, Float.BYTES);
+		this.slots = arena.allocate(capacity * slotSize, Long.BYTES); // Mise à zéro : aucun tampon écrit
+	}
+
+	private static long align(long bytes, long alignment) {
+		return (bytes + alignment - 1) / alignment * alignment;
+	}
+
+	/**
+	 * Adds a position. Lock-free, may be called by many threads at the same time.
+	 * @param board Position
+	 * @param label Label of the position, for instance the final score of its player
+	 * @return Number of positions appended before this one
+	 */
+	public long append(Board board, float label) {
+		if (board.getSize() != size) {
+			throw new IllegalArgumentException("Board of size " + size + " expected");
+		}
+		long index = appended.getAndIncrement();
+		long base = index % capacity * slotSize;
+		long previous = index < capacity ? 0 : 2 * (index - capacity) + 2;
+		// Impair : écriture en cours. Accès volatile : les écritures du tampon ne remontent pas avant lui
+		while (!STAMPS.compareAndSet(slots, base + STAMP, previous, 2 * index + 1)) {
+			while ((long) STAMPS.getVolatile(slots, base + STAMP) != previous) {
+				Thread.onSpinWait(); // Tour précédent encore en cours d'écriture dans ce tampon
+			}
+		}
+		slots.set(ValueLayout.JAVA_FLOAT, base + LABEL, label);
+		long offset = base + CELLS;
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				slots.set(ValueLayout.JAVA_SHORT, offset, board.getCell(x, y));
+				offset += Short.BYTES;
+			}
+		}
+		STAMPS.setRelease(slots, base + STAMP, 2 * index + 2);
+		return index;
+	}
+
+	/**
+	 * Adds every position of a grid, once its game is over
+	 * @param history History of the grid
+	 * @param label   Label of all the positions, for instance the final score of the player
+	 */
+	public void append(BoardHistory history, float label) {
+		// Sans la version 0 : les seules tuiles de départ, posées par Game.addPlayer avant le premier coup
+		for (int version = 1; version < history.getVersionCount(); version++) {
+			append(history.getBoard(version), label);
+		}
+	}
+
+	/**
+	 * Getter of the size of the boards
+	 * @return Size of grid
+	 */
+	public int getGridSize() {
+		return size;
+	}
+
+	/**
+	 * Getter of the number of positions appended since creation, overwritten ones included
+	 * @return Number of positions
+	 */
+	public long getAppended() {
+		return appended.get();
+	}
+
+	/**
+	 * Getter of the number of positions that can be sampled
+	 * @return Number of positions, at most the capacity
+	 */
+	public long size() {
+		return Math.min(appended.get(), capacity);
+	}
+
+	/**
+	 * Getter of the size of a sample in a minibatch
+	 * @return Size in bytes
+	 */
+	public long getSampleSize() {
+		return sampleSize;
+	}
+
+	/**
+	 * Allocates a segment holding a minibatch
+	 * @param batchArena Arena of the segment
+	 * @param count      Number of samples
+	 * @return Segment
+	 */
+	public MemorySegment newBatch(Arena batchArena, int count) {
+		return batchArena.allocate(count * sampleSize, Float.BYTES);
+	}
+
+	/**
+	 * Copies positions drawn uniformly at random, with replacement, into a minibatch
+	 * @param random Random generator, one per sampling thread
+	 * @param batch  Segment allocated by {@link #newBatch(Arena, int)}
+	 * @param count  Number of samples
+	 * @return Number of samples copied, 0 if no position was appended yet
+	 */
+	public int sample(RandomGenerator random, MemorySegment batch, int count) {
+		if (batch.byteSize() < count * sampleSize) {
+			throw new IllegalArgumentException("Batch too small for " + count + " samples");
+		}
+		long available = size();
+		if (available == 0) {
+			return 0;
+		}
+		long length = Float.BYTES + (long) size * size * Short.BYTES;
+		for (int i = 0; i < count; i++) {
+			while (true) {
+				long base = random.nextLong(available) * slotSize;
+				long stamp = (long) STAMPS.getAcquire(slots, base + STAMP);
+				if (stamp == 0 || (stamp & 1) != 0) {
+					continue; // Tampon réservé mais pas encore écrit
+				}
+				MemorySegment.copy(slots, base + LABEL, batch, i * sampleSize, length);
+				// Copie lue avant le second tampon : une lecture acquise n'ordonne que les lectures qui la suivent
+				VarHandle.acquireFence(); // Comme StampedLock.validate
+				if ((long) STAMPS.getAcquire(slots, base + STAMP) == stamp) {
+					break;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Getter of the label of a sample
+	 * @param batch  Minibatch filled by {@link #sample(RandomGenerator, MemorySegment, int)}
+	 * @param sample Index of the sample
+	 * @return Label
+	 */
+	public float getLabel(MemorySegment batch, int sample) {
+		return batch.get(ValueLayout.JAVA_FLOAT, sample * sampleSize);
+	}
+
+	/**
+	 * Getter of a cell of a sample
+	 * @param batch  Minibatch filled by {@link #sample(RandomGenerator, MemorySegment, int)}
+	 * @param sample Index of the sample
+	 * @param x      X coordinate
+	 * @param y      Y coordinate
+	 * @return Packed cell, see {@link Board#getCell(int, int)}
+	 */
+	public short getCell(MemorySegment batch, int sample, int x, int y) {
+		return batch.get(ValueLayout.JAVA_SHORT, sample * sampleSize + Float.BYTES + (x * size + y) * Short.BYTES);
+	}
+
+	/**
+	 * Frees the positions. The buffer must not be used anymore by any thread.
+	 */
+	@Override
+	public void close() {
+		arena.close();
+	}
+}
@@ -0,0 +1,14 @@
+package core.game.event;
+
+/**
+ * Something that happened in a game, published on a {@link GameEventBus}.
+ * Subscribers usually switch over the permitted types.
+ */
+public sealed interface GameEvent permits TilePlaced, TokenPlaced, MarketRefreshed, MovePlayed, TurnEnded,
+		GameOver {
+	/**
+	 * Getter of the name of the player concerned by the event
+	 * @return Name of player, or null if the event concerns all players
+	 */
+	String player();
+}
@@ -0,0 +1,73 @@
+package core.game.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Dispatches the events of a game to its subscribers, synchronously.
+ * Publishers check {@link #hasSubscribers()} before building an event, so that a game nobody
+ * listens to (simulation, server) neither allocates events nor prints anything:
+ * 
+ * <pre>
+ * if (events.hasSubscribers()) {
+ * 	events.publish(new TurnEnded(name, grid));
+ * }
+ * </pre>
+ * 
+ * Subscribers are kept in a copy-on-write array: publishing never locks and may happen on any thread.
+ */
+public final class GameEventBus {
+	private static final GameEventListener[] NO_LISTENERS = {};
+
+	private volatile GameEventListener[] listeners = NO_LISTENERS;
+
+	/**
+	 * Adds a subscriber
+	 * @param listener Subscriber, called for every event published afterwards
+	 */
+	public synchronized void subscribe(GameEventListener listener) {
+		Objects.requireNonNull(listener);
+		GameEventListener[] current = listeners;
+		GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = listener;
+		listeners = updated;
+	}
+
+	/**
+	 * Removes a subscriber
+	 * @param listener Subscriber to be removed
+	 * @return true if the listener was subscribed
+	 */
+	public synchronized boolean unsubscribe(GameEventListener listener) {
+		GameEventListener[] current = listeners;
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == listener) {
+				GameEventListener[] updated = new GameEventListener[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				listeners = updated;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether publishing an event would reach anyone
+	 * @return true if there is at least one subscriber
+	 */
+	public boolean hasSubscribers() {
+		return listeners.length != 0;
+	}
+
+	/**
+	 * Sends an event to every subscriber
+	 * @param event Event to be published
+	 */
+	public void publish(GameEvent event) {
+		Objects.requireNonNull(event);
+		for (GameEventListener listener : listeners) {
+			listener.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package core.game.event;
+
+/**
+ * Subscriber of a {@link GameEventBus}.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+	/**
+	 * Called on the thread that published the event, in order of subscription.
+	 * 
+	 * @param event Published event
+	 */
+	void onEvent(GameEvent event);
+}
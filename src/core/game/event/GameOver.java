@@ -0,0 +1,26 @@
+package core.game.event;
+
+import java.util.List;
+import java.util.Map;
+
+import core.game.grid.Grid;
+import core.game.player.Player;
+
+/**
+ * The final scores of all players have been calculated.
+ *
+ * @param players Players of the game, with their scores
+ * @param grids   Grid of each player
+ */
+public record GameOver(List<Player> players, Map<Player, Grid> grids) implements GameEvent {
+
+	public GameOver {
+		players = List.copyOf(players);
+		grids = Map.copyOf(grids);
+	}
+
+	@Override
+	public String player() {
+		return null;
+	}
+}
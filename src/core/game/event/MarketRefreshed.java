@@ -0,0 +1,23 @@
+package core.game.event;
+
+import java.util.List;
+import java.util.Objects;
+
+import core.game.grid.Grid;
+import core.game.grid.Tile;
+
+/**
+ * New tiles are proposed to a player at the beginning of their turn.
+ *
+ * @param player Name of player
+ * @param grid   Grid of player
+ * @param tiles  Proposed tiles
+ */
+public record MarketRefreshed(String player, Grid grid, List<Tile> tiles) implements GameEvent {
+
+	public MarketRefreshed {
+		Objects.requireNonNull(player);
+		Objects.requireNonNull(grid);
+		tiles = List.copyOf(tiles);
+	}
+}
@@ -0,0 +1,21 @@
+package core.game.event;
+
+import java.util.Objects;
+
+import core.game.Move;
+
+/**
+ * A complete move has been played through {@link core.game.Match}.
+ * Published before {@link TurnEnded}.
+ *
+ * @param player Name of player
+ * @param turn   Index of the turn, all players included, starting from 0
+ * @param move   Played move
+ */
+public record MovePlayed(String player, int turn, Move move) implements GameEvent {
+
+	public MovePlayed {
+		Objects.requireNonNull(player);
+		Objects.requireNonNull(move);
+	}
+}
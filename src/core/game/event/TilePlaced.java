@@ -0,0 +1,25 @@
+package core.game.event;
+
+import java.util.Objects;
+
+import core.game.grid.Grid;
+import core.game.grid.Tile;
+
+/**
+ * A player tried to place a habitat tile.
+ *
+ * @param player Name of player
+ * @param grid   Grid of player
+ * @param tile   Tile to be placed
+ * @param x      X coordinate on grid
+ * @param y      Y coordinate on grid
+ * @param placed false if the cell was occupied or not adjacent to a tile
+ */
+public record TilePlaced(String player, Grid grid, Tile tile, int x, int y, boolean placed) implements GameEvent {
+
+	public TilePlaced {
+		Objects.requireNonNull(player);
+		Objects.requireNonNull(grid);
+		Objects.requireNonNull(tile);
+	}
+}
@@ -0,0 +1,26 @@
+package core.game.event;
+
+import java.util.Objects;
+
+import core.game.grid.Grid;
+import core.game.mechanics.Wildlife;
+
+/**
+ * A player tried to place a wildlife token.
+ *
+ * @param player   Name of player
+ * @param grid     Grid of player
+ * @param wildlife Token to be placed
+ * @param x        X coordinate on grid
+ * @param y        Y coordinate on grid
+ * @param placed   false if there was no tile or if the tile does not accept this wildlife
+ */
+public record TokenPlaced(String player, Grid grid, Wildlife wildlife, int x, int y, boolean placed)
+		implements GameEvent {
+
+	public TokenPlaced {
+		Objects.requireNonNull(player);
+		Objects.requireNonNull(grid);
+		Objects.requireNonNull(wildlife);
+	}
+}
@@ -0,0 +1,19 @@
+package core.game.event;
+
+import java.util.Objects;
+
+import core.game.grid.Grid;
+
+/**
+ * A player has placed their tile and token.
+ *
+ * @param player Name of player
+ * @param grid   Grid of player
+ */
+public record TurnEnded(String player, Grid grid) implements GameEvent {
+
+	public TurnEnded {
+		Objects.requireNonNull(player);
+		Objects.requireNonNull(grid);
+	}
+}
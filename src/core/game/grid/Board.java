@@ -0,0 +1,364 @@
+package core.game.grid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+
+/**
+ * Immutable version of a grid, sharing its structure with the versions it derives from.
+ * - Cells are packed on a short each (see {@link #encode(Tile)}), so that a version never refers to a mutable {@link Tile}
+ * - Cells are stored in the leaves of a trie of 16 branches per node, indexed by x * size + y: changing a cell
+ * copies the path from the root to its leaf, in O(log n), and shares every other node with the previous version
+ * - Empty subtrees are shared between all the boards of a size
+ *
+ * Boards are cheap to keep and to branch, see {@link BoardHistory}.
+ */
+public final class Board {
+	private static final int BITS = 4;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+	private static final int PRESENT = 1 << 15;
+	private static final Habitat[] HABITATS = Habitat.values();
+	private static final Wildlife[] WILDLIFE = Wildlife.values();
+
+	private final int size;
+	private final int shift;
+	private final Object root; // Object[] pour les noeuds, short[] pour les feuilles
+	private final int tileCount;
+	private int hash;
+
+	private Board(int size, int shift, Object root, int tileCount) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tileCount = tileCount;
+	}
+
+	/**
+	 * Creates a board without any tile
+	 * @param size Size of grid
+	 * @return Empty board
+	 */
+	public static Board empty(int size) {
+		if (size <= 0 || size > 0xFF) {
+			throw new IllegalArgumentException("Grid size must be between 1 and 255");
+		}
+		int shift = 0;
+		while (1L << (shift + BITS) < (long) size * size) {
+			shift += BITS;
+		}
+		Object node = new short[WIDTH];
+		for (int level = BITS; level <= shift; level += BITS) {
+			Object[] parent = new Object[WIDTH];
+			Arrays.fill(parent, node); // Sous-arbres vides partagés
+			node = parent;
+		}
+		return new Board(size, shift, node, 0);
+	}
+
+	/**
+	 * Creates a board holding the tiles of a grid
+	 * @param grid Grid
+	 * @return Board of the grid
+	 */
+	public static Board of(Grid grid) {
+		Objects.requireNonNull(grid);
+		Board board = empty(grid.getSize());
+		for (int x = 0; x < grid.getSize(); x++) {
+			for (int y = 0; y < grid.getSize(); y++) {
+				board = board.withCell(x, y, encode(grid.getTile(x, y)));
+			}
+		}
+		return board;
+	}
+
+	/**
+	 * Packs a tile on 16 bits: presence bit (15), habitat (bits 0-2), then ordinal + 1 of the placed token
+	 * (bits 3-5) and of the two authorized wildlife (bits 6-8 and 9-11), 0 standing for none.
+	 * Tiles of the deck authorize two wildlife at most.
+	 * @param tile Tile, or null
+	 * @return Packed tile, 0 for null
+	 */
+	public static short encode(Tile tile) {
+		if (tile == null) {
+			return 0;
+		}
+		int value = PRESENT | tile.getHabitat().ordinal();
+		if (!tile.getWildlife().isEmpty()) {
+			value |= (tile.getWildlife().get(0).ordinal() + 1) << 3;
+		}
+		List<Wildlife> authorized = tile.getAuthorizedWildlife();
+		for (int i = 0; i < Math.min(2, authorized.size()); i++) {
+			value |= (authorized.get(i).ordinal() + 1) << (6 + 3 * i);
+		}
+		return (short) value;
+	}
+
+	/**
+	 * Rebuilds a tile packed by {@link #encode(Tile)}
+	 * @param cell Packed tile
+	 * @return New tile, or null for an empty cell
+	 */
+	public static Tile decode(short cell) {
+		if (cell == 0) {
+			return null;
+		}
+		Wildlife token = token(cell);
+		Tile tile = new Tile(habitat(cell), token == null ? List.of() : List.of(token));
+		for (int shift = 6; shift <= 9; shift += 3) {
+			int wildlife = (cell >> shift) & 7;
+			if (wildlife != 0) {
+				tile.addAuthorizedWildlife(WILDLIFE[wildlife - 1]);
+			}
+		}
+		return tile;
+	}
+
+	/**
+	 * Tells whether a short is a packed tile, see {@link #encode(Tile)}
+	 * @param cell Packed tile
+	 * @return true if the cell is empty or holds a valid tile
+	 */
+	public static boolean isValid(short cell) {
+		return cell == 0 || ((cell & PRESENT) != 0 && (cell & 7) < HABITATS.length && ((cell >> 3) & 7) <= WILDLIFE.length
+				&& ((cell >> 6) & 7) <= WILDLIFE.length && ((cell >> 9) & 7) <= WILDLIFE.length
+				&& (cell & 0x7000) == 0);
+	}
+
+	/**
+	 * Habitat of a packed tile
+	 * @param cell Packed tile, not empty
+	 * @return Habitat
+	 */
+	public static Habitat habitat(short cell) {
+		return HABITATS[cell & 7];
+	}
+
+	/**
+	 * Wildlife token placed on a packed tile
+	 * @param cell Packed tile
+	 * @return Token, or null if none
+	 */
+	public static Wildlife token(short cell) {
+		int token = (cell >> 3) & 7;
+		return token == 0 ? null : WILDLIFE[token - 1];
+	}
+
+	/**
+	 * Tells whether a wildlife token may be placed on a packed tile
+	 * @param cell     Packed tile
+	 * @param wildlife Wildlife token
+	 * @return true if the tile has no token and authorizes this wildlife
+	 */
+	public static boolean accepts(short cell, Wildlife wildlife) {
+		int value = wildlife.ordinal() + 1;
+		return cell != 0 && ((cell >> 3) & 7) == 0 && (((cell >> 6) & 7) == value || ((cell >> 9) & 7) == value);
+	}
+
+	/**
+	 * Getter of grid size
+	 * @return Size of grid
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Getter of the number of tiles on the board
+	 * @return Number of non-empty cells
+	 */
+	public int getTileCount() {
+		return tileCount;
+	}
+
+	/**
+	 * Packed tile of a cell
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return Packed tile, 0 if the cell is empty
+	 */
+	public short getCell(int x, int y) {
+		int index = index(x, y);
+		Object node = root;
+		for (int level = shift; level > 0; level -= BITS) {
+			node = ((Object[]) node)[(index >>> level) & MASK];
+		}
+		return ((short[]) node)[index & MASK];
+	}
+
+	/**
+	 * Tile of a cell, as a new mutable tile
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return New tile, or null if the cell is empty
+	 */
+	public Tile getTile(int x, int y) {
+		return decode(getCell(x, y));
+	}
+
+	/**
+	 * Version of the board where a cell holds another packed tile
+	 * @param x    X coordinate on grid
+	 * @param y    Y coordinate on grid
+	 * @param cell Packed tile, 0 to empty the cell
+	 * @return New board, or this board if the cell already holds this tile
+	 */
+	public Board withCell(int x, int y, short cell) {
+		if (!isValid(cell)) {
+			throw new IllegalArgumentException("Not a packed tile: " + Integer.toHexString(cell & 0xFFFF));
+		}
+		short previous = getCell(x, y);
+		if (previous == cell) {
+			return this;
+		}
+		int count = tileCount + (previous == 0 ? 1 : 0) - (cell == 0 ? 1 : 0);
+		return new Board(size, shift, set(root, shift, index(x, y), cell), count);
+	}
+
+	/**
+	 * Version of the board where a cell holds a tile
+	 * @param x    X coordinate on grid
+	 * @param y    Y coordinate on grid
+	 * @param tile Tile, or null to empty the cell
+	 * @return New board, or this board if the cell already holds this tile
+	 */
+	public Board withTile(int x, int y, Tile tile) {
+		return withCell(x, y, encode(tile));
+	}
+
+	/**
+	 * Version of the board where a wildlife token is placed, following the rule of {@link Grid#addWildlife(Wildlife, int, int)}:
+	 * the tile accepts no other wildlife afterwards.
+	 * @param x        X coordinate on grid
+	 * @param y        Y coordinate on grid
+	 * @param wildlife Wildlife token
+	 * @return New board
+	 * @throws IllegalArgumentException if the tile does not accept the token
+	 */
+	public Board withWildlife(int x, int y, Wildlife wildlife) {
+		Objects.requireNonNull(wildlife);
+		short cell = getCell(x, y);
+		if (!accepts(cell, wildlife)) {
+			throw new IllegalArgumentException("Wildlife " + wildlife + " not accepted at " + x + "," + y);
+		}
+		return withCell(x, y, (short) ((cell & (PRESENT | 7)) | (wildlife.ordinal() + 1) << 3));
+	}
+
+	/**
+	 * Lists the cells that differ from another version of the board.
+	 * Subtrees shared by both versions are skipped without being read, so that comparing a version
+	 * with the one it derives from costs O(log n) per changed cell.
+	 * @param previous Other board of the same size
+	 * @return Indices (x * size + y) of the cells that differ, in increasing order
+	 */
+	public int[] differences(Board previous) {
+		Objects.requireNonNull(previous);
+		if (previous.size != size) {
+			throw new IllegalArgumentException("Board size " + previous.size + " instead of " + size);
+		}
+		int[] indices = new int[size * size];
+		int count = differences(root, previous.root, shift, 0, indices, 0);
+		return Arrays.copyOf(indices, count);
+	}
+
+	private int differences(Object node, Object other, int level, int base, int[] indices, int count) {
+		if (node == other) {
+			return count; // Sous-arbre partagé
+		}
+		if (level == 0) {
+			short[] leaf = (short[]) node;
+			short[] otherLeaf = (short[]) other;
+			for (int i = 0; i < WIDTH && base + i < indices.length; i++) {
+				if (leaf[i] != otherLeaf[i]) {
+					indices[count++] = base + i;
+				}
+			}
+			return count;
+		}
+		Object[] children = (Object[]) node;
+		Object[] otherChildren = (Object[]) other;
+		for (int i = 0; i < WIDTH; i++) {
+			int childBase = base + (i << level);
+			if (childBase >= indices.length) {
+				break;
+			}
+			count = differences(children[i], otherChildren[i], level - BITS, childBase, indices, count);
+		}
+		return count;
+	}
+
+	private static Object set(Object node, int level, int index, short cell) {
+		if (level == 0) {
+			short[] leaf = ((short[]) node).clone();
+			leaf[index & MASK] = cell;
+			return leaf;
+		}
+		Object[] copy = ((Object[]) node).clone();
+		int slot = (index >>> level) & MASK;
+		copy[slot] = set(copy[slot], level - BITS, index, cell);
+		return copy;
+	}
+
+	/**
+	 * Brings a grid to this version, only replacing the cells that differ.
+	 * Listeners of the grid are notified through {@link GridListener#cellRestored(Grid, int, int, Tile)}.
+	 * @param grid Grid of the same size
+	 */
+	public void restoreInto(Grid grid) {
+		Objects.requireNonNull(grid);
+		if (grid.getSize() != size) {
+			throw new IllegalArgumentException("Grid size " + grid.getSize() + " instead of " + size);
+		}
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				short cell = getCell(x, y);
+				if (encode(grid.getTile(x, y)) != cell) {
+					grid.restoreTile(decode(cell), x, y);
+				}
+			}
+		}
+	}
+
+	private int index(int x, int y) {
+		Objects.checkIndex(x, size);
+		Objects.checkIndex(y, size);
+		return x * size + y;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Board other) || other.size != size || other.tileCount != tileCount
+				|| other.hashCode() != hashCode()) {
+			return false;
+		}
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				if (getCell(x, y) != other.getCell(x, y)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if (h == 0) {
+			h = size;
+			for (int x = 0; x < size; x++) {
+				for (int y = 0; y < size; y++) {
+					h = 31 * h + getCell(x, y);
+				}
+			}
+			hash = h; // Calculé une fois, la planche étant immuable
+		}
+		return h;
+	}
+}
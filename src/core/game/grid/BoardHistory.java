@@ -0,0 +1,127 @@
+package core.game.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Successive versions of a grid, with undo and redo.
+ * Versions are {@link Board}s sharing their structure, so keeping every version of a game or branching
+ * the history to try other moves costs a few hundred bytes per placement.
+ */
+public final class BoardHistory {
+	private final List<Board> versions;
+	private int current;
+
+	/**
+	 * Constructor for BoardHistory
+	 * @param initial First version
+	 */
+	public BoardHistory(Board initial) {
+		this.versions = new ArrayList<>();
+		versions.add(Objects.requireNonNull(initial));
+	}
+
+	private BoardHistory(List<Board> versions) {
+		this.versions = versions;
+		this.current = versions.size() - 1;
+	}
+
+	/**
+	 * Getter of the current version
+	 * @return Current board
+	 */
+	public Board current() {
+		return versions.get(current);
+	}
+
+	/**
+	 * Adds a version after the current one. Versions that could be redone are dropped.
+	 * @param board New version, ignored if it is the current one: {@link Board#withCell(int, int, short)} returns
+	 *              the same board when nothing changes
+	 */
+	public void record(Board board) {
+		Objects.requireNonNull(board);
+		if (board == current()) {
+			return;
+		}
+		versions.subList(current + 1, versions.size()).clear();
+		versions.add(board);
+		current++;
+	}
+
+	/**
+	 * Tells whether a previous version exists
+	 * @return true if {@link #undo()} is possible
+	 */
+	public boolean canUndo() {
+		return current > 0;
+	}
+
+	/**
+	 * Tells whether an undone version exists
+	 * @return true if {@link #redo()} is possible
+	 */
+	public boolean canRedo() {
+		return current < versions.size() - 1;
+	}
+
+	/**
+	 * Goes back to the previous version
+	 * @return Previous board
+	 * @throws IllegalStateException if there is no previous version
+	 */
+	public Board undo() {
+		if (!canUndo()) {
+			throw new IllegalStateException("Nothing to undo");
+		}
+		return versions.get(--current);
+	}
+
+	/**
+	 * Goes forward to the version last undone
+	 * @return Next board
+	 * @throws IllegalStateException if there is no undone version
+	 */
+	public Board redo() {
+		if (!canRedo()) {
+			throw new IllegalStateException("Nothing to redo");
+		}
+		return versions.get(++current);
+	}
+
+	/**
+	 * Getter of the index of the current version
+	 * @return Index, 0 for the first version
+	 */
+	public int getVersion() {
+		return current;
+	}
+
+	/**
+	 * Getter of the number of versions, undone versions included
+	 * @return Number of versions
+	 */
+	public int getVersionCount() {
+		return versions.size();
+	}
+
+	/**
+	 * Getter of a version
+	 * @param version Index of version
+	 * @return Board
+	 */
+	public Board getBoard(int version) {
+		Objects.checkIndex(version, versions.size());
+		return versions.get(version);
+	}
+
+	/**
+	 * Starts an independent history from the current version, sharing the boards recorded so far.
+	 * Versions recorded in either history are not seen by the other.
+	 * @return New history, without versions to redo
+	 */
+	public BoardHistory branch() {
+		return new BoardHistory(new ArrayList<>(versions.subList(0, current + 1)));
+	}
+}
@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -23,6 +24,7 @@ public class Grid {
     private final Player player;
     private final Deck deck;
     private final GameMode gameMode;
+    private final List<GridListener> listeners = new ArrayList<>();
 
     /**
      * Constructor of Cascadia grid
@@ -74,11 +76,59 @@ public class Grid {
         if (list[x][y] == null && (startingTiles || nonEmptyNeighbor(x, y, strategy))) {
             newTile.getWildlife().clear();
             list[x][y] = newTile;
+            for (GridListener listener : listeners) {
+                listener.tileAdded(this, x, y, newTile);
+            }
             return true;
         }
         return false;
     }
 
+	/**
+	 * Adds wildlife token on a tile of the grid
+	 * 
+	 * @param wildlife Wildlife token to be placed
+	 * @param x        X coordinate of grid
+	 * @param y        Y coordinate of grid
+	 * @return Returns true if the token is placed or not
+	 */
+	public boolean addWildlife(Wildlife wildlife, int x, int y) {
+		Objects.requireNonNull(wildlife, "wildlife cannot be null");
+		Tile tile = list[x][y];
+		if (tile == null || !tile.addWildlife(wildlife, tile.getAuthorizedWildlife())) {
+			return false;
+		}
+		tile.getAuthorizedWildlife().clear(); // Plus d'animaux autorisés
+		for (GridListener listener : listeners) {
+			listener.wildlifeAdded(this, x, y, tile);
+		}
+		return true;
+	}
+
+	/**
+	 * Puts a tile on a cell without checking any rule, replacing the previous one.
+	 * Used to restore a saved grid: the tile keeps its wildlife token and authorized wildlife.
+	 * 
+	 * @param tile Tile to be put, or null to empty the cell
+	 * @param x    X coordinate of grid
+	 * @param y    Y coordinate of grid
+	 */
+	public void restoreTile(Tile tile, int x, int y) {
+		list[x][y] = tile;
+		for (GridListener listener : listeners) {
+			listener.cellRestored(this, x, y, tile);
+		}
+	}
+
+	/**
+	 * Registers a listener notified of every placement on the grid
+	 * 
+	 * @param listener Listener to be notified
+	 */
+	public void addGridListener(GridListener listener) {
+		listeners.add(Objects.requireNonNull(listener));
+	}
+
     // Modification de countWildlifeGroup pour utiliser la bonne stratégie
     private int countWildlifeGroup(Grid grid, int x, int y, Wildlife wildlifeType, boolean[][] visited) {
     	NeighborStrategy strategy;
@@ -194,62 +244,21 @@ public class Grid {
 	}
 
 	/**
-	 * Player on grid getter
+	 * Game mode getter, which decides of the neighbors of a cell
 	 * 
-	 * @return String of player's name
-	 */
-	public String getPlayerOnGrid() {
-		return player.getName();
-	}
-
-	/**
-	 * Displaying method of grid
+	 * @return Game mode of the grid
 	 */
-	public void displayGrid() {
-		int habitatLength = 8; // Longueur d'affichage pour le nom de l'habitat
-		int caseWidth = 15; // Largeur d'une case
-		NeighborStrategy strategy = new AllNeighbors(); // Verifie en 8
-		System.out.println("Grille " + player.getName() + " :");
-		for (int i = 0; i < list.length; i++) {
-			for (int j = 0; j < list[i].length; j++) {
-				if (list[i][j] != null) { // Si une tuile est placée
-					Tile tile = list[i][j];
-					authorizedWildlifeFormattedDisplay(tile, habitatLength);
-				} else if (nonEmptyNeighbor(i, j, strategy)) {
-					// Case vide mais voisine à une tuile non vide
-					System.out.print("\u001B[1;32m<" + String.format("%-" + caseWidth + "s", "") + ">\u001B[0m ");
-				} else {
-					// Case vide et non voisine
-					System.out.print("[" + String.format("%-" + caseWidth + "s", "") + "] ");
-				}
-			}
-			System.out.println(); // Passe à la ligne suivante
-		}
+	public GameMode getGameMode() {
+		return gameMode;
 	}
 
 	/**
-	 * Formats the display of authorized wildlives on grid
+	 * Player on grid getter
 	 * 
-	 * @param tile   Tile without wildlife
-	 * @param length Formatting size of tile
+	 * @return String of player's name
 	 */
-	public void authorizedWildlifeFormattedDisplay(Tile tile, int length) {
-		StringBuilder wildlifeBuilder = new StringBuilder();
-		if (!tile.getWildlife().isEmpty()) {
-			Wildlife animal = tile.getWildlife().get(0);
-			System.out.print("[" + String.format("%-" + length + "s", tile.getHabitat()) + "\u001B[33m(  "
-					+ animal.name().charAt(0) + "  )\u001B[0m] ");
-		} else {
-			for (Wildlife animal : tile.getAuthorizedWildlife()) {
-				if (wildlifeBuilder.length() > 0)
-					wildlifeBuilder.append(",");
-				wildlifeBuilder.append(animal.name().charAt(0));
-			}
-			String wildlife = wildlifeBuilder.toString();
-			String fill = wildlife.length() == 1 ? "  " : wildlife.length() == 3 ? " " : "";
-			System.out
-					.print("[" + String.format("%-" + length + "s", tile.getHabitat()) + "[" + fill + wildlife + fill + "]] ");
-		}
+	public String getPlayerOnGrid() {
+		return player.getName();
 	}
 
 	// Method to verify non empty neighbors of a tile
@@ -0,0 +1,37 @@
+package core.game.grid;
+
+/**
+ * Observer of the placements made on a grid.
+ */
+public interface GridListener {
+	/**
+	 * Called once a habitat tile has been placed on the grid.
+	 * 
+	 * @param grid Grid on which the tile was placed
+	 * @param x    X coordinate on grid
+	 * @param y    Y coordinate on grid
+	 * @param tile Placed tile
+	 */
+	void tileAdded(Grid grid, int x, int y, Tile tile);
+
+	/**
+	 * Called once a wildlife token has been placed on a tile of the grid.
+	 * 
+	 * @param grid Grid on which the token was placed
+	 * @param x    X coordinate on grid
+	 * @param y    Y coordinate on grid
+	 * @param tile Tile holding the token
+	 */
+	void wildlifeAdded(Grid grid, int x, int y, Tile tile);
+
+	/**
+	 * Called once a cell has been replaced without any rule, when a saved or previous version of the grid is restored.
+	 * 
+	 * @param grid Grid whose cell was replaced
+	 * @param x    X coordinate on grid
+	 * @param y    Y coordinate on grid
+	 * @param tile New tile of the cell, null if the cell is now empty
+	 */
+	default void cellRestored(Grid grid, int x, int y, Tile tile) {
+	}
+}
@@ -3,9 +3,7 @@ package core.game.grid;
 import java.io.IO;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import core.game.mechanics.Habitat;
 import core.game.mechanics.Wildlife;
@@ -93,6 +91,17 @@ public class Tile {
 		}
 	}
 
+	/**
+	 * Creates a copy of the tile, with its own wildlife and authorized wildlife lists.
+	 * 
+	 * @return Copy of the tile
+	 */
+	public Tile copy() {
+		Tile copy = new Tile(habitat, wildlifeTokens);
+		copy.AuthorizedWildlife.addAll(AuthorizedWildlife);
+		return copy;
+	}
+
 	/**
 	 * Returns tile chosen by player and verifies if it is valid for placement.
 	 * 
@@ -149,15 +158,17 @@ public class Tile {
 	 */
 	public static int getMaxCombinationCount(List<Tile> selectedTiles) {
 		Objects.requireNonNull(selectedTiles, "selectedTiles cannot be null");
-		// Crée un regroupement des tuiles par type d'animal et compte les occurrences
-		Map<List<Wildlife>, Long> counts = selectedTiles.stream().filter(Objects::nonNull)
-				.collect(Collectors.groupingBy(Tile::getWildlife, // Regrouper par type d'animal
-						Collectors.counting() // Compter les occurrences
-				));
-
-		// Trouve la valeur maximale des comptes
-		return counts.values().stream().mapToInt(Long::intValue) // Convertir en int pour compatibilité
-				.max().orElse(0); // Retourne 0 si aucune tuile n'est présente
+		// Compte les tuiles par animal, sans flux : appelé à chaque tour par les simulations
+		int[] counts = new int[Wildlife.values().length + 1]; // Dernière case : tuiles sans animal
+		int max = 0;
+		for (int i = 0; i < selectedTiles.size(); i++) {
+			Tile tile = selectedTiles.get(i);
+			if (tile != null) {
+				int group = tile.wildlifeTokens.isEmpty() ? counts.length - 1 : tile.wildlifeTokens.get(0).ordinal();
+				max = Math.max(max, ++counts[group]);
+			}
+		}
+		return max;
 	}
 
 	/**
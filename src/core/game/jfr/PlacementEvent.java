@@ -0,0 +1,40 @@
+package core.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a placement attempt of a tile or a wildlife token.
+ */
+@Name("cascadia.Placement")
+@Label("Placement")
+@Category({ "Cascadia", "Game" })
+@Description("Placement of a habitat tile or a wildlife token on a grid")
+@StackTrace(false)
+public class PlacementEvent extends jdk.jfr.Event {
+	@Label("Player")
+	public String player;
+
+	@Label("Kind")
+	@Description("tile or wildlife")
+	public String kind;
+
+	@Label("Piece")
+	@Description("Habitat of the tile or placed wildlife")
+	public String piece;
+
+	@Label("X")
+	public int x;
+
+	@Label("Y")
+	public int y;
+
+	@Label("Grid Size")
+	public int gridSize;
+
+	@Label("Success")
+	public boolean success;
+}
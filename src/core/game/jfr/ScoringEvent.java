@@ -0,0 +1,42 @@
+package core.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of the score computation of a player.
+ */
+@Name("cascadia.Scoring")
+@Label("Scoring")
+@Category({ "Cascadia", "Game" })
+@Description("Score computation of a player by a scoring strategy")
+@StackTrace(false)
+public class ScoringEvent extends jdk.jfr.Event {
+	@Label("Player")
+	public String player;
+
+	@Label("Strategy")
+	@Description("Scoring strategy class")
+	public String strategy;
+
+	@Label("Variant")
+	public int variant;
+
+	@Label("Grid Size")
+	public int gridSize;
+
+	@Label("Opponents")
+	public int opponents;
+
+	@Label("Wildlife Score")
+	public int wildlifeScore;
+
+	@Label("Habitat Score")
+	public int habitatScore;
+
+	@Label("Bonus Points")
+	public int bonusPoints;
+}
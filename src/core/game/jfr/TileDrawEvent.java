@@ -0,0 +1,34 @@
+package core.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a draw of valid tiles from the deck, including redraws.
+ */
+@Name("cascadia.TileDraw")
+@Label("Tile Draw")
+@Category({ "Cascadia", "Game" })
+@Description("Draw of the tiles proposed to a player")
+@StackTrace(false)
+public class TileDrawEvent extends jdk.jfr.Event {
+	@Label("Player")
+	public String player;
+
+	@Label("Variant")
+	public int variant;
+
+	@Label("Grid Size")
+	public int gridSize;
+
+	@Label("Redraws")
+	@Description("Number of draws rejected before a valid one")
+	public int redraws;
+
+	@Label("Redraw For 3")
+	@Description("Whether 3 identical wildlife tokens cause a redraw")
+	public boolean redrawFor3;
+}
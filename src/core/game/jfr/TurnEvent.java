@@ -0,0 +1,31 @@
+package core.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a player's turn, from the tile choice to the wildlife placement.
+ */
+@Name("cascadia.Turn")
+@Label("Turn")
+@Category({ "Cascadia", "Game" })
+@Description("Turn of a player")
+@StackTrace(false)
+public class TurnEvent extends jdk.jfr.Event {
+	@Label("Player")
+	public String player;
+
+	@Label("Turn")
+	@Description("Number of the turn, 0 if unknown")
+	public int turn;
+
+	@Label("Variant")
+	@Description("Scoring variant, 0 if unknown")
+	public int variant;
+
+	@Label("Grid Size")
+	public int gridSize;
+}
@@ -1,56 +1,68 @@
 package core.game.mechanics;
 
 import core.game.grid.*;
+import core.game.metrics.GameMetrics;
+
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 
 /**
  * Represents the draw pile in the game. The class manages the collection of
  * tokens and tiles players can draw from during a game.
+ * 
+ * Tiles are random and independent from each other, so they are only generated when drawn:
+ * a game, which uses about a hundred tiles, does not pay for the whole pile.
  */
 public class Deck {
-	private final List<Tile> tiles;
+	public static final int SIZE = 1000;
+
+	private static final Habitat[] HABITATS = Habitat.values();
+	private static final Wildlife[] WILDLIFE = Wildlife.values();
+
+	private final long seed;
+	private final Random rand;
+	private GameMetrics metrics = GameMetrics.global();
+	private int drawn;
 
 	/**
 	 * Creates a new draw pile and initialises a new set of items.
 	 */
 	public Deck() {
-		tiles = new ArrayList<>();
-		Random rand = new Random();
-
-		// Génération de 43 tuiles aléatoires
-		for (int i = 0; i < 1000; i++) {
-			// Sélection aléatoire de l'habitat
-			Habitat habitat = Habitat.values()[rand.nextInt(Habitat.values().length)];
-
-			// Sélection aléatoire d'un animal placé
-			List<Wildlife> wildlifeTokens = new ArrayList<>();
-			wildlifeTokens.add(Wildlife.values()[rand.nextInt(Wildlife.values().length)]);
-
-			// Création de la tuile avec habitat et animal placé
-			Tile tile = new Tile(habitat, wildlifeTokens);
-
-			List<Wildlife> authorizedWildlife = new ArrayList<>();
-			while (authorizedWildlife.size() < 2) { // 2 animaux autorisés par tuile
-				Wildlife randomWildlife = Wildlife.values()[rand.nextInt(Wildlife.values().length)];
-				if (!authorizedWildlife.contains(randomWildlife)) {
-					authorizedWildlife.add(randomWildlife);
-				}
-			}
-
-			// Ajouter les animaux autorisés à la tuile
-			for (var wildlife : authorizedWildlife) {
-				tile.addAuthorizedWildlife(wildlife);
-			}
-
-			// Ajouter la tuile à la liste des tuiles
-			tiles.add(tile);
-		}
+		this(new Random().nextLong());
+	}
+
+	/**
+	 * Creates a draw pile whose tiles and order only depend on a seed, so that a game can be replayed.
+	 * 
+	 * @param seed Seed of the random generator
+	 */
+	public Deck(long seed) {
+		this.seed = seed;
+		this.rand = new Random(seed);
+	}
 
-		// Mélanger la pioche
-		Collections.shuffle(tiles);
+	private Tile generateTile() {
+		// Sélection aléatoire de l'habitat
+		Habitat habitat = HABITATS[rand.nextInt(HABITATS.length)];
+
+		// Sélection aléatoire d'un animal placé
+		List<Wildlife> wildlifeTokens = new ArrayList<>(1);
+		wildlifeTokens.add(WILDLIFE[rand.nextInt(WILDLIFE.length)]);
+
+		// Création de la tuile avec habitat et animal placé
+		Tile tile = new Tile(habitat, wildlifeTokens);
+
+		// 2 animaux autorisés par tuile
+		Wildlife first = WILDLIFE[rand.nextInt(WILDLIFE.length)];
+		Wildlife second;
+		do {
+			second = WILDLIFE[rand.nextInt(WILDLIFE.length)];
+		} while (second == first);
+		tile.addAuthorizedWildlife(first);
+		tile.addAuthorizedWildlife(second);
+		return tile;
 	}
 
 	/**
@@ -60,25 +72,72 @@ public class Deck {
 	 * @return List of drawn tiles
 	 */
 	public List<Tile> drawTiles(int num) {
-		List<Tile> drawnTiles = new ArrayList<>();
-		for (int i = 0; i < num && !tiles.isEmpty(); i++) {
-			Tile originalTile = tiles.remove(0);
-			// Création d'une copie de la tuile pour éviter des conflits
-			Tile copiedTile = new Tile(originalTile.getHabitat(), new ArrayList<>(originalTile.getWildlife()));
-			for (var authorized : originalTile.getAuthorizedWildlife()) {
-				copiedTile.addAuthorizedWildlife(authorized);
-			}
-			drawnTiles.add(copiedTile);
+		int count = Math.max(0, Math.min(num, getRemaining()));
+		List<Tile> drawnTiles = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			drawnTiles.add(generateTile());
 		}
+		drawn += count;
+		metrics.tilesDrawn(count);
 		return drawnTiles;
 	}
 
 	/**
-	 * Getter method for the list of tiles.
+	 * Sets the registry counting the tiles drawn, {@link GameMetrics#global()} by default
+	 * 
+	 * @param metrics Registry of the game
+	 */
+	public void setMetrics(GameMetrics metrics) {
+		this.metrics = Objects.requireNonNull(metrics);
+	}
+
+	/**
+	 * Drops the next tiles of the pile, without counting them as drawn in the metrics.
+	 * Brings a pile rebuilt from its seed to the position of a saved game.
+	 * 
+	 * @param num The number of tiles to drop
+	 */
+	public void skip(int num) {
+		int count = Math.max(0, Math.min(num, getRemaining()));
+		for (int i = 0; i < count; i++) {
+			generateTile();
+		}
+		drawn += count;
+	}
+
+	/**
+	 * Tells whether all tiles have been drawn
+	 * 
+	 * @return true if the pile is empty
+	 */
+	public boolean isEmpty() {
+		return drawn == SIZE;
+	}
+
+	/**
+	 * Getter of the number of tiles left in the pile
+	 * 
+	 * @return Number of tiles
+	 */
+	public int getRemaining() {
+		return SIZE - drawn;
+	}
+
+	/**
+	 * Getter of the number of tiles drawn so far
+	 * 
+	 * @return Number of tiles
+	 */
+	public int getDrawn() {
+		return drawn;
+	}
+
+	/**
+	 * Getter of the seed of the pile, which with {@link #getDrawn()} is enough to rebuild it
 	 * 
-	 * @return List containing the tiles
+	 * @return Seed
 	 */
-	public List<Tile> getTiles() {
-		return tiles;
+	public long getSeed() {
+		return seed;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package core.game.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Histogram that many threads can record into without locking nor contending.
+ * Buckets are log-linear (8 buckets per power of two, about 12% precision, see {@link LogLinearBuckets}) and each
+ * one is a {@link LongAdder}, which spreads concurrent increments over striped cells.
+ * Reads are not atomic with writes: a reading made during recording may be slightly off.
+ */
+public class ConcurrentHistogram implements HistogramMXBean {
+	private static final LogLinearBuckets BUCKETS = new LogLinearBuckets(3);
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS.getCount()];
+	private final IntToLongFunction bucketCounts = bucket -> buckets[bucket].sum();
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Constructor for ConcurrentHistogram
+	 */
+	public ConcurrentHistogram() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a value
+	 * @param value Value to be recorded, negative values are ignored
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			return;
+		}
+		buckets[BUCKETS.bucketOf(value)].increment();
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Returns the value under which a given proportion of recorded values fall
+	 * @param percentile Proportion between 0 and 100
+	 * @return Value, 0 if nothing was recorded
+	 */
+	public long percentile(double percentile) {
+		return BUCKETS.percentile(percentile, count.sum(), max.get(), bucketCounts);
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public double getMean() {
+		long total = count.sum();
+		return total == 0 ? 0 : (double) sum.sum() / total;
+	}
+
+	@Override
+	public long getP50() {
+		return percentile(50);
+	}
+
+	@Override
+	public long getP99() {
+		return percentile(99);
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+}
@@ -0,0 +1,231 @@
+package core.game.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide counters and timers of the game engine, meant to watch long-running simulations.
+ * - Recording methods only touch {@link LongAdder}s and {@link ConcurrentHistogram}s, so that many
+ * game threads can record at the same time without contending
+ * - Values are read through JMX once {@link #registerMBeans()} has been called (jconsole, VisualVM...)
+ * - Offline games (replays, simulations, tournaments, exports) record into {@link #disabled()}, so that they
+ * do not show up as games played by the process
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+	public static final String DOMAIN = "core.game";
+
+	private static final String[] VARIANT_NAMES = { "Unknown", "Family", "Intermediate", "Standard" };
+	private static final GameMetrics INSTANCE = new GameMetrics(true);
+	private static final GameMetrics DISABLED = new GameMetrics(false);
+
+	private final LongAdder gamesStarted = new LongAdder();
+	private final RateMeter gamesCompleted = new RateMeter();
+	private final RateMeter placements = new RateMeter();
+	private final LongAdder tilesDrawn = new LongAdder();
+	private final LongAdder tilesBurned = new LongAdder();
+	private final ConcurrentHistogram drawRetries = new ConcurrentHistogram();
+	private final ConcurrentHistogram[] scoringLatency = new ConcurrentHistogram[VARIANT_NAMES.length];
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final boolean enabled;
+	private boolean registered;
+
+	private GameMetrics(boolean enabled) {
+		this.enabled = enabled;
+		for (int i = 0; i < scoringLatency.length; i++) {
+			scoringLatency[i] = new ConcurrentHistogram();
+		}
+	}
+
+	/**
+	 * Getter of the registry shared by all games of the process
+	 * @return Registry
+	 */
+	public static GameMetrics global() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Getter of a registry recording nothing, for games that must not count as played by the process
+	 * @return Registry, never published
+	 */
+	public static GameMetrics disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Publishes the registry on the platform MBean server, under the {@value #DOMAIN} domain.
+	 * Calling it again, or on {@link #disabled()}, has no effect.
+	 */
+	public synchronized void registerMBeans() {
+		if (registered || !enabled) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			register(server, this, "type=GameMetrics");
+			register(server, drawRetries, "type=Histogram,name=DrawValidTilesRetries");
+			for (int i = 1; i < scoringLatency.length; i++) {
+				register(server, scoringLatency[i], "type=Histogram,name=ScoringLatencyNanos,variant=" + VARIANT_NAMES[i]);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Unable to register game metrics", e);
+		}
+		registered = true;
+	}
+
+	private static void register(MBeanServer server, Object bean, String properties) throws JMException {
+		try {
+			server.registerMBean(bean, new ObjectName(DOMAIN + ":" + properties));
+		} catch (InstanceAlreadyExistsException e) {
+			// Déjà publié, par exemple par un autre chargeur de classes
+		}
+	}
+
+	/**
+	 * Records the start of a game, once its players begin to play
+	 */
+	public void gameStarted() {
+		if (!enabled) {
+			return;
+		}
+		gamesStarted.increment();
+	}
+
+	/**
+	 * Records the end of a game, once its final scores are calculated
+	 */
+	public void gameCompleted() {
+		if (!enabled) {
+			return;
+		}
+		gamesCompleted.mark();
+	}
+
+	/**
+	 * Records a successful placement of a tile or of a wildlife token
+	 */
+	public void placement() {
+		if (!enabled) {
+			return;
+		}
+		placements.mark();
+	}
+
+	/**
+	 * Records tiles taken out of a deck
+	 * @param tiles Number of tiles
+	 */
+	public void tilesDrawn(int tiles) {
+		if (!enabled) {
+			return;
+		}
+		tilesDrawn.add(tiles);
+	}
+
+	/**
+	 * Records a call of {@code Game.drawValidTiles}
+	 * @param retries Number of draws rejected before a valid one
+	 * @param burned  Number of tiles thrown away by rejected draws
+	 */
+	public void validTilesDrawn(int retries, int burned) {
+		if (!enabled) {
+			return;
+		}
+		drawRetries.record(retries);
+		tilesBurned.add(burned);
+	}
+
+	/**
+	 * Records the time taken to score a player
+	 * @param variant Game variant (1 to 3)
+	 * @param nanos   Duration in nanoseconds
+	 */
+	public void scoringTime(int variant, long nanos) {
+		if (!enabled) {
+			return;
+		}
+		int index = variant > 0 && variant < scoringLatency.length ? variant : 0;
+		scoringLatency[index].record(nanos);
+	}
+
+	/**
+	 * Getter of the distribution of rejected draws per call of {@code Game.drawValidTiles}
+	 * @return Histogram
+	 */
+	public ConcurrentHistogram getDrawRetries() {
+		return drawRetries;
+	}
+
+	/**
+	 * Getter of the distribution of scoring times of a variant
+	 * @param variant Game variant (1 to 3)
+	 * @return Histogram in nanoseconds
+	 */
+	public ConcurrentHistogram getScoringLatency(int variant) {
+		if (variant < 1 || variant >= scoringLatency.length) {
+			throw new IllegalArgumentException("Unknown variant: " + variant);
+		}
+		return scoringLatency[variant];
+	}
+
+	@Override
+	public long getGamesStarted() {
+		return gamesStarted.sum();
+	}
+
+	@Override
+	public long getGamesCompleted() {
+		return gamesCompleted.getCount();
+	}
+
+	@Override
+	public long getActiveGames() {
+		return Math.max(0, gamesStarted.sum() - gamesCompleted.getCount());
+	}
+
+	@Override
+	public double getGamesPerSecond() {
+		return gamesCompleted.getMeanRate();
+	}
+
+	@Override
+	public double getRecentGamesPerSecond() {
+		return gamesCompleted.getRecentRate();
+	}
+
+	@Override
+	public long getPlacements() {
+		return placements.getCount();
+	}
+
+	@Override
+	public double getPlacementsPerSecond() {
+		return placements.getMeanRate();
+	}
+
+	@Override
+	public double getRecentPlacementsPerSecond() {
+		return placements.getRecentRate();
+	}
+
+	@Override
+	public long getTilesDrawn() {
+		return tilesDrawn.sum();
+	}
+
+	@Override
+	public long getTilesBurned() {
+		return tilesBurned.sum();
+	}
+
+	@Override
+	public long getHeapPerActiveGame() {
+		return memory.getHeapMemoryUsage().getUsed() / Math.max(1, getActiveGames());
+	}
+}
@@ -0,0 +1,72 @@
+package core.game.metrics;
+
+/**
+ * JMX view of {@link GameMetrics}.
+ */
+public interface GameMetricsMXBean {
+	/**
+	 * Getter of the number of created games
+	 * @return Number of games
+	 */
+	long getGamesStarted();
+
+	/**
+	 * Getter of the number of games whose final scores were calculated
+	 * @return Number of games
+	 */
+	long getGamesCompleted();
+
+	/**
+	 * Getter of the number of games started but not completed yet
+	 * @return Number of games
+	 */
+	long getActiveGames();
+
+	/**
+	 * Getter of the rate of completed games since start
+	 * @return Games per second
+	 */
+	double getGamesPerSecond();
+
+	/**
+	 * Getter of the rate of completed games over the last few seconds, see {@link RateMeter#getRecentRate()}
+	 * @return Games per second
+	 */
+	double getRecentGamesPerSecond();
+
+	/**
+	 * Getter of the number of successful placements, tiles and wildlife tokens
+	 * @return Number of placements
+	 */
+	long getPlacements();
+
+	/**
+	 * Getter of the rate of successful placements since start
+	 * @return Placements per second
+	 */
+	double getPlacementsPerSecond();
+
+	/**
+	 * Getter of the rate of successful placements over the last few seconds, see {@link RateMeter#getRecentRate()}
+	 * @return Placements per second
+	 */
+	double getRecentPlacementsPerSecond();
+
+	/**
+	 * Getter of the number of tiles drawn from decks
+	 * @return Number of tiles
+	 */
+	long getTilesDrawn();
+
+	/**
+	 * Getter of the number of drawn tiles thrown away because the draw was redone
+	 * @return Number of tiles
+	 */
+	long getTilesBurned();
+
+	/**
+	 * Getter of the heap currently used, divided by the number of active games
+	 * @return Bytes per active game, or used heap if no game is active
+	 */
+	long getHeapPerActiveGame();
+}
@@ -0,0 +1,36 @@
+package core.game.metrics;
+
+/**
+ * JMX view of a histogram of values.
+ */
+public interface HistogramMXBean {
+	/**
+	 * Getter of the number of recorded values
+	 * @return Number of values
+	 */
+	long getCount();
+
+	/**
+	 * Getter of the mean of recorded values
+	 * @return Mean, 0 if nothing was recorded
+	 */
+	double getMean();
+
+	/**
+	 * Getter of the median of recorded values
+	 * @return Median
+	 */
+	long getP50();
+
+	/**
+	 * Getter of the 99th percentile of recorded values
+	 * @return 99th percentile
+	 */
+	long getP99();
+
+	/**
+	 * Getter of the largest recorded value
+	 * @return Maximum
+	 */
+	long getMax();
+}
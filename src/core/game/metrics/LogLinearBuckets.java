@@ -0,0 +1,92 @@
+package core.game.metrics;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Log-linear bucketing of non-negative values, shared by the histograms whatever the way they count.
+ * Each power of two is split into a fixed number of buckets, so that every value is known within a constant
+ * relative precision whatever its magnitude; the smallest values each get their own bucket.
+ */
+public final class LogLinearBuckets {
+	private final int subBucketBits;
+	private final int subBuckets;
+	private final int count;
+
+	/**
+	 * Constructor for LogLinearBuckets
+	 * @param subBucketBits Base 2 logarithm of the number of buckets per power of two, for instance 3 for 8 buckets
+	 *                      (about 12% precision) or 5 for 32 buckets (about 3%)
+	 */
+	public LogLinearBuckets(int subBucketBits) {
+		if (subBucketBits < 1 || subBucketBits > 16) {
+			throw new IllegalArgumentException("Between 1 and 16 bits of sub-buckets expected");
+		}
+		this.subBucketBits = subBucketBits;
+		this.subBuckets = 1 << subBucketBits;
+		this.count = bucketOf(Long.MAX_VALUE) + 1;
+	}
+
+	/**
+	 * Getter of the number of buckets
+	 * @return Number of buckets, enough for every non-negative long
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Finds the bucket of a value
+	 * @param value Non-negative value
+	 * @return Index of its bucket
+	 */
+	public int bucketOf(long value) {
+		if (value < 2 * subBuckets) {
+			return (int) value; // Valeurs exactes pour les petites valeurs
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - subBucketBits;
+		return (shift << subBucketBits) + (int) (value >>> shift);
+	}
+
+	/**
+	 * Getter of the highest value of a bucket
+	 * @param bucket Index of the bucket
+	 * @return Upper bound, included
+	 */
+	public long highestValueOf(int bucket) {
+		if (bucket + 1 >= count) {
+			return Long.MAX_VALUE;
+		}
+		int next = bucket + 1;
+		if (next < 2 * subBuckets) {
+			return bucket;
+		}
+		int shift = (next >>> subBucketBits) - 1;
+		return ((long) (next % subBuckets + subBuckets) << shift) - 1;
+	}
+
+	/**
+	 * Returns the value under which a given proportion of recorded values fall, within the precision of a bucket
+	 * @param percentile Proportion between 0 and 100
+	 * @param total      Number of recorded values
+	 * @param max        Highest recorded value
+	 * @param counts     Number of values recorded in each bucket, read in increasing order
+	 * @return Value, 0 if nothing was recorded
+	 */
+	public long percentile(double percentile, long total, long max, IntToLongFunction counts) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+		long seen = 0;
+		for (int bucket = 0; bucket < count; bucket++) {
+			seen += counts.applyAsLong(bucket);
+			if (seen >= rank) {
+				return Math.min(max, highestValueOf(bucket)); // Borne haute du seau
+			}
+		}
+		return max;
+	}
+}
@@ -0,0 +1,89 @@
+package core.game.metrics;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts occurrences of an event and derives its rate.
+ * Marking is a {@link LongAdder} increment, plus the start of a new window once per {@link #WINDOW_NANOS};
+ * reading never changes the meter, however many monitoring tools poll it.
+ */
+public class RateMeter {
+	public static final long WINDOW_NANOS = 5_000_000_000L;
+
+	/**
+	 * Window of the recent rate
+	 * @param start        Start time of the window
+	 * @param startCount   Number of occurrences at its start
+	 * @param previousRate Rate during the previous window
+	 */
+	private record Window(long start, long startCount, double previousRate) {
+	}
+
+	private final LongAdder count = new LongAdder();
+	private final long startTime = System.nanoTime();
+	private final AtomicReference<Window> window = new AtomicReference<>(new Window(startTime, 0, 0));
+
+	/**
+	 * Records one occurrence
+	 */
+	public void mark() {
+		count.increment();
+		roll();
+	}
+
+	/**
+	 * Records several occurrences
+	 * @param occurrences Number of occurrences
+	 */
+	public void mark(long occurrences) {
+		count.add(occurrences);
+		roll();
+	}
+
+	private void roll() {
+		Window current = window.get();
+		long now = System.nanoTime();
+		if (now - current.start() >= WINDOW_NANOS) {
+			long marked = count.sum();
+			// Un seul appelant démarre la fenêtre suivante, les autres gardent celle qu'il a posée
+			window.compareAndSet(current, new Window(now, marked, rate(current, marked, now)));
+		}
+	}
+
+	private static double rate(Window window, long marked, long now) {
+		double seconds = (now - window.start()) / 1e9;
+		return seconds <= 0 ? 0 : (marked - window.startCount()) / seconds;
+	}
+
+	/**
+	 * Getter of the number of occurrences
+	 * @return Number of occurrences since creation
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Getter of the mean rate since creation
+	 * @return Occurrences per second
+	 */
+	public double getMeanRate() {
+		double seconds = (System.nanoTime() - startTime) / 1e9;
+		return seconds <= 0 ? 0 : count.sum() / seconds;
+	}
+
+	/**
+	 * Getter of the rate over the last complete window of {@link #WINDOW_NANOS}, 0 during the first one.
+	 * A window is only closed by a mark: without any, the rate is taken since the start of the current window.
+	 * @return Occurrences per second
+	 */
+	public double getRecentRate() {
+		Window current = window.get();
+		long now = System.nanoTime();
+		if (now - current.start() >= WINDOW_NANOS) {
+			return rate(current, count.sum(), now); // Aucune occurrence n'a clos la fenêtre
+		}
+		return current.previousRate();
+	}
+}
@@ -0,0 +1,74 @@
+package core.game.metrics;
+
+/**
+ * Mean, sample variance and range of a stream of values, updated in constant memory (Welford's algorithm).
+ * Thread-safe: updates are short and synchronized.
+ */
+public class RunningStats {
+	private long count;
+	private double mean;
+	private double squaredDeviations;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Adds a value
+	 * @param value Value
+	 */
+	public synchronized void add(double value) {
+		count++;
+		double delta = value - mean;
+		mean += delta / count;
+		squaredDeviations += delta * (value - mean);
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Getter of the number of values
+	 * @return Number of values
+	 */
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * Getter of the mean
+	 * @return Mean, 0 without any value
+	 */
+	public synchronized double getMean() {
+		return mean;
+	}
+
+	/**
+	 * Getter of the sample variance
+	 * @return Variance, 0 with less than two values
+	 */
+	public synchronized double getVariance() {
+		return count < 2 ? 0 : squaredDeviations / (count - 1);
+	}
+
+	/**
+	 * Getter of the standard deviation
+	 * @return Sample standard deviation
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+
+	/**
+	 * Getter of the lowest value
+	 * @return Lowest value, 0 without any value
+	 */
+	public synchronized double getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * Getter of the highest value
+	 * @return Highest value, 0 without any value
+	 */
+	public synchronized double getMax() {
+		return count == 0 ? 0 : max;
+	}
+}
@@ -3,6 +3,12 @@ package core.game.player;
 import core.game.grid.*;
 import core.game.mechanics.Wildlife;
 import core.game.GameVariant;
+import core.game.event.GameEventBus;
+import core.game.event.TilePlaced;
+import core.game.event.TokenPlaced;
+import core.game.jfr.PlacementEvent;
+import core.game.jfr.ScoringEvent;
+import core.game.metrics.GameMetrics;
 import graphical.model.GameMode;
 
 import java.util.List;
@@ -17,6 +23,9 @@ public class Player {
     private int wildlifeScore;
     private int habitatScore;
     private int bonusPoints;
+    private int variant;
+    private GameEventBus events;
+    private GameMetrics metrics = GameMetrics.global();
 
     /**
      * Creates a new player with initialized name.
@@ -35,6 +44,25 @@ public class Player {
     public void setScoringStrategy(GameVariant variant) {
         Objects.requireNonNull(variant, "Game variant cannot be null");
         this.scoreStrategy = ScoringStrategyFactory.createStrategy(variant);
+        this.variant = variant.getVariant();
+    }
+
+    /**
+     * Sets the bus on which placements of the player are published.
+     *
+     * @param events Event bus of the game
+     */
+    public void setEventBus(GameEventBus events) {
+        this.events = Objects.requireNonNull(events, "events cannot be null");
+    }
+
+    /**
+     * Sets the registry recording placements and scoring times of the player.
+     *
+     * @param metrics Registry of the game, {@link GameMetrics#global()} by default
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics cannot be null");
     }
 
     /**
@@ -58,12 +86,19 @@ public class Player {
     public boolean placeTile(Tile tile, Grid grid, int x, int y) {
         Objects.requireNonNull(tile, "tile cannot be null");
         Objects.requireNonNull(grid, "grid cannot be null");
-        if (grid.addTile(tile, x, y, false)) {
-            System.out.println(name + " a placé une tuile en (" + y + ", " + x + ").");
-            return true;
+        PlacementEvent event = new PlacementEvent();
+        event.begin();
+        boolean placed = grid.addTile(tile, x, y, false);
+        if (event.shouldCommit()) {
+            commitPlacement(event, "tile", tile.getHabitat().name(), grid, x, y, placed);
+        }
+        if (placed) {
+            metrics.placement();
         }
-        System.out.println("Placement impossible. Case déjà occupée ou inaccessible.");
-        return false;
+        if (events != null && events.hasSubscribers()) {
+            events.publish(new TilePlaced(grid.getPlayerOnGrid(), grid, tile, x, y, placed));
+        }
+        return placed;
     }
 
     /**
@@ -78,20 +113,31 @@ public class Player {
     public boolean placeWildlife(Grid grid, int x, int y, Wildlife wildlife) {
         Objects.requireNonNull(grid, "grid cannot be null");
         Objects.requireNonNull(wildlife, "wildlife cannot be null");
-        Tile tile = grid.getTile(x, y);
-        if (tile != null) {
-            List<Wildlife> authorizedWildlife = tile.getAuthorizedWildlife();
-            if (tile.addWildlife(wildlife, authorizedWildlife)) {
-                System.out.println(name + " a ajouté un " + wildlife + " sur la tuile en (" + y + ", " + x + ").");
-                tile.getAuthorizedWildlife().clear(); // Plus d'animaux autorisés
-                return true;
-            } else {
-                System.out.println("Impossible d'ajouter le jeton faune sur cette tuile.");
-            }
-        } else {
-            System.out.println("Il n'y a pas de tuile à cet emplacement.");
+        PlacementEvent event = new PlacementEvent();
+        event.begin();
+        boolean placed = grid.getTile(x, y) != null && grid.addWildlife(wildlife, x, y);
+        if (placed) {
+            metrics.placement();
+        }
+        if (events != null && events.hasSubscribers()) {
+            events.publish(new TokenPlaced(grid.getPlayerOnGrid(), grid, wildlife, x, y, placed));
         }
-        return false;
+        if (event.shouldCommit()) {
+            commitPlacement(event, "wildlife", wildlife.name(), grid, x, y, placed);
+        }
+        return placed;
+    }
+
+    private void commitPlacement(PlacementEvent event, String kind, String piece, Grid grid, int x, int y,
+            boolean placed) {
+        event.player = name;
+        event.kind = kind;
+        event.piece = piece;
+        event.x = x;
+        event.y = y;
+        event.gridSize = grid.getSize();
+        event.success = placed;
+        event.commit();
     }
 
     /**
@@ -106,6 +152,9 @@ public class Player {
         Objects.requireNonNull(grid, "grid cannot be null");
         Objects.requireNonNull(opponentGrids, "opponentGrids cannot be null");
         Objects.requireNonNull(scoreStrategy, "Scoring strategy is not set");
+        ScoringEvent event = new ScoringEvent();
+        event.begin();
+        long start = System.nanoTime();
 
         this.wildlifeScore = scoreStrategy.wildlifeScoring(grid, mode);
         this.habitatScore = scoreStrategy.habitatScoring(grid);
@@ -115,6 +164,18 @@ public class Player {
             Objects.requireNonNull(opponentGrid, "opponent grid cannot be null");
             this.bonusPoints += scoreStrategy.majorityBonusPoints(grid, opponentGrid).getOrDefault(name, 0);
         }
+        metrics.scoringTime(variant, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.player = name;
+            event.strategy = scoreStrategy.getClass().getSimpleName();
+            event.variant = variant;
+            event.gridSize = grid.getSize();
+            event.opponents = opponentGrids.size();
+            event.wildlifeScore = wildlifeScore;
+            event.habitatScore = habitatScore;
+            event.bonusPoints = bonusPoints;
+            event.commit();
+        }
     }
 
     /**
@@ -0,0 +1,144 @@
+package core.game.record;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+import core.game.Match;
+import core.game.Move;
+import graphical.model.GameMode;
+
+/**
+ * Game recorded by {@link MoveLog}, replayed without any display.
+ * The file is read and decoded once; {@link #replay(int)} then rebuilds the game at any turn by playing
+ * the recorded moves on a new {@link Match}. A truncated last move, left by a crash, is ignored.
+ */
+public final class GameReplay {
+	private final RecordHeader header;
+	private final Move[] moves;
+
+	private GameReplay(RecordHeader header, Move[] moves) {
+		this.header = header;
+		this.moves = moves;
+	}
+
+	/**
+	 * Reads a record
+	 * @param path File written by {@link MoveLog}
+	 * @return Replay of the recorded game
+	 * @throws IOException if the file cannot be read or is not a record
+	 */
+	public static GameReplay load(Path path) throws IOException {
+		Objects.requireNonNull(path);
+		ByteBuffer data;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			data = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+			while (data.hasRemaining() && channel.read(data) >= 0) {
+				// Lecture complète du fichier
+			}
+		}
+		data.flip();
+		try {
+			return decode(data);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Malformed game record: " + path, e);
+		}
+	}
+
+	private static GameReplay decode(ByteBuffer data) {
+		if (data.getInt() != MoveLog.MAGIC) {
+			throw new IllegalArgumentException("Not a game record");
+		}
+		byte version = data.get();
+		if (version != MoveLog.VERSION) {
+			throw new IllegalArgumentException("Unsupported record version: " + version);
+		}
+		long seed = Varint.getSigned(data);
+		int variant = Varint.getInt(data);
+		int mode = Varint.getInt(data);
+		if (mode >= GameMode.values().length) {
+			throw new IllegalArgumentException("Unknown game mode: " + mode);
+		}
+		int players = Varint.getInt(data);
+		boolean redrawFor3 = data.get() != 0;
+		RecordHeader header = new RecordHeader(seed, variant, GameMode.values()[mode], players, redrawFor3);
+
+		Move[] moves = new Move[Math.max(16, data.remaining() / 5)];
+		int count = 0;
+		while (data.hasRemaining()) {
+			int start = data.position();
+			try {
+				Move move = new Move(Varint.getInt(data), Varint.getInt(data), Varint.getInt(data), Varint.getInt(data),
+						Varint.getInt(data));
+				if (count == moves.length) {
+					moves = Arrays.copyOf(moves, count * 2);
+				}
+				moves[count++] = move;
+			} catch (BufferUnderflowException e) {
+				data.position(start); // Dernier coup tronqué
+				break;
+			}
+		}
+		return new GameReplay(header, Arrays.copyOf(moves, count));
+	}
+
+	/**
+	 * Getter of the settings of the recorded game
+	 * @return Header of the record
+	 */
+	public RecordHeader getHeader() {
+		return header;
+	}
+
+	/**
+	 * Getter of the number of recorded moves
+	 * @return Number of moves
+	 */
+	public int getMoveCount() {
+		return moves.length;
+	}
+
+	/**
+	 * Getter of a recorded move
+	 * @param turn Index of the move, starting from 0
+	 * @return Move played at this turn
+	 */
+	public Move getMove(int turn) {
+		Objects.checkIndex(turn, moves.length);
+		return moves[turn];
+	}
+
+	/**
+	 * Rebuilds the game as it was before a given turn
+	 * @param turns Number of moves to be played
+	 * @return Match after these moves
+	 * @throws IllegalStateException if a recorded move is not legal, the record not matching this version of the rules
+	 */
+	public Match replay(int turns) {
+		if (turns < 0 || turns > moves.length) {
+			throw new IllegalArgumentException("Turn must be between 0 and " + moves.length);
+		}
+		Match match = header.newMatch();
+		for (int turn = 0; turn < turns; turn++) {
+			try {
+				match.play(moves[turn]);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalStateException("Record does not match the rules at turn " + turn, e);
+			}
+		}
+		return match;
+	}
+
+	/**
+	 * Rebuilds the game after all recorded moves
+	 * @return Match after the last recorded move
+	 */
+	public Match replay() {
+		return replay(moves.length);
+	}
+}
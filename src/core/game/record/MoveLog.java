@@ -0,0 +1,122 @@
+package core.game.record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import core.game.Match;
+import core.game.Move;
+import core.game.event.GameEvent;
+import core.game.event.GameEventListener;
+import core.game.event.MovePlayed;
+
+/**
+ * Append-only binary record of a match, written move by move through a {@link FileChannel}.
+ * 
+ * Layout, integers being {@link Varint varints}:
+ * - magic {@code CSCD}, then the version of the format on one byte
+ * - seed (zigzag), variant, ordinal of the game mode, number of players, redraw flag on one byte
+ * - for each move: market slot, X and Y of the tile, X and Y of the wildlife token
+ * 
+ * Each move is written as soon as it is played, so that the record of a crashed game is complete up to
+ * its last move. A move that cannot be written stops the record without failing the move, which is already
+ * played: see {@link #getFailure()}. Read by {@link GameReplay}.
+ */
+public final class MoveLog implements GameEventListener, Closeable {
+	static final int MAGIC = 0x43534344; // "CSCD"
+	static final byte VERSION = 1;
+
+	private final FileChannel channel;
+	private final Match match;
+	private final ByteBuffer buffer = ByteBuffer.allocate(64);
+	private IOException failure;
+
+	private MoveLog(FileChannel channel, Match match) {
+		this.channel = channel;
+		this.match = match;
+	}
+
+	/**
+	 * Starts recording a match, which must not have started yet. Any existing file is replaced.
+	 * @param path  File of the record
+	 * @param match Match to be recorded
+	 * @return Record, to be closed at the end of the match
+	 * @throws IOException if the file cannot be written
+	 */
+	public static MoveLog record(Path path, Match match) throws IOException {
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(match);
+		if (match.getTurn() != 0) {
+			throw new IllegalStateException("Match must be recorded from its first move");
+		}
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		MoveLog log = new MoveLog(channel, match);
+		try {
+			log.writeHeader(RecordHeader.of(match));
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		match.getGame().getEvents().subscribe(log);
+		return log;
+	}
+
+	private void writeHeader(RecordHeader header) throws IOException {
+		buffer.clear();
+		buffer.putInt(MAGIC);
+		buffer.put(VERSION);
+		Varint.putSigned(buffer, header.seed());
+		Varint.put(buffer, header.variant());
+		Varint.put(buffer, header.mode().ordinal());
+		Varint.put(buffer, header.players());
+		buffer.put((byte) (header.redrawFor3() ? 1 : 0));
+		write();
+	}
+
+	@Override
+	public void onEvent(GameEvent event) {
+		if (failure == null && event instanceof MovePlayed played) {
+			Move move = played.move();
+			buffer.clear();
+			Varint.put(buffer, move.tile());
+			Varint.put(buffer, move.x());
+			Varint.put(buffer, move.y());
+			Varint.put(buffer, move.wildlifeX());
+			Varint.put(buffer, move.wildlifeY());
+			try {
+				write();
+			} catch (IOException e) {
+				failure = e; // Levée depuis Match.play, elle laisserait le coup joué sans l'annoncer
+			}
+		}
+	}
+
+	private void write() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Getter of the error that stopped the record: the moves played since are not recorded
+	 * @return Error, or null if every move is recorded
+	 */
+	public IOException getFailure() {
+		return failure;
+	}
+
+	/**
+	 * Stops recording and closes the file
+	 */
+	@Override
+	public void close() throws IOException {
+		match.getGame().getEvents().unsubscribe(this);
+		channel.close();
+	}
+}
@@ -0,0 +1,57 @@
+package core.game.record;
+
+import core.game.mechanics.Wildlife;
+
+/**
+ * Columns of the outcome files written by {@link OutcomeExporter}, each value having a fixed width.
+ * Per-player columns always hold {@link OutcomeExporter#MAX_PLAYERS} values, 0 for missing players.
+ */
+public enum OutcomeColumn {
+	/**
+	 * Seed of the deck, long
+	 */
+	SEED(Long.BYTES),
+	/**
+	 * Game variant, byte
+	 */
+	VARIANT(1),
+	/**
+	 * Number of players, byte
+	 */
+	PLAYERS(1),
+	/**
+	 * Markets drawn again because they were not valid, unsigned short
+	 */
+	DRAW_RETRIES(Short.BYTES),
+	/**
+	 * Wildlife score of each player, short
+	 */
+	WILDLIFE_SCORES(Short.BYTES * OutcomeExporter.MAX_PLAYERS),
+	/**
+	 * Habitat score of each player, short
+	 */
+	HABITAT_SCORES(Short.BYTES * OutcomeExporter.MAX_PLAYERS),
+	/**
+	 * Majority bonus points of each player, short
+	 */
+	BONUS_POINTS(Short.BYTES * OutcomeExporter.MAX_PLAYERS),
+	/**
+	 * Number of groups of each size (1 to {@link OutcomeExporter#GROUP_SIZES}, the last one counting larger groups)
+	 * for each species and each player, unsigned byte
+	 */
+	WILDLIFE_GROUPS(OutcomeExporter.MAX_PLAYERS * Wildlife.values().length * OutcomeExporter.GROUP_SIZES);
+
+	private final int width;
+
+	OutcomeColumn(int width) {
+		this.width = width;
+	}
+
+	/**
+	 * Getter of the width of a row of the column
+	 * @return Width in bytes
+	 */
+	public int getWidth() {
+		return width;
+	}
+}
@@ -0,0 +1,337 @@
+package core.game.record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import core.game.Game;
+import core.game.Match;
+import core.game.Move;
+import core.game.eval.BoardScorer;
+import core.game.grid.Board;
+import core.game.grid.BoardHistory;
+import core.game.grid.Grid;
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+import core.game.player.Player;
+
+/**
+ * Columnar file of the outcomes of many games, meant for offline analysis: one row per game, and one row per
+ * move in separate chunks, with the points each move brought.
+ * Rows are gathered in chunks; within a chunk, the values of a column are contiguous, so that a scan of a few
+ * columns only touches their pages.
+ *
+ * Layout, big-endian:
+ * - magic {@code CSCO}, version on one byte, rows per chunk (int)
+ * - number of game columns (byte), then for each column its ordinal in {@link OutcomeColumn} (byte) and its
+ * width (short), then the same for the columns of {@link TurnColumn}
+ * - for each chunk: kind ({@link #GAME_CHUNK} or {@link #TURN_CHUNK}, byte), number of rows (int), then for each
+ * column of its kind its values, row after row
+ *
+ * Columns are filled in direct buffers and each full chunk is written by one gathering write, every chunk but
+ * the last one of each kind holding the same number of rows. Read by {@link OutcomeReader}.
+ */
+public final class OutcomeExporter implements Closeable {
+	public static final int MAX_PLAYERS = 4;
+	public static final int GROUP_SIZES = 6;
+	public static final int DEFAULT_CHUNK_ROWS = 1 << 14;
+	static final int MAGIC = 0x4353434F; // "CSCO"
+	static final byte VERSION = 2;
+	static final byte GAME_CHUNK = 0;
+	static final byte TURN_CHUNK = 1;
+	static final int CHUNK_HEADER = 1 + Integer.BYTES;
+
+	private static final int SPECIES = Wildlife.values().length;
+	private static final int MAX_COUNT = 0xFF;
+	private static final byte[] NO_GROUPS = new byte[OutcomeColumn.WILDLIFE_GROUPS.getWidth()];
+
+	private final FileChannel channel;
+	private final int chunkRows;
+	private final ByteBuffer[] buffers; // En-tête du bloc, puis une colonne par tampon
+	private final ByteBuffer[] turnBuffers;
+	private int rows;
+	private int turnRows;
+	private long rowCount;
+	private long turnCount;
+
+	private OutcomeExporter(FileChannel channel, int chunkRows) {
+		this.channel = channel;
+		this.chunkRows = chunkRows;
+		OutcomeColumn[] columns = OutcomeColumn.values();
+		this.buffers = new ByteBuffer[columns.length + 1];
+		buffers[0] = ByteBuffer.allocateDirect(CHUNK_HEADER);
+		for (OutcomeColumn column : columns) {
+			buffers[column.ordinal() + 1] = ByteBuffer.allocateDirect(chunkRows * column.getWidth());
+		}
+		TurnColumn[] turnColumns = TurnColumn.values();
+		this.turnBuffers = new ByteBuffer[turnColumns.length + 1];
+		turnBuffers[0] = ByteBuffer.allocateDirect(CHUNK_HEADER);
+		for (TurnColumn column : turnColumns) {
+			turnBuffers[column.ordinal() + 1] = ByteBuffer.allocateDirect(chunkRows * column.getWidth());
+		}
+	}
+
+	/**
+	 * Size of the header of a file
+	 * @return Size in bytes
+	 */
+	static int headerSize() {
+		return Integer.BYTES + 1 + Integer.BYTES + 2 + 3 * (OutcomeColumn.values().length + TurnColumn.values().length);
+	}
+
+	/**
+	 * Creates an outcome file with chunks of {@link #DEFAULT_CHUNK_ROWS} rows. Any existing file is replaced.
+	 * @param path File
+	 * @return Exporter, to be closed once every game is added
+	 * @throws IOException if the file cannot be written
+	 */
+	public static OutcomeExporter create(Path path) throws IOException {
+		return create(path, DEFAULT_CHUNK_ROWS);
+	}
+
+	/**
+	 * Creates an outcome file. Any existing file is replaced.
+	 * @param path      File
+	 * @param chunkRows Number of rows of a chunk
+	 * @return Exporter, to be closed once every game is added
+	 * @throws IOException if the file cannot be written
+	 */
+	public static OutcomeExporter create(Path path, int chunkRows) throws IOException {
+		Objects.requireNonNull(path);
+		if (chunkRows <= 0) {
+			throw new IllegalArgumentException("Chunks must hold at least one row");
+		}
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		try {
+			OutcomeColumn[] columns = OutcomeColumn.values();
+			TurnColumn[] turnColumns = TurnColumn.values();
+			ByteBuffer header = ByteBuffer.allocate(headerSize());
+			header.putInt(MAGIC).put(VERSION).putInt(chunkRows).put((byte) columns.length);
+			for (OutcomeColumn column : columns) {
+				header.put((byte) column.ordinal()).putShort((short) column.getWidth());
+			}
+			header.put((byte) turnColumns.length);
+			for (TurnColumn column : turnColumns) {
+				header.put((byte) column.ordinal()).putShort((short) column.getWidth());
+			}
+			header.flip();
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		return new OutcomeExporter(channel, chunkRows);
+	}
+
+	/**
+	 * Adds a game and its moves. Thread-safe, so that parallel simulations may share an exporter: the rows are
+	 * computed by the calling thread, only their copy into the chunks holds the exporter.
+	 * @param match Match over
+	 * @throws IOException if a full chunk cannot be written
+	 */
+	public void add(Match match) throws IOException {
+		if (!match.isOver()) {
+			throw new IllegalArgumentException("Match is not over");
+		}
+		List<Player> players = match.getPlayers();
+		if (players.size() > MAX_PLAYERS) {
+			throw new IllegalArgumentException("Too many players: " + players.size());
+		}
+		byte[] groups = wildlifeGroups(match);
+		short[][] deltas = turnDeltas(match);
+		synchronized (this) {
+			Game game = match.getGame();
+			column(OutcomeColumn.SEED).putLong(match.getSeed());
+			column(OutcomeColumn.VARIANT).put((byte) game.getVariant());
+			column(OutcomeColumn.PLAYERS).put((byte) players.size());
+			column(OutcomeColumn.DRAW_RETRIES).putShort((short) Math.min(game.getDrawRetries(), 0xFFFF));
+			column(OutcomeColumn.WILDLIFE_GROUPS).put(groups);
+			for (int i = 0; i < MAX_PLAYERS; i++) {
+				Player player = i < players.size() ? players.get(i) : null;
+				column(OutcomeColumn.WILDLIFE_SCORES).putShort((short) (player == null ? 0 : player.getWildlifeScore()));
+				column(OutcomeColumn.HABITAT_SCORES).putShort((short) (player == null ? 0 : player.getHabitatScore()));
+				column(OutcomeColumn.BONUS_POINTS).putShort((short) (player == null ? 0 : player.getBonusPoints()));
+			}
+			addTurns(match, deltas, rowCount);
+			rowCount++;
+			if (++rows == chunkRows) {
+				write(buffers, GAME_CHUNK, rows);
+				rows = 0;
+			}
+		}
+	}
+
+	/**
+	 * Counts the wildlife groups of each player by size
+	 * @param match Match over
+	 * @return Value of the {@link OutcomeColumn#WILDLIFE_GROUPS} column
+	 */
+	private static byte[] wildlifeGroups(Match match) {
+		Game game = match.getGame();
+		List<Player> players = match.getPlayers();
+		byte[] groups = NO_GROUPS.clone();
+		for (int i = 0; i < players.size(); i++) {
+			Grid grid = game.getGridForPlayer(players.get(i));
+			for (Map.Entry<Wildlife, List<Integer>> entry : grid.countWildlifeInGrid(grid).entrySet()) {
+				for (int size : entry.getValue()) {
+					int index = (i * SPECIES + entry.getKey().ordinal()) * GROUP_SIZES + Math.min(size, GROUP_SIZES) - 1;
+					groups[index] = (byte) Math.min(Byte.toUnsignedInt(groups[index]) + 1, MAX_COUNT);
+				}
+			}
+		}
+		return groups;
+	}
+
+	/**
+	 * Scores the grid of the player before and after each move, on the boards kept by the history of the game
+	 * @param match Match over
+	 * @return Wildlife delta and habitat delta of each move
+	 */
+	private static short[][] turnDeltas(Match match) {
+		List<Player> players = match.getPlayers();
+		int moves = match.getMoves().size();
+		int size = match.getCurrentGrid().getSize();
+		BoardScorer scorer = new BoardScorer(match.getGame().getVariant(), size, match.getMode());
+		short[] cells = new short[size * size];
+		int[] corridors = new int[Habitat.values().length];
+		short[][] deltas = new short[2][moves];
+		int[][] before = new int[players.size()][];
+		for (int turn = 0; turn < moves; turn++) {
+			int player = turn % players.size();
+			BoardHistory history = match.getGame().getHistory(players.get(player));
+			int version = 2 * (turn / players.size()); // Une version pour la tuile, une pour le jeton
+			if (before[player] == null) {
+				before[player] = score(scorer, history.getBoard(version), cells, corridors);
+			}
+			int[] after = score(scorer, history.getBoard(version + 2), cells, corridors);
+			deltas[0][turn] = (short) (after[0] - before[player][0]);
+			deltas[1][turn] = (short) (after[1] - before[player][1]);
+			before[player] = after;
+		}
+		return deltas;
+	}
+
+	/**
+	 * Adds the moves of a game
+	 * @param match  Match over
+	 * @param deltas Wildlife delta and habitat delta of each move, see {@link #turnDeltas(Match)}
+	 * @param game   Index of the game in the file
+	 * @throws IOException if a full chunk cannot be written
+	 */
+	private void addTurns(Match match, short[][] deltas, long game) throws IOException {
+		int players = match.getPlayers().size();
+		List<Move> moves = match.getMoves();
+		for (int turn = 0; turn < moves.size(); turn++) {
+			Move move = moves.get(turn);
+			turnColumn(TurnColumn.GAME).putLong(game);
+			turnColumn(TurnColumn.TURN).put((byte) turn);
+			turnColumn(TurnColumn.PLAYER).put((byte) (turn % players));
+			turnColumn(TurnColumn.MOVE).put((byte) move.tile()).put((byte) move.x()).put((byte) move.y())
+					.put((byte) move.wildlifeX()).put((byte) move.wildlifeY());
+			turnColumn(TurnColumn.WILDLIFE_DELTA).putShort(deltas[0][turn]);
+			turnColumn(TurnColumn.HABITAT_DELTA).putShort(deltas[1][turn]);
+			turnCount++;
+			if (++turnRows == chunkRows) {
+				write(turnBuffers, TURN_CHUNK, turnRows);
+				turnRows = 0;
+			}
+		}
+	}
+
+	/**
+	 * Scores a board as the game does
+	 * @param scorer    Scorer of the variant of the game
+	 * @param board     Board
+	 * @param cells     Packed cells, overwritten
+	 * @param corridors Largest corridors, overwritten
+	 * @return Wildlife score and habitat score, majority bonus aside
+	 */
+	private static int[] score(BoardScorer scorer, Board board, short[] cells, int[] corridors) {
+		int size = board.getSize();
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				cells[x * size + y] = board.getCell(x, y);
+			}
+		}
+		int total = scorer.score(cells, corridors);
+		int habitat = 0;
+		for (int corridor : corridors) {
+			habitat += corridor;
+		}
+		return new int[] { total - habitat, habitat };
+	}
+
+	private ByteBuffer column(OutcomeColumn column) {
+		return buffers[column.ordinal() + 1];
+	}
+
+	private ByteBuffer turnColumn(TurnColumn column) {
+		return turnBuffers[column.ordinal() + 1];
+	}
+
+	/**
+	 * Writes the rows added since the last chunks as chunks, if any
+	 * @throws IOException if a chunk cannot be written
+	 */
+	public synchronized void flush() throws IOException {
+		if (rows > 0) {
+			write(buffers, GAME_CHUNK, rows);
+			rows = 0;
+		}
+		if (turnRows > 0) {
+			write(turnBuffers, TURN_CHUNK, turnRows);
+			turnRows = 0;
+		}
+	}
+
+	private void write(ByteBuffer[] buffers, byte kind, int rows) throws IOException {
+		buffers[0].clear().put(kind).putInt(rows);
+		for (ByteBuffer buffer : buffers) {
+			buffer.flip();
+		}
+		long remaining = 0;
+		for (ByteBuffer buffer : buffers) {
+			remaining += buffer.remaining();
+		}
+		while (remaining > 0) {
+			remaining -= channel.write(buffers);
+		}
+		for (ByteBuffer buffer : buffers) {
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Getter of the number of games added
+	 * @return Number of rows
+	 */
+	public synchronized long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Getter of the number of moves added
+	 * @return Number of turn rows
+	 */
+	public synchronized long getTurnCount() {
+		return turnCount;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+}
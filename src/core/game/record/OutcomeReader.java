@@ -0,0 +1,351 @@
+package core.game.record;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.Move;
+import core.game.mechanics.Wildlife;
+
+/**
+ * Reader of the files written by {@link OutcomeExporter}. Each chunk is memory-mapped when the file is opened,
+ * only its header being read: values are read from the mapping when asked for, so that a scan of a few columns
+ * of millions of games only loads the pages of these columns. Games and moves are read from separate chunks.
+ *
+ * <pre>
+ * double total = 0;
+ * for (OutcomeReader.Chunk chunk : OutcomeReader.open(path).getChunks()) {
+ * 	for (int row = 0; row &lt; chunk.getRows(); row++) {
+ * 		total += chunk.getHabitatScore(row, 0);
+ * 	}
+ * }
+ * </pre>
+ */
+public final class OutcomeReader {
+	private static final int SPECIES = Wildlife.values().length;
+
+	private final List<Chunk> chunks;
+	private final List<TurnChunk> turnChunks;
+	private final long rowCount;
+	private final long turnCount;
+
+	/**
+	 * Rows of a chunk, read from the mapping of the file
+	 */
+	public static final class Chunk {
+		private final ByteBuffer buffer;
+		private final int rows;
+		private final int[] offsets = new int[OutcomeColumn.values().length];
+
+		private Chunk(ByteBuffer buffer, int rows) {
+			this.buffer = buffer;
+			this.rows = rows;
+			int offset = OutcomeExporter.CHUNK_HEADER;
+			for (OutcomeColumn column : OutcomeColumn.values()) {
+				offsets[column.ordinal()] = offset;
+				offset += rows * column.getWidth();
+			}
+		}
+
+		/**
+		 * Getter of the number of rows
+		 * @return Number of rows
+		 */
+		public int getRows() {
+			return rows;
+		}
+
+		/**
+		 * Getter of the seed of a game
+		 * @param row Row of the game in the chunk
+		 * @return Seed
+		 */
+		public long getSeed(int row) {
+			return buffer.getLong(offsets[OutcomeColumn.SEED.ordinal()] + row * Long.BYTES);
+		}
+
+		/**
+		 * Getter of the variant of a game
+		 * @param row Row of the game in the chunk
+		 * @return Variant (1 to 3)
+		 */
+		public int getVariant(int row) {
+			return buffer.get(offsets[OutcomeColumn.VARIANT.ordinal()] + row);
+		}
+
+		/**
+		 * Getter of the number of players of a game
+		 * @param row Row of the game in the chunk
+		 * @return Number of players
+		 */
+		public int getPlayers(int row) {
+			return buffer.get(offsets[OutcomeColumn.PLAYERS.ordinal()] + row);
+		}
+
+		/**
+		 * Getter of the number of markets drawn again during a game
+		 * @param row Row of the game in the chunk
+		 * @return Number of rejected draws
+		 */
+		public int getDrawRetries(int row) {
+			return Short.toUnsignedInt(buffer.getShort(offsets[OutcomeColumn.DRAW_RETRIES.ordinal()] + row * Short.BYTES));
+		}
+
+		/**
+		 * Getter of the wildlife score of a player
+		 * @param row    Row of the game in the chunk
+		 * @param player Index of the player
+		 * @return Score
+		 */
+		public int getWildlifeScore(int row, int player) {
+			return score(OutcomeColumn.WILDLIFE_SCORES, row, player);
+		}
+
+		/**
+		 * Getter of the habitat score of a player
+		 * @param row    Row of the game in the chunk
+		 * @param player Index of the player
+		 * @return Score
+		 */
+		public int getHabitatScore(int row, int player) {
+			return score(OutcomeColumn.HABITAT_SCORES, row, player);
+		}
+
+		/**
+		 * Getter of the majority bonus points of a player
+		 * @param row    Row of the game in the chunk
+		 * @param player Index of the player
+		 * @return Points
+		 */
+		public int getBonusPoints(int row, int player) {
+			return score(OutcomeColumn.BONUS_POINTS, row, player);
+		}
+
+		private int score(OutcomeColumn column, int row, int player) {
+			Objects.checkIndex(player, OutcomeExporter.MAX_PLAYERS);
+			return buffer.getShort(offsets[column.ordinal()] + (row * OutcomeExporter.MAX_PLAYERS + player) * Short.BYTES);
+		}
+
+		/**
+		 * Getter of the number of groups of a species of a given size on the grid of a player
+		 * @param row      Row of the game in the chunk
+		 * @param player   Index of the player
+		 * @param wildlife Species
+		 * @param size     Size of the groups, from 1 to {@link OutcomeExporter#GROUP_SIZES} (this one and larger)
+		 * @return Number of groups, at most 255
+		 */
+		public int getGroupCount(int row, int player, Wildlife wildlife, int size) {
+			Objects.checkIndex(player, OutcomeExporter.MAX_PLAYERS);
+			Objects.checkIndex(size - 1, OutcomeExporter.GROUP_SIZES);
+			int index = ((row * OutcomeExporter.MAX_PLAYERS + player) * SPECIES + wildlife.ordinal())
+					* OutcomeExporter.GROUP_SIZES + size - 1;
+			return Byte.toUnsignedInt(buffer.get(offsets[OutcomeColumn.WILDLIFE_GROUPS.ordinal()] + index));
+		}
+	}
+
+	/**
+	 * Moves of a chunk, read from the mapping of the file
+	 */
+	public static final class TurnChunk {
+		private final ByteBuffer buffer;
+		private final int rows;
+		private final int[] offsets = new int[TurnColumn.values().length];
+
+		private TurnChunk(ByteBuffer buffer, int rows) {
+			this.buffer = buffer;
+			this.rows = rows;
+			int offset = OutcomeExporter.CHUNK_HEADER;
+			for (TurnColumn column : TurnColumn.values()) {
+				offsets[column.ordinal()] = offset;
+				offset += rows * column.getWidth();
+			}
+		}
+
+		/**
+		 * Getter of the number of rows
+		 * @return Number of rows
+		 */
+		public int getRows() {
+			return rows;
+		}
+
+		/**
+		 * Getter of the game of a move
+		 * @param row Row of the move in the chunk
+		 * @return Index of the game among the games of the file
+		 */
+		public long getGame(int row) {
+			return buffer.getLong(offsets[TurnColumn.GAME.ordinal()] + row * Long.BYTES);
+		}
+
+		/**
+		 * Getter of the turn of a move
+		 * @param row Row of the move in the chunk
+		 * @return Turn, from 0
+		 */
+		public int getTurn(int row) {
+			return Byte.toUnsignedInt(buffer.get(offsets[TurnColumn.TURN.ordinal()] + row));
+		}
+
+		/**
+		 * Getter of the player of a move
+		 * @param row Row of the move in the chunk
+		 * @return Index of the player
+		 */
+		public int getPlayer(int row) {
+			return buffer.get(offsets[TurnColumn.PLAYER.ordinal()] + row);
+		}
+
+		/**
+		 * Getter of a move
+		 * @param row Row of the move in the chunk
+		 * @return Move
+		 */
+		public Move getMove(int row) {
+			int index = offsets[TurnColumn.MOVE.ordinal()] + row * TurnColumn.MOVE.getWidth();
+			return new Move(buffer.get(index), buffer.get(index + 1), buffer.get(index + 2), buffer.get(index + 3),
+					buffer.get(index + 4));
+		}
+
+		/**
+		 * Getter of the wildlife points gained by a move
+		 * @param row Row of the move in the chunk
+		 * @return Points, negative if the move broke a scoring group
+		 */
+		public int getWildlifeDelta(int row) {
+			return buffer.getShort(offsets[TurnColumn.WILDLIFE_DELTA.ordinal()] + row * Short.BYTES);
+		}
+
+		/**
+		 * Getter of the habitat points gained by a move
+		 * @param row Row of the move in the chunk
+		 * @return Points
+		 */
+		public int getHabitatDelta(int row) {
+			return buffer.getShort(offsets[TurnColumn.HABITAT_DELTA.ordinal()] + row * Short.BYTES);
+		}
+	}
+
+	private OutcomeReader(List<Chunk> chunks, List<TurnChunk> turnChunks, long rowCount, long turnCount) {
+		this.chunks = chunks;
+		this.turnChunks = turnChunks;
+		this.rowCount = rowCount;
+		this.turnCount = turnCount;
+	}
+
+	/**
+	 * Maps an outcome file
+	 * @param path File
+	 * @return Reader, whose mappings stay valid without any file open
+	 * @throws IOException if the file cannot be read or is not an outcome file
+	 */
+	public static OutcomeReader open(Path path) throws IOException {
+		Objects.requireNonNull(path);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			OutcomeColumn[] columns = OutcomeColumn.values();
+			TurnColumn[] turnColumns = TurnColumn.values();
+			ByteBuffer header = ByteBuffer.allocate(OutcomeExporter.headerSize());
+			readFully(channel, header, 0);
+			if (header.getInt() != OutcomeExporter.MAGIC || header.get() != OutcomeExporter.VERSION) {
+				throw new IOException("Not an outcome file: " + path);
+			}
+			header.getInt(); // Lignes par bloc, seul le dernier bloc peut en avoir moins
+			if (header.get() != columns.length) {
+				throw new IOException("Unexpected columns in " + path);
+			}
+			int rowWidth = 0;
+			for (OutcomeColumn column : columns) {
+				if (header.get() != column.ordinal() || header.getShort() != column.getWidth()) {
+					throw new IOException("Unexpected columns in " + path);
+				}
+				rowWidth += column.getWidth();
+			}
+			if (header.get() != turnColumns.length) {
+				throw new IOException("Unexpected turn columns in " + path);
+			}
+			int turnWidth = 0;
+			for (TurnColumn column : turnColumns) {
+				if (header.get() != column.ordinal() || header.getShort() != column.getWidth()) {
+					throw new IOException("Unexpected turn columns in " + path);
+				}
+				turnWidth += column.getWidth();
+			}
+			List<Chunk> chunks = new ArrayList<>();
+			List<TurnChunk> turnChunks = new ArrayList<>();
+			long rowCount = 0;
+			long turnCount = 0;
+			long position = header.capacity();
+			ByteBuffer chunkHeader = ByteBuffer.allocate(OutcomeExporter.CHUNK_HEADER);
+			while (position < channel.size()) {
+				readFully(channel, chunkHeader.clear(), position);
+				byte kind = chunkHeader.get(0);
+				int rows = chunkHeader.getInt(1);
+				if (kind != OutcomeExporter.GAME_CHUNK && kind != OutcomeExporter.TURN_CHUNK) {
+					throw new IOException("Unknown chunk at " + position + " in " + path);
+				}
+				boolean games = kind == OutcomeExporter.GAME_CHUNK;
+				long size = OutcomeExporter.CHUNK_HEADER + (long) rows * (games ? rowWidth : turnWidth);
+				if (rows <= 0 || position + size > channel.size()) {
+					throw new IOException("Truncated chunk at " + position + " in " + path);
+				}
+				MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+				if (games) {
+					chunks.add(new Chunk(mapping, rows));
+					rowCount += rows;
+				} else {
+					turnChunks.add(new TurnChunk(mapping, rows));
+					turnCount += rows;
+				}
+				position += size;
+			}
+			return new OutcomeReader(List.copyOf(chunks), List.copyOf(turnChunks), rowCount, turnCount);
+		}
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of file");
+			}
+		}
+		buffer.flip();
+	}
+
+	/**
+	 * Getter of the chunks, in order of writing
+	 * @return Unmodifiable list of chunks
+	 */
+	public List<Chunk> getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * Getter of the chunks of moves, in order of writing: the moves of a game follow each other, in order of play
+	 * @return Unmodifiable list of chunks
+	 */
+	public List<TurnChunk> getTurnChunks() {
+		return turnChunks;
+	}
+
+	/**
+	 * Getter of the number of games
+	 * @return Number of rows, all chunks included
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Getter of the number of moves
+	 * @return Number of turn rows, all chunks included
+	 */
+	public long getTurnCount() {
+		return turnCount;
+	}
+}
@@ -0,0 +1,42 @@
+package core.game.record;
+
+import java.util.Objects;
+
+import core.game.Match;
+import core.game.metrics.GameMetrics;
+import graphical.model.GameMode;
+
+/**
+ * Settings of a recorded game, enough to rebuild its initial state.
+ *
+ * @param seed       Seed of the deck
+ * @param variant    Game variant (1 to 3)
+ * @param mode       Game mode
+ * @param players    Number of players
+ * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+ */
+public record RecordHeader(long seed, int variant, GameMode mode, int players, boolean redrawFor3) {
+
+	public RecordHeader {
+		Objects.requireNonNull(mode);
+	}
+
+	/**
+	 * Header of a match
+	 * @param match Recorded match
+	 * @return Settings of the match
+	 */
+	public static RecordHeader of(Match match) {
+		return new RecordHeader(match.getSeed(), match.getGame().getVariant(), match.getMode(),
+				match.getPlayers().size(), match.isRedrawFor3());
+	}
+
+	/**
+	 * Creates the match described by the header, before its first move. Replays are not counted in the metrics of
+	 * the process.
+	 * @return New match
+	 */
+	public Match newMatch() {
+		return new Match(variant, players, seed, redrawFor3, mode, GameMetrics.disabled());
+	}
+}
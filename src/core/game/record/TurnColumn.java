@@ -0,0 +1,46 @@
+package core.game.record;
+
+/**
+ * Columns of the turn chunks of the outcome files written by {@link OutcomeExporter}, one row per move played,
+ * each value having a fixed width.
+ */
+public enum TurnColumn {
+	/**
+	 * Index of the game of the move among the games of the file, from 0 in order of writing, long
+	 */
+	GAME(Long.BYTES),
+	/**
+	 * Turn of the game, from 0, unsigned byte
+	 */
+	TURN(1),
+	/**
+	 * Index of the player of the move, byte
+	 */
+	PLAYER(1),
+	/**
+	 * Move played: market slot, X and Y of the tile, X and Y of the wildlife token, one byte each
+	 */
+	MOVE(5),
+	/**
+	 * Wildlife points gained by the move, short
+	 */
+	WILDLIFE_DELTA(Short.BYTES),
+	/**
+	 * Habitat points gained by the move, short
+	 */
+	HABITAT_DELTA(Short.BYTES);
+
+	private final int width;
+
+	TurnColumn(int width) {
+		this.width = width;
+	}
+
+	/**
+	 * Getter of the width of a row of the column
+	 * @return Width in bytes
+	 */
+	public int getWidth() {
+		return width;
+	}
+}
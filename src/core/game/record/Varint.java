@@ -0,0 +1,76 @@
+package core.game.record;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length encoding of integers, 7 bits per byte, the high bit telling that another byte follows.
+ * Small values, such as coordinates and market slots, take a single byte.
+ */
+final class Varint {
+	private Varint() {
+	}
+
+	/**
+	 * Writes a non-negative value
+	 * @param buffer Destination
+	 * @param value  Value, negative values take 10 bytes
+	 */
+	static void put(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Writes a signed value, small negative values being as short as small positive ones (zigzag)
+	 * @param buffer Destination
+	 * @param value  Value
+	 */
+	static void putSigned(ByteBuffer buffer, long value) {
+		put(buffer, (value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Reads a value written by {@link #put(ByteBuffer, long)}
+	 * @param buffer Source
+	 * @return Value
+	 * @throws BufferUnderflowException if the value is truncated
+	 */
+	static long get(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	/**
+	 * Reads a value written by {@link #putSigned(ByteBuffer, long)}
+	 * @param buffer Source
+	 * @return Value
+	 */
+	static long getSigned(ByteBuffer buffer) {
+		long value = get(buffer);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads a small non-negative value
+	 * @param buffer Source
+	 * @return Value
+	 */
+	static int getInt(ByteBuffer buffer) {
+		long value = get(buffer);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Value out of range: " + value);
+		}
+		return (int) value;
+	}
+}
@@ -0,0 +1,308 @@
+package core.game.save;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.Game;
+import core.game.grid.Board;
+import core.game.grid.Grid;
+import core.game.grid.Tile;
+import core.game.mechanics.Deck;
+import core.game.mechanics.Wildlife;
+import core.game.player.Player;
+import graphical.model.GameMode;
+
+/**
+ * Game in progress saved in a compact binary file, written and read through a memory-mapped buffer.
+ *
+ * Layout of version 1, big-endian:
+ * - int magic, then short version
+ * - byte variant, byte game mode, byte flags (1: redraw when 3 tokens are identical), byte number of players,
+ * byte grid size
+ * - long seed and int number of tiles drawn: the deck being generated from its seed, they give both the order
+ * of the pile and the position in it
+ * - int turn, byte index of current player
+ * - byte market size, byte market slot of the tile already placed (-1 if none), byte token still to be placed
+ * (ordinal + 1, 0 if none)
+ * - for each player, byte length then UTF-8 name
+ * - for each player, the cells of the grid by x then y, then the market tiles: one short per tile, see {@link Board#encode(Tile)}
+ *
+ * A save is written in a new file next to the previous one, forced to the disk, then moved over it in one atomic
+ * step: a crash leaves either the previous save or the new one, and no file mapped by an earlier load is ever
+ * truncated.
+ *
+ * Loading maps the file and checks it without creating any object; tiles are only created by
+ * {@link #restoreGame()}, which fills the grids from {@link Board}s read in the mapping, and {@link #getTurnState()}.
+ */
+public final class GameSave {
+	public static final int MAGIC = 0x43534156; // "CSAV"
+	public static final short VERSION = 1;
+
+	private static final int HEADER_SIZE = 31;
+	private static final Wildlife[] WILDLIFE = Wildlife.values();
+
+	private final ByteBuffer data;
+	private final int variant;
+	private final GameMode mode;
+	private final boolean redrawFor3;
+	private final int gridSize;
+	private final long seed;
+	private final int drawn;
+	private final int turn;
+	private final int playerIndex;
+	private final int marketSize;
+	private final int selectedSlot;
+	private final int pendingToken;
+	private final List<String> playerNames;
+	private final int cellsOffset;
+
+	private GameSave(ByteBuffer data) {
+		if (data.getInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a saved game");
+		}
+		short version = data.getShort();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported save version: " + version);
+		}
+		this.data = data;
+		this.variant = data.get();
+		int modeIndex = data.get();
+		if (modeIndex < 0 || modeIndex >= GameMode.values().length) {
+			throw new IllegalArgumentException("Unknown game mode: " + modeIndex);
+		}
+		this.mode = GameMode.values()[modeIndex];
+		this.redrawFor3 = (data.get() & 1) != 0;
+		int players = data.get();
+		this.gridSize = data.get();
+		this.seed = data.getLong();
+		this.drawn = data.getInt();
+		this.turn = data.getInt();
+		this.playerIndex = data.get();
+		this.marketSize = data.get();
+		this.selectedSlot = data.get();
+		this.pendingToken = data.get();
+		if (players <= 0 || playerIndex < 0 || playerIndex >= players || gridSize <= 0 || marketSize < 0
+				|| selectedSlot < -1 || selectedSlot >= marketSize || pendingToken < 0 || pendingToken > WILDLIFE.length
+				|| drawn < 0 || drawn > Deck.SIZE) {
+			throw new IllegalArgumentException("Inconsistent header");
+		}
+		List<String> names = new ArrayList<>(players);
+		for (int i = 0; i < players; i++) {
+			byte[] name = new byte[data.get() & 0xFF];
+			data.get(name);
+			names.add(new String(name, StandardCharsets.UTF_8));
+		}
+		this.playerNames = Collections.unmodifiableList(names);
+		this.cellsOffset = data.position();
+		int end = cellsOffset + 2 * (players * gridSize * gridSize + marketSize);
+		if (end > data.limit()) {
+			throw new BufferUnderflowException();
+		}
+		for (int offset = cellsOffset; offset < end; offset += 2) {
+			if (!Board.isValid(data.getShort(offset))) {
+				throw new IllegalArgumentException("Malformed tile: " + Integer.toHexString(data.getShort(offset) & 0xFFFF));
+			}
+		}
+	}
+
+	/**
+	 * Saves a game, atomically replacing the file if it exists
+	 * @param path  File to be written
+	 * @param game  Game to be saved
+	 * @param mode  Game mode
+	 * @param state Position of the game within its turns
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path path, Game game, GameMode mode, TurnState state) throws IOException {
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(game);
+		Objects.requireNonNull(mode);
+		Objects.requireNonNull(state);
+		List<Player> players = game.getPlayers();
+		if (players.isEmpty() || state.playerIndex() >= players.size()) {
+			throw new IllegalArgumentException("No such player: " + state.playerIndex());
+		}
+		int gridSize = game.getGridForPlayer(players.get(0)).getSize();
+		byte[][] names = new byte[players.size()][];
+		int size = HEADER_SIZE + 2 * (players.size() * gridSize * gridSize + state.market().size());
+		for (int i = 0; i < names.length; i++) {
+			names[i] = players.get(i).getName().getBytes(StandardCharsets.UTF_8);
+			if (names[i].length > 0xFF) {
+				throw new IllegalArgumentException("Player name too long: " + players.get(i).getName());
+			}
+			size += 1 + names[i].length;
+		}
+
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		Files.deleteIfExists(temporary); // Reste d'une sauvegarde interrompue
+		try {
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+					StandardOpenOption.WRITE)) {
+				write(channel.map(FileChannel.MapMode.READ_WRITE, 0, size), game, mode, state, names);
+			}
+			Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			Files.deleteIfExists(temporary);
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes a save in the mapping of a new file, then forces it to the disk
+	 * @param out   Mapping of the whole file
+	 * @param game  Game to be saved
+	 * @param mode  Game mode
+	 * @param state Position of the game within its turns
+	 * @param names UTF-8 names of the players
+	 */
+	private static void write(MappedByteBuffer out, Game game, GameMode mode, TurnState state, byte[][] names) {
+		List<Player> players = game.getPlayers();
+		int gridSize = game.getGridForPlayer(players.get(0)).getSize();
+		out.putInt(MAGIC);
+		out.putShort(VERSION);
+		out.put((byte) game.getVariant());
+		out.put((byte) mode.ordinal());
+		out.put((byte) (state.redrawFor3() ? 1 : 0));
+		out.put((byte) players.size());
+		out.put((byte) gridSize);
+		out.putLong(game.getDeck().getSeed());
+		out.putInt(game.getDeck().getDrawn());
+		out.putInt(state.turn());
+		out.put((byte) state.playerIndex());
+		out.put((byte) state.market().size());
+		out.put((byte) state.selectedSlot());
+		out.put((byte) (state.pendingToken() == null ? 0 : state.pendingToken().ordinal() + 1));
+		for (byte[] name : names) {
+			out.put((byte) name.length);
+			out.put(name);
+		}
+		for (Player player : players) {
+			Grid grid = game.getGridForPlayer(player);
+			for (int x = 0; x < gridSize; x++) {
+				for (int y = 0; y < gridSize; y++) {
+					out.putShort(Board.encode(grid.getTile(x, y)));
+				}
+			}
+		}
+		for (Tile tile : state.market()) {
+			out.putShort(Board.encode(tile));
+		}
+		out.force();
+	}
+
+	/**
+	 * Reads a saved game
+	 * @param path File written by {@link #write(Path, Game, GameMode, TurnState)}
+	 * @return Saved game
+	 * @throws IOException if the file cannot be read or is not a saved game
+	 */
+	public static GameSave load(Path path) throws IOException {
+		Objects.requireNonNull(path);
+		MappedByteBuffer data;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		try {
+			return new GameSave(data);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Malformed saved game: " + path, e);
+		}
+	}
+
+	/**
+	 * Getter of the game variant
+	 * @return Variant number (1 to 3)
+	 */
+	public int getVariant() {
+		return variant;
+	}
+
+	/**
+	 * Getter of the game mode
+	 * @return Game mode
+	 */
+	public GameMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Getter of the seed of the deck
+	 * @return Seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Getter of the number of tiles drawn from the deck
+	 * @return Number of tiles
+	 */
+	public int getTilesDrawn() {
+		return drawn;
+	}
+
+	/**
+	 * Getter of the names of the players, in playing order
+	 * @return Unmodifiable list of names
+	 */
+	public List<String> getPlayerNames() {
+		return playerNames;
+	}
+
+	/**
+	 * Getter of the position of the game within its turns. Market tiles are new tiles at each call.
+	 * @return Turn state
+	 */
+	public TurnState getTurnState() {
+		int offset = cellsOffset + 2 * playerNames.size() * gridSize * gridSize;
+		List<Tile> market = new ArrayList<>(marketSize);
+		for (int i = 0; i < marketSize; i++) {
+			market.add(Board.decode(data.getShort(offset + 2 * i)));
+		}
+		return new TurnState(turn, playerIndex, redrawFor3, market, selectedSlot,
+				pendingToken == 0 ? null : WILDLIFE[pendingToken - 1]);
+	}
+
+	/**
+	 * Rebuilds the saved game: same players, grids and deck, the next tiles drawn being the ones
+	 * the saved game would have drawn.
+	 * @return New game
+	 * @throws IllegalStateException if the saved grids do not have the size of the grids of a game
+	 */
+	public Game restoreGame() {
+		Game game = new Game(variant, seed);
+		for (String name : playerNames) {
+			game.addPlayer(name, mode); // Pioche les mêmes tuiles de départ que la partie sauvegardée
+		}
+		Deck deck = game.getDeck();
+		deck.skip(drawn - deck.getDrawn());
+		int offset = cellsOffset;
+		for (Player player : game.getPlayers()) {
+			Grid grid = game.getGridForPlayer(player);
+			if (grid.getSize() != gridSize) {
+				throw new IllegalStateException("Saved grids have size " + gridSize + " instead of " + grid.getSize());
+			}
+			Board board = Board.empty(gridSize);
+			for (int x = 0; x < gridSize; x++) {
+				for (int y = 0; y < gridSize; y++) {
+					board = board.withCell(x, y, data.getShort(offset));
+					offset += 2;
+				}
+			}
+			game.restoreGrid(player, board);
+		}
+		return game;
+	}
+}
@@ -0,0 +1,45 @@
+package core.game.save;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.grid.Tile;
+import core.game.mechanics.Wildlife;
+
+/**
+ * Position of a game within its turns, saved with the game by {@link GameSave}.
+ *
+ * @param turn          Current turn
+ * @param playerIndex   Index of the player who has to play
+ * @param redrawFor3    true if the market is drawn again when 3 of its tokens are identical
+ * @param market        Tiles proposed to the current player, null for a taken tile
+ * @param selectedSlot  Market slot of the tile the current player has already placed, -1 if none
+ * @param pendingToken  Wildlife token the current player still has to place, null if none
+ */
+public record TurnState(int turn, int playerIndex, boolean redrawFor3, List<Tile> market, int selectedSlot,
+		Wildlife pendingToken) {
+
+	public TurnState {
+		if (turn < 0 || playerIndex < 0) {
+			throw new IllegalArgumentException("Turn and player index must be positive");
+		}
+		Objects.requireNonNull(market);
+		if (selectedSlot < -1 || selectedSlot >= market.size()) {
+			throw new IllegalArgumentException("No such market slot: " + selectedSlot);
+		}
+		market = Collections.unmodifiableList(new ArrayList<>(market)); // Tuiles prises à null, interdites par List.copyOf
+	}
+
+	/**
+	 * State at the beginning of a turn
+	 * @param turn        Current turn
+	 * @param playerIndex Index of the player who has to play
+	 * @param redrawFor3  true if the market is drawn again when 3 of its tokens are identical
+	 * @param market      Tiles proposed to the current player
+	 */
+	public TurnState(int turn, int playerIndex, boolean redrawFor3, List<Tile> market) {
+		this(turn, playerIndex, redrawFor3, market, -1, null);
+	}
+}
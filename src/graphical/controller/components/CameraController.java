@@ -0,0 +1,113 @@
+package graphical.controller.components;
+
+import java.util.Objects;
+
+import com.github.forax.zen.KeyboardEvent;
+import com.github.forax.zen.PointerEvent;
+
+import graphical.view.components.Camera;
+
+/**
+ * Manages pan and zoom of the board camera.
+ * - Arrow keys pan the board, Z and X zoom in and out, space resets the view
+ * - Dragging the pointer pans the board
+ */
+public class CameraController {
+	private static final int PAN_STEP = 100;
+	private static final double ZOOM_STEP = 1.25;
+	private static final int DRAG_THRESHOLD = 8;
+
+	private final Camera camera;
+	private boolean pointerDown = false;
+	private boolean dragging = false;
+	private int pressX;
+	private int pressY;
+	private int lastX;
+	private int lastY;
+
+	/**
+	 * Constructor for CameraController
+	 * @param camera Camera of the board
+	 */
+	public CameraController(Camera camera) {
+		this.camera = Objects.requireNonNull(camera);
+	}
+
+	/**
+	 * Handles a pointer event.
+	 * @param event Pointer event
+	 * @return true if the event is a click to be handled by the game, false if it was used to pan
+	 */
+	public boolean handlePointer(PointerEvent event) {
+		Objects.requireNonNull(event);
+		int x = event.location().x();
+		int y = event.location().y();
+		switch (event.action()) {
+		case POINTER_DOWN -> {
+			pointerDown = true;
+			dragging = false;
+			pressX = lastX = x;
+			pressY = lastY = y;
+		}
+		case POINTER_MOVE -> {
+			if (pointerDown) {
+				if (!dragging && Math.abs(x - pressX) + Math.abs(y - pressY) > DRAG_THRESHOLD) {
+					dragging = true;
+				}
+				if (dragging) {
+					camera.pan(x - lastX, y - lastY);
+				}
+				lastX = x;
+				lastY = y;
+			}
+		}
+		case POINTER_UP -> {
+			boolean click = !dragging;
+			pointerDown = false;
+			dragging = false;
+			return click;
+		}
+		}
+		return false;
+	}
+
+	/**
+	 * Handles a keyboard event.
+	 * @param event Keyboard event
+	 */
+	public void handleKeyboard(KeyboardEvent event) {
+		Objects.requireNonNull(event);
+		if (event.action() != KeyboardEvent.Action.KEY_PRESSED) {
+			return;
+		}
+		switch (event.key()) {
+		case LEFT -> camera.pan(PAN_STEP, 0);
+		case RIGHT -> camera.pan(-PAN_STEP, 0);
+		case UP -> camera.pan(0, PAN_STEP);
+		case DOWN -> camera.pan(0, -PAN_STEP);
+		case Z -> camera.zoom(ZOOM_STEP);
+		case X -> camera.zoom(1 / ZOOM_STEP);
+		case SPACE -> camera.reset();
+		default -> {
+		} // Ignore other keys
+		}
+	}
+
+	/**
+	 * Converts a click on screen to X coordinate on board
+	 * @param screenX X coordinate of mouse click
+	 * @return X coordinate on board
+	 */
+	public int toBoardX(int screenX) {
+		return (int) Math.floor(camera.toWorldX(screenX));
+	}
+
+	/**
+	 * Converts a click on screen to Y coordinate on board
+	 * @param screenY Y coordinate of mouse click
+	 * @return Y coordinate on board
+	 */
+	public int toBoardY(int screenY) {
+		return (int) Math.floor(camera.toWorldY(screenY));
+	}
+}
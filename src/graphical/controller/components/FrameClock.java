@@ -0,0 +1,60 @@
+package graphical.controller.components;
+
+/**
+ * Paces the rendering of a scene independently from event handling.
+ * - A frame is due once every frame interval
+ * - An input is therefore displayed at most one frame interval plus the time to render a frame after it is applied
+ */
+public class FrameClock {
+	private final long frameIntervalNanos;
+	private long nextFrameTime;
+
+	/**
+	 * Constructor for FrameClock
+	 * @param framesPerSecond Target number of frames per second
+	 */
+	public FrameClock(int framesPerSecond) {
+		if (framesPerSecond <= 0) {
+			throw new IllegalArgumentException("Frame rate must be positive");
+		}
+		this.frameIntervalNanos = 1_000_000_000L / framesPerSecond;
+		this.nextFrameTime = System.nanoTime();
+	}
+
+	/**
+	 * Returns whether a frame should be rendered now
+	 * @param now Current time, from System.nanoTime()
+	 * @return true if a frame is due
+	 */
+	public boolean isFrameDue(long now) {
+		return now - nextFrameTime >= 0;
+	}
+
+	/**
+	 * Time to wait for events before the next frame is due
+	 * @param now Current time, from System.nanoTime()
+	 * @return Waiting time in milliseconds, 0 if a frame is already due
+	 */
+	public long millisUntilNextFrame(long now) {
+		return Math.max(0, (nextFrameTime - now) / 1_000_000);
+	}
+
+	/**
+	 * Records that a frame has been displayed and schedules the next one.
+	 * @param now Current time, from System.nanoTime()
+	 */
+	public void frameRendered(long now) {
+		nextFrameTime += frameIntervalNanos;
+		if (now - nextFrameTime >= 0) {
+			nextFrameTime = now + frameIntervalNanos; // Retard : on ne rattrape pas les images manquées
+		}
+	}
+
+	/**
+	 * Getter of the interval between two frames
+	 * @return Interval in nanoseconds
+	 */
+	public long getFrameInterval() {
+		return frameIntervalNanos;
+	}
+}
@@ -54,6 +54,19 @@ public class GraphicalTileController implements ErrorHandler {
 		tileToPlace = null;
 	}
 
+	/**
+	 * Restores a turn of a saved game where the tile is placed and its wildlife token is not
+	 * @param placedTile Market tile already placed on grid
+	 * @param wildlife   Wildlife token to be placed
+	 */
+	public void resumeTokenPlacement(GraphicalTile placedTile, Wildlife wildlife) {
+		resetTurnState();
+		selectedTile = Objects.requireNonNull(placedTile);
+		selectedWildlife = Objects.requireNonNull(wildlife);
+		waitingForTileSelection = false;
+		tilePlaced = true;
+	}
+
 	/**
 	 * Sets variable to true if tile is placed on grid
 	 * @param placed boolean variable describing state of tile placement
@@ -0,0 +1,230 @@
+package graphical.controller.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import core.game.eval.BoardScorer;
+import core.game.grid.AllNeighbors;
+import core.game.grid.Board;
+import core.game.grid.HexNeighborsOdd;
+import core.game.grid.HexNeighborsPair;
+import core.game.mechanics.Habitat;
+import core.game.mechanics.Wildlife;
+import graphical.model.GameMode;
+import graphical.model.PlacementHeatmap;
+import graphical.model.PlacementHeatmap.Position;
+
+/**
+ * Computes the placement hints of the game screen in the background.
+ * - Each tile of the market is evaluated by its own task: every cell where it can be placed, with its token on
+ * every target accepting it, scored by {@link BoardScorer}. Unplayable tiles get no hint.
+ * - Heatmaps are cached by position, so that a position seen again (undo, hints shown again) is not evaluated twice
+ * - A new position cancels the evaluation of the previous one: its tasks stop at their next cell
+ * - The finished heatmap is published for the render thread, which never waits for it
+ * - A failed evaluation is reported as an error, see {@link #hasError()}
+ */
+public class PlacementAdvisor implements ErrorHandler, AutoCloseable {
+	private static final int CACHE_SIZE = 16;
+	private static final int TOKEN = 7 << 3;
+	private static final int[][] SQUARE_NEIGHBORS = new AllNeighbors().getNeighbors();
+	private static final int[][] ODD_COLUMN_NEIGHBORS = new HexNeighborsOdd().getNeighbors();
+	private static final int[][] EVEN_COLUMN_NEIGHBORS = new HexNeighborsPair().getNeighbors();
+
+	private final int variant;
+	private final GameMode mode;
+	private final Runnable failureListener;
+	private final ExecutorService executor;
+	private final Map<Position, PlacementHeatmap> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Position, PlacementHeatmap> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+	private final AtomicReference<PlacementHeatmap> heatmap = new AtomicReference<>();
+	private final AtomicBoolean failed = new AtomicBoolean();
+	private volatile Position requested;
+
+	/**
+	 * Constructor for PlacementAdvisor
+	 * @param variant Game variant (1 to 3)
+	 * @param mode    Game mode of the grids, which decides of the neighbors of a cell
+	 * @param threads Number of threads evaluating the tiles of the market
+	 * @param failureListener Called on a thread of the advisor when an evaluation fails
+	 */
+	public PlacementAdvisor(int variant, GameMode mode, int threads, Runnable failureListener) {
+		if (variant < 1 || variant > 3 || threads <= 0) {
+			throw new IllegalArgumentException("Invalid variant or number of threads");
+		}
+		this.variant = variant;
+		this.mode = Objects.requireNonNull(mode);
+		this.failureListener = Objects.requireNonNull(failureListener);
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "placement-hints");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Asks for the hints of a position, evaluated in the background unless already cached.
+	 * Returns at once; the evaluation of any other position is cancelled.
+	 * @param position Position to evaluate, or null to only cancel the current evaluation
+	 */
+	public void request(Position position) {
+		if (Objects.equals(position, requested)) {
+			return;
+		}
+		requested = position; // Les tâches d'une autre position s'arrêtent à la case suivante
+		if (position == null || executor.isShutdown()) {
+			return;
+		}
+		PlacementHeatmap cached;
+		synchronized (cache) {
+			cached = cache.get(position);
+		}
+		if (cached != null) {
+			heatmap.set(cached);
+			return;
+		}
+		List<CompletableFuture<int[]>> slots = new ArrayList<>(Position.MARKET_SIZE);
+		for (int slot = 0; slot < Position.MARKET_SIZE; slot++) {
+			int evaluated = slot;
+			slots.add(CompletableFuture.supplyAsync(() -> evaluate(position, evaluated), executor));
+		}
+		CompletableFuture.allOf(slots.toArray(CompletableFuture[]::new)).whenComplete((done, error) -> {
+			if (error != null) {
+				failed.set(true);
+				failureListener.run();
+				return;
+			}
+			int[][] gains = new int[slots.size()][];
+			for (int slot = 0; slot < gains.length; slot++) {
+				gains[slot] = slots.get(slot).join();
+				if (gains[slot] == null) {
+					return; // Position abandonnée en cours d'évaluation
+				}
+			}
+			PlacementHeatmap result = PlacementHeatmap.of(position, gains);
+			synchronized (cache) {
+				cache.put(position, result);
+			}
+			if (requested == position) {
+				heatmap.set(result);
+			}
+		});
+	}
+
+	/**
+	 * Latest heatmap evaluated, possibly of an older position
+	 * @return Heatmap, or null if none is evaluated yet
+	 */
+	public PlacementHeatmap getHeatmap() {
+		return heatmap.get();
+	}
+
+	/**
+	 * Tells whether an evaluation failed since the last call
+	 * @return true if the hints of a position could not be evaluated
+	 */
+	@Override
+	public boolean hasError() {
+		return failed.getAndSet(false);
+	}
+
+	/**
+	 * Gains of the tile of a market slot on every cell. Runs on a thread of the advisor.
+	 * @param position Position evaluated
+	 * @param slot     Market slot
+	 * @return Gains indexed by x * size + y, or null if the position is no longer requested
+	 */
+	private int[] evaluate(Position position, int slot) {
+		Board board = position.board();
+		int size = board.getSize();
+		int[] gains = new int[size * size];
+		Arrays.fill(gains, PlacementHeatmap.NO_PLACEMENT);
+		short tile = position.tile(slot);
+		Wildlife token = Board.token(tile);
+		if (token == null || !acceptedOnGrid(board, token)) {
+			return gains; // Tuile injouable, comme pour Tile.isTilePlayable
+		}
+		short placed = (short) (tile & ~TOKEN); // Le jeton proposé quitte la tuile posée
+		BoardScorer scorer = new BoardScorer(variant, size, mode);
+		short[] cells = new short[size * size];
+		int[] corridors = new int[Habitat.values().length];
+		int before = scorer.score(pack(board, cells), corridors);
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				if (requested != position) {
+					return null;
+				}
+				if (board.getCell(x, y) != 0 || !touchesTile(board, x, y)) {
+					continue;
+				}
+				Board withTile = board.withCell(x, y, placed);
+				for (int tx = 0; tx < size; tx++) {
+					for (int ty = 0; ty < size; ty++) {
+						if (Board.accepts(withTile.getCell(tx, ty), token)) {
+							int gain = scorer.score(pack(withTile.withWildlife(tx, ty, token), cells), corridors) - before;
+							gains[x * size + y] = Math.max(gains[x * size + y], gain);
+						}
+					}
+				}
+			}
+		}
+		return gains;
+	}
+
+	private static short[] pack(Board board, short[] cells) {
+		int size = board.getSize();
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				cells[x * size + y] = board.getCell(x, y);
+			}
+		}
+		return cells;
+	}
+
+	private static boolean acceptedOnGrid(Board board, Wildlife token) {
+		for (int x = 0; x < board.getSize(); x++) {
+			for (int y = 0; y < board.getSize(); y++) {
+				if (Board.accepts(board.getCell(x, y), token)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// Une case voisine porte une tuile, comme Grid.nonEmptyNeighbor
+	private boolean touchesTile(Board board, int x, int y) {
+		int size = board.getSize();
+		int[][] neighbors = mode != GameMode.GRAPHICAL_HEXAGON_TILES ? SQUARE_NEIGHBORS
+				: x % 2 != 0 ? ODD_COLUMN_NEIGHBORS : EVEN_COLUMN_NEIGHBORS; // Comme Grid.addTile
+		for (int[] neighbor : neighbors) {
+			int nx = x + neighbor[0];
+			int ny = y + neighbor[1];
+			if (nx >= 0 && ny >= 0 && nx < size && ny < size && board.getCell(nx, ny) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Stops the evaluations and the threads of the advisor
+	 */
+	@Override
+	public void close() {
+		requested = null;
+		executor.shutdownNow();
+	}
+}
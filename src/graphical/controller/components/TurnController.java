@@ -1,6 +1,8 @@
 package graphical.controller.components;
 
+import core.game.jfr.TurnEvent;
 import core.game.player.Player;
+import graphical.model.GameStateManager;
 import java.util.List;
 
 /**
@@ -10,17 +12,21 @@ import java.util.List;
 public class TurnController {
 	private final List<Player> players;
 	private final int maxTurns;
+	private final GameStateManager gameStateManager;
 	private int currentPlayerIndex;
 	private int currentTurn;
+	private TurnEvent turnEvent;
 
 	/**
 	 * Constructor for TurnController
 	 * @param players
 	 * @param maxTurns
+	 * @param gameStateManager Game state manager, giving the variant and the grids recorded with each turn
 	 */
-	public TurnController(List<Player> players, int maxTurns) {
+	public TurnController(List<Player> players, int maxTurns, GameStateManager gameStateManager) {
 		this.players = players;
 		this.maxTurns = maxTurns;
+		this.gameStateManager = gameStateManager;
 		this.currentPlayerIndex = 0;
 		this.currentTurn = 1;
 	}
@@ -33,14 +39,39 @@ public class TurnController {
 		return players.get(currentPlayerIndex);
 	}
 	
+	/**
+	 * Starts timing the turn of the current player, recorded by Flight Recorder when it ends
+	 */
+	public void beginTurn() {
+		turnEvent = new TurnEvent();
+		turnEvent.begin();
+	}
+
+	/**
+	 * Ends the turn of the current player
+	 */
+	public void endTurn() {
+		if (turnEvent != null && turnEvent.shouldCommit()) {
+			Player player = getCurrentPlayer();
+			turnEvent.player = player.getName();
+			turnEvent.turn = currentTurn;
+			turnEvent.variant = gameStateManager.getGame().getVariant();
+			turnEvent.gridSize = gameStateManager.getGame().getGridForPlayer(player).getSize();
+			turnEvent.commit();
+		}
+		turnEvent = null;
+	}
+
 	/**
 	 * Switches turns 
 	 */
 	public void nextTurn() {
+		endTurn();
 		currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
 		if (currentPlayerIndex == 0) {
 			currentTurn++;
 		}
+		beginTurn();
 	}
 
 	/**
@@ -51,6 +82,27 @@ public class TurnController {
 		return currentTurn >= maxTurns && currentPlayerIndex == players.size() - 1;
 	}
 
+	/**
+	 * Moves to a turn of a saved game
+	 * @param turn        Turn number
+	 * @param playerIndex Index of the player who has to play
+	 */
+	public void restore(int turn, int playerIndex) {
+		if (turn < 1 || turn > maxTurns || playerIndex < 0 || playerIndex >= players.size()) {
+			throw new IllegalArgumentException("No such turn: " + turn + ", player " + playerIndex);
+		}
+		currentTurn = turn;
+		currentPlayerIndex = playerIndex;
+	}
+
+	/**
+	 * Getter of the index of current player
+	 * @return Index of current player in the list of players
+	 */
+	public int getCurrentPlayerIndex() {
+		return currentPlayerIndex;
+	}
+
 	/**
 	 * Getter of current turn number
 	 * @return Current number of turns
@@ -23,6 +23,7 @@ public class EndEventManager {
 	private final GameStateManager stateManager;
 	private BufferedImage panel;
 	private BufferedImage backButton;
+	private RenderGameEnd endRenderer;
 
 	/**
 	 * Constructor for EndEventManager
@@ -47,9 +48,10 @@ public class EndEventManager {
 	}
 
 	public void renderGameEnd() {
-		RenderGameEnd endRenderer = new RenderGameEnd(stateManager, panel, backButton, stateManager.getScreenWidth(),
-				stateManager.getScreenHeight());
-		stateManager.getGame().calculateAllPlayersScores(stateManager.getPlayers(), stateManager.getAllGrids(), stateManager.getCurrentGameMode());
+		if (endRenderer == null) {
+			endRenderer = new RenderGameEnd(stateManager, panel, backButton, stateManager.getScreenWidth(),
+					stateManager.getScreenHeight());
+		}
 		context.renderFrame(graphics -> {
 			endRenderer.render(graphics);
 			endRenderer.renderScores(graphics, stateManager.getPlayers());
@@ -91,6 +93,7 @@ public class EndEventManager {
 		int backButtonY = stateManager.getScreenHeight() / 2 + 340;
 
 		if (isButtonClicked(clickX, clickY, buttonX, backButtonY, buttonWidth, buttonHeight)) {
+			stateManager.saveGame();
 			context.dispose();
 			Main.main(new String[] {});
 		}
@@ -2,24 +2,50 @@ package graphical.controller.events;
 
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import com.github.forax.zen.ApplicationContext;
+import com.github.forax.zen.Event;
 import com.github.forax.zen.KeyboardEvent;
 import com.github.forax.zen.PointerEvent;
 
+import core.game.Game;
+import core.game.event.GameEventBus;
+import core.game.event.MarketRefreshed;
+import core.game.event.TurnEnded;
+import core.game.grid.Board;
 import core.game.grid.Tile;
+import core.game.mechanics.Wildlife;
 import core.game.player.Player;
+import core.game.save.GameSave;
+import core.game.save.TurnState;
+import graphical.controller.components.CameraController;
 import graphical.controller.components.ErrorHandler;
+import graphical.controller.components.FrameClock;
 import graphical.controller.components.GraphicalGridController;
 import graphical.controller.components.GraphicalTileController;
+import graphical.controller.components.PlacementAdvisor;
 import graphical.controller.components.TurnController;
+import graphical.model.GameMode;
 import graphical.model.GameScene;
+import graphical.model.FrameRecorder;
+import graphical.model.GameSnapshot;
 import graphical.model.GameStateManager;
+import graphical.model.PlacementHeatmap;
+import graphical.view.jfr.FrameRenderEvent;
 import graphical.view.resources.*;
 import graphical.view.renderers.*;
 import graphical.view.components.*;
@@ -29,12 +55,23 @@ import graphical.view.components.*;
  * - Checks interactions between player and game screen
  * - Updates screen rendering based on events
  * - Updates state of game based on events of user
+ *
+ * The state of the game is only modified on a dedicated game logic thread. After each change,
+ * the logic thread publishes an immutable snapshot that the render thread draws, so that
+ * rendering never waits for the game and the game is never slowed down by rendering.
+ *
+ * The game in progress is saved when the game is left (Escape) or on request (S), and resumed
+ * the next time the game screen is opened, see {@link GameSave}.
+ * The tile placed during the current turn can be taken back (U) and placed again (R), using the
+ * history of the grid kept by {@link Game}.
+ *
+ * Placement hints (I) color the available cells by the points the selected tile, or the best tile of the market,
+ * would bring there. They are evaluated in the background by a {@link PlacementAdvisor} and drawn once ready.
  */
 public class GameEventManager {
 	private final ApplicationContext context;
 	private final List<GraphicalTile> tiles;
 	private final List<GraphicalCard> cards;
-	private final Map<Player, List<GraphicalTile>> playerGridTiles;
 	private final Map<Player, GraphicalGrid> playerGrids;
 	private final TileImageManager tileImageManager;
 	private final ScoringCardsImageManager cardsImageManager;
@@ -44,18 +81,39 @@ public class GameEventManager {
 	private final Map<Player, GraphicalGridController> gridControllers;
 	private final Dialogs dialogs;
 	private final TurnController turnController;
+	private final Camera camera;
+	private final CameraController cameraController;
+	private final FrameClock frameClock;
+	private final ExecutorService logicThread;
+	private final AtomicReference<GameSnapshot> snapshot = new AtomicReference<>();
+	private final Consumer<Graphics2D> frameRenderer = this::renderFrame; // Créé une fois, pas à chaque image
+	private final FrameRecorder frameRecorder;
+	private final RenderFrameStats frameStats;
 	
     private static final int SCORING_CARDS_SIZE_X = 180;
     private static final int SCORING_CARDS_SIZE_Y = 140;
-	private static final int NUMBER_OF_TURNS = 20;
+	private static final int FRAMES_PER_SECOND = 60;
+	private static final long SAVE_TIMEOUT_SECONDS = 10; // Fin du traitement en cours avant de quitter
 
 	private BufferedImage table;
 	private RenderGame gameRenderer;
+	private PlacementAdvisor placementAdvisor;
+	private volatile boolean hintsVisible = false; // Lu aussi par le thread de logique du jeu
 	private boolean initialized = false;
-	private boolean redrawFor3 = false;
 	private boolean dialogAnswered = false;
-	private boolean isShowingError = false;
-	private long errorStartTime = 0;
+	private boolean savedOnExit = false; // Partie écrite une fois le thread de logique arrêté
+	private long lastSubmittedInput = 0;
+	private long displayedInput = 0;
+	private long drawingTime = 0;
+
+	// Etat du thread de logique du jeu
+	private boolean redrawFor3 = false;
+	private volatile boolean gameOver = false; // Lu aussi par le thread de rendu
+	private GraphicalTile undoneTile;
+	private Wildlife undoneWildlife;
+	private String errorMessage;
+	private long errorTime = 0;
+	private long appliedInput = 0;
 
 	/**
 	 * Constructor for GameEventManager
@@ -67,26 +125,37 @@ public class GameEventManager {
 		this.gameStateManager = gameStateManager;
 		this.tiles = new ArrayList<>();
 		this.cards = new ArrayList<>();
-		this.playerGridTiles = new HashMap<>();
 		this.playerGrids = new HashMap<>();
 		this.tileControllers = new HashMap<>();
 		this.gridControllers = new HashMap<>();
 		this.tileImageManager = new TileImageManager(gameStateManager);
 		this.cardsImageManager = new ScoringCardsImageManager();
 		this.dialogs = new Dialogs(context);
-		this.turnController = new TurnController(gameStateManager.getPlayers(), NUMBER_OF_TURNS );
+		this.turnController = new TurnController(gameStateManager.getPlayers(), Game.NUMBER_OF_TURNS,
+				gameStateManager);
+		this.camera = new Camera(gameStateManager.getScreenWidth(), gameStateManager.getScreenHeight());
+		this.cameraController = new CameraController(camera);
+		this.frameClock = new FrameClock(FRAMES_PER_SECOND);
+		this.frameRecorder = gameStateManager.getFrameRecorder();
+		this.frameStats = new RenderFrameStats(frameRecorder);
+		this.logicThread = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "game-logic");
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
-	private void initializePlayersAndGrids() {
-		gameStateManager.initializePlayers();
+	private void initializePlayersAndGrids(GameSave save) {
+		if (save != null) {
+			gameStateManager.resumeGame(save);
+		} else {
+			gameStateManager.initializePlayers();
+		}
 		for (Player player : gameStateManager.getPlayers()) {
 			GraphicalGrid playerGrid = new GraphicalGrid(gameStateManager.getGame().getGridForPlayer(player),
 					tileImageManager, gameStateManager);
 			playerGrids.put(player, playerGrid);
 
-			List<GraphicalTile> gridTiles = playerGrid.createGrid();
-			playerGridTiles.put(player, gridTiles);
-
 			GraphicalTileController tileController = new GraphicalTileController(
 					gameStateManager.getGame().getGridForPlayer(player), gameStateManager);
 			tileControllers.put(player, tileController);
@@ -105,7 +174,12 @@ public class GameEventManager {
 	}
 
 	private void initializeGame() {
-	    initializePlayersAndGrids();
+	    GameSave save = gameStateManager.loadSave();
+	    initializePlayersAndGrids(save);
+	    placementAdvisor = new PlacementAdvisor(gameStateManager.getGame().getVariant(),
+	    		gameStateManager.getCurrentGameMode(),
+	    		Math.min(PlacementHeatmap.Position.MARKET_SIZE, Runtime.getRuntime().availableProcessors()),
+	    		() -> submitLogic(this::publishSnapshot)); // Affiche l'échec de l'évaluation
 	    initializeResources();
 	    tileImageManager.loadTileImages();
 	    cardsImageManager.loadScoringCardImages();
@@ -120,16 +194,180 @@ public class GameEventManager {
 	    	}
 	    }
 
-	    updateGameRenderer();
+	    gameRenderer = new RenderGame(table, gameStateManager.getScreenWidth(), gameStateManager.getScreenHeight(),
+	    		cards, camera);
+	    if (save != null) {
+	    	resumeTurn(save.getTurnState());
+	    }
+	    publishSnapshot();
 	    initialized = true;
-	    dialogs.getDialog().show("Voulez-vous repiocher si 3 jetons animaux sont identiques ?");
+	    if (save == null) {
+	    	dialogs.getDialog().show("Voulez-vous repiocher si 3 jetons animaux sont identiques ?");
+	    }
+	}
+
+	/**
+	 * Restores the turn of a saved game, the redraw rule being already chosen.
+	 * Runs before the game logic thread is used.
+	 * @param state Saved turn
+	 */
+	private void resumeTurn(TurnState state) {
+		redrawFor3 = state.redrawFor3();
+		dialogAnswered = true;
+		turnController.restore(state.turn(), state.playerIndex());
+		Player currentPlayer = turnController.getCurrentPlayer();
+		playerGrids.get(currentPlayer).displayTileChoices(state.market(), tiles, tileImageManager);
+		if (state.pendingToken() != null) {
+			tileControllers.get(currentPlayer).resumeTokenPlacement(tiles.get(state.selectedSlot()),
+					state.pendingToken());
+			gridControllers.get(currentPlayer).disableTilePlacement();
+		}
+		turnController.beginTurn();
+		gameStateManager.getGame().markStarted();
+		errorMessage = "Partie reprise au tour " + state.turn() + " de " + currentPlayer.getName() + ".";
+		errorTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Saves the game in progress when the game screen is left, waiting for the save to be written.
+	 * The game logic thread is stopped first, so that the game no longer changes while it is saved.
+	 * - Nothing is saved before the game has started
+	 * - Once the game is over, the save is deleted since there is nothing left to resume
+	 * - Once saved, the game can no longer change: later calls do not write it again
+	 * @return true if the game is saved
+	 */
+	public boolean saveGame() {
+		if (!dialogAnswered) {
+			return false;
+		}
+		if (savedOnExit) {
+			return !gameOver;
+		}
+		Path path = gameStateManager.getSavePath();
+		try {
+			logicThread.shutdown();
+			if (!logicThread.awaitTermination(SAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				return false;
+			}
+			if (gameOver) {
+				Files.deleteIfExists(path);
+				savedOnExit = true;
+				return false;
+			}
+			writeSave(path);
+			savedOnExit = true;
+			return true;
+		} catch (IOException e) {
+			errorMessage = "Impossible de sauvegarder la partie.";
+			errorTime = System.currentTimeMillis();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	/**
+	 * Saves the game in progress on the game logic thread, the outcome being shown in the message area.
+	 * Called on the render thread, which does not wait for the save.
+	 */
+	private void saveInBackground() {
+		if (!dialogAnswered) {
+			return; // Rien à reprendre avant le début de la partie
+		}
+		Path path = gameStateManager.getSavePath();
+		submitLogic(() -> {
+			try {
+				writeSave(path);
+				errorMessage = "Partie sauvegardée.";
+			} catch (IOException e) {
+				errorMessage = "Impossible de sauvegarder la partie.";
+			}
+			errorTime = System.currentTimeMillis();
+			publishSnapshot();
+		});
+	}
+
+	/**
+	 * Writes the game to the save file. Runs on the game logic thread, or once it is stopped.
+	 * A turn whose tile is placed is saved with the token still to be placed.
+	 * @param path Save file
+	 * @throws IOException if the file cannot be written
+	 */
+	private void writeSave(Path path) throws IOException {
+		Player currentPlayer = turnController.getCurrentPlayer();
+		GraphicalTileController tileController = tileControllers.get(currentPlayer);
+		List<Tile> market = new ArrayList<>(tiles.size());
+		for (GraphicalTile tile : tiles) {
+			market.add(tile.getTile());
+		}
+		int selectedSlot = -1;
+		Wildlife pendingToken = null;
+		if (tileController.isTilePlaced() && !tileController.isTokenPlaced()) {
+			selectedSlot = tiles.indexOf(tileController.selectedTileGetter());
+			pendingToken = tileController.selectedWildlifeGetter();
+		}
+		GameSave.write(path, gameStateManager.getGame(), gameStateManager.getCurrentGameMode(),
+				new TurnState(turnController.getCurrentTurn(), turnController.getCurrentPlayerIndex(), redrawFor3,
+						market, selectedSlot, pendingToken));
 	}
 
 
-	private void updateGameRenderer() {
+	/**
+	 * Publishes the current state of the game to the render thread.
+	 * Called on the game logic thread after each change.
+	 */
+	private void publishSnapshot() {
 		Player currentPlayer = turnController.getCurrentPlayer();
-		gameRenderer = new RenderGame(table, gameStateManager.getScreenWidth(), gameStateManager.getScreenHeight(),
-				gameStateManager.getGame().getGridForPlayer(currentPlayer), tileImageManager, tiles, cards, gameStateManager);
+		GraphicalGrid grid = playerGrids.get(currentPlayer);
+		GraphicalTileController tileController = tileControllers.get(currentPlayer);
+		List<GraphicalTile> market = new ArrayList<>(tiles.size());
+		GraphicalTile selectedTile = null;
+		for (GraphicalTile tile : tiles) {
+			GraphicalTile frozen = tile.freeze();
+			market.add(frozen);
+			if (tile == tileController.selectedTileGetter()) {
+				selectedTile = frozen;
+			}
+		}
+		PlacementHeatmap.Position hintPosition = null;
+		if (hintsVisible && !tileController.isTilePlaced()) {
+			List<Tile> marketTiles = new ArrayList<>(tiles.size());
+			for (GraphicalTile tile : tiles) {
+				marketTiles.add(tile.getTile());
+			}
+			hintPosition = PlacementHeatmap.Position.of(Board.of(gameStateManager.getGame().getGridForPlayer(currentPlayer)),
+					marketTiles);
+		}
+		placementAdvisor.request(hintPosition); // Annule l'évaluation de la position précédente
+		reportError("Conseils de placement indisponibles.", placementAdvisor);
+		snapshot.set(new GameSnapshot(turnController.getCurrentTurn(), currentPlayer.getName(), grid.getLayout(),
+				grid.snapshotCells(), grid.snapshotAvailableCells(), market, selectedTile,
+				tileController.selectedWildlifeGetter(), tileController.isWaitingForTokenPlacement(), errorMessage,
+				errorTime, appliedInput, hintPosition));
+	}
+
+	/**
+	 * Shows or hides the placement hints. Runs on the render thread.
+	 */
+	private void toggleHints() {
+		hintsVisible = !hintsVisible;
+		submitLogic(this::publishSnapshot); // Position à évaluer, ou évaluation annulée
+	}
+
+	/**
+	 * Sends a change of the game to the game logic thread, unless the game is over.
+	 * Called on the render thread, or by the placement advisor.
+	 * @param change Change to be applied by the logic thread
+	 */
+	private void submitLogic(Runnable change) {
+		if (gameOver || logicThread.isShutdown()) {
+			return;
+		}
+		try {
+			logicThread.execute(change);
+		} catch (RejectedExecutionException e) {
+			// Partie terminée entre-temps : plus rien à appliquer
+		}
 	}
 
 	private void game() {
@@ -146,122 +384,286 @@ public class GameEventManager {
 		}
 
 		playerGrids.get(currentPlayer).displayTileChoices(currentPickedTiles, tiles, tileImageManager);
+		GameEventBus events = gameStateManager.getGame().getEvents();
+		if (events.hasSubscribers()) {
+			events.publish(new MarketRefreshed(currentPlayer.getName(),
+					gameStateManager.getGame().getGridForPlayer(currentPlayer), currentPickedTiles));
+		}
 	}
 
 	private void handleTurnEnd(GraphicalTileController currentTileController,
 			GraphicalGridController currentGridController) {
+		GameEventBus events = gameStateManager.getGame().getEvents();
+		if (events.hasSubscribers()) {
+			Player currentPlayer = turnController.getCurrentPlayer();
+			events.publish(new TurnEnded(currentPlayer.getName(), gameStateManager.getGame().getGridForPlayer(currentPlayer)));
+		}
 		if (turnController.isGameOver()) {
+			turnController.endTurn();
+			gameOver = true;
+			gameStateManager.getGame().calculateAllPlayersScores(gameStateManager.getPlayers(),
+					gameStateManager.getAllGrids(), gameStateManager.getCurrentGameMode());
 			gameStateManager.setCurrentScene(GameScene.GAME_END);
+			placementAdvisor.close();
+			logicThread.shutdown();
 			return;
 		}
 		currentTileController.resetTurnState();
 		currentGridController.resetGridState();
 
 		turnController.nextTurn();
-		updateGameRenderer();
 		game();
 	}
 
-	private void manageGameEvents() {
-		var event = context.pollOrWaitEvent(10);
-		if (event == null)
+	/**
+	 * Applies a click of the player to the game. Runs on the game logic thread.
+	 * @param clickX X coordinate of mouse click on screen
+	 * @param clickY Y coordinate of mouse click on screen
+	 * @param boardX X coordinate of mouse click on board
+	 * @param boardY Y coordinate of mouse click on board
+	 * @param input  Sequence number of the click, see {@link FrameRecorder#inputReceived(long)}
+	 */
+	private void handleClick(int clickX, int clickY, int boardX, int boardY, long input) {
+		if (gameOver)
 			return;
-
+		appliedInput = input;
 		Player currentPlayer = turnController.getCurrentPlayer();
 		GraphicalTileController currentTileController = tileControllers.get(currentPlayer);
 		GraphicalGridController currentGridController = gridControllers.get(currentPlayer);
-		List<GraphicalTile> currentGridTiles = playerGridTiles.get(currentPlayer);
+
+		currentTileController.detectTileClick(tiles, gameStateManager.getGame().getGridForPlayer(currentPlayer),
+				clickX, clickY);
+
+		currentGridController.detectClickOnGrid(currentTileController.tileToBePlaced(), boardX, boardY);
+
+		currentTileController.detectTokenClick(tiles, clickX, clickY, currentTileController.selectedWildlifeGetter());
+
+		if (currentTileController.isWaitingForTokenPlacement()) {
+			currentGridController.detectClickOnGridWildlife(currentTileController.selectedWildlifeGetter(), boardX,
+					boardY);
+		}
+		reportError("Jeton faune implaçable. Veuillez choisir une autre tuile.", currentTileController);
+		reportError("Placement impossible. Veuillez choisir une autre case", currentGridController);
+		if (currentTileController.isTurnComplete()) {
+			handleTurnEnd(currentTileController, currentGridController);
+			currentTileController.resetTurnState();
+		}
+		if (!gameOver) {
+			publishSnapshot();
+		}
+	}
+
+	/**
+	 * Takes back the tile placed during the current turn, as long as its wildlife token is not placed.
+	 * Runs on the game logic thread.
+	 */
+	private void undoPlacement() {
+		Player currentPlayer = turnController.getCurrentPlayer();
+		GraphicalTileController tileController = tileControllers.get(currentPlayer);
+		if (gameOver || !tileController.isTilePlaced() || tileController.isTokenPlaced()
+				|| !gameStateManager.getGame().undo(currentPlayer)) {
+			return;
+		}
+		undoneTile = tileController.selectedTileGetter();
+		undoneWildlife = tileController.selectedWildlifeGetter();
+		undoneTile.getTile().getWildlife().add(undoneWildlife); // Retiré de la tuile du marché lors de sa pose
+		tileController.resetTurnState();
+		gridControllers.get(currentPlayer).resetGridState();
+		publishSnapshot();
+	}
+
+	/**
+	 * Places again the tile taken back by {@link #undoPlacement()}, if no other tile was chosen since.
+	 * Runs on the game logic thread.
+	 */
+	private void redoPlacement() {
+		Player currentPlayer = turnController.getCurrentPlayer();
+		GraphicalTileController tileController = tileControllers.get(currentPlayer);
+		if (gameOver || undoneTile == null || tileController.isTilePlaced() || !tiles.contains(undoneTile)
+				|| !gameStateManager.getGame().redo(currentPlayer)) {
+			undoneTile = null;
+			return;
+		}
+		undoneTile.getTile().getWildlife().clear();
+		tileController.resumeTokenPlacement(undoneTile, undoneWildlife);
+		gridControllers.get(currentPlayer).disableTilePlacement();
+		undoneTile = null;
+		publishSnapshot();
+	}
+
+	/**
+	 * Draws the first tiles once the player has chosen the redraw rule. Runs on the game logic thread.
+	 * @param redraw true if tiles are redrawn when 3 wildlife tokens are identical
+	 * @param input  Sequence number of the click answering the dialog
+	 */
+	private void startGame(boolean redraw, long input) {
+		redrawFor3 = redraw;
+		appliedInput = input;
+		turnController.beginTurn();
+		gameStateManager.getGame().markStarted();
+		game();
+		publishSnapshot();
+	}
+
+	/**
+	 * Handles an event on the render thread. Camera and dialog events are applied directly,
+	 * clicks on the game are sent to the game logic thread.
+	 * @param event Event polled from context
+	 * @param input Sequence number of a click, see {@link #isTimedInput(Event)}, 0 for other events
+	 */
+	private void manageGameEvents(Event event, long input) {
+		if (dialogs.getDialog().isVisible() && !dialogAnswered) {
+			dialogs.getDialog().handleDialogEvent(event);
+			if (dialogs.getDialog().hasResponse()) {
+				boolean redraw = dialogs.getDialog().getResponse();
+				dialogAnswered = true;
+				lastSubmittedInput = input;
+				submitLogic(() -> startGame(redraw, input));
+			}
+			return;
+		}
 
 		switch (event) {
 		case PointerEvent e -> {
-			if (e.action() == PointerEvent.Action.POINTER_UP) {
-				currentTileController.detectTileClick(tiles, gameStateManager.getGame().getGridForPlayer(currentPlayer),
-						e.location().x(), e.location().y());
-
-				currentGridController.detectClickOnGrid(currentTileController.tileToBePlaced(), currentGridTiles,
-						e.location().x(), e.location().y());
-
-				currentTileController.detectTokenClick(tiles, e.location().x(), e.location().y(),
-						currentTileController.selectedWildlifeGetter());
-
-				if (currentTileController.isWaitingForTokenPlacement()) {
-					currentGridController.detectClickOnGridWildlife(currentTileController.selectedWildlifeGetter(),
-							currentGridTiles, e.location().x(), e.location().y());
-				}
-				if (currentTileController.isTurnComplete()) {
-					handleTurnEnd(currentTileController, currentGridController);
-					currentTileController.resetTurnState();
-				}
+			if (cameraController.handlePointer(e)) {
+				int clickX = e.location().x();
+				int clickY = e.location().y();
+				int boardX = cameraController.toBoardX(clickX);
+				int boardY = cameraController.toBoardY(clickY);
+				lastSubmittedInput = input;
+				submitLogic(() -> handleClick(clickX, clickY, boardX, boardY, input));
 			}
 		}
 		case KeyboardEvent e -> {
+			if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.H) {
+				gameStateManager.toggleHud();
+			} else if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.C) {
+				gameStateManager.dumpFrameRecord();
+			} else if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.S) {
+				saveInBackground();
+			} else if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.U) {
+				submitLogic(this::undoPlacement);
+			} else if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.R) {
+				submitLogic(this::redoPlacement);
+			} else if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.I) {
+				toggleHints();
+			} else if (e.action() == KeyboardEvent.Action.KEY_PRESSED && e.key() == KeyboardEvent.Key.ESCAPE) {
+				gameStateManager.setCurrentScene(GameScene.QUIT_GAME); // Sauvegardée avant de quitter
+			} else {
+				cameraController.handleKeyboard(e);
+			}
 		}
 		default -> throw new IllegalArgumentException();
 		}
 	}
 
+	/**
+	 * Tells whether the latency of an event is recorded: a pointer release, which clicks on the game or answers
+	 * a dialog. Pointer moves and presses are not, most of them changing nothing on screen.
+	 * @param event Event polled from context
+	 * @return true if the event is timed until the first frame reflecting it
+	 */
+	private static boolean isTimedInput(Event event) {
+		return event instanceof PointerEvent e && e.action() == PointerEvent.Action.POINTER_UP;
+	}
+
+	/**
+	 * Drains pending events until the next frame is due.
+	 * Waits for events while no frame is due, so that an input is applied as soon as it arrives.
+	 * @return true if the game scene is still displayed
+	 */
+	private boolean drainEvents() {
+		var event = context.pollOrWaitEvent(Math.max(1, frameClock.millisUntilNextFrame(System.nanoTime())));
+		while (event != null) {
+			long start = System.nanoTime();
+			long input = isTimedInput(event) ? frameRecorder.inputReceived(start) : 0;
+			manageGameEvents(event, input);
+			long now = System.nanoTime();
+			frameRecorder.record(FrameRecorder.Phase.EVENTS, now - start);
+			if (gameStateManager.getCurrentScene() != GameScene.PLAY_GAME) {
+				return false;
+			}
+			event = frameClock.isFrameDue(now) ? context.pollEvent()
+					: context.pollOrWaitEvent(Math.max(1, frameClock.millisUntilNextFrame(now)));
+		}
+		return true;
+	}
+
 	/**
 	 * Renders game events.
+	 * - Every pending event is applied before the frame is rendered
+	 * - Frames are rendered at a fixed cadence, independently of the number of events
 	 */
 	public void renderGame() {
 	    if (!initialized)
 	        initializeGame();
-	    context.renderFrame(graphics -> {
-	        if (dialogs.getDialog().isVisible() && !dialogAnswered) {
-	            dialogs.getDialog().renderPromptDialog(graphics);
-	            if (dialogs.getDialog().hasResponse()) {
-	                redrawFor3 = dialogs.getDialog().getResponse();
-	                dialogAnswered = true;
-	                game();
-	            }
-	        } else {
-	            gameRenderer.render(graphics);
-	            gameRenderer.displayScoringCards(graphics, cards);
-	            manageGameEvents();
-	            Player currentPlayer = turnController.getCurrentPlayer();
-	            GraphicalTileController currentTileController = tileControllers.get(currentPlayer);
-	            gameRenderer.renderTurnInfo(graphics, currentPlayer, turnController.getCurrentTurn());
-	            handleErrorsAndDialogs(graphics, currentTileController, currentPlayer);
-	        }
-	    });
+	    if (!drainEvents() || !frameClock.isFrameDue(System.nanoTime()))
+	        return;
+	    FrameRenderEvent event = new FrameRenderEvent();
+	    event.begin();
+	    long frameStart = System.nanoTime();
+	    context.renderFrame(frameRenderer);
+	    long frameEnd = System.nanoTime();
+	    if (event.shouldCommit()) {
+	        GameSnapshot current = snapshot.get();
+	        event.player = current.playerName();
+	        event.turn = current.turn();
+	        event.gridSize = current.layout().getSize();
+	        event.mode = current.layout().getMode().name();
+	        event.zoom = camera.getZoom();
+	        event.commit();
+	    }
+	    // Le reste du temps de renderFrame est la copie de l'image à l'écran
+	    frameRecorder.record(FrameRecorder.Phase.BLIT, frameEnd - frameStart - drawingTime);
+	    frameRecorder.endFrame(displayedInput, frameEnd);
+	    frameClock.frameRendered(frameEnd);
 	}
 
+	private void renderFrame(Graphics2D graphics) {
+		long start = System.nanoTime();
+		GameSnapshot current = snapshot.get();
+		if (dialogs.getDialog().isVisible() && !dialogAnswered) {
+			dialogs.getDialog().renderPromptDialog(graphics);
+			frameRecorder.record(FrameRecorder.Phase.DIALOGS, System.nanoTime() - start);
+		} else {
+			gameRenderer.render(graphics, current, hintsVisible ? placementAdvisor.getHeatmap() : null);
+			gameRenderer.renderTurnInfo(graphics, current.playerName(), current.turn());
+			long rendered = System.nanoTime();
+			frameRecorder.record(FrameRecorder.Phase.RENDER, rendered - start);
+			renderSelectionAndErrors(graphics, current);
+			frameRecorder.record(FrameRecorder.Phase.DIALOGS, System.nanoTime() - rendered);
+		}
+		if (gameStateManager.isHudVisible()) {
+			frameStats.render(graphics, gameStateManager.getScreenHeight());
+		}
+		// Les clics encore traités par le thread de logique ne sont pas visibles dans cette image
+		displayedInput = current.lastInput() >= lastSubmittedInput ? frameRecorder.getLastInput() : current.lastInput();
+		drawingTime = System.nanoTime() - start;
+	}
 
-	private void handleErrorsAndDialogs(Graphics2D graphics, GraphicalTileController currentTileController,
-			Player currentPlayer) {
-		Objects.requireNonNull(currentTileController);
-		Objects.requireNonNull(currentPlayer);
-		dialogDisplayHandler("Jeton faune implaçable. Veuillez choisir une autre tuile.", currentTileController);
-		dialogs.getErrorDialog().handlePromptDialog(graphics, isShowingError, errorStartTime);
-		isShowingError = dialogs.getErrorDialog().handlePopUpDialog(graphics, isShowingError, errorStartTime);
-
-		if (currentTileController.selectedTileGetter() != null) {
-			currentTileController.selectedTileGetter().renderSelectedTile(graphics,
-					currentTileController.selectedTileGetter());
-			dialogDisplayHandler("Placement impossible. Veuillez choisir une autre case", gridControllers.get(currentPlayer));
-			isShowingError = dialogs.getErrorDialog().handlePopUpDialog(graphics, isShowingError, errorStartTime);
-			currentTileController.selectedTileGetter().renderWildlifeTile(graphics,
-					currentTileController.selectedWildlifeGetter());
-
-			if (currentTileController.isWaitingForTokenPlacement()) {
-				dialogDisplayHandler("Placement impossible. Veuillez choisir une autre case",
-						gridControllers.get(currentPlayer));
-				isShowingError = dialogs.getErrorDialog().handlePopUpDialog(graphics, isShowingError, errorStartTime);
-				currentTileController.selectedTileGetter().renderSelectedToken(graphics,
-						currentTileController.selectedWildlifeGetter());
-			}
+	private void renderSelectionAndErrors(Graphics2D graphics, GameSnapshot current) {
+		if (current.errorMessage() != null
+				&& System.currentTimeMillis() - current.errorTime() <= DialogBox.ERROR_DISPLAY_DURATION) {
+			dialogs.getErrorDialog().changeMessage(current.errorMessage());
+			dialogs.getErrorDialog().renderPopUpDialog(graphics);
 		}
 
-		playerGrids.get(currentPlayer).renderGrid(graphics, playerGridTiles.get(currentPlayer));
+		GraphicalTile selectedTile = current.selectedTile();
+		if (selectedTile != null) {
+			selectedTile.renderSelectedTile(graphics, selectedTile);
+			selectedTile.renderWildlifeTile(graphics, current.selectedWildlife());
+			if (current.waitingForTokenPlacement()) {
+				selectedTile.renderSelectedToken(graphics, current.selectedWildlife());
+			}
+		}
 	}
 
-	private void dialogDisplayHandler(String message, ErrorHandler errorHandle) {
+	private void reportError(String message, ErrorHandler errorHandle) {
 		Objects.requireNonNull(message);
 		Objects.requireNonNull(errorHandle);
-		if (errorHandle.hasError() && !isShowingError) {
-			dialogs.getErrorDialog().show(message);
-			isShowingError = true;
-			errorStartTime = System.currentTimeMillis();
+		if (errorHandle.hasError()) {
+			errorMessage = message;
+			errorTime = System.currentTimeMillis();
 		}
 	}
 
@@ -220,6 +220,7 @@ public class OptionEventManager {
 			IO.println("User selected the command-line game mode");
 			mode = GameMode.TERMINAL;
 			stateManager.setCurrentScene(GameScene.QUIT_GAME); // Quit the graphical game
+			stateManager.saveGame(); // Before the terminal game, the game loop only saves again if it changed
 			context.dispose();
 			Main.main(new String[] {}); // Calls main method of the command-line version
 		} else if (isRadioButtonClicked(clickX, clickY, buttonX, buttonY + 155, buttonDiameter)) {
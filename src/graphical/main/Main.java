@@ -3,10 +3,12 @@ package graphical.main;
 import java.awt.Color;
 import com.github.forax.zen.Application;
 
+import core.game.metrics.GameMetrics;
 import graphical.model.GameStateManager;
 
 public class Main {
 	public static void main(String[] args) {
+		GameMetrics.global().registerMBeans();
 		Application.run(Color.BLACK, context -> {
 			GameStateManager stateManager = new GameStateManager(context);
 			stateManager.run();
@@ -0,0 +1,58 @@
+package graphical.model;
+
+import java.util.function.IntToLongFunction;
+
+import core.game.metrics.LogLinearBuckets;
+
+/**
+ * Histogram of durations with a fixed number of buckets.
+ * Buckets are log-linear: each power of two is split into 32 buckets, so that every
+ * recorded value is known within about 3%, whatever its magnitude (see {@link LogLinearBuckets}).
+ * Neither recording nor reading allocates.
+ */
+public class FrameHistogram {
+	private static final LogLinearBuckets BUCKETS = new LogLinearBuckets(5);
+
+	private final long[] counts = new long[BUCKETS.getCount()];
+	private final IntToLongFunction bucketCounts = bucket -> counts[bucket];
+	private long count;
+	private long max;
+
+	/**
+	 * Records a duration
+	 * @param nanos Duration in nanoseconds, negative values are ignored
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			return;
+		}
+		counts[BUCKETS.bucketOf(nanos)]++;
+		count++;
+		max = Math.max(max, nanos);
+	}
+
+	/**
+	 * Returns the duration under which a given proportion of recorded durations fall
+	 * @param percentile Proportion between 0 and 100
+	 * @return Duration in nanoseconds, 0 if nothing was recorded
+	 */
+	public long percentile(double percentile) {
+		return BUCKETS.percentile(percentile, count, max, bucketCounts);
+	}
+
+	/**
+	 * Getter of the number of recorded durations
+	 * @return Number of durations
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Getter of the longest recorded duration
+	 * @return Duration in nanoseconds
+	 */
+	public long getMax() {
+		return max;
+	}
+}
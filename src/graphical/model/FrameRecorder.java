@@ -0,0 +1,190 @@
+package graphical.model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Records where the time of each frame of the game screen goes.
+ * - Duration of each phase of a frame, in a histogram per phase
+ * - Latency between the receipt of a click and the first frame reflecting it
+ * - Last frames of the session, which can be copied and written to a CSV file
+ *
+ * Recording never allocates, so that it does not disturb what it measures.
+ */
+public class FrameRecorder {
+	/**
+	 * Phases of a frame of the game screen
+	 */
+	public enum Phase {
+		EVENTS, RENDER, DIALOGS, BLIT
+	}
+
+	private static final int SESSION_CAPACITY = 1 << 16; // Environ 18 minutes à 60 images par seconde
+	private static final int PHASES = Phase.values().length;
+
+	/**
+	 * Copy of the last frames of a session, independent of the recorder that goes on recording
+	 * @param firstFrame Number of the first copied frame
+	 * @param columns    Durations of each phase then input latencies, -1 for frames reflecting no new input
+	 */
+	public record Session(long firstFrame, long[][] columns) {
+		/**
+		 * Writes the frames to a CSV file, one line per frame.
+		 * Durations are in nanoseconds, the latency column is empty for frames reflecting no new input.
+		 * @param path File to be written
+		 * @throws IOException if the file cannot be written
+		 */
+		public void writeCsv(Path path) throws IOException {
+			Objects.requireNonNull(path);
+			try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+				writer.write("frame");
+				for (Phase phase : Phase.values()) {
+					writer.write(',' + phase.name().toLowerCase() + "_ns");
+				}
+				writer.write(",input_latency_ns");
+				writer.newLine();
+				for (int frame = 0; frame < columns[PHASES].length; frame++) {
+					writer.write(Long.toString(firstFrame + frame));
+					for (int i = 0; i < PHASES; i++) {
+						writer.write(',');
+						writer.write(Long.toString(columns[i][frame]));
+					}
+					writer.write(',');
+					if (columns[PHASES][frame] >= 0) {
+						writer.write(Long.toString(columns[PHASES][frame]));
+					}
+					writer.newLine();
+				}
+			}
+		}
+	}
+
+	private final FrameHistogram[] phaseHistograms = new FrameHistogram[PHASES];
+	private final FrameHistogram inputLatencyHistogram = new FrameHistogram();
+	private final long[][] session = new long[PHASES + 1][SESSION_CAPACITY];
+	private final long[] currentFrame = new long[PHASES];
+	private long currentInputLatency = -1;
+	private long frameCount;
+
+	private long inputSequence;
+	private long pendingInput = -1;
+	private long pendingInputTime;
+
+	/**
+	 * Constructor for FrameRecorder
+	 */
+	public FrameRecorder() {
+		for (int i = 0; i < PHASES; i++) {
+			phaseHistograms[i] = new FrameHistogram();
+		}
+	}
+
+	/**
+	 * Adds time spent in a phase of the current frame
+	 * @param phase Phase of the frame
+	 * @param nanos Duration in nanoseconds
+	 */
+	public void record(Phase phase, long nanos) {
+		currentFrame[phase.ordinal()] += nanos;
+	}
+
+	/**
+	 * Records the receipt of an input the game acts on, such as a click; pointer moves are not timed, most of them
+	 * changing nothing on screen.
+	 * Only the oldest input not displayed yet is timed, as it is the one waiting the longest.
+	 * @param now Current time, from System.nanoTime()
+	 * @return Sequence number of the input
+	 */
+	public long inputReceived(long now) {
+		inputSequence++;
+		if (pendingInput < 0) {
+			pendingInput = inputSequence;
+			pendingInputTime = now;
+		}
+		return inputSequence;
+	}
+
+	/**
+	 * Getter of the sequence number of the last received input
+	 * @return Sequence number, 0 if no input has been received
+	 */
+	public long getLastInput() {
+		return inputSequence;
+	}
+
+	/**
+	 * Ends the current frame.
+	 * @param reflectedInput Sequence number of the last input whose effect is visible in the frame
+	 * @param now            Current time, from System.nanoTime()
+	 */
+	public void endFrame(long reflectedInput, long now) {
+		if (pendingInput >= 0 && reflectedInput >= pendingInput) {
+			currentInputLatency = now - pendingInputTime;
+			inputLatencyHistogram.record(currentInputLatency);
+			pendingInput = -1;
+		}
+		int slot = (int) (frameCount % SESSION_CAPACITY);
+		for (int i = 0; i < PHASES; i++) {
+			phaseHistograms[i].record(currentFrame[i]);
+			session[i][slot] = currentFrame[i];
+			currentFrame[i] = 0;
+		}
+		session[PHASES][slot] = currentInputLatency;
+		currentInputLatency = -1;
+		frameCount++;
+	}
+
+	/**
+	 * Getter of the histogram of a phase
+	 * @param phase Phase of the frame
+	 * @return Histogram of durations
+	 */
+	public FrameHistogram getHistogram(Phase phase) {
+		return phaseHistograms[phase.ordinal()];
+	}
+
+	/**
+	 * Getter of the histogram of input-to-frame latencies
+	 * @return Histogram of latencies
+	 */
+	public FrameHistogram getInputLatencyHistogram() {
+		return inputLatencyHistogram;
+	}
+
+	/**
+	 * Getter of the number of recorded frames
+	 * @return Number of frames
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Copies the last frames of the session, to be written without holding up the thread recording frames
+	 * @return Copy of at most the last {@value #SESSION_CAPACITY} frames
+	 */
+	public Session copySession() {
+		long first = Math.max(0, frameCount - SESSION_CAPACITY);
+		int frames = (int) (frameCount - first);
+		int start = (int) (first % SESSION_CAPACITY);
+		int wrapped = Math.max(0, start + frames - SESSION_CAPACITY); // Images revenues au début de l'anneau
+		long[][] columns = new long[PHASES + 1][frames];
+		for (int i = 0; i <= PHASES; i++) {
+			System.arraycopy(session[i], start, columns[i], 0, frames - wrapped);
+			System.arraycopy(session[i], 0, columns[i], frames - wrapped, wrapped);
+		}
+		return new Session(first, columns);
+	}
+
+	/**
+	 * Writes the last frames of the session to a CSV file, see {@link Session#writeCsv(Path)}
+	 * @param path File to be written
+	 * @throws IOException if the file cannot be written
+	 */
+	public void dumpCsv(Path path) throws IOException {
+		copySession().writeCsv(path);
+	}
+}
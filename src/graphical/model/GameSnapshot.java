@@ -0,0 +1,40 @@
+package graphical.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import core.game.mechanics.Wildlife;
+import graphical.view.components.BoardLayout;
+import graphical.view.components.GraphicalTile;
+
+/**
+ * Immutable state of the game screen, built by the game logic thread and read by the render thread.
+ * Tiles are frozen copies and arrays are never modified once the snapshot is published.
+ *
+ * @param turn                     Current turn number
+ * @param playerName               Name of current player
+ * @param layout                   Layout of the grid of current player
+ * @param cells                    Tiles on the grid, indexed by {@link BoardLayout#index(int, int)}
+ * @param availableCells           Empty cells where a tile can be placed, same indexing
+ * @param market                   Tiles proposed to current player
+ * @param selectedTile             Tile of the market selected by player, or null
+ * @param selectedWildlife         Wildlife token selected by player, or null
+ * @param waitingForTokenPlacement true if the player has to place the selected token
+ * @param errorMessage             Last error message, or null
+ * @param errorTime                Time at which the last error occurred, from System.currentTimeMillis()
+ * @param lastInput                Sequence number of the last input applied by the logic thread
+ * @param hintPosition             Position the placement hints are drawn for, or null if no tile is to be placed
+ */
+public record GameSnapshot(int turn, String playerName, BoardLayout layout, GraphicalTile[] cells,
+		boolean[] availableCells, List<GraphicalTile> market, GraphicalTile selectedTile, Wildlife selectedWildlife,
+		boolean waitingForTokenPlacement, String errorMessage, long errorTime, long lastInput,
+		PlacementHeatmap.Position hintPosition) {
+
+	public GameSnapshot {
+		Objects.requireNonNull(playerName);
+		Objects.requireNonNull(layout);
+		Objects.requireNonNull(cells);
+		Objects.requireNonNull(availableCells);
+		market = List.copyOf(market);
+	}
+}
@@ -1,5 +1,8 @@
 package graphical.model;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +13,7 @@ import com.github.forax.zen.ApplicationContext;
 import core.game.Game;
 import core.game.grid.Grid;
 import core.game.player.Player;
+import core.game.save.GameSave;
 import graphical.controller.events.EndEventManager;
 import graphical.controller.events.GameEventManager;
 import graphical.controller.events.MenuEventManager;
@@ -26,17 +30,20 @@ public class GameStateManager {
 	private final OptionEventManager optionManager;
 	private final GameEventManager gameManager;
 	private final EndEventManager endManager;
-	private final GameUI gameUI;	
+	private GameUI gameUI;
 	private Game game;
 	private final List<Player> players;
 
-	private GameScene currentScene = GameScene.MAIN_MENU;
+	private volatile GameScene currentScene = GameScene.MAIN_MENU; // Modifiée aussi par le thread de logique du jeu
 	private GameMode currentGameMode = GameMode.GRAPHICAL_SQUARE_TILES; // Default game mode is set to graphical square
 																																			// tiles
 	private int selectedVariant = 3; // Default variant is set to family variant
 	private int nbOfPlayers = 2; // Default number of players is set to 2
 	private int width;
 	private int height;
+	private final FrameRecorder frameRecorder = new FrameRecorder();
+	private boolean hudVisible = Boolean.getBoolean("cascadia.hud"); // Activé par -Dcascadia.hud=true
+	private Thread frameDump; // Écriture en cours des mesures des images
 
 	/**
 	 * Constructor for GameStateManager.
@@ -48,14 +55,14 @@ public class GameStateManager {
 		this.game = new Game();
 		this.players = new ArrayList<>();
 		this.gameUI = new GameUI(this.game);
+
+		var screenInfo = context.getScreenInfo(); // Avant les gestionnaires : la caméra du jeu en a besoin
+		this.width = screenInfo.width();
+		this.height = screenInfo.height();
 		this.optionManager = new OptionEventManager(context, this);
 		this.gameManager = new GameEventManager(context, this);
 		this.menuManager = new MenuEventManager(context, this);
 		this.endManager = new EndEventManager(context, this);
-
-		var screenInfo = context.getScreenInfo();
-		this.width = screenInfo.width();
-		this.height = screenInfo.height();
 	}
 
 	/**
@@ -141,6 +148,57 @@ public class GameStateManager {
 		}
 	}
 
+	/**
+	 * Replaces the game by a saved game, with its players and game mode
+	 * 
+	 * @param save Saved game
+	 */
+	public void resumeGame(GameSave save) {
+		game = save.restoreGame();
+		gameUI = new GameUI(game);
+		currentGameMode = save.getMode();
+		nbOfPlayers = save.getPlayerNames().size();
+		players.clear();
+		players.addAll(game.getPlayers());
+	}
+
+	/**
+	 * Getter of the file where the game in progress is saved, given by the property cascadia.save,
+	 * cascadia.save by default
+	 * 
+	 * @return Path of save file
+	 */
+	public Path getSavePath() {
+		return Path.of(System.getProperty("cascadia.save", "cascadia.save"));
+	}
+
+	/**
+	 * Reads the saved game, if any
+	 * 
+	 * @return Saved game, or null if there is none or if it cannot be read
+	 */
+	public GameSave loadSave() {
+		Path path = getSavePath();
+		if (!Files.exists(path)) {
+			return null;
+		}
+		try {
+			return GameSave.load(path);
+		} catch (IOException e) {
+			System.err.println("Impossible de reprendre la partie sauvegardée : " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Saves the game in progress before the game screen is left, see {@link GameEventManager#saveGame()}
+	 * 
+	 * @return true if the game is saved
+	 */
+	public boolean saveGame() {
+		return gameManager.saveGame();
+	}
+
 	/**
 	 * Getter of all players
 	 * @return List that contains all players
@@ -188,6 +246,52 @@ public class GameStateManager {
 		return height;
 	}
 
+	/**
+	 * Getter of the recorder of game screen frame times
+	 * @return Frame recorder
+	 */
+	public FrameRecorder getFrameRecorder() {
+		return frameRecorder;
+	}
+
+	/**
+	 * Returns whether the frame-time overlay is displayed
+	 * @return true if overlay is displayed
+	 */
+	public boolean isHudVisible() {
+		return hudVisible;
+	}
+
+	/**
+	 * Shows or hides the frame-time overlay
+	 */
+	public void toggleHud() {
+		hudVisible = !hudVisible;
+	}
+
+	/**
+	 * Writes the frames recorded during the session to a CSV file, on a background thread: only the copy of the
+	 * frames is made by the calling thread, the one recording them.
+	 * The file is given by the property cascadia.frames, frames.csv by default.
+	 */
+	public void dumpFrameRecord() {
+		if (frameDump != null && frameDump.isAlive()) {
+			System.out.println("Mesures des images déjà en cours d'enregistrement");
+			return;
+		}
+		Path path = Path.of(System.getProperty("cascadia.frames", "frames.csv"));
+		FrameRecorder.Session session = frameRecorder.copySession();
+		frameDump = new Thread(() -> {
+			try {
+				session.writeCsv(path);
+				System.out.println("Mesures des images enregistrées dans " + path.toAbsolutePath());
+			} catch (IOException e) {
+				System.err.println("Impossible d'enregistrer les mesures des images : " + e.getMessage());
+			}
+		}, "frame-dump"); // Pas un démon : le fichier est terminé même si le jeu est quitté entre-temps
+		frameDump.start();
+	}
+
 	/**
 	 * Executes the game loop and renders the scene based on the current scene
 	 */
@@ -198,7 +302,11 @@ public class GameStateManager {
 			case PLAY_GAME -> gameManager.renderGame();
 			case OPTIONS -> optionManager.renderOptionsPage();
 			case GAME_END -> endManager.renderGameEnd();
-			case QUIT_GAME -> context.dispose();
+			case QUIT_GAME -> {
+				saveGame();
+				context.dispose();
+				return;
+			}
 			default -> throw new IllegalArgumentException();
 			}
 		}
@@ -0,0 +1,104 @@
+package graphical.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import core.game.grid.Board;
+import core.game.grid.Tile;
+
+/**
+ * Points each tile of the market would bring to the grid of the current player, cell by cell.
+ * Built in the background by {@link graphical.controller.components.PlacementAdvisor}, read by the render thread;
+ * arrays are never modified once the heatmap is built.
+ *
+ * @param position Position evaluated
+ * @param gains    For each market slot, the points gained by placing its tile on each cell with its token on the
+ *                 best target, indexed by x * size + y, {@link #NO_PLACEMENT} where the tile cannot be placed
+ * @param min      Lowest gain of the heatmap
+ * @param max      Highest gain of the heatmap
+ */
+public record PlacementHeatmap(Position position, int[][] gains, int min, int max) {
+	public static final int NO_PLACEMENT = Integer.MIN_VALUE;
+
+	public PlacementHeatmap {
+		Objects.requireNonNull(position);
+		Objects.requireNonNull(gains);
+	}
+
+	/**
+	 * Builds a heatmap, finding its lowest and highest gains
+	 * @param position Position evaluated
+	 * @param gains    Gains of each market slot
+	 * @return Heatmap
+	 */
+	public static PlacementHeatmap of(Position position, int[][] gains) {
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int[] slot : gains) {
+			for (int gain : slot) {
+				if (gain != NO_PLACEMENT) {
+					min = Math.min(min, gain);
+					max = Math.max(max, gain);
+				}
+			}
+		}
+		return new PlacementHeatmap(position, gains, min, max);
+	}
+
+	/**
+	 * Points gained on a cell by a tile of the market, or by the best one
+	 * @param slot  Market slot, -1 for the best tile
+	 * @param index Cell, x * size + y
+	 * @return Gain, {@link #NO_PLACEMENT} if no such tile can be placed there
+	 */
+	public int gain(int slot, int index) {
+		if (slot >= 0) {
+			return slot < gains.length ? gains[slot][index] : NO_PLACEMENT;
+		}
+		int best = NO_PLACEMENT;
+		for (int[] slotGains : gains) {
+			best = Math.max(best, slotGains[index]);
+		}
+		return best;
+	}
+
+	/**
+	 * Grid of the current player and tiles of the market: the version of the game a heatmap is valid for
+	 * @param board  Grid of the current player
+	 * @param market Tiles of the market packed by {@link Board#encode(Tile)}, 16 bits per slot from the lowest
+	 */
+	public record Position(Board board, long market) {
+		public static final int MARKET_SIZE = 4;
+
+		public Position {
+			Objects.requireNonNull(board);
+		}
+
+		/**
+		 * Position of a grid and of a market
+		 * @param board  Grid of the current player
+		 * @param market Tiles of the market, at most {@link #MARKET_SIZE}
+		 * @return Position
+		 */
+		public static Position of(Board board, List<Tile> market) {
+			if (market.size() > MARKET_SIZE) {
+				throw new IllegalArgumentException("Market of " + MARKET_SIZE + " tiles at most");
+			}
+			long packed = 0;
+			for (int slot = 0; slot < market.size(); slot++) {
+				packed |= (Board.encode(market.get(slot)) & 0xFFFFL) << (16 * slot);
+			}
+			return new Position(board, packed);
+		}
+
+		/**
+		 * Tile of a market slot
+		 * @param slot Market slot
+		 * @return Packed tile, 0 for an empty slot
+		 */
+		public short tile(int slot) {
+			Objects.checkIndex(slot, MARKET_SIZE);
+			return (short) (market >>> (16 * slot));
+		}
+	}
+}
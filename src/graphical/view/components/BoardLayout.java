@@ -0,0 +1,267 @@
+package graphical.view.components;
+
+import java.awt.Polygon;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import graphical.model.GameMode;
+
+/**
+ * Screen geometry of a player's board.
+ * - Precomputes origin, centre and outline of every cell for a game mode and a grid size
+ * - Converts a pixel back to the cell containing it
+ *
+ * Hexagonal boards use flat-topped hexagons in "odd-q" layout (odd columns shifted down
+ * by half a cell), which is the layout assumed by {@code HexNeighborsOdd} and
+ * {@code HexNeighborsPair}.
+ */
+public final class BoardLayout {
+	public static final int TILE_SIZE = 150;
+	public static final int GRID_OFFSET_X = 750;
+	public static final int GRID_OFFSET_Y = 200;
+	public static final int TILE_WIDTH = (int) (TILE_SIZE * Math.sqrt(3) / 1.75);
+	public static final int TILE_HEIGHT = (int) (TILE_SIZE * 1.15);
+
+	private static final double RADIUS = TILE_SIZE / 2.0;
+	private static final double SQRT3 = Math.sqrt(3);
+	private static final ConcurrentHashMap<Key, BoardLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+	private final GameMode mode;
+	private final int size;
+	private final int[] originX;
+	private final int[] originY;
+	private final int[] centerX;
+	private final int[] centerY;
+	private final Polygon[] outlines;
+
+	private record Key(GameMode mode, int size) {
+	}
+
+	private BoardLayout(GameMode mode, int size) {
+		this.mode = mode;
+		this.size = size;
+		int cells = size * size;
+		this.originX = new int[cells];
+		this.originY = new int[cells];
+		this.centerX = new int[cells];
+		this.centerY = new int[cells];
+		this.outlines = new Polygon[cells];
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				computeCell(x, y);
+			}
+		}
+	}
+
+	/**
+	 * Returns the layout of a board, computing it the first time it is requested.
+	 *
+	 * @param mode Current game mode
+	 * @param size Size of grid
+	 * @return Shared layout for this mode and size
+	 */
+	public static BoardLayout of(GameMode mode, int size) {
+		Objects.requireNonNull(mode);
+		if (size <= 0) {
+			throw new IllegalArgumentException("Grid size must be positive");
+		}
+		return LAYOUTS.computeIfAbsent(new Key(mode, size), key -> new BoardLayout(key.mode(), key.size()));
+	}
+
+	private void computeCell(int x, int y) {
+		int index = index(x, y);
+		if (mode == GameMode.GRAPHICAL_HEXAGON_TILES) {
+			double cx = GRID_OFFSET_X + RADIUS + x * 1.5 * RADIUS;
+			double cy = GRID_OFFSET_Y + RADIUS + y * SQRT3 * RADIUS;
+			if (x % 2 != 0) {
+				cy += SQRT3 * RADIUS / 2; // Décalage pour les colonnes impaires
+			}
+			centerX[index] = (int) Math.round(cx);
+			centerY[index] = (int) Math.round(cy);
+			originX[index] = centerX[index] - TILE_SIZE / 2;
+			originY[index] = centerY[index] - TILE_SIZE / 2;
+
+			Polygon hexagon = new Polygon();
+			for (int i = 0; i < 6; i++) {
+				double angle = Math.PI / 3 * i;
+				hexagon.addPoint((int) Math.round(cx + RADIUS * Math.cos(angle)),
+						(int) Math.round(cy + RADIUS * Math.sin(angle)));
+			}
+			outlines[index] = hexagon;
+		} else {
+			originX[index] = GRID_OFFSET_X + x * TILE_SIZE;
+			originY[index] = GRID_OFFSET_Y + y * TILE_SIZE;
+			centerX[index] = originX[index] + TILE_SIZE / 2;
+			centerY[index] = originY[index] + TILE_SIZE / 2;
+			outlines[index] = new Polygon(
+					new int[] { originX[index], originX[index] + TILE_SIZE, originX[index] + TILE_SIZE, originX[index] },
+					new int[] { originY[index], originY[index], originY[index] + TILE_SIZE, originY[index] + TILE_SIZE }, 4);
+		}
+	}
+
+	/**
+	 * Converts mouse coordinates into the index of the cell containing them.
+	 * Hexagonal boards are inverted exactly through cube coordinates.
+	 *
+	 * @param pixelX X coordinate on screen
+	 * @param pixelY Y coordinate on screen
+	 * @return Index of the cell, or -1 if beyond grid
+	 */
+	public int cellAt(int pixelX, int pixelY) {
+		int x;
+		int y;
+		if (mode == GameMode.GRAPHICAL_HEXAGON_TILES) {
+			double relX = pixelX - (GRID_OFFSET_X + RADIUS);
+			double relY = pixelY - (GRID_OFFSET_Y + RADIUS);
+			double q = (2.0 / 3 * relX) / RADIUS;
+			double r = (-1.0 / 3 * relX + SQRT3 / 3 * relY) / RADIUS;
+			double s = -q - r;
+
+			// Arrondi cubique : on corrige la composante la plus éloignée de sa valeur entière
+			long rq = Math.round(q);
+			long rr = Math.round(r);
+			long rs = Math.round(s);
+			double dq = Math.abs(rq - q);
+			double dr = Math.abs(rr - r);
+			double ds = Math.abs(rs - s);
+			if (dq > dr && dq > ds) {
+				rq = -rr - rs;
+			} else if (dr > ds) {
+				rr = -rq - rs;
+			}
+			x = (int) rq;
+			y = (int) (rr + (rq - (rq & 1)) / 2); // Axial vers "odd-q"
+		} else {
+			x = Math.floorDiv(pixelX - GRID_OFFSET_X, TILE_SIZE);
+			y = Math.floorDiv(pixelY - GRID_OFFSET_Y, TILE_SIZE);
+		}
+		if (x < 0 || y < 0 || x >= size || y >= size) {
+			return -1;
+		}
+		return index(x, y);
+	}
+
+	/**
+	 * Computes the cells whose outline may intersect a rectangle of the board.
+	 * Cells sit on a regular lattice, which acts as a uniform spatial index:
+	 * the range is found in constant time whatever the size of the grid.
+	 *
+	 * @param minX  Left bound of the rectangle
+	 * @param minY  Top bound of the rectangle
+	 * @param maxX  Right bound of the rectangle
+	 * @param maxY  Bottom bound of the rectangle
+	 * @param range Filled with {firstX, lastX, firstY, lastY}, bounds included
+	 * @return true if at least one cell may be visible
+	 */
+	public boolean visibleRange(double minX, double minY, double maxX, double maxY, int[] range) {
+		double columnWidth;
+		double rowHeight;
+		if (mode == GameMode.GRAPHICAL_HEXAGON_TILES) {
+			columnWidth = 1.5 * RADIUS;
+			rowHeight = SQRT3 * RADIUS;
+		} else {
+			columnWidth = TILE_SIZE;
+			rowHeight = TILE_SIZE;
+		}
+		// Une case de marge couvre le débordement des hexagones et le décalage des colonnes impaires
+		range[0] = Math.max(0, (int) Math.floor((minX - GRID_OFFSET_X) / columnWidth) - 1);
+		range[1] = Math.min(size - 1, (int) Math.floor((maxX - GRID_OFFSET_X) / columnWidth) + 1);
+		range[2] = Math.max(0, (int) Math.floor((minY - GRID_OFFSET_Y) / rowHeight) - 1);
+		range[3] = Math.min(size - 1, (int) Math.floor((maxY - GRID_OFFSET_Y) / rowHeight) + 1);
+		return range[0] <= range[1] && range[2] <= range[3];
+	}
+
+	/**
+	 * Index of a cell in the layout tables
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return Index of cell
+	 */
+	public int index(int x, int y) {
+		return x * size + y;
+	}
+
+	/**
+	 * X coordinate on grid of a cell index
+	 * @param index Index of cell
+	 * @return X coordinate on grid
+	 */
+	public int cellX(int index) {
+		return index / size;
+	}
+
+	/**
+	 * Y coordinate on grid of a cell index
+	 * @param index Index of cell
+	 * @return Y coordinate on grid
+	 */
+	public int cellY(int index) {
+		return index % size;
+	}
+
+	/**
+	 * X coordinate on screen of the top-left corner where a tile of the cell is drawn
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return X coordinate on screen
+	 */
+	public int originX(int x, int y) {
+		return originX[index(x, y)];
+	}
+
+	/**
+	 * Y coordinate on screen of the top-left corner where a tile of the cell is drawn
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return Y coordinate on screen
+	 */
+	public int originY(int x, int y) {
+		return originY[index(x, y)];
+	}
+
+	/**
+	 * X coordinate on screen of the centre of a cell
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return X coordinate on screen
+	 */
+	public int centerX(int x, int y) {
+		return centerX[index(x, y)];
+	}
+
+	/**
+	 * Y coordinate on screen of the centre of a cell
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return Y coordinate on screen
+	 */
+	public int centerY(int x, int y) {
+		return centerY[index(x, y)];
+	}
+
+	/**
+	 * Outline of a cell on screen. The polygon is shared and must not be modified.
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return Hexagon or square outline of the cell
+	 */
+	public Polygon outline(int x, int y) {
+		return outlines[index(x, y)];
+	}
+
+	/**
+	 * Getter of game mode of the layout
+	 * @return Game mode
+	 */
+	public GameMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Getter of grid size of the layout
+	 * @return Size of grid
+	 */
+	public int getSize() {
+		return size;
+	}
+}
@@ -0,0 +1,154 @@
+package graphical.view.components;
+
+import java.awt.Graphics2D;
+
+/**
+ * Pan and zoom applied to the board of the game screen.
+ * Converts between screen coordinates and board (world) coordinates, where
+ * world coordinates are the ones produced by {@link BoardLayout}.
+ */
+public class Camera {
+	public static final double MIN_ZOOM = 0.2;
+	public static final double MAX_ZOOM = 2.0;
+
+	private final int viewportWidth;
+	private final int viewportHeight;
+	private double zoom = 1.0;
+	private double translateX = 0;
+	private double translateY = 0;
+
+	/**
+	 * Constructor for Camera
+	 * @param viewportWidth Width of screen
+	 * @param viewportHeight Height of screen
+	 */
+	public Camera(int viewportWidth, int viewportHeight) {
+		if (viewportWidth <= 0 || viewportHeight <= 0) {
+			throw new IllegalArgumentException("Viewport size must be positive");
+		}
+		this.viewportWidth = viewportWidth;
+		this.viewportHeight = viewportHeight;
+	}
+
+	/**
+	 * Applies the camera to a graphics context, so that following drawings use world coordinates.
+	 * The caller is responsible for restoring the previous transform, see {@link #removeFrom(Graphics2D)}.
+	 * @param graphics
+	 */
+	public void applyTo(Graphics2D graphics) {
+		graphics.translate(translateX, translateY);
+		graphics.scale(zoom, zoom);
+	}
+
+	/**
+	 * Cancels {@link #applyTo(Graphics2D)}, without the copy of the transform made by
+	 * {@link Graphics2D#getTransform()}.
+	 * @param graphics
+	 */
+	public void removeFrom(Graphics2D graphics) {
+		graphics.scale(1 / zoom, 1 / zoom);
+		graphics.translate(-translateX, -translateY);
+	}
+
+	/**
+	 * Moves the board on screen.
+	 * @param dx Horizontal move in pixels
+	 * @param dy Vertical move in pixels
+	 */
+	public void pan(double dx, double dy) {
+		translateX += dx;
+		translateY += dy;
+	}
+
+	/**
+	 * Zooms by a factor, keeping the given screen point still.
+	 * @param factor Zoom factor (greater than 1 to zoom in)
+	 * @param screenX X coordinate on screen of zoom anchor
+	 * @param screenY Y coordinate on screen of zoom anchor
+	 */
+	public void zoomAt(double factor, int screenX, int screenY) {
+		if (factor <= 0) {
+			throw new IllegalArgumentException("Zoom factor must be positive");
+		}
+		double worldX = toWorldX(screenX);
+		double worldY = toWorldY(screenY);
+		zoom = Math.clamp(zoom * factor, MIN_ZOOM, MAX_ZOOM);
+		translateX = screenX - worldX * zoom;
+		translateY = screenY - worldY * zoom;
+	}
+
+	/**
+	 * Zooms by a factor around the centre of the screen.
+	 * @param factor Zoom factor (greater than 1 to zoom in)
+	 */
+	public void zoom(double factor) {
+		zoomAt(factor, viewportWidth / 2, viewportHeight / 2);
+	}
+
+	/**
+	 * Restores default pan and zoom.
+	 */
+	public void reset() {
+		zoom = 1.0;
+		translateX = 0;
+		translateY = 0;
+	}
+
+	/**
+	 * Converts a screen X coordinate to world coordinate
+	 * @param screenX X coordinate on screen
+	 * @return X coordinate on board
+	 */
+	public double toWorldX(int screenX) {
+		return (screenX - translateX) / zoom;
+	}
+
+	/**
+	 * Converts a screen Y coordinate to world coordinate
+	 * @param screenY Y coordinate on screen
+	 * @return Y coordinate on board
+	 */
+	public double toWorldY(int screenY) {
+		return (screenY - translateY) / zoom;
+	}
+
+	/**
+	 * Left bound of the visible board area
+	 * @return X coordinate on board
+	 */
+	public double worldMinX() {
+		return toWorldX(0);
+	}
+
+	/**
+	 * Top bound of the visible board area
+	 * @return Y coordinate on board
+	 */
+	public double worldMinY() {
+		return toWorldY(0);
+	}
+
+	/**
+	 * Right bound of the visible board area
+	 * @return X coordinate on board
+	 */
+	public double worldMaxX() {
+		return toWorldX(viewportWidth);
+	}
+
+	/**
+	 * Bottom bound of the visible board area
+	 * @return Y coordinate on board
+	 */
+	public double worldMaxY() {
+		return toWorldY(viewportHeight);
+	}
+
+	/**
+	 * Getter of zoom level
+	 * @return Zoom level, 1 being the default size
+	 */
+	public double getZoom() {
+		return zoom;
+	}
+}
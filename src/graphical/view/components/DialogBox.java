@@ -1,15 +1,17 @@
 package graphical.view.components;
 
 import java.awt.Color;
-import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.util.Objects;
 
 import com.github.forax.zen.ApplicationContext;
+import com.github.forax.zen.Event;
 import com.github.forax.zen.KeyboardEvent;
 import com.github.forax.zen.PointerEvent;
 
+import graphical.view.resources.RenderResources;
+
 /**
  * Interactive graphical dialog box. Renders the dialog box, and manages the
  * interaction between the player and the dialog box.
@@ -24,7 +26,7 @@ public class DialogBox {
 	private boolean response = false;
 	private boolean hasResponse = false;
 	private String message;
-	private static final long ERROR_DISPLAY_DURATION = 2000;
+	public static final long ERROR_DISPLAY_DURATION = 2000;
 
 	/**
 	 * Constructor for DialogBox
@@ -60,7 +62,7 @@ public class DialogBox {
 		graphics.setColor(Color.BLACK);
 		graphics.drawRect(x, y, width, height);
 
-		graphics.setFont(new Font("Arial", Font.PLAIN, 16));
+		graphics.setFont(RenderResources.PROMPT_DIALOG_FONT);
 		FontMetrics fm = graphics.getFontMetrics();
 		int messageX = x + (width - fm.stringWidth(message)) / 2;
 		graphics.drawString(message, messageX, y + 50);
@@ -72,7 +74,6 @@ public class DialogBox {
 		graphics.setColor(Color.WHITE);
 		graphics.drawString("Oui", x + 75, y + 100);
 		graphics.drawString("Non", x + width - 105, y + 100);
-		manageDialogEvents();
 	}
 
 	/**
@@ -87,7 +88,7 @@ public class DialogBox {
 		graphics.setColor(Color.RED);
 		graphics.drawRect(x, y / 6, width, height / 2);
 
-		graphics.setFont(new Font("Arial", Font.PLAIN, 20));
+		graphics.setFont(RenderResources.POP_UP_DIALOG_FONT);
 		FontMetrics fm = graphics.getFontMetrics();
 		int messageX = x + (width - fm.stringWidth(message)) / 2;
 		graphics.drawString(message, messageX, y / 6 + 50);
@@ -95,12 +96,11 @@ public class DialogBox {
 	}
 
 	/**
-	 * Manages events between user and a dialog box.
+	 * Manages an event between user and a dialog box.
+	 * @param event Event polled by the scene
 	 */
-	public void manageDialogEvents() {
-		var event = context.pollOrWaitEvent(10);
-		if (event == null)
-			return;
+	public void handleDialogEvent(Event event) {
+		Objects.requireNonNull(event);
 		switch (event) {
 		case PointerEvent e -> {
 			if (e.action() == PointerEvent.Action.POINTER_UP) {
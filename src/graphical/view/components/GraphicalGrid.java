@@ -1,13 +1,13 @@
 package graphical.view.components;
 
-import java.awt.Color;
-import java.awt.Graphics2D;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import core.game.grid.AllNeighbors;
 import core.game.grid.Grid;
+import core.game.grid.GridListener;
 import core.game.grid.HexNeighborsOdd;
 import core.game.grid.HexNeighborsPair;
 import core.game.grid.NeighborStrategy;
@@ -18,16 +18,19 @@ import graphical.view.resources.*;
 
 /**
  * Converts a grid to graphical version.
+ * Keeps one graphical tile per occupied cell, updated on each placement made on the grid.
+ * Placements are made on the game logic thread, which publishes frozen copies of the cells to the render thread.
  */
-public class GraphicalGrid {
+public class GraphicalGrid implements GridListener {
 	private final Grid grid;
 	private final TileImageManager imageManager;
 	private final GameStateManager gameStateManager;
-	private static final int TILE_SIZE = 150;
-	private static final int GRID_OFFSET_X = 750;
-	private static final int GRID_OFFSET_Y = 200;
-	private static final int TILE_WIDTH = (int)(TILE_SIZE * Math.sqrt(3)/1.75);
-    private static final int TILE_HEIGHT = (int)(TILE_SIZE * 1.15);
+	private final BoardLayout layout;
+	private final GraphicalTile[] cells;
+	private final List<GraphicalTile> graphicalTiles;
+	private GraphicalTile[] publishedCells;
+	private boolean[] availableCells;
+	private boolean changed = true;
 
 	/**
 	 * Constructor for GraphicalGrid
@@ -35,131 +38,143 @@ public class GraphicalGrid {
 	 * @param imageManager Resource manager
 	 */
 	public GraphicalGrid(Grid grid, TileImageManager imageManager, GameStateManager gameStateManager) {
-		this.grid = grid;
+		this.grid = Objects.requireNonNull(grid);
 		this.imageManager = Objects.requireNonNull(imageManager);
 		this.gameStateManager = Objects.requireNonNull(gameStateManager);
+		this.layout = BoardLayout.of(gameStateManager.getCurrentGameMode(), grid.getSize());
+		this.cells = new GraphicalTile[grid.getSize() * grid.getSize()];
+		this.graphicalTiles = new ArrayList<>();
+		createGrid();
+		grid.addGridListener(this);
 	}
 
 	/**
-	 * Creates a grid consisting of graphical hexagonal tiles in "odd-q" layout.
-	 * @return List of graphical tiles
+	 * Creates the graphical tiles of the tiles already on the grid.
 	 */
-	public List<GraphicalTile> createGrid() {
-	    List<GraphicalTile> tiles = new ArrayList<>();
-	    if (grid != null) {
-	        for (int x = 0; x < grid.getSize(); x++) {
-	            for (int y = 0; y < grid.getSize(); y++) {
-	                Tile tile = grid.getTile(x, y);
-	                if (tile != null) {
-	                    GraphicalTile graphicalTile = new GraphicalTile(tile, imageManager, TILE_SIZE);
-	                    if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
-	                        // Calcul de la largeur et hauteur des hexagones
-	                        double tileWidth = (TILE_SIZE * Math.sqrt(3))/(1.75);  // Largeur d'un hexagone
-	                        double tileHeight = TILE_SIZE*1.15;            		   // Hauteur d'un hexagone
-	                        
-	                        // Position horizontale - décalage de 3/4 de la largeur pour chaque colonne
-	                        double posX = GRID_OFFSET_X + x * (tileWidth * 0.75);
-	                        
-	                        // Position verticale - hauteur complète pour chaque ligne
-	                        // Pour les colonnes impaires, on ajoute un décalage de la moitié de la hauteur
-	                        double posY = GRID_OFFSET_Y + y * (tileHeight * 0.75);
-	                        if (x % 2 != 0) {
-	                            posY += tileHeight * 0.375; // Décalage pour les colonnes impaires
-	                        }
-	                        
-	                        graphicalTile.setPosition((int)posX, (int)posY);
-	                    } else if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_SQUARE_TILES) {
-	                        graphicalTile.setPosition(
-	                            GRID_OFFSET_X + x * TILE_SIZE,
-	                            GRID_OFFSET_Y + y * TILE_SIZE
-	                        );
-	                    }
-	                    tiles.add(graphicalTile);
-	                }
-	            }
-	        }
-	    }
-	    return tiles;
+	private void createGrid() {
+		for (int x = 0; x < grid.getSize(); x++) {
+			for (int y = 0; y < grid.getSize(); y++) {
+				Tile tile = grid.getTile(x, y);
+				if (tile != null) {
+					putTile(x, y, tile);
+				}
+			}
+		}
+	}
+
+	private void putTile(int x, int y, Tile tile) {
+		GraphicalTile graphicalTile = new GraphicalTile(tile, imageManager, BoardLayout.TILE_SIZE);
+		graphicalTile.setPosition(layout.originX(x, y), layout.originY(x, y));
+		int index = layout.index(x, y);
+		if (cells[index] != null) {
+			graphicalTiles.remove(cells[index]);
+		}
+		cells[index] = graphicalTile;
+		graphicalTiles.add(graphicalTile);
+		changed = true;
 	}
 
+	@Override
+	public void tileAdded(Grid grid, int x, int y, Tile tile) {
+		putTile(x, y, tile);
+	}
+
+	@Override
+	public void wildlifeAdded(Grid grid, int x, int y, Tile tile) {
+		GraphicalTile graphicalTile = cells[layout.index(x, y)];
+		if (graphicalTile == null || graphicalTile.getTile() != tile) {
+			putTile(x, y, tile);
+		} // Sinon la tuile graphique lit directement le jeton posé sur la tuile
+		changed = true;
+	}
+
+	@Override
+	public void cellRestored(Grid grid, int x, int y, Tile tile) {
+		if (tile != null) {
+			putTile(x, y, tile);
+			return;
+		}
+		int index = layout.index(x, y);
+		if (cells[index] != null) {
+			graphicalTiles.remove(cells[index]);
+			cells[index] = null;
+			changed = true;
+		}
+	}
 
 	/**
-	 * Renders grid on screen
-	 * 
-	 * @param graphics
+	 * Graphical tiles of the grid, indexed by {@link BoardLayout#index(int, int)}.
+	 * Tiles are frozen copies and the array is never modified: a new one is created after each placement.
+	 * @return Cells of the grid, null for empty cells
 	 */
-	public void renderGrid(Graphics2D graphics, List<GraphicalTile> graphicalTiles) {
-		Objects.requireNonNull(graphicalTiles);
-		for (GraphicalTile graphicalTile : graphicalTiles) {
-			graphicalTile.renderTileOnGrid(graphics, graphicalTile.getX(), graphicalTile.getY(), gameStateManager.getCurrentGameMode());
-		}
+	public GraphicalTile[] snapshotCells() {
+		refreshSnapshot();
+		return publishedCells;
 	}
 
 	/**
-	 * Renders available spaces on grid for tile placement
-	 * @param graphics
+	 * Empty cells where a tile can be placed, indexed by {@link BoardLayout#index(int, int)}.
+	 * The array is never modified: a new one is created after each placement.
+	 * @return true for each cell available for placement
 	 */
-	public void renderAvailableTilesOnGrid(Graphics2D graphics) {
+	public boolean[] snapshotAvailableCells() {
+		refreshSnapshot();
+		return availableCells;
+	}
+
+	private void refreshSnapshot() {
+		if (!changed) {
+			return;
+		}
+		GraphicalTile[] frozenCells = new GraphicalTile[cells.length];
+		boolean[] available = new boolean[cells.length];
 		for (int x = 0; x < grid.getSize(); x++) {
 			for (int y = 0; y < grid.getSize(); y++) {
-				NeighborStrategy strategy;
-				if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
-				    // Déterminer si la colonne est impaire ou paire
-				    boolean isOddColumn = (x % 2 != 0); // 'x' est la coordonnée de la colonne
-				    strategy = isOddColumn ? new HexNeighborsOdd() : new HexNeighborsPair();
+				int index = layout.index(x, y);
+				if (cells[index] != null) {
+					frozenCells[index] = cells[index].freeze();
 				} else {
-				    strategy = new AllNeighbors();
-				}
-
-				if (grid.getTile(x, y) == null && grid.nonEmptyNeighbor(x, y, strategy)) {
+					NeighborStrategy strategy;
 					if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
-                        // Calcul de la position pour les hexagones
-                        double posX = GRID_OFFSET_X + x * (TILE_WIDTH * 0.75);
-                        double posY = GRID_OFFSET_Y + y * (TILE_HEIGHT * 0.75);
-                        if (x % 2 != 0) {
-                            posY += TILE_HEIGHT * 0.375;
-                        }
-                        renderAvailableHexagonTileOnGrid(graphics, (int)posX, (int)posY);
-                    } else {
-					int pixelX = GRID_OFFSET_X + x * TILE_SIZE;
-					int pixelY = GRID_OFFSET_Y + y * TILE_SIZE;
-					renderAvailableTileOnGrid(graphics, pixelX, pixelY);
-                    }
+					    // Déterminer si la colonne est impaire ou paire
+					    boolean isOddColumn = (x % 2 != 0); // 'x' est la coordonnée de la colonne
+					    strategy = isOddColumn ? new HexNeighborsOdd() : new HexNeighborsPair();
+					} else {
+					    strategy = new AllNeighbors();
+					}
+					available[index] = grid.getTile(x, y) == null && grid.nonEmptyNeighbor(x, y, strategy);
 				}
 			}
 		}
+		publishedCells = frozenCells;
+		availableCells = available;
+		changed = false;
 	}
 
-	private void renderAvailableTileOnGrid(Graphics2D graphics, int x, int y) {
-		graphics.setColor(new Color(144, 238, 144, 50));
-		graphics.fillRect(x, y, TILE_SIZE, TILE_SIZE);
-		graphics.setColor(Color.GREEN);
-		graphics.drawRect(x, y, TILE_SIZE, TILE_SIZE);
+	/**
+	 * Getter of the board layout used by this grid
+	 * @return Board layout
+	 */
+	public BoardLayout getLayout() {
+		return layout;
 	}
 
-	private void renderAvailableHexagonTileOnGrid(Graphics2D graphics, int x, int y) {
-		int[] xPoints = new int[6];
-		int[] yPoints = new int[6];
-
-		for (int i = 0; i < 6; i++) {
-		double angle = Math.PI / 3 * i;
-		xPoints[i] = x + (int)(TILE_WIDTH/2.20 * Math.cos(angle)) + 75;
-		yPoints[i] = y + (int)(TILE_HEIGHT/2.20 * Math.sin(angle)) + 75;
-		}
-
-		graphics.setColor(new Color(144, 238, 144, 50));
-		graphics.fillPolygon(xPoints, yPoints, 6);
-		graphics.setColor(Color.GREEN);
-		graphics.drawPolygon(xPoints, yPoints, 6);
-		}
+	/**
+	 * Graphical tile drawn on a cell of the grid
+	 * @param x X coordinate on grid
+	 * @param y Y coordinate on grid
+	 * @return Graphical tile, or null if the cell is empty
+	 */
+	public GraphicalTile getGraphicalTile(int x, int y) {
+		return cells[layout.index(x, y)];
+	}
 
 	/**
-	 * Updates graphical tiles according to grid modifications
-	 * @param graphicalTiles
+	 * Getter of the graphical tiles placed on the grid
+	 * @return Unmodifiable list of graphical tiles
 	 */
-	public void updateGraphicalTiles(List<GraphicalTile> graphicalTiles) {
-		graphicalTiles.clear();
-		graphicalTiles.addAll(createGrid());
+	public List<GraphicalTile> getGraphicalTiles() {
+		return Collections.unmodifiableList(graphicalTiles);
 	}
 
 	/**
@@ -175,7 +190,6 @@ public class GraphicalGrid {
 		int spacing = 20;
 		Objects.requireNonNull(pickedTiles);
 		for (Tile tile : pickedTiles) {
-			System.out.println("tile : " + tile);
 			GraphicalTile graphicalTile = new GraphicalTile(tile, tileImageManager, tileSize);
 			graphicalTile.setPosition(x, y);
 			tiles.add(graphicalTile);
@@ -1,6 +1,7 @@
 package graphical.view.components;
 
 import java.awt.*;
+import java.util.List;
 import java.util.Objects;
 
 import core.game.grid.Tile;
@@ -32,6 +33,18 @@ public class GraphicalTile {
         this.size = size;
     }
 
+    /**
+     * Creates a copy of this graphical tile drawing a copy of its tile,
+     * so that it is not affected by later changes made to the tile by the game.
+     * 
+     * @return Frozen copy at the same position
+     */
+    public GraphicalTile freeze() {
+        GraphicalTile frozen = new GraphicalTile(tile.copy(), imageManager, size);
+        frozen.setPosition(x, y);
+        return frozen;
+    }
+
     /**
      * Renders a tile ready to be played.
      * 
@@ -44,14 +57,14 @@ public class GraphicalTile {
         if (mode == GameMode.GRAPHICAL_HEXAGON_TILES) {
             renderAvailableHexagonTile(graphics, x, y);
         } else if (mode == GameMode.GRAPHICAL_SQUARE_TILES) {
-        	graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat()), x, y, size, size, null);
+        	graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat(), size), x, y, size, size, null);
       		int wildlifeSize = (int) (size * 0.6);
       		int offset = (size - wildlifeSize) / 2;
       		int margin = 170;
       		drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset);
 
       		if (!tile.getWildlife().isEmpty()) {
-      			graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst()), x + margin, y + offset,
+      			graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst(), wildlifeSize), x + margin, y + offset,
       					wildlifeSize, wildlifeSize, null);
       		}
         }
@@ -66,10 +79,23 @@ public class GraphicalTile {
      * @param mode     Current game mode
      */
     public void renderTileOnGrid(Graphics2D graphics, int x, int y, GameMode mode) {
+        renderTileOnGrid(graphics, x, y, mode, 1.0);
+    }
+
+    /**
+     * Renders a tile on a zoomed grid, using images fitted to the zoom level.
+     * 
+     * @param graphics
+     * @param x
+     * @param y
+     * @param mode     Current game mode
+     * @param zoom     Zoom level of the grid
+     */
+    public void renderTileOnGrid(Graphics2D graphics, int x, int y, GameMode mode, double zoom) {
         if (mode == GameMode.GRAPHICAL_HEXAGON_TILES) {
-            renderHexagonTile(graphics, x, y);
+            renderHexagonTile(graphics, x, y, zoom);
         } else if (mode == GameMode.GRAPHICAL_SQUARE_TILES) {
-            renderSquareTile(graphics, x, y);
+            renderSquareTile(graphics, x, y, zoom);
         }
     }
 
@@ -79,31 +105,23 @@ public class GraphicalTile {
      * @param graphics
      * @param x
      * @param y
+     * @param zoom     Zoom level of the grid
      */
-    private void renderHexagonTile(Graphics2D graphics, int x, int y) {
-        Polygon hexagon = createHexagon(x + 75, y + 75);
-
-        // Clip the graphics to the hexagon shape
-        Shape originalClip = graphics.getClip();
-        graphics.setClip(hexagon);
-
-        // Draw the tile's habitat image
-        graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat()), (x - size / 2) + 75, (y - size / 2) + 75, size, size, null);
-
-        // Reset the clip
-        graphics.setClip(originalClip);
+    private void renderHexagonTile(Graphics2D graphics, int x, int y, double zoom) {
+        // Draw the tile's habitat image, already cut to the hexagon shape
+        graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat(), (int) (size * zoom)), (x - size / 2) + 75, (y - size / 2) + 75, size, size, null);
 
         // Draw the outline of the hexagon
         graphics.setColor(Color.BLACK);
-        graphics.setStroke(new BasicStroke(2));
-        graphics.draw(hexagon);
+        graphics.setStroke(RenderResources.TILE_OUTLINE_STROKE);
+        graphics.draw(HexagonTemplate.of(size / 2).at(x + 75, y + 75));
 
         // Draw wildlife if present
         int wildlifeSize = (int) (size * 0.6);
         int offset = (size - wildlifeSize) / 2;
-        drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset);
+        drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset, zoom);
         if (!tile.getWildlife().isEmpty()) {
-            graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst()), x + offset, y + offset,
+            graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst(), (int) (wildlifeSize * zoom)), x + offset, y + offset,
                     wildlifeSize, wildlifeSize, null);
         }
     }
@@ -116,29 +134,20 @@ public class GraphicalTile {
      * @param y
      */
     private void renderAvailableHexagonTile(Graphics2D graphics, int x, int y) {
-        Polygon hexagon = createHexagon(x + 75, y + 75);
-
-        // Clip the graphics to the hexagon shape
-        Shape originalClip = graphics.getClip();
-        graphics.setClip(hexagon);
-
-        // Draw the tile's habitat image
-        graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat()), (x - size / 2) + 75, (y - size / 2) + 75, size, size, null);
-
-        // Reset the clip
-        graphics.setClip(originalClip);
+        // Draw the tile's habitat image, already cut to the hexagon shape
+        graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat(), size), (x - size / 2) + 75, (y - size / 2) + 75, size, size, null);
 
         // Draw the outline of the hexagon
         graphics.setColor(Color.BLACK);
-        graphics.setStroke(new BasicStroke(2));
-        graphics.draw(hexagon);
+        graphics.setStroke(RenderResources.TILE_OUTLINE_STROKE);
+        graphics.draw(HexagonTemplate.of(size / 2).at(x + 75, y + 75));
 
         // Draw wildlife if present
         int wildlifeSize = (int) (size * 0.6);
         int offset = (size - wildlifeSize) / 2;
         drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset);
         if (!tile.getWildlife().isEmpty()) {
-            graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst()), x + offset + 140, y + offset,
+            graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst(), wildlifeSize), x + offset + 140, y + offset,
                     wildlifeSize, wildlifeSize, null);
         }
     }
@@ -149,38 +158,19 @@ public class GraphicalTile {
      * @param graphics
      * @param x
      * @param y
+     * @param zoom     Zoom level of the grid
      */
-    private void renderSquareTile(Graphics2D graphics, int x, int y) {
-    	graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat()), x, y, size, size, null);
+    private void renderSquareTile(Graphics2D graphics, int x, int y, double zoom) {
+    	graphics.drawImage(imageManager.getHabitatImage(tile.getHabitat(), (int) (size * zoom)), x, y, size, size, null);
   		int wildlifeSize = (int) (size * 0.6);
   		int offset = (size - wildlifeSize) / 2;
-  		drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset);
+  		drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset, zoom);
   		if (!tile.getWildlife().isEmpty()) {
-  			graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst()), x + 25, y + 25, wildlifeSize, wildlifeSize,
+  			graphics.drawImage(imageManager.getWildlifeImage(tile.getWildlife().getFirst(), (int) (wildlifeSize * zoom)), x + 25, y + 25, wildlifeSize, wildlifeSize,
   					null);
   		}
     }
 
-    /**
-     * Creates a hexagonal shape centered at the given coordinates.
-     * 
-     * @param x Center X coordinate
-     * @param y Center Y coordinate
-     * @return Polygon representing the hexagon
-     */
-    private Polygon createHexagon(int x, int y) {
-        int halfSize = size / 2;
-
-        Polygon hexagon = new Polygon();
-        for (int i = 0; i < 6; i++) {
-            double angle = Math.toRadians(60 * i);
-            int dx = (int) (x + halfSize * Math.cos(angle));
-            int dy = (int) (y + halfSize * Math.sin(angle));
-            hexagon.addPoint(dx, dy);
-        }
-        return hexagon;
-    }
-
 	/**
 	 * Specially renders a tile if selected
 	 * 
@@ -190,7 +180,7 @@ public class GraphicalTile {
 	public void renderSelectedTile(Graphics2D graphics, GraphicalTile tile) {
 		Objects.requireNonNull(tile);
 		graphics.setColor(Color.YELLOW);
-		graphics.setStroke(new BasicStroke(8));
+		graphics.setStroke(RenderResources.SELECTION_STROKE);
 		graphics.drawRect(tile.getX(), tile.getY(), tile.getSize(), tile.getSize());
 	}
 
@@ -206,7 +196,7 @@ public class GraphicalTile {
 		int margin = 170;
 		drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset);
 
-		graphics.drawImage(imageManager.getWildlifeImage(selectedWildlife), x + margin, y + offset, wildlifeSize,
+		graphics.drawImage(imageManager.getWildlifeImage(selectedWildlife, wildlifeSize), x + margin, y + offset, wildlifeSize,
 				wildlifeSize, null);
 	}
 
@@ -232,15 +222,19 @@ public class GraphicalTile {
 	 * @param offset
 	 */
 	public void drawAuthorizedWildlife(Graphics2D graphics, int x, int y, int wildlifeSize, int offset) {
+		drawAuthorizedWildlife(graphics, x, y, wildlifeSize, offset, 1.0);
+	}
+
+	private void drawAuthorizedWildlife(Graphics2D graphics, int x, int y, int wildlifeSize, int offset, double zoom) {
 		int horizontalSpacing = -30;
 		int verticalOffset = 10;
-		int i = 0;
-		for (var wildlife : tile.getAuthorizedWildlife()) {
+		List<Wildlife> authorizedWildlife = tile.getAuthorizedWildlife();
+		for (int i = 0; i < authorizedWildlife.size(); i++) {
+			Wildlife wildlife = authorizedWildlife.get(i);
 			int xPos = x + (i * horizontalSpacing) + 10;
 			int yPos = y + offset + (i * verticalOffset) + 10;
-			graphics.drawImage(imageManager.getWildlifeImage(wildlife), xPos + this.size / 3, yPos, wildlifeSize / 2,
+			graphics.drawImage(imageManager.getWildlifeImage(wildlife, (int) (wildlifeSize / 2 * zoom)), xPos + this.size / 3, yPos, wildlifeSize / 2,
 					wildlifeSize / 2, null);
-			i++;
 		}
 	}
 
@@ -0,0 +1,57 @@
+package graphical.view.components;
+
+import java.awt.Polygon;
+import java.util.HashMap;
+
+/**
+ * Precomputed flat-topped hexagon of a given radius.
+ * Vertex offsets are computed once, so that placing the hexagon on screen costs
+ * no trigonometry and no allocation.
+ */
+public final class HexagonTemplate {
+	private static final HashMap<Integer, HexagonTemplate> TEMPLATES = new HashMap<>();
+
+	private final int[] offsetX = new int[6];
+	private final int[] offsetY = new int[6];
+	private final Polygon polygon = new Polygon(new int[6], new int[6], 6);
+
+	private HexagonTemplate(int radius) {
+		for (int i = 0; i < 6; i++) {
+			double angle = Math.toRadians(60 * i);
+			// floor() donne le même arrondi que la troncature des coordonnées positives
+			offsetX[i] = (int) Math.floor(radius * Math.cos(angle));
+			offsetY[i] = (int) Math.floor(radius * Math.sin(angle));
+		}
+	}
+
+	/**
+	 * Returns the template of a radius, computing it the first time it is requested.
+	 * 
+	 * @param radius Distance between centre and vertices
+	 * @return Shared template
+	 */
+	public static HexagonTemplate of(int radius) {
+		if (radius <= 0) {
+			throw new IllegalArgumentException("Radius must be positive");
+		}
+		return TEMPLATES.computeIfAbsent(radius, HexagonTemplate::new);
+	}
+
+	/**
+	 * Places the hexagon at a centre.
+	 * The returned polygon is shared and overwritten by the next call: it must only be used
+	 * for drawing on the render thread, and not be kept.
+	 * 
+	 * @param centerX X coordinate of the centre
+	 * @param centerY Y coordinate of the centre
+	 * @return Hexagon centered at the given coordinates
+	 */
+	public Polygon at(int centerX, int centerY) {
+		for (int i = 0; i < 6; i++) {
+			polygon.xpoints[i] = centerX + offsetX[i];
+			polygon.ypoints[i] = centerY + offsetY[i];
+		}
+		polygon.invalidate();
+		return polygon;
+	}
+}
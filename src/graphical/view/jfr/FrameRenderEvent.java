@@ -0,0 +1,33 @@
+package graphical.view.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a frame of the game screen, drawing and display included.
+ */
+@Name("cascadia.FrameRender")
+@Label("Frame Render")
+@Category({ "Cascadia", "Graphics" })
+@Description("Frame of the game screen")
+@StackTrace(false)
+public class FrameRenderEvent extends jdk.jfr.Event {
+	@Label("Player")
+	@Description("Player whose grid is displayed")
+	public String player;
+
+	@Label("Turn")
+	public int turn;
+
+	@Label("Grid Size")
+	public int gridSize;
+
+	@Label("Game Mode")
+	public String mode;
+
+	@Label("Zoom")
+	public double zoom;
+}
@@ -0,0 +1,27 @@
+package graphical.view.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of the load of an image resource.
+ */
+@Name("cascadia.ImageLoad")
+@Label("Image Load")
+@Category({ "Cascadia", "Graphics" })
+@StackTrace(false)
+public class ImageLoadEvent extends jdk.jfr.Event {
+	@Label("Image")
+	public String image;
+
+	@Label("Width")
+	public int width;
+
+	@Label("Height")
+	public int height;
+
+	@Label("Success")
+	public boolean success;
+}
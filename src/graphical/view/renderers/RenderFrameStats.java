@@ -0,0 +1,71 @@
+package graphical.view.renderers;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.util.Objects;
+
+import graphical.model.FrameHistogram;
+import graphical.model.FrameRecorder;
+import graphical.model.FrameRecorder.Phase;
+import graphical.view.resources.RenderResources;
+
+/**
+ * Overlay displaying the frame-time measures of the game screen.
+ * Texts are refreshed twice per second, so that the overlay barely weighs on the frames it measures.
+ */
+public class RenderFrameStats {
+	private static final long REFRESH_INTERVAL = 500_000_000L;
+	private static final int MARGIN = 10;
+
+	private final FrameRecorder recorder;
+	private final String[] lines = new String[Phase.values().length + 2];
+	private long lastRefresh;
+
+	/**
+	 * Constructor for RenderFrameStats
+	 * @param recorder Recorder of the game screen frames
+	 */
+	public RenderFrameStats(FrameRecorder recorder) {
+		this.recorder = Objects.requireNonNull(recorder);
+	}
+
+	/**
+	 * Renders the overlay at the bottom left of the screen.
+	 * @param graphics
+	 * @param height Height of screen
+	 */
+	public void render(Graphics2D graphics, int height) {
+		long now = System.nanoTime();
+		if (lines[0] == null || now - lastRefresh >= REFRESH_INTERVAL) {
+			refresh();
+			lastRefresh = now;
+		}
+		graphics.setFont(RenderResources.HUD_FONT);
+		FontMetrics metrics = graphics.getFontMetrics();
+		int lineHeight = metrics.getHeight();
+		int boxHeight = lineHeight * lines.length + 2 * MARGIN;
+		int y = height - boxHeight - MARGIN;
+
+		graphics.setColor(RenderResources.HUD_BACKGROUND_COLOR);
+		graphics.fillRect(MARGIN, y, metrics.stringWidth(lines[1]) + 2 * MARGIN, boxHeight);
+		graphics.setColor(Color.WHITE);
+		for (String line : lines) {
+			y += lineHeight;
+			graphics.drawString(line, 2 * MARGIN, y);
+		}
+	}
+
+	private void refresh() {
+		lines[0] = "Images : " + recorder.getFrameCount();
+		for (Phase phase : Phase.values()) {
+			lines[phase.ordinal() + 1] = formatLine(phase.name(), recorder.getHistogram(phase));
+		}
+		lines[lines.length - 1] = formatLine("LATENCY", recorder.getInputLatencyHistogram());
+	}
+
+	private static String formatLine(String name, FrameHistogram histogram) {
+		return String.format("%-8s p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms", name, histogram.percentile(50) / 1e6,
+				histogram.percentile(99) / 1e6, histogram.getMax() / 1e6);
+	}
+}
@@ -1,87 +1,183 @@
 package graphical.view.renderers;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics2D;
+import java.awt.Polygon;
 import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.Objects;
 
-import core.game.grid.AllNeighbors;
-import core.game.grid.Grid;
-import core.game.grid.HexNeighborsOdd;
-import core.game.grid.HexNeighborsPair;
-import core.game.grid.NeighborStrategy;
-import core.game.player.Player;
-import graphical.view.resources.*;
 import graphical.model.GameMode;
-import graphical.model.GameStateManager;
+import graphical.model.GameSnapshot;
+import graphical.model.PlacementHeatmap;
 import graphical.view.components.*;
+import graphical.view.resources.RenderResources;
 
 /**
  * Various rendering methods for game screen.
+ * Draws the game from a snapshot published by the game logic thread, so that rendering never waits for the game.
  */
 public class RenderGame {
 	private BufferedImage table;
 	private final int width;
 	private final int height;
-	private final GraphicalGrid translatedGrid;
-	private final List<GraphicalTile> graphicalTiles;
-	private final List<GraphicalTile> availableTiles;
 	private final List<GraphicalCard> scoringCards;
-	private final GameStateManager gameStateManager;
-	private final Grid grid;
-	
-	private static final int TILE_SIZE = 150;
-	private static final int TILE_WIDTH = (int)(TILE_SIZE * Math.sqrt(3)/1.75);
-    private static final int TILE_HEIGHT = (int)(TILE_SIZE * 1.15);
-	private static final int GRID_OFFSET_X = 750;
-	private static final int GRID_OFFSET_Y = 200;
-
+	private final Camera camera;
+	private final int[] visibleRange = new int[4];
+	private final int[] outlineX = new int[6];
+	private final int[] outlineY = new int[6];
+	private String turnInfo;
+	private String turnInfoPlayer;
+	private int turnInfoTurn;
+	// Textes des gains, créés une fois chacun : un placement peut aussi faire perdre des points
+	private static final int MIN_LABELLED_GAIN = -32;
+	private final String[] gainLabels = new String[96];
+
+	// Contour de sélection hexagonal des tuiles proposées, relatif au coin de la tuile
+	private static final int[] MARKET_OUTLINE_X = new int[6];
+	private static final int[] MARKET_OUTLINE_Y = new int[6];
+
+	static {
+		for (int i = 0; i < 6; i++) {
+			double angle = Math.PI / 3 * i;
+			if (i == 0) {
+				MARKET_OUTLINE_X[i] = (int) (BoardLayout.TILE_WIDTH / 2.20 * Math.cos(angle)) + 85; // pour coller avec la forme des tuiles
+			} else if (i == 3) {
+				MARKET_OUTLINE_X[i] = (int) (BoardLayout.TILE_WIDTH / 2.20 * Math.cos(angle)) + 65; // pour coller avec la forme des tuiles
+			} else {
+				MARKET_OUTLINE_X[i] = (int) (BoardLayout.TILE_WIDTH / 2.20 * Math.cos(angle)) + 75;
+			}
+			MARKET_OUTLINE_Y[i] = (int) (BoardLayout.TILE_HEIGHT / 2.20 * Math.sin(angle)) + 75;
+		}
+	}
 
 	/**
 	 * Constructor for RenderGame
 	 * @param table
 	 * @param width
 	 * @param height
-	 * @param grid
-	 * @param imageManager
-	 * @param availableTiles
+	 * @param scoringCards
+	 * @param camera Camera of the board
 	 */
-	public RenderGame(BufferedImage table, int width, int height, Grid grid, TileImageManager imageManager,
-			List<GraphicalTile> availableTiles, List<GraphicalCard> scoringCards, GameStateManager gameStateManager) {
+	public RenderGame(BufferedImage table, int width, int height, List<GraphicalCard> scoringCards, Camera camera) {
 		this.table = Objects.requireNonNull(table);
 		this.width = width;
 		this.height = height;
-		this.grid = grid;
-		this.translatedGrid = new GraphicalGrid(grid, imageManager, gameStateManager);
-		this.graphicalTiles = translatedGrid.createGrid();
-		this.availableTiles = Objects.requireNonNull(availableTiles);
 		this.scoringCards = Objects.requireNonNull(scoringCards);
-		this.gameStateManager = Objects.requireNonNull(gameStateManager);
+		this.camera = Objects.requireNonNull(camera);
 	}
 
 	/**
 	 * Renders game screen.
 	 * @param graphics
+	 * @param snapshot State of the game to be drawn
+	 * @param heatmap  Placement hints to be drawn over the available cells, or null
 	 */
-	public void render(Graphics2D graphics) {
+	public void render(Graphics2D graphics, GameSnapshot snapshot, PlacementHeatmap heatmap) {
+	    Objects.requireNonNull(snapshot);
 	    // Draw the game table
 	    graphics.drawImage(table, 0, 0, width, height, null);
 
-	    // Render the grid with available tiles
-	    translatedGrid.renderAvailableTilesOnGrid(graphics);
-	    translatedGrid.renderGrid(graphics, graphicalTiles);
+	    // Render the grid with available tiles through the camera
+	    camera.applyTo(graphics);
+	    if (snapshot.layout().visibleRange(camera.worldMinX(), camera.worldMinY(), camera.worldMaxX(),
+	    		camera.worldMaxY(), visibleRange)) {
+	    	renderAvailableCellsOnGrid(graphics, snapshot);
+	    	if (heatmap != null && heatmap.position().equals(snapshot.hintPosition())) {
+	    		renderPlacementHints(graphics, snapshot, heatmap);
+	    	}
+	    	renderGrid(graphics, snapshot);
+	    }
+	    camera.removeFrom(graphics);
 
 	    // Display scoring cards
 	    displayScoringCards(graphics, scoringCards);
 
 	    // Render available tiles
-	    renderAvailableTiles(graphics);
+	    renderAvailableTiles(graphics, snapshot.market(), snapshot.layout().getMode());
+	}
+
+	/**
+	 * Renders the tiles of the grid inside the visible range.
+	 * @param graphics
+	 * @param snapshot
+	 */
+	private void renderGrid(Graphics2D graphics, GameSnapshot snapshot) {
+		BoardLayout layout = snapshot.layout();
+		for (int x = visibleRange[0]; x <= visibleRange[1]; x++) {
+			for (int y = visibleRange[2]; y <= visibleRange[3]; y++) {
+				GraphicalTile graphicalTile = snapshot.cells()[layout.index(x, y)];
+				if (graphicalTile != null) {
+					graphicalTile.renderTileOnGrid(graphics, graphicalTile.getX(), graphicalTile.getY(), layout.getMode(),
+							camera.getZoom());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Renders available spaces on grid for tile placement inside the visible range.
+	 * @param graphics
+	 * @param snapshot
+	 */
+	private void renderAvailableCellsOnGrid(Graphics2D graphics, GameSnapshot snapshot) {
+		BoardLayout layout = snapshot.layout();
+		for (int x = visibleRange[0]; x <= visibleRange[1]; x++) {
+			for (int y = visibleRange[2]; y <= visibleRange[3]; y++) {
+				if (snapshot.availableCells()[layout.index(x, y)]) {
+					Polygon outline = layout.outline(x, y);
+					graphics.setColor(RenderResources.AVAILABLE_CELL_COLOR);
+					graphics.fillPolygon(outline);
+					graphics.setColor(Color.GREEN);
+					graphics.drawPolygon(outline);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Renders the heatmap of the placement hints over the available cells inside the visible range: the gain of the
+	 * selected tile, or of the best tile of the market if none is selected.
+	 * @param graphics
+	 * @param snapshot
+	 * @param heatmap Hints of the position of the snapshot
+	 */
+	private void renderPlacementHints(Graphics2D graphics, GameSnapshot snapshot, PlacementHeatmap heatmap) {
+		BoardLayout layout = snapshot.layout();
+		int slot = snapshot.selectedTile() == null ? -1 : snapshot.market().indexOf(snapshot.selectedTile());
+		int range = Math.max(1, heatmap.max() - heatmap.min());
+		Color[] colors = RenderResources.HEATMAP_COLORS;
+		graphics.setFont(RenderResources.HINT_FONT);
+		FontMetrics metrics = graphics.getFontMetrics();
+		for (int x = visibleRange[0]; x <= visibleRange[1]; x++) {
+			for (int y = visibleRange[2]; y <= visibleRange[3]; y++) {
+				int index = layout.index(x, y);
+				int gain = heatmap.gain(slot, index);
+				if (!snapshot.availableCells()[index] || gain == PlacementHeatmap.NO_PLACEMENT) {
+					continue;
+				}
+				graphics.setColor(colors[(gain - heatmap.min()) * (colors.length - 1) / range]);
+				graphics.fillPolygon(layout.outline(x, y));
+				String label = gainLabel(gain);
+				graphics.setColor(Color.WHITE);
+				graphics.drawString(label, layout.centerX(x, y) - metrics.stringWidth(label) / 2,
+						layout.centerY(x, y) + metrics.getAscent() / 2);
+			}
+		}
+	}
+
+	private String gainLabel(int gain) {
+		int index = gain - MIN_LABELLED_GAIN;
+		if (index < 0 || index >= gainLabels.length) {
+			return gain < 0 ? Integer.toString(gain) : "+" + gain;
+		}
+		if (gainLabels[index] == null) {
+			gainLabels[index] = gain < 0 ? Integer.toString(gain) : "+" + gain;
+		}
+		return gainLabels[index];
 	}
 
-	
     /**
      * Displays scoring cards on the game screen.
      * @param graphics
@@ -93,7 +189,8 @@ public class RenderGame {
         int tileSizeX = 150;
         int spacing = 40;
 
-        for (GraphicalCard scoringCard : scoringCards) {
+        for (int i = 0; i < scoringCards.size(); i++) {
+            GraphicalCard scoringCard = scoringCards.get(i);
             scoringCard.setPosition(startX, startY);
             scoringCard.renderCardOnGrid(graphics, scoringCard, startX, startY);
             startX += tileSizeX + spacing;
@@ -103,116 +200,44 @@ public class RenderGame {
     /**
      * Renders available tiles for selection.
      * @param graphics
+     * @param availableTiles Tiles proposed to player
+     * @param mode Current game mode
      */
-    private void renderAvailableTiles(Graphics2D graphics) {
-        for (GraphicalTile availableTile : availableTiles) {
-            if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
-            	availableTile.renderAvailableTile(graphics, availableTile.getX(), availableTile.getY(), gameStateManager.getCurrentGameMode());
+    private void renderAvailableTiles(Graphics2D graphics, List<GraphicalTile> availableTiles, GameMode mode) {
+        for (int i = 0; i < availableTiles.size(); i++) {
+            GraphicalTile availableTile = availableTiles.get(i);
+            availableTile.renderAvailableTile(graphics, availableTile.getX(), availableTile.getY(), mode);
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(RenderResources.THICK_STROKE);
+            if (mode == GameMode.GRAPHICAL_HEXAGON_TILES) {
                 // Contour de sélection hexagonal
-                graphics.setColor(Color.BLACK);
-                graphics.setStroke(new BasicStroke(5));
-                int[] xPoints = new int[6];
-                int[] yPoints = new int[6];
-                for (int i = 0; i < 6; i++) {
-                    double angle = Math.PI / 3 * i;
-                    if (i==0) {
-                    	xPoints[i] = availableTile.getX() + (int)(TILE_WIDTH/2.20 * Math.cos(angle)) + 85; // pour coller avec la forme des tuiles
-                    } else if (i==3) {
-                    	xPoints[i] = availableTile.getX() + (int)(TILE_WIDTH/2.20 * Math.cos(angle)) + 65; // pour coller avec la forme des tuiles
-                    } else {
-                    xPoints[i] = availableTile.getX() + (int)(TILE_WIDTH/2.20 * Math.cos(angle)) + 75;
-                    }
-                    yPoints[i] = availableTile.getY() + (int)(TILE_HEIGHT/2.20 * Math.sin(angle)) + 75;
+                for (int j = 0; j < 6; j++) {
+                    outlineX[j] = availableTile.getX() + MARKET_OUTLINE_X[j];
+                    outlineY[j] = availableTile.getY() + MARKET_OUTLINE_Y[j];
                 }
-                graphics.drawPolygon(xPoints, yPoints, 6);
+                graphics.drawPolygon(outlineX, outlineY, 6);
             } else {
-                availableTile.renderAvailableTile(graphics, availableTile.getX(), availableTile.getY(), gameStateManager.getCurrentGameMode());
-                graphics.setColor(Color.BLACK);
-                graphics.setStroke(new BasicStroke(5));
                 graphics.drawRect(availableTile.getX() - 1, availableTile.getY() - 1, 
                                 availableTile.getSize() + 1, availableTile.getSize() + 1);
             }
         }
     }
 
-    /**
-     * Renders available tiles on grid.
-     * @param graphics
-     */
-    public void renderAvailableTilesOnGrid(Graphics2D graphics) {
-            
-        for (int x = 0; x < grid.getSize(); x++) {
-            for (int y = 0; y < grid.getSize(); y++) {
-				NeighborStrategy strategy;
-				if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
-				    // Déterminer si la colonne est impaire ou paire
-				    boolean isOddColumn = (x % 2 != 0); // 'x' est la coordonnée de la colonne
-				    strategy = isOddColumn ? new HexNeighborsOdd() : new HexNeighborsPair();
-				} else {
-				    strategy = new AllNeighbors();
-				}
-
-                if (grid.getTile(x, y) == null && grid.nonEmptyNeighbor(x, y, strategy)) {
-                    if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
-                        // Calcul de la position pour les hexagones
-                        double posX = GRID_OFFSET_X + x * (TILE_WIDTH * 0.75);
-                        double posY = GRID_OFFSET_Y + y * (TILE_HEIGHT * 0.75);
-                        if (x % 2 != 0) {
-                            posY += TILE_HEIGHT * 0.375;
-                        }
-                        renderAvailableHexagonTile(graphics, (int)posX, (int)posY);
-                    } else {
-                        int pixelX = GRID_OFFSET_X + x * TILE_SIZE;
-                        int pixelY = GRID_OFFSET_Y + y * TILE_SIZE;
-                        renderAvailableSquareTile(graphics, pixelX, pixelY);
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Renders available tiles for selection in hexagonal version.
-     * @param graphics
-     */
-    private void renderAvailableHexagonTile(Graphics2D graphics, int x, int y) {
-        int[] xPoints = new int[6];
-        int[] yPoints = new int[6];
-
-        for (int i = 0; i < 6; i++) {
-            double angle = Math.PI / 3 * i;
-            xPoints[i] = x + (int)(TILE_WIDTH/2 * Math.cos(angle));
-            yPoints[i] = y + (int)(TILE_HEIGHT/2 * Math.sin(angle));
-        }
-
-        graphics.setColor(new Color(144, 238, 144, 50));
-        graphics.fillPolygon(xPoints, yPoints, 6);
-        graphics.setColor(Color.GREEN);
-        graphics.drawPolygon(xPoints, yPoints, 6);
-    }
-
-    /**
-     * Renders available tiles for selection in square version.
-     * @param graphics
-     */
-    private void renderAvailableSquareTile(Graphics2D graphics, int x, int y) {
-        graphics.setColor(new Color(144, 238, 144, 50));
-        graphics.fillRect(x, y, TILE_SIZE, TILE_SIZE);
-        graphics.setColor(Color.GREEN);
-        graphics.drawRect(x, y, TILE_SIZE, TILE_SIZE);
-    }
-
 	/**
 	 * Renders turn info of game.
 	 * @param graphics
-	 * @param currentPlayer
+	 * @param playerName Name of current player
 	 * @param currentTurn
 	 */
-	public void renderTurnInfo(Graphics2D graphics, Player currentPlayer, int currentTurn) {
-		Objects.requireNonNull(currentPlayer);
-		String turnInfo = String.format("TOUR %d - %s", currentTurn, currentPlayer.getName());
-		graphics.setFont(new Font("Arial", Font.ITALIC, 40));
-		graphics.setColor(java.awt.Color.WHITE);
+	public void renderTurnInfo(Graphics2D graphics, String playerName, int currentTurn) {
+		Objects.requireNonNull(playerName);
+		if (turnInfo == null || currentTurn != turnInfoTurn || !playerName.equals(turnInfoPlayer)) {
+			turnInfo = String.format("TOUR %d - %s", currentTurn, playerName); // Texte refait seulement s'il change
+			turnInfoTurn = currentTurn;
+			turnInfoPlayer = playerName;
+		}
+		graphics.setFont(RenderResources.TURN_INFO_FONT);
+		graphics.setColor(Color.WHITE);
 		graphics.drawString(turnInfo, 20, 60);
 	}
 
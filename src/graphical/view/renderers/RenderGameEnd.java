@@ -1,6 +1,5 @@
 package graphical.view.renderers;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
@@ -11,6 +10,7 @@ import java.util.Objects;
 
 import core.game.player.Player;
 import graphical.model.GameStateManager;
+import graphical.view.resources.RenderResources;
 
 /**
  * Various rendering methods of the ending screen.
@@ -22,6 +22,12 @@ public class RenderGameEnd {
 	private final int height;
 	private final GameStateManager stateManager;
 
+	// Textes du tableau des scores, calculés une seule fois pour une liste de joueurs
+	private List<Player> scoredPlayers;
+	private String[][] scoreTexts;
+	private String winnerText;
+	private Font scoreFont;
+
 	/**
 	 * Constructor for RenderGameEnd
 	 * @param panel
@@ -45,7 +51,7 @@ public class RenderGameEnd {
 	public void render(Graphics2D graphics) {
 		graphics.drawImage(panel, 0, 0, width, height, null);
 		graphics.setColor(Color.WHITE);
-		graphics.setFont(new Font("Arial", Font.BOLD, 100));
+		graphics.setFont(RenderResources.TITLE_FONT);
 		renderPrimaryButton(graphics);
 	}
 
@@ -61,7 +67,7 @@ public class RenderGameEnd {
 		int backButtonY = height / 2 + 340;
 
 		graphics.drawImage(backButton, buttonX, backButtonY, buttonWidth, buttonHeight, null);
-		graphics.setFont(new Font("DIALOG", Font.BOLD, 30));
+		graphics.setFont(RenderResources.BUTTON_FONT);
 		graphics.setColor(Color.WHITE);
 
 		FontMetrics metrics = graphics.getFontMetrics();
@@ -95,108 +101,80 @@ public class RenderGameEnd {
 	 * @param players  All players which their scores are displayed.
 	 */
 	public void renderScores(Graphics2D graphics, List<Player> players) {
+	    Objects.requireNonNull(players);
+	    if (players != scoredPlayers) {
+	        prepareScoreTexts(players);
+	    }
 	    int baseX = width / 5;
 	    int baseY = height / 3;
 	    int columnWidth = 200;
 	    int rowHeight = 50;
 
-	    int fontSize = Math.max(20, 30 - (players.size() - 2) * 5); // Réduire la taille avec plus de joueurs
-	    graphics.setFont(new Font("Arial", Font.PLAIN, fontSize));
+	    graphics.setFont(scoreFont);
 	    graphics.setColor(Color.BLACK);
 
 	    // Récupérer les métriques de police
 	    FontMetrics metrics = graphics.getFontMetrics();
 
-	    int x = drawPlayersHeader(graphics, baseX, baseY, columnWidth, players, metrics);
-	    graphics.setStroke(new BasicStroke(5));
+	    drawPlayersHeader(graphics, baseX, baseY, columnWidth, players, metrics);
+	    graphics.setStroke(RenderResources.THICK_STROKE);
 	    graphics.drawLine(baseX, height / 3 + 5, baseX * 4, height / 3 + 5);
-	    graphics.setStroke(new BasicStroke(1));
-	    int y = drawWildlifeScore(graphics, x, baseX, baseY, columnWidth, rowHeight, players, metrics);
-	    y = drawHabitatScore(graphics, x, y, baseX, baseY, columnWidth, rowHeight, players, metrics);
-	    y = drawBonus(graphics, x, y, baseX, baseY, columnWidth, rowHeight, players, metrics);
-	    y = drawTotalScore(graphics, x, y, baseX, baseY, columnWidth, rowHeight, players, metrics);
-	    drawWinner(graphics, players, baseX, y, rowHeight);
+	    graphics.setStroke(RenderResources.THIN_STROKE);
+	    int y = baseY;
+	    y = drawScoreRow(graphics, "Total Faune", scoreTexts[0], baseX, y + rowHeight, columnWidth, metrics);
+	    y = drawScoreRow(graphics, "Total Habitat", scoreTexts[1], baseX, y + rowHeight, columnWidth, metrics);
+	    y = drawScoreRow(graphics, "Total Bonus", scoreTexts[2], baseX, y + rowHeight, columnWidth, metrics);
+	    y = drawScoreRow(graphics, "Score Total", scoreTexts[3], baseX, y + rowHeight, columnWidth, metrics);
+	    graphics.drawString(winnerText, baseX, y + rowHeight);
 	}
 
+	/**
+	 * Formats the scores and the winner once, as they do not change on the ending screen.
+	 * 
+	 * @param players All players which their scores are displayed.
+	 */
+	private void prepareScoreTexts(List<Player> players) {
+		int fontSize = Math.max(20, 30 - (players.size() - 2) * 5); // Réduire la taille avec plus de joueurs
+		scoreFont = new Font("Arial", Font.PLAIN, fontSize);
+		scoreTexts = new String[4][players.size()];
+		for (int i = 0; i < players.size(); i++) {
+			Player player = players.get(i);
+			scoreTexts[0][i] = String.valueOf(player.getWildlifeScore());
+			scoreTexts[1][i] = String.valueOf(player.getHabitatScore());
+			scoreTexts[2][i] = String.valueOf(player.getBonusPoints());
+			scoreTexts[3][i] = String.valueOf(player.getTotalScore());
+		}
+		Player winner = stateManager.getGameUI().determineWinner(players);
+		if (winner != null) {
+			winnerText = winner.getName() + " est le vainqueur de la partie";
+		} else {
+			winnerText = "La partie est un match nul";
+		}
+		scoredPlayers = players;
+	}
 
-	private int drawPlayersHeader(Graphics2D graphics, int baseX, int baseY, int columnWidth, List<Player> players, FontMetrics metrics) {
-	    Objects.requireNonNull(players);
-	    int x = baseX;
-	    x += columnWidth;
-	    for (Player player : players) {
-	        int textWidth = metrics.stringWidth(player.getName());
+	private void drawPlayersHeader(Graphics2D graphics, int baseX, int baseY, int columnWidth, List<Player> players, FontMetrics metrics) {
+	    int x = baseX + columnWidth;
+	    for (int i = 0; i < players.size(); i++) {
+	        String name = players.get(i).getName();
+	        int textWidth = metrics.stringWidth(name);
 	        int textX = x + (int)(columnWidth / 1.5) - (int)(textWidth / 1.5);
-	        graphics.drawString(player.getName(), textX, baseY);
+	        graphics.drawString(name, textX, baseY);
 	        x += (int)(columnWidth / 1.5);
 	    }
-	    return x;
 	}
 
-
-	private int drawWildlifeScore(Graphics2D graphics, int x, int baseX, int baseY, int columnWidth, int rowHeight,
-			List<Player> players, FontMetrics metrics) {
-		int y = baseY + rowHeight;
-		graphics.drawString("Total Faune", baseX, y);
-		x = baseX + columnWidth;
-		for (Player player : players) {
-			int textWidth = metrics.stringWidth(String.valueOf(player.getWildlifeScore()));
+	private int drawScoreRow(Graphics2D graphics, String label, String[] scores, int baseX, int y, int columnWidth,
+			FontMetrics metrics) {
+		graphics.drawString(label, baseX, y);
+		int x = baseX + columnWidth;
+		for (String score : scores) {
+			int textWidth = metrics.stringWidth(score);
 			int textX = x + (int)(columnWidth / 1.5) - (int)(textWidth / 1.5);
-			graphics.drawString(String.valueOf(player.getWildlifeScore()), textX, y);
+			graphics.drawString(score, textX, y);
 			x += (int)(columnWidth / 1.5);
 		}
 		return y;
 	}
-
-	private int drawHabitatScore(Graphics2D graphics, int x, int y, int baseX, int baseY, int columnWidth, int rowHeight,
-			List<Player> players, FontMetrics metrics) {
-		y += rowHeight;
-		graphics.drawString("Total Habitat", baseX, y);
-		x = baseX + columnWidth;
-		for (Player player : players) {
-			int textWidth = metrics.stringWidth(String.valueOf(player.getHabitatScore()));
-			int textX = x + (int)(columnWidth / 1.5) - (int)(textWidth / 1.5);
-			graphics.drawString(String.valueOf(player.getHabitatScore()), textX, y);
-			x += (int)(columnWidth / 1.5);
-		}
-		return y;
-	}
-
-	private int drawBonus(Graphics2D graphics, int x, int y, int baseX, int baseY, int columnWidth, int rowHeight,
-			List<Player> players, FontMetrics metrics) {
-		y += rowHeight;
-		graphics.drawString("Total Bonus", baseX, y);
-		x = baseX + columnWidth;
-		for (Player player : players) {
-			int textWidth = metrics.stringWidth(String.valueOf(player.getBonusPoints()));
-			int textX = x + (int)(columnWidth / 1.5) - (int)(textWidth / 1.5);
-			graphics.drawString(String.valueOf(player.getBonusPoints()), textX, y);
-			x += (int)(columnWidth / 1.5);
-		}
-		return y;
-	}
-
-	private int drawTotalScore(Graphics2D graphics, int x, int y, int baseX, int baseY, int columnWidth, int rowHeight,
-			List<Player> players, FontMetrics metrics) {
-		y += rowHeight;
-		graphics.drawString("Score Total", baseX, y);
-		x = baseX + columnWidth;
-		for (Player player : players) {
-			int textWidth = metrics.stringWidth(String.valueOf(player.getTotalScore()));
-			int textX = x + (int)(columnWidth / 1.5) - (int)(textWidth / 1.5);
-			graphics.drawString(String.valueOf(player.getTotalScore()), textX, y);
-			x += (int)(columnWidth / 1.5);
-		}
-		return y;		
-	}
-
-	private void drawWinner(Graphics2D graphics, List<Player> players, int baseX, int y, int rowHeight) {
-		Player winner = stateManager.getGameUI().determineWinner(players);
-		y += rowHeight;
-		if (winner != null) {
-			graphics.drawString(winner.getName() + " est le vainqueur de la partie", baseX, y);			
-		} else {
-			graphics.drawString("La partie est un match nul", baseX, y);								
-		}
-	}
 	
-}
+}
\ No newline at end of file
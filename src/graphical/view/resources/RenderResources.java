@@ -0,0 +1,41 @@
+package graphical.view.resources;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+
+/**
+ * Fonts, strokes and colors shared by the renderers.
+ * They are immutable, so they are created once instead of on every frame.
+ */
+public final class RenderResources {
+	public static final Font TURN_INFO_FONT = new Font("Arial", Font.ITALIC, 40);
+	public static final Font PROMPT_DIALOG_FONT = new Font("Arial", Font.PLAIN, 16);
+	public static final Font POP_UP_DIALOG_FONT = new Font("Arial", Font.PLAIN, 20);
+	public static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 100);
+	public static final Font BUTTON_FONT = new Font("DIALOG", Font.BOLD, 30);
+	public static final Font HUD_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 14);
+	public static final Font HINT_FONT = new Font("Arial", Font.BOLD, 28);
+
+	public static final BasicStroke THIN_STROKE = new BasicStroke(1);
+	public static final BasicStroke TILE_OUTLINE_STROKE = new BasicStroke(2);
+	public static final BasicStroke THICK_STROKE = new BasicStroke(5);
+	public static final BasicStroke SELECTION_STROKE = new BasicStroke(8);
+
+	public static final Color AVAILABLE_CELL_COLOR = new Color(144, 238, 144, 50);
+	public static final Color HUD_BACKGROUND_COLOR = new Color(0, 0, 0, 170);
+	// Du rouge (gain le plus faible) au vert (gain le plus fort) en passant par le jaune
+	public static final Color[] HEATMAP_COLORS = new Color[11];
+
+	static {
+		for (int i = 0; i < HEATMAP_COLORS.length; i++) {
+			double level = (double) i / (HEATMAP_COLORS.length - 1);
+			int red = (int) (255 * Math.min(1, 2 * (1 - level)));
+			int green = (int) (255 * Math.min(1, 2 * level));
+			HEATMAP_COLORS[i] = new Color(red, green, 0, 120);
+		}
+	}
+
+	private RenderResources() {
+	}
+}
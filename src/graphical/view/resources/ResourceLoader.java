@@ -7,6 +7,8 @@ import java.util.Objects;
 
 import javax.imageio.ImageIO;
 
+import graphical.view.jfr.ImageLoadEvent;
+
 /**
  * Responsible for loading and managing image resources
  */
@@ -29,16 +31,28 @@ public class ResourceLoader {
 		Objects.requireNonNull(imageNames);
 
 		for (var imageName : imageNames) {
+			ImageLoadEvent event = new ImageLoadEvent();
+			event.begin();
+			BufferedImage image = null;
 			try (InputStream input = ResourceLoader.class.getResourceAsStream("/images/" + imageName)) {
 				if (input == null) {
 					System.err.println("Error! Image not found");
 				}
-				var image = ImageIO.read(input);
+				image = ImageIO.read(input);
 				String key = imageName.substring(0, imageName.lastIndexOf('.'));
 				images.put(key, image);
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
+			if (event.shouldCommit()) {
+				event.image = imageName;
+				event.success = image != null;
+				if (image != null) {
+					event.width = image.getWidth();
+					event.height = image.getHeight();
+				}
+				event.commit();
+			}
 		}
 	}
 
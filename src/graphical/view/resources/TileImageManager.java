@@ -1,7 +1,12 @@
 package graphical.view.resources;
 
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 
 import core.game.mechanics.Habitat;
@@ -12,10 +17,14 @@ import graphical.model.GameStateManager;
 /**
  * Viewer class of tile.
  * Translates core tiles to graphic.
+ * Each image is kept with a chain of mipmaps (each level half the size of the previous one),
+ * so that small tiles are drawn from a small image instead of downscaling the full one.
+ * In hexagonal mode, habitat images are cut to their hexagon once when loaded.
  */
 public class TileImageManager {
-	private final HashMap<Habitat, BufferedImage> habitatImages;
-	private final HashMap<Wildlife, BufferedImage> wildlifeImages;
+	private static final int MIN_MIPMAP_SIZE = 16;
+	private final HashMap<Habitat, BufferedImage[]> habitatImages;
+	private final HashMap<Wildlife, BufferedImage[]> wildlifeImages;
 	private final ResourceLoader resourceLoader;
 	private final GameStateManager gameStateManager;
 
@@ -76,23 +85,123 @@ public class TileImageManager {
 		Objects.requireNonNull(habitat);
 		Objects.requireNonNull(filename);
 		resourceLoader.loadImages(new String[] { filename });
-		habitatImages.put(habitat, resourceLoader.getImage(filename.substring(0, filename.lastIndexOf('.'))));
+		BufferedImage[] levels = createMipmaps(resourceLoader.getImage(filename.substring(0, filename.lastIndexOf('.'))));
+		if (gameStateManager.getCurrentGameMode() == GameMode.GRAPHICAL_HEXAGON_TILES) {
+			for (int i = 0; i < levels.length; i++) {
+				levels[i] = maskHexagon(levels[i]);
+			}
+		}
+		habitatImages.put(habitat, levels);
 	}
 
 	private void loadWildlifeImage(Wildlife wildlife, String filename) {
 		Objects.requireNonNull(wildlife);
 		Objects.requireNonNull(filename);
 		resourceLoader.loadImages(new String[] { filename });
-		wildlifeImages.put(wildlife, resourceLoader.getImage(filename.substring(0, filename.lastIndexOf('.'))));
+		wildlifeImages.put(wildlife, createMipmaps(resourceLoader.getImage(filename.substring(0, filename.lastIndexOf('.')))));
+	}
+
+	/**
+	 * Builds the mipmap chain of an image, from the original image down to about
+	 * {@value #MIN_MIPMAP_SIZE} pixels.
+	 * 
+	 * @param image Original image
+	 * @return Levels of the image, largest first
+	 */
+	private static BufferedImage[] createMipmaps(BufferedImage image) {
+		List<BufferedImage> levels = new ArrayList<>();
+		levels.add(image);
+		BufferedImage level = image;
+		while (level.getWidth() / 2 >= MIN_MIPMAP_SIZE && level.getHeight() / 2 >= MIN_MIPMAP_SIZE) {
+			int width = level.getWidth() / 2;
+			int height = level.getHeight() / 2;
+			BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = next.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(level, 0, 0, width, height, null);
+			graphics.dispose();
+			levels.add(next);
+			level = next;
+		}
+		return levels.toArray(new BufferedImage[0]);
+	}
+
+	/**
+	 * Cuts an image to the flat-topped hexagon inscribed in it, so that hexagonal tiles
+	 * are drawn without clipping on every frame.
+	 * 
+	 * @param image Square image
+	 * @return Copy of the image, transparent outside of the hexagon
+	 */
+	private static BufferedImage maskHexagon(BufferedImage image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		Polygon hexagon = new Polygon();
+		for (int i = 0; i < 6; i++) {
+			double angle = Math.toRadians(60 * i);
+			hexagon.addPoint((int) (width / 2 + width / 2 * Math.cos(angle)), (int) (height / 2 + height / 2 * Math.sin(angle)));
+		}
+		BufferedImage masked = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = masked.createGraphics();
+		graphics.setClip(hexagon);
+		graphics.drawImage(image, 0, 0, null);
+		graphics.dispose();
+		return masked;
+	}
+
+	/**
+	 * Selects the smallest level that is still at least as large as the drawn size.
+	 */
+	private static BufferedImage selectLevel(BufferedImage[] levels, int drawnSize) {
+		if (levels == null) {
+			return null;
+		}
+		int level = 0;
+		while (level + 1 < levels.length && levels[level + 1].getWidth() >= drawnSize) {
+			level++;
+		}
+		return levels[level];
 	}
 
+	/**
+	 * Getter of full resolution habitat image
+	 * @param habitat
+	 * @return Habitat image
+	 */
 	public BufferedImage getHabitatImage(Habitat habitat) {
 		Objects.requireNonNull(habitat);
-		return habitatImages.get(habitat);
+		return selectLevel(habitatImages.get(habitat), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Getter of habitat image fitted to the size it is drawn at on screen
+	 * @param habitat
+	 * @param drawnSize Size in pixels of the drawn image
+	 * @return Habitat image
+	 */
+	public BufferedImage getHabitatImage(Habitat habitat, int drawnSize) {
+		Objects.requireNonNull(habitat);
+		return selectLevel(habitatImages.get(habitat), drawnSize);
 	}
 
+	/**
+	 * Getter of full resolution wildlife image
+	 * @param wildlife
+	 * @return Wildlife image
+	 */
 	public BufferedImage getWildlifeImage(Wildlife wildlife) {
 		Objects.requireNonNull(wildlife);
-		return wildlifeImages.get(wildlife);
+		return selectLevel(wildlifeImages.get(wildlife), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Getter of wildlife image fitted to the size it is drawn at on screen
+	 * @param wildlife
+	 * @param drawnSize Size in pixels of the drawn image
+	 * @return Wildlife image
+	 */
+	public BufferedImage getWildlifeImage(Wildlife wildlife, int drawnSize) {
+		Objects.requireNonNull(wildlife);
+		return selectLevel(wildlifeImages.get(wildlife), drawnSize);
 	}
-}
+}
\ No newline at end of file
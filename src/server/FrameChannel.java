@@ -0,0 +1,97 @@
+package server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.Objects;
+
+/**
+ * Frames of the binary protocol over a channel: each frame is an unsigned short length, then as many bytes,
+ * the first one being the opcode (see {@link Protocol}).
+ * Buffers start small and grow with the largest frame seen, so that thousands of idle connections stay cheap.
+ * Not thread-safe: a frame channel is used by one connection at a time.
+ */
+final class FrameChannel {
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final ByteChannel channel;
+	private ByteBuffer in = ByteBuffer.allocate(INITIAL_CAPACITY).flip(); // En mode lecture
+	private ByteBuffer out = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+	FrameChannel(ByteChannel channel) {
+		this.channel = Objects.requireNonNull(channel);
+	}
+
+	/**
+	 * Reads the next frame. The frame is only valid until the next call.
+	 * @return Frame, positioned on its opcode, or null at the end of the stream
+	 * @throws IOException if the channel fails or ends within a frame
+	 */
+	ByteBuffer receive() throws IOException {
+		while (true) {
+			if (in.remaining() >= Short.BYTES) {
+				int length = Short.toUnsignedInt(in.getShort(in.position()));
+				if (length == 0) {
+					throw new IOException("Empty frame");
+				}
+				if (in.remaining() >= Short.BYTES + length) {
+					ByteBuffer frame = in.slice(in.position() + Short.BYTES, length);
+					in.position(in.position() + Short.BYTES + length);
+					return frame;
+				}
+				ensureInputCapacity(Short.BYTES + length);
+			}
+			in.compact();
+			int read = channel.read(in);
+			in.flip();
+			if (read < 0) {
+				if (in.hasRemaining()) {
+					throw new EOFException("Stream ended within a frame");
+				}
+				return null;
+			}
+		}
+	}
+
+	private void ensureInputCapacity(int capacity) {
+		if (in.capacity() < capacity) {
+			ByteBuffer larger = ByteBuffer.allocate(Integer.highestOneBit(capacity - 1) << 1);
+			larger.put(in).flip();
+			in = larger;
+		}
+	}
+
+	/**
+	 * Starts a frame to be sent
+	 * @param opcode   Opcode of the frame
+	 * @param capacity Size of the payload, or an upper bound
+	 * @return Buffer where the payload is to be written
+	 */
+	ByteBuffer begin(byte opcode, int capacity) {
+		int needed = Short.BYTES + 1 + capacity;
+		if (out.capacity() < needed) {
+			out = ByteBuffer.allocate(Integer.highestOneBit(needed - 1) << 1);
+		}
+		out.clear();
+		out.position(Short.BYTES);
+		out.put(opcode);
+		return out;
+	}
+
+	/**
+	 * Sends the frame started by {@link #begin(byte, int)}
+	 * @throws IOException if the channel fails
+	 */
+	void send() throws IOException {
+		out.flip();
+		int length = out.limit() - Short.BYTES;
+		if (length > Protocol.MAX_FRAME) {
+			throw new IOException("Frame too long: " + length);
+		}
+		out.putShort(0, (short) length);
+		while (out.hasRemaining()) {
+			channel.write(out);
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.Move;
+import core.game.grid.Board;
+import core.game.grid.Tile;
+
+/**
+ * Blocking client of a {@link GameServer}. Each method sends one request and waits for its answer.
+ * Not thread-safe: a client is used by one thread, which may be a virtual thread.
+ */
+public final class GameClient implements Closeable {
+	private final SocketChannel channel;
+	private final FrameChannel frames;
+
+	private GameClient(SocketChannel channel) {
+		this.channel = channel;
+		this.frames = new FrameChannel(channel);
+	}
+
+	/**
+	 * Connects to a server
+	 * @param address Address of the server
+	 * @return Connected client
+	 * @throws IOException if the connection fails
+	 */
+	public static GameClient connect(InetSocketAddress address) throws IOException {
+		Objects.requireNonNull(address);
+		SocketChannel channel = SocketChannel.open(address);
+		channel.socket().setTcpNoDelay(true);
+		return new GameClient(channel);
+	}
+
+	/**
+	 * Creates a game on the server and joins it
+	 * @param variant    Game variant (1 to 3)
+	 * @param players    Number of players
+	 * @param seed       Seed of the deck
+	 * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+	 * @return Identifier of the game, to be joined by other clients
+	 * @throws IOException           if the connection fails
+	 * @throws IllegalStateException if the server refuses the request, as every other request
+	 */
+	public int newGame(int variant, int players, long seed, boolean redrawFor3) throws IOException {
+		frames.begin(Protocol.NEW_GAME, 11).put((byte) variant).put((byte) players).put((byte) (redrawFor3 ? 1 : 0))
+				.putLong(seed);
+		return request(Protocol.GAME).getInt();
+	}
+
+	/**
+	 * Joins a game created by another client, leaving the previous game if any
+	 * @param game Identifier of the game
+	 * @throws IOException if the connection fails
+	 */
+	public void join(int game) throws IOException {
+		frames.begin(Protocol.JOIN, Integer.BYTES).putInt(game);
+		request(Protocol.OK);
+	}
+
+	/**
+	 * Leaves the game, which is dropped by the server once every client left it
+	 * @throws IOException if the connection fails
+	 */
+	public void leave() throws IOException {
+		frames.begin(Protocol.LEAVE, 0);
+		request(Protocol.OK);
+	}
+
+	/**
+	 * Checks that the server answers
+	 * @throws IOException if the connection fails
+	 */
+	public void ping() throws IOException {
+		frames.begin(Protocol.PING, 0);
+		request(Protocol.PONG);
+	}
+
+	/**
+	 * State of the game, with the grid of the current player
+	 * @return State
+	 * @throws IOException if the connection fails
+	 */
+	public GameState state() throws IOException {
+		return state(Protocol.CURRENT_PLAYER);
+	}
+
+	/**
+	 * State of the game, with the grid of a player
+	 * @param player Index of the player, {@link Protocol#CURRENT_PLAYER} for the current one
+	 * @return State
+	 * @throws IOException if the connection fails
+	 */
+	public GameState state(int player) throws IOException {
+		frames.begin(Protocol.STATE, 1).put((byte) player);
+		ByteBuffer answer = request(Protocol.STATE_REPLY);
+		int turn = Short.toUnsignedInt(answer.getShort());
+		int currentPlayer = answer.get();
+		boolean over = answer.get() != 0;
+		int owner = answer.get();
+		int size = Byte.toUnsignedInt(answer.get());
+		Board board = Board.empty(size);
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				board = board.withCell(x, y, answer.getShort());
+			}
+		}
+		int marketSize = answer.get();
+		List<Tile> market = new ArrayList<>(marketSize);
+		for (int i = 0; i < marketSize; i++) {
+			market.add(Board.decode(answer.getShort()));
+		}
+		return new GameState(turn, currentPlayer, over, owner, board, market);
+	}
+
+	/**
+	 * Legal moves of the current player
+	 * @return Moves, empty if the game is over
+	 * @throws IOException if the connection fails
+	 */
+	public List<Move> moves() throws IOException {
+		frames.begin(Protocol.MOVES, 0);
+		ByteBuffer answer = request(Protocol.MOVES_REPLY);
+		int count = Short.toUnsignedInt(answer.getShort());
+		List<Move> moves = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			moves.add(Protocol.getMove(answer));
+		}
+		return moves;
+	}
+
+	/**
+	 * Plays a move for the current player
+	 * @param move Move
+	 * @return Scores of the players if the move ends the game, null otherwise
+	 * @throws IOException              if the connection fails
+	 * @throws IllegalArgumentException if the move is not legal
+	 */
+	public int[] play(Move move) throws IOException {
+		Objects.requireNonNull(move);
+		Protocol.putMove(frames.begin(Protocol.PLAY, Protocol.MOVE_SIZE), move);
+		ByteBuffer answer = request((byte) 0);
+		if (answer.get(0) == Protocol.OK) {
+			return null;
+		}
+		answer.get(); // Code de réponse GAME_OVER
+		int[] scores = new int[answer.get()];
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = answer.getShort();
+		}
+		return scores;
+	}
+
+	/**
+	 * Watches a game: the client then only receives its changes, see {@link #update(SpectatorView)}
+	 * @param game Identifier of the game
+	 * @return View of the game, filled by the first update
+	 * @throws IOException if the connection fails
+	 */
+	public SpectatorView watch(int game) throws IOException {
+		frames.begin(Protocol.WATCH, Integer.BYTES).putInt(game);
+		request(Protocol.OK);
+		return new SpectatorView();
+	}
+
+	/**
+	 * Waits for the next changes of the watched game
+	 * @param view View returned by {@link #watch(int)}
+	 * @return false if the server closed the feed, the game being dropped
+	 * @throws IOException if the connection fails
+	 */
+	public boolean update(SpectatorView view) throws IOException {
+		Objects.requireNonNull(view);
+		ByteBuffer delta = frames.receive();
+		if (delta == null) {
+			return false;
+		}
+		if (delta.get() != Protocol.DELTA) {
+			throw new IOException("Unexpected frame: " + delta.get(0));
+		}
+		view.apply(delta);
+		return true;
+	}
+
+	/**
+	 * Sends the pending request and reads its answer
+	 * @param expected Expected answer, 0 for {@link Protocol#OK} or {@link Protocol#GAME_OVER}, in which case
+	 *                 the answer is returned positioned on its code
+	 * @return Answer, positioned after its code
+	 */
+	private ByteBuffer request(byte expected) throws IOException {
+		frames.send();
+		ByteBuffer answer = frames.receive();
+		if (answer == null) {
+			throw new IOException("Connection closed by server");
+		}
+		byte code = answer.get(0);
+		if (code == Protocol.ERROR || code == Protocol.ILLEGAL) {
+			answer.get();
+			String message = Protocol.getText(answer);
+			if (code == Protocol.ILLEGAL) {
+				throw new IllegalArgumentException("Illegal move " + message);
+			}
+			throw new IllegalStateException(message);
+		}
+		if (expected == 0) {
+			if (code != Protocol.OK && code != Protocol.GAME_OVER) {
+				throw new IOException("Unexpected answer: " + code);
+			}
+			return answer;
+		}
+		if (code != expected) {
+			throw new IOException("Unexpected answer: " + code);
+		}
+		answer.get();
+		return answer;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,331 @@
+package server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import core.game.Match;
+import core.game.Move;
+
+/**
+ * Server hosting many independent games, played remotely with the binary {@link Protocol}.
+ * - Each connection is served by a virtual thread doing blocking reads and writes on its socket channel
+ * - Each game is a {@link GameSession}, whose actions are run one at a time whatever the number of
+ * connections playing it (for instance one per player around a table)
+ * - A game is dropped when its last connection leaves it
+ * - Spectators get the changes of a game every {@link #TICK_MILLIS} milliseconds, see {@link SpectatorFeed}
+ *
+ * A server listening on the loopback interface with port 0 gets a free port, see {@link #getAddress()}.
+ */
+public final class GameServer implements Closeable {
+	public static final int TICK_MILLIS = 50;
+
+	private final ServerSocketChannel listener;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Map<Integer, GameSession> sessions = new ConcurrentHashMap<>();
+	private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+	private final Set<SpectatorFeed> feeds = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+		Thread thread = new Thread(task, "spectator-feed");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicInteger nextId = new AtomicInteger(1);
+	private volatile boolean closed;
+
+	/**
+	 * Opens a server on an address; games are only served once {@link #start()} is called
+	 * @param address Address to listen to
+	 * @throws IOException if the address cannot be bound
+	 */
+	public GameServer(InetSocketAddress address) throws IOException {
+		Objects.requireNonNull(address);
+		this.listener = ServerSocketChannel.open();
+		listener.bind(address, 1024);
+	}
+
+	/**
+	 * Opens a server on the loopback interface
+	 * @param port Port, 0 for any free port
+	 * @throws IOException if the port cannot be bound
+	 */
+	public GameServer(int port) throws IOException {
+		this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+	}
+
+	/**
+	 * Starts accepting connections, on a virtual thread
+	 */
+	public void start() {
+		executor.execute(this::acceptLoop);
+		ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Getter of the address the server listens to
+	 * @return Address with the actual port
+	 * @throws IOException if the server is closed
+	 */
+	public InetSocketAddress getAddress() throws IOException {
+		return (InetSocketAddress) listener.getLocalAddress();
+	}
+
+	/**
+	 * Getter of the number of games being played
+	 * @return Number of sessions
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Getter of the number of open connections
+	 * @return Number of connections
+	 */
+	public int getConnectionCount() {
+		return connections.size();
+	}
+
+	/**
+	 * Creates a game, counted as played by the connection creating it: it is dropped once every connection
+	 * playing it left it. Only called for a connection, which must leave the session when it stops playing it,
+	 * otherwise the session would never be dropped
+	 * @param variant    Game variant (1 to 3)
+	 * @param players    Number of players
+	 * @param seed       Seed of the deck
+	 * @param redrawFor3 true if the market is drawn again when 3 of its tokens are identical
+	 * @return New session
+	 */
+	GameSession createSession(int variant, int players, long seed, boolean redrawFor3) {
+		int id = nextId.getAndIncrement();
+		GameSession session = new GameSession(id, new Match(variant, players, seed, redrawFor3), executor);
+		sessions.put(id, session);
+		return session;
+	}
+
+	/**
+	 * Finds a game being played
+	 * @param id Identifier of the game
+	 * @return Session, or null if there is no such game
+	 */
+	public GameSession getSession(int id) {
+		return sessions.get(id);
+	}
+
+	private void acceptLoop() {
+		while (!closed) {
+			try {
+				SocketChannel channel = listener.accept();
+				connections.add(channel);
+				executor.execute(() -> serve(channel));
+			} catch (AsynchronousCloseException e) {
+				return; // Serveur fermé
+			} catch (IOException e) {
+				System.err.println("Connexion refusée : " + e.getMessage());
+			}
+		}
+	}
+
+	private void serve(SocketChannel channel) {
+		FrameChannel frames = new FrameChannel(channel);
+		GameSession session = null;
+		try (channel) {
+			channel.socket().setTcpNoDelay(true);
+			ByteBuffer request;
+			while ((request = frames.receive()) != null) {
+				if (request.get(0) == Protocol.WATCH && watch(channel, request, frames)) {
+					return;
+				}
+				session = answer(request, session, frames);
+				frames.send();
+			}
+		} catch (AsynchronousCloseException e) {
+			// Serveur fermé
+		} catch (IOException e) {
+			if (!closed) {
+				System.err.println("Connexion interrompue : " + e.getMessage());
+			}
+		} finally {
+			connections.remove(channel);
+			leave(session);
+		}
+	}
+
+	/**
+	 * Turns the connection into a spectator of a game, until it is closed
+	 * @return false if the request is to be answered with an error
+	 */
+	private boolean watch(SocketChannel channel, ByteBuffer request, FrameChannel frames) throws IOException {
+		if (request.remaining() < 1 + Integer.BYTES) {
+			return false;
+		}
+		GameSession watched = sessions.get(request.getInt(1));
+		if (watched == null) {
+			return false;
+		}
+		frames.begin(Protocol.OK, 0);
+		frames.send();
+		SpectatorFeed feed = watched.getFeed();
+		feeds.add(feed);
+		if (sessions.get(watched.getId()) != watched && feeds.remove(feed)) {
+			ticker.execute(feed::close); // Partie abandonnée entre-temps
+		}
+		Spectator spectator = new Spectator(channel, executor);
+		ticker.execute(() -> feed.add(spectator));
+		try {
+			while (frames.receive() != null) {
+				// Un spectateur n'envoie plus rien d'utile
+			}
+		} finally {
+			spectator.close();
+		}
+		return true;
+	}
+
+	private void tick() {
+		for (SpectatorFeed feed : feeds) {
+			feed.tick();
+		}
+	}
+
+	/**
+	 * Executes a request and prepares its answer in the output frame
+	 * @return Session played by the connection after the request
+	 */
+	private GameSession answer(ByteBuffer request, GameSession session, FrameChannel frames) {
+		byte opcode = request.get();
+		try {
+			switch (opcode) {
+			case Protocol.NEW_GAME -> {
+				int variant = request.get();
+				int players = request.get();
+				boolean redrawFor3 = request.get() != 0;
+				long seed = request.getLong();
+				GameSession created = createSession(variant, players, seed, redrawFor3);
+				leave(session);
+				frames.begin(Protocol.GAME, Integer.BYTES).putInt(created.getId());
+				return created;
+			}
+			case Protocol.JOIN -> {
+				GameSession joined = sessions.get(request.getInt());
+				if (joined == null || (joined != session && !joined.join())) { // Quittée par tous entre-temps
+					Protocol.putError(frames, "no such game");
+					return session;
+				}
+				if (joined != session) {
+					leave(session);
+				}
+				frames.begin(Protocol.OK, 0);
+				return joined;
+			}
+			case Protocol.LEAVE -> {
+				leave(session);
+				frames.begin(Protocol.OK, 0);
+				return null;
+			}
+			case Protocol.PING -> {
+				frames.begin(Protocol.PONG, 0);
+				return session;
+			}
+			case Protocol.WATCH -> {
+				Protocol.putError(frames, request.remaining() < Integer.BYTES ? "truncated request" : "no such game");
+				return session;
+			}
+			case Protocol.STATE, Protocol.MOVES, Protocol.PLAY -> {
+				if (session == null) {
+					Protocol.putError(frames, "no game, create or join one first");
+					return null;
+				}
+				// La connexion attend la fin de l'action : seul l'acteur de la partie écrit la réponse
+				session.call(match -> {
+					play(opcode, request, match, frames);
+					return null;
+				}).join();
+				return session;
+			}
+			default -> {
+				Protocol.putError(frames, "unknown opcode: " + opcode);
+				return session;
+			}
+			}
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			Protocol.putError(frames, e.getMessage());
+		} catch (BufferUnderflowException e) {
+			Protocol.putError(frames, "truncated request");
+		} catch (CompletionException e) {
+			Protocol.putError(frames, e.getCause().getMessage());
+		}
+		return session;
+	}
+
+	private static void play(byte opcode, ByteBuffer request, Match match, FrameChannel frames) {
+		switch (opcode) {
+		case Protocol.STATE -> {
+			int player = request.hasRemaining() ? Byte.toUnsignedInt(request.get()) : Protocol.CURRENT_PLAYER;
+			if (player == Protocol.CURRENT_PLAYER) {
+				player = match.getCurrentPlayerIndex();
+			} else if (player >= match.getPlayers().size()) {
+				throw new IllegalArgumentException("no such player: " + player);
+			}
+			Protocol.putState(frames, match, player);
+		}
+		case Protocol.MOVES -> Protocol.putMoves(frames, match.legalMoves());
+		case Protocol.PLAY -> {
+			Move move = Protocol.getMove(request);
+			String reason = match.check(move);
+			if (reason != null) {
+				Protocol.putText(frames, Protocol.ILLEGAL, move + " " + reason);
+			} else {
+				match.play(move);
+				if (match.isOver()) {
+					Protocol.putGameOver(frames, match.getPlayers());
+				} else {
+					frames.begin(Protocol.OK, 0);
+				}
+			}
+		}
+		default -> throw new IllegalArgumentException("unknown opcode: " + opcode);
+		}
+	}
+
+	private void leave(GameSession session) {
+		if (session != null && session.leave()) {
+			sessions.remove(session.getId());
+			SpectatorFeed feed = session.findFeed();
+			if (feed != null && feeds.remove(feed)) {
+				ticker.execute(feed::close); // Dernière trame, puis fermeture des spectateurs
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting connections and closes the open ones
+	 * @throws IOException if the listening socket cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		listener.close();
+		for (SocketChannel channel : connections) {
+			channel.close();
+		}
+		ticker.shutdownNow();
+		executor.shutdown();
+	}
+}
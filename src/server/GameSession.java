@@ -0,0 +1,132 @@
+package server;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import core.game.Match;
+
+/**
+ * Game hosted by a {@link GameServer}, run as an actor: actions sent by the connections are queued and
+ * executed one at a time, so that the match is only ever used by one thread at a time.
+ * The queue is drained by a virtual thread started when the first action arrives; an idle session holds no thread,
+ * only its match and a few fields.
+ */
+public final class GameSession {
+	private final int id;
+	private final Match match;
+	private final Executor executor;
+	private final ConcurrentLinkedQueue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final AtomicInteger clients = new AtomicInteger(1); // La connexion qui crée la partie la joue
+	private volatile SpectatorFeed feed;
+
+	/**
+	 * Constructor for GameSession
+	 * @param id       Identifier of the game on the server
+	 * @param match    Match played in this session
+	 * @param executor Executor running the actions, one virtual thread per task
+	 */
+	GameSession(int id, Match match, Executor executor) {
+		this.id = id;
+		this.match = Objects.requireNonNull(match);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Getter of the identifier of the game
+	 * @return Identifier
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Runs an action on the match, after the actions already queued
+	 * @param <T>    Type of result
+	 * @param action Action, which must not keep the match
+	 * @return Result of the action
+	 */
+	public <T> CompletableFuture<T> call(Function<? super Match, ? extends T> action) {
+		Objects.requireNonNull(action);
+		CompletableFuture<T> result = new CompletableFuture<>();
+		mailbox.add(() -> {
+			try {
+				result.complete(action.apply(match));
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+		schedule();
+		return result;
+	}
+
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			executor.execute(this::drain);
+		}
+	}
+
+	private void drain() {
+		Runnable action;
+		while ((action = mailbox.poll()) != null) {
+			action.run();
+		}
+		scheduled.set(false);
+		if (!mailbox.isEmpty()) {
+			schedule(); // Action arrivée entre le dernier poll et la fin du drainage
+		}
+	}
+
+	/**
+	 * Getter of the feed of the spectators, created on the first call
+	 * @return Feed of this game
+	 */
+	SpectatorFeed getFeed() {
+		SpectatorFeed current = feed;
+		if (current != null) {
+			return current;
+		}
+		return call(match -> {
+			if (feed == null) {
+				feed = new SpectatorFeed(match); // Abonné aux événements depuis l'acteur
+			}
+			return feed;
+		}).join();
+	}
+
+	/**
+	 * Getter of the feed of the spectators, if any
+	 * @return Feed, or null if nobody ever watched this game
+	 */
+	SpectatorFeed findFeed() {
+		return feed;
+	}
+
+	/**
+	 * Counts a connection playing this game, unless every connection already left it
+	 * @return false if the game is dropped: a game nobody plays cannot be joined again
+	 */
+	boolean join() {
+		int count;
+		do {
+			count = clients.get();
+			if (count == 0) {
+				return false;
+			}
+		} while (!clients.compareAndSet(count, count + 1));
+		return true;
+	}
+
+	/**
+	 * Forgets a connection playing this game
+	 * @return true if no connection plays this game anymore
+	 */
+	boolean leave() {
+		return clients.decrementAndGet() == 0;
+	}
+}
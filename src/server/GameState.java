@@ -0,0 +1,27 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import core.game.grid.Board;
+import core.game.grid.Tile;
+
+/**
+ * State of a remote game, as answered by the server to {@link GameClient#state(int)}.
+ *
+ * @param turn          Number of turns played so far, all players included
+ * @param currentPlayer Index of the player who has to play
+ * @param over          true if the game is over
+ * @param player        Index of the player owning the grid
+ * @param board         Grid of the player
+ * @param market        Tiles proposed to the current player, null for a taken tile
+ */
+public record GameState(int turn, int currentPlayer, boolean over, int player, Board board, List<Tile> market) {
+
+	public GameState {
+		Objects.requireNonNull(board);
+		market = Collections.unmodifiableList(new ArrayList<>(market)); // Tuiles prises à null, interdites par List.copyOf
+	}
+}
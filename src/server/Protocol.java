@@ -0,0 +1,163 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import core.game.Match;
+import core.game.Move;
+import core.game.grid.Board;
+import core.game.grid.Grid;
+import core.game.grid.Tile;
+import core.game.player.Player;
+
+/**
+ * Binary protocol between {@link GameServer} and {@link GameClient}, big-endian.
+ * Every request gets exactly one answer, in the order of the requests.
+ *
+ * Requests:
+ * - {@link #NEW_GAME}: byte variant, byte players, byte redraw (1 if the market is drawn again when 3 tokens are
+ * identical), long seed; answered by {@link #GAME}
+ * - {@link #JOIN}: int game; answered by {@link #OK}
+ * - {@link #STATE}: byte player (0xFF for the current one); answered by {@link #STATE_REPLY}
+ * - {@link #MOVES}: answered by {@link #MOVES_REPLY}
+ * - {@link #PLAY}: move; answered by {@link #OK}, {@link #GAME_OVER} if the move ends the game, or {@link #ILLEGAL}
+ * - {@link #LEAVE}: leaves the game; answered by {@link #OK}
+ * - {@link #PING}: answered by {@link #PONG}
+ * - {@link #WATCH}: int game; answered by {@link #OK}, then the connection only gets {@link #DELTA} frames until
+ * it is closed, whatever it sends
+ *
+ * Answers:
+ * - {@link #OK}, {@link #PONG}: empty
+ * - {@link #ERROR}: UTF-8 message
+ * - {@link #ILLEGAL}: UTF-8 reason why the move is not legal, the game being unchanged
+ * - {@link #GAME}: int game
+ * - {@link #STATE_REPLY}: short turn, byte current player, byte over, byte player, byte grid size, the cells of the
+ * grid of the player by x then y, byte market size, the market tiles; cells and tiles packed on a short
+ * (see {@link Board#encode(Tile)})
+ * - {@link #MOVES_REPLY}: short count, then the moves
+ * - {@link #GAME_OVER}: byte players, a short score per player, byte winner (0xFF if tied)
+ * - {@link #DELTA}: short turn, byte current player, byte over, byte players, byte grid size, short number of
+ * changed cells, then for each one byte player, byte index (x * size + y) and the packed cell; byte market size,
+ * byte number of changed slots, then for each one byte slot and the packed tile (0 if taken). The first delta
+ * of a spectator holds the whole game, later ones the changes since the previous one.
+ *
+ * A move is 5 bytes: market slot, x and y of the tile, x and y of the token.
+ */
+public final class Protocol {
+	public static final int MAX_FRAME = 0xFFFF;
+	public static final int CURRENT_PLAYER = 0xFF;
+	public static final int NO_WINNER = 0xFF;
+	public static final int MOVE_SIZE = 5;
+	private static final int MAX_ERROR_LENGTH = 1024;
+
+	public static final byte NEW_GAME = 1;
+	public static final byte JOIN = 2;
+	public static final byte STATE = 3;
+	public static final byte MOVES = 4;
+	public static final byte PLAY = 5;
+	public static final byte LEAVE = 6;
+	public static final byte PING = 7;
+	public static final byte WATCH = 8;
+
+	public static final byte OK = (byte) 0x80;
+	public static final byte ERROR = (byte) 0x81;
+	public static final byte GAME = (byte) 0x82;
+	public static final byte STATE_REPLY = (byte) 0x83;
+	public static final byte MOVES_REPLY = (byte) 0x84;
+	public static final byte GAME_OVER = (byte) 0x85;
+	public static final byte PONG = (byte) 0x86;
+	public static final byte ILLEGAL = (byte) 0x87;
+	public static final byte DELTA = (byte) 0x88;
+
+	private Protocol() {
+	}
+
+	/**
+	 * Writes a move
+	 * @param buffer Destination
+	 * @param move   Move
+	 */
+	public static void putMove(ByteBuffer buffer, Move move) {
+		buffer.put((byte) move.tile()).put((byte) move.x()).put((byte) move.y()).put((byte) move.wildlifeX())
+				.put((byte) move.wildlifeY());
+	}
+
+	/**
+	 * Reads a move
+	 * @param buffer Source
+	 * @return Move
+	 * @throws IllegalArgumentException if the coordinates are not valid
+	 */
+	public static Move getMove(ByteBuffer buffer) {
+		return new Move(buffer.get(), buffer.get(), buffer.get(), buffer.get(), buffer.get());
+	}
+
+	/**
+	 * Reads the UTF-8 text left in a buffer
+	 * @param buffer Source
+	 * @return Text
+	 */
+	public static String getText(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static void putError(FrameChannel frames, String message) {
+		putText(frames, ERROR, message);
+	}
+
+	static void putText(FrameChannel frames, byte opcode, String text) {
+		byte[] bytes = String.valueOf(text).getBytes(StandardCharsets.UTF_8);
+		int length = Math.min(bytes.length, MAX_ERROR_LENGTH);
+		frames.begin(opcode, length).put(bytes, 0, length);
+	}
+
+	static void putState(FrameChannel frames, Match match, int player) {
+		Grid grid = match.getGame().getGridForPlayer(match.getPlayers().get(player));
+		List<Tile> market = match.getMarket();
+		int size = grid.getSize();
+		ByteBuffer out = frames.begin(STATE_REPLY, 7 + 2 * (size * size + market.size()));
+		out.putShort((short) match.getTurn());
+		out.put((byte) match.getCurrentPlayerIndex());
+		out.put((byte) (match.isOver() ? 1 : 0));
+		out.put((byte) player);
+		out.put((byte) size);
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				out.putShort(Board.encode(grid.getTile(x, y)));
+			}
+		}
+		out.put((byte) market.size());
+		for (Tile tile : market) {
+			out.putShort(Board.encode(tile));
+		}
+	}
+
+	static void putMoves(FrameChannel frames, List<Move> moves) {
+		ByteBuffer out = frames.begin(MOVES_REPLY, 2 + MOVE_SIZE * moves.size());
+		out.putShort((short) moves.size());
+		for (Move move : moves) {
+			putMove(out, move);
+		}
+	}
+
+	static void putGameOver(FrameChannel frames, List<Player> players) {
+		ByteBuffer out = frames.begin(GAME_OVER, 2 + 2 * players.size());
+		out.put((byte) players.size());
+		int best = Integer.MIN_VALUE;
+		int winner = NO_WINNER;
+		for (int i = 0; i < players.size(); i++) {
+			int score = players.get(i).getTotalScore();
+			out.putShort((short) score);
+			if (score > best) {
+				best = score;
+				winner = i;
+			} else if (score == best) {
+				winner = NO_WINNER; // Égalité
+			}
+		}
+		out.put((byte) winner);
+	}
+}
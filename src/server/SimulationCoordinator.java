@@ -0,0 +1,312 @@
+package server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link SimulationExperiment} on worker processes, each one in its own JVM with its own heap and
+ * garbage collector.
+ * - The seeds are split into ranges, given to the workers as they ask for work, so that faster workers play more
+ * - Workers send their results every {@link SimulationWorker#BATCH} games; the coordinator merges them
+ * - When a worker dies, the part of its range it did not report is given to another worker
+ * - A local worker that stops before the end is started again, at most {@link #MAX_RESTARTS} times; once no
+ * worker is left, the simulation fails instead of waiting for one
+ *
+ * Workers are either started on this machine by {@link #launchWorkers(int)}, or started by hand on other machines
+ * with the address of the coordinator (see {@code server.main.Main --worker}).
+ */
+public final class SimulationCoordinator implements Closeable {
+	private static final long POLL_MILLIS = 100;
+	/** Number of times a local worker is started again after stopping before the end */
+	public static final int MAX_RESTARTS = 3;
+
+	private record Range(long firstSeed, int games) {
+	}
+
+	private final SimulationExperiment experiment;
+	private final ServerSocketChannel listener;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final BlockingDeque<Range> pending = new LinkedBlockingDeque<>();
+	private final SimulationResult total;
+	private final List<Process> processes = new ArrayList<>();
+	private final Set<SocketChannel> workers = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger failures = new AtomicInteger();
+	private final AtomicInteger running = new AtomicInteger(); // Travailleurs locaux dont l'arrêt n'est pas traité
+	private volatile boolean started; // Au moins un travailleur lancé ou connecté
+	private long remaining;
+	private volatile boolean closed;
+
+	/**
+	 * Opens a coordinator; games are only given to workers once {@link #run(Consumer)} is called
+	 * @param experiment Games to be simulated
+	 * @param address    Address workers connect to
+	 * @param rangeSize  Number of games given to a worker at once
+	 * @throws IOException if the address cannot be bound
+	 */
+	public SimulationCoordinator(SimulationExperiment experiment, InetSocketAddress address, int rangeSize)
+			throws IOException {
+		this.experiment = Objects.requireNonNull(experiment);
+		Objects.requireNonNull(address);
+		if (rangeSize <= 0) {
+			throw new IllegalArgumentException("Range size must be positive");
+		}
+		this.total = new SimulationResult(experiment.players());
+		this.remaining = experiment.games();
+		for (long done = 0; done < experiment.games(); done += rangeSize) {
+			pending.add(new Range(experiment.firstSeed() + done, (int) Math.min(rangeSize, experiment.games() - done)));
+		}
+		this.listener = ServerSocketChannel.open();
+		listener.bind(address);
+	}
+
+	/**
+	 * Getter of the address workers connect to
+	 * @return Address with the actual port
+	 * @throws IOException if the coordinator is closed
+	 */
+	public InetSocketAddress getAddress() throws IOException {
+		return (InetSocketAddress) listener.getLocalAddress();
+	}
+
+	/**
+	 * Getter of the number of workers that died before finishing their range
+	 * @return Number of failures
+	 */
+	public int getFailures() {
+		return failures.get();
+	}
+
+	/**
+	 * Starts worker processes on this machine, with the class path of this JVM and the options of
+	 * {@link #workerOptions()}.
+	 * The system property {@code cascadia.worker.prefix} gives a command prefixing each worker, where {@code {i}}
+	 * is replaced by the index of the worker, for instance {@code numactl --cpunodebind={i} --membind={i}} to start
+	 * one worker per NUMA node.
+	 * @param count Number of workers
+	 * @return Processes started
+	 * @throws IOException if a process cannot be started
+	 */
+	public List<Process> launchWorkers(int count) throws IOException {
+		List<Process> launched = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			launched.add(launch(i, 0));
+		}
+		return launched;
+	}
+
+	/**
+	 * Starts a local worker, started again by {@link #workerExited(int, int, Process)} if it stops too early
+	 * @param index   Index of the worker
+	 * @param restart Number of times this worker was already started again
+	 * @return Process started
+	 * @throws IOException if the process cannot be started
+	 */
+	private Process launch(int index, int restart) throws IOException {
+		InetSocketAddress address = getAddress();
+		String target = (address.getAddress().isAnyLocalAddress() ? InetAddress.getLoopbackAddress().getHostAddress()
+				: address.getAddress().getHostAddress()) + ":" + address.getPort();
+		String prefix = System.getProperty("cascadia.worker.prefix", "").trim();
+		List<String> command = new ArrayList<>();
+		if (!prefix.isEmpty()) {
+			for (String part : prefix.split("\\s+")) {
+				command.add(part.replace("{i}", Integer.toString(index)));
+			}
+		}
+		command.add(ProcessHandle.current().info().command().orElse("java"));
+		command.addAll(workerOptions());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("server.main.Main");
+		command.add("--worker");
+		command.add(target);
+		Process process = new ProcessBuilder(command).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		started = true;
+		running.incrementAndGet();
+		synchronized (processes) {
+			processes.add(process);
+			if (closed) {
+				process.destroy(); // Coordinateur fermé pendant le lancement
+			}
+		}
+		process.onExit().thenAccept(exited -> workerExited(index, restart, exited));
+		return process;
+	}
+
+	/**
+	 * Starts a local worker again if it stopped while games are left, then wakes {@link #run(Consumer)} up
+	 * @param index   Index of the worker
+	 * @param restart Number of times this worker was already started again
+	 * @param process Process stopped
+	 */
+	private void workerExited(int index, int restart, Process process) {
+		if (!closed && !isFinished()) {
+			System.err.println("Travailleur local " + index + " arrêté, code " + process.exitValue());
+			if (restart < MAX_RESTARTS) {
+				try {
+					launch(index, restart + 1);
+				} catch (IOException e) {
+					System.err.println("Travailleur local " + index + " non relancé : " + e.getMessage());
+				}
+			}
+		}
+		running.decrementAndGet();
+		synchronized (total) {
+			total.notifyAll();
+		}
+	}
+
+	/**
+	 * Options of this JVM a local worker needs: preview features, memory sizes and the properties of the project.
+	 * Other options are not forwarded, since several workers cannot share what they open (debugger or JMX port,
+	 * recording or log file).
+	 * @return Options, in the order of this JVM
+	 */
+	private static List<String> workerOptions() {
+		List<String> options = new ArrayList<>();
+		for (String option : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			if (option.equals("--enable-preview") || option.startsWith("-Xmx") || option.startsWith("-Xms")
+					|| option.startsWith("-Xss") || option.startsWith("-Dcascadia.")) {
+				options.add(option);
+			}
+		}
+		return options;
+	}
+
+	/**
+	 * Gives the games to the workers connecting, until every game is played.
+	 * Waits for a first worker as long as needed, but fails once every worker is gone.
+	 * @param progress Called with the total so far after each batch, on the thread of a worker
+	 * @return Results of every game of the experiment
+	 * @throws InterruptedException  if interrupted while waiting for the workers
+	 * @throws IllegalStateException if games are left but no worker is connected or running anymore
+	 */
+	public SimulationResult run(Consumer<? super SimulationResult> progress) throws InterruptedException {
+		Objects.requireNonNull(progress);
+		executor.execute(() -> acceptLoop(progress));
+		synchronized (total) {
+			while (remaining > 0) {
+				if (started && workers.isEmpty() && running.get() == 0) {
+					throw new IllegalStateException("No worker left, " + remaining + " games not played");
+				}
+				total.wait(POLL_MILLIS); // Réveillé par les résultats et par l'arrêt des travailleurs
+			}
+		}
+		return total;
+	}
+
+	private void acceptLoop(Consumer<? super SimulationResult> progress) {
+		while (!closed) {
+			try {
+				SocketChannel channel = listener.accept();
+				workers.add(channel);
+				started = true;
+				executor.execute(() -> serve(channel, progress));
+			} catch (AsynchronousCloseException e) {
+				return; // Coordinateur fermé
+			} catch (IOException e) {
+				System.err.println("Travailleur refusé : " + e.getMessage());
+			}
+		}
+	}
+
+	private void serve(SocketChannel channel, Consumer<? super SimulationResult> progress) {
+		FrameChannel frames = new FrameChannel(channel);
+		Range range = null;
+		int reported = 0;
+		try (channel) {
+			while (true) {
+				range = pending.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (range == null) {
+					if (isFinished()) {
+						frames.begin(SimulationWorker.DONE, 0);
+						frames.send();
+						return;
+					}
+					continue; // Plages encore chez d'autres travailleurs, qui peuvent mourir
+				}
+				reported = 0;
+				frames.begin(SimulationWorker.TASK, 3 + Long.BYTES + Integer.BYTES).put((byte) experiment.variant())
+						.put((byte) experiment.policy().ordinal()).put((byte) experiment.players())
+						.putLong(range.firstSeed()).putInt(range.games());
+				frames.send();
+				while (reported < range.games()) {
+					ByteBuffer frame = frames.receive();
+					if (frame == null || frame.get() != SimulationWorker.RESULT) {
+						throw new IOException("Worker stopped");
+					}
+					int games = frame.getInt();
+					SimulationResult result = SimulationResult.read(frame);
+					reported += games;
+					synchronized (total) {
+						total.merge(result);
+						remaining -= games;
+						progress.accept(total);
+						total.notifyAll();
+					}
+				}
+				range = null;
+			}
+		} catch (IOException e) {
+			if (range != null && reported < range.games()) {
+				failures.incrementAndGet();
+				// Seules les parties non rapportées sont rejouées
+				pending.addFirst(new Range(range.firstSeed() + reported, range.games() - reported));
+			}
+			if (!closed) {
+				System.err.println("Travailleur perdu : " + e.getMessage());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			workers.remove(channel);
+			synchronized (total) {
+				total.notifyAll();
+			}
+		}
+	}
+
+	private boolean isFinished() {
+		synchronized (total) {
+			return remaining == 0;
+		}
+	}
+
+	/**
+	 * Stops the coordinator, its connections and the workers it started
+	 * @throws IOException if the listening socket cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		listener.close();
+		for (SocketChannel channel : workers) {
+			channel.close();
+		}
+		executor.shutdownNow();
+		synchronized (processes) {
+			for (Process process : processes) {
+				process.destroy();
+			}
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package server;
+
+import java.util.Objects;
+
+import server.load.MovePolicy;
+
+/**
+ * Games to be simulated: one game per seed of a range, all with the same settings.
+ * A game only depends on its seed, so that the results do not depend on how the range is split among workers.
+ *
+ * @param variant   Game variant (1 to 3)
+ * @param policy    How every player chooses its moves
+ * @param players   Number of players
+ * @param firstSeed Seed of the first game
+ * @param games     Number of games
+ */
+public record SimulationExperiment(int variant, MovePolicy policy, int players, long firstSeed, long games) {
+
+	public SimulationExperiment {
+		Objects.requireNonNull(policy);
+		if (variant < 1 || variant > 3) {
+			throw new IllegalArgumentException("Variant must be between 1 and 3");
+		}
+		if (players < 1 || players > 4 || games <= 0) {
+			throw new IllegalArgumentException("Invalid numbers of players or games");
+		}
+	}
+}
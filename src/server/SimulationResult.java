@@ -0,0 +1,204 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import core.game.Match;
+import core.game.player.Player;
+
+/**
+ * Aggregated results of simulated games, small enough to be sent after every batch and merged in any order:
+ * sums rather than lists of scores, so that the mean and the variance of the scores are exact whatever the
+ * partition of the games among workers.
+ */
+public final class SimulationResult {
+	private final int players;
+	private final long[] wins;
+	private long games;
+	private long moves;
+	private long ties;
+	private long scoreSum;
+	private long scoreSquareSum;
+	private int minScore = Integer.MAX_VALUE;
+	private int maxScore = Integer.MIN_VALUE;
+
+	/**
+	 * Constructor for SimulationResult, without any game
+	 * @param players Number of players of each game
+	 */
+	public SimulationResult(int players) {
+		if (players <= 0) {
+			throw new IllegalArgumentException("Number of players must be positive");
+		}
+		this.players = players;
+		this.wins = new long[players];
+	}
+
+	/**
+	 * Adds a game
+	 * @param match Match over
+	 * @throws IllegalArgumentException if the match is not over or has another number of players
+	 */
+	public void add(Match match) {
+		if (!match.isOver() || match.getPlayers().size() != players) {
+			throw new IllegalArgumentException("Match over with " + players + " players expected");
+		}
+		List<Player> seats = match.getPlayers();
+		int best = Integer.MIN_VALUE;
+		int winner = -1;
+		for (int i = 0; i < players; i++) {
+			int score = seats.get(i).getTotalScore();
+			scoreSum += score;
+			scoreSquareSum += (long) score * score;
+			minScore = Math.min(minScore, score);
+			maxScore = Math.max(maxScore, score);
+			if (score > best) {
+				best = score;
+				winner = i;
+			} else if (score == best) {
+				winner = -1; // Égalité
+			}
+		}
+		if (winner < 0) {
+			ties++;
+		} else {
+			wins[winner]++;
+		}
+		games++;
+		moves += match.getTurn();
+	}
+
+	/**
+	 * Adds the games of another result
+	 * @param other Result with the same number of players
+	 */
+	public void merge(SimulationResult other) {
+		if (other.players != players) {
+			throw new IllegalArgumentException("Results of games with different numbers of players");
+		}
+		for (int i = 0; i < players; i++) {
+			wins[i] += other.wins[i];
+		}
+		games += other.games;
+		moves += other.moves;
+		ties += other.ties;
+		scoreSum += other.scoreSum;
+		scoreSquareSum += other.scoreSquareSum;
+		minScore = Math.min(minScore, other.minScore);
+		maxScore = Math.max(maxScore, other.maxScore);
+	}
+
+	/**
+	 * Getter of the number of games
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return games;
+	}
+
+	/**
+	 * Getter of the number of moves, all games included
+	 * @return Number of moves
+	 */
+	public long getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Getter of the mean score of a player
+	 * @return Mean score, 0 without any game
+	 */
+	public double getMeanScore() {
+		return games == 0 ? 0 : (double) scoreSum / (games * players);
+	}
+
+	/**
+	 * Getter of the variance of the score of a player
+	 * @return Population variance, 0 without any game
+	 */
+	public double getScoreVariance() {
+		if (games == 0) {
+			return 0;
+		}
+		double mean = getMeanScore();
+		return Math.max(0, (double) scoreSquareSum / (games * players) - mean * mean);
+	}
+
+	/**
+	 * Getter of the lowest score
+	 * @return Lowest score, 0 without any game
+	 */
+	public int getMinScore() {
+		return games == 0 ? 0 : minScore;
+	}
+
+	/**
+	 * Getter of the highest score
+	 * @return Highest score, 0 without any game
+	 */
+	public int getMaxScore() {
+		return games == 0 ? 0 : maxScore;
+	}
+
+	/**
+	 * Getter of the proportion of games won by a seat
+	 * @param seat Index of the player, in order of play
+	 * @return Win rate between 0 and 1
+	 */
+	public double getWinRate(int seat) {
+		return games == 0 ? 0 : (double) wins[seat] / games;
+	}
+
+	/**
+	 * Getter of the proportion of tied games
+	 * @return Tie rate between 0 and 1
+	 */
+	public double getTieRate() {
+		return games == 0 ? 0 : (double) ties / games;
+	}
+
+	/**
+	 * Size of an encoded result
+	 * @param players Number of players
+	 * @return Size in bytes
+	 */
+	static int encodedSize(int players) {
+		return 1 + 5 * Long.BYTES + 2 * Integer.BYTES + players * Long.BYTES;
+	}
+
+	void write(ByteBuffer out) {
+		out.put((byte) players);
+		out.putLong(games).putLong(moves).putLong(ties).putLong(scoreSum).putLong(scoreSquareSum);
+		out.putInt(minScore).putInt(maxScore);
+		for (long seatWins : wins) {
+			out.putLong(seatWins);
+		}
+	}
+
+	static SimulationResult read(ByteBuffer in) {
+		SimulationResult result = new SimulationResult(in.get());
+		result.games = in.getLong();
+		result.moves = in.getLong();
+		result.ties = in.getLong();
+		result.scoreSum = in.getLong();
+		result.scoreSquareSum = in.getLong();
+		result.minScore = in.getInt();
+		result.maxScore = in.getInt();
+		for (int i = 0; i < result.players; i++) {
+			result.wins[i] = in.getLong();
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		double[] rates = new double[players];
+		for (int i = 0; i < players; i++) {
+			rates[i] = Math.round(getWinRate(i) * 1000) / 10.0;
+		}
+		return String.format("%d parties, %d coups, score moyen %.2f (écart type %.2f, min %d, max %d), victoires %s %%, égalités %.1f %%",
+				games, moves, getMeanScore(), Math.sqrt(getScoreVariance()), getMinScore(), getMaxScore(),
+				Arrays.toString(rates), 100 * getTieRate());
+	}
+}
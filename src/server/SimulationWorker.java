@@ -0,0 +1,96 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import core.game.Match;
+import core.game.Move;
+import core.game.metrics.GameMetrics;
+import graphical.model.GameMode;
+import server.load.MovePolicy;
+
+/**
+ * Process simulating games for a {@link SimulationCoordinator}.
+ * The worker connects to the coordinator, then plays the ranges of seeds it is given and sends its results
+ * every {@link #BATCH} games, so that the coordinator only has to play again the games of an unfinished batch
+ * if the worker dies.
+ *
+ * Frames (see {@link FrameChannel}):
+ * - {@link #TASK}, from the coordinator: byte variant, byte policy, byte players, long first seed, int games
+ * - {@link #RESULT}, from the worker: int games, the {@link SimulationResult} of these games, in order of seeds
+ * - {@link #DONE}, from the coordinator: no more games, the worker stops
+ */
+public final class SimulationWorker {
+	public static final int BATCH = 256;
+
+	static final byte TASK = 1;
+	static final byte DONE = 2;
+	static final byte RESULT = (byte) 0x81;
+
+	private SimulationWorker() {
+	}
+
+	/**
+	 * Works for a coordinator until it has no more games
+	 * @param coordinator Address of the coordinator
+	 * @throws IOException if the connection fails
+	 */
+	public static void run(InetSocketAddress coordinator) throws IOException {
+		try (SocketChannel channel = SocketChannel.open(coordinator)) {
+			FrameChannel frames = new FrameChannel(channel);
+			ByteBuffer task;
+			while ((task = frames.receive()) != null && task.get() == TASK) {
+				int variant = task.get();
+				MovePolicy policy = MovePolicy.values()[task.get()];
+				int players = task.get();
+				long firstSeed = task.getLong();
+				int games = task.getInt();
+				for (int start = 0; start < games; start += BATCH) {
+					int count = Math.min(BATCH, games - start);
+					SimulationResult result = new SimulationResult(players);
+					for (int i = 0; i < count; i++) {
+						result.add(play(variant, policy, players, firstSeed + start + i));
+					}
+					ByteBuffer out = frames.begin(RESULT, Integer.BYTES + SimulationResult.encodedSize(players));
+					out.putInt(count);
+					result.write(out);
+					frames.send();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Plays a whole game
+	 * @param variant Game variant (1 to 3)
+	 * @param policy  How every player chooses its moves
+	 * @param players Number of players
+	 * @param seed    Seed of the deck and of the choices of the players
+	 * @return Match over
+	 */
+	public static Match play(int variant, MovePolicy policy, int players, long seed) {
+		return play(variant, Collections.nCopies(players, policy), seed);
+	}
+
+	/**
+	 * Plays a whole game between policies, without counting it in the metrics of the process
+	 * @param variant Game variant (1 to 3)
+	 * @param seats   Policy of each player, in order of play
+	 * @param seed    Seed of the deck and of the choices of the players
+	 * @return Match over
+	 */
+	public static Match play(int variant, List<MovePolicy> seats, long seed) {
+		Match match = new Match(variant, seats.size(), seed, false, GameMode.TERMINAL, GameMetrics.disabled());
+		Random random = new Random(seed);
+		while (!match.isOver()) {
+			List<Move> moves = match.legalMoves();
+			match.play(seats.get(match.getCurrentPlayerIndex()).choose(match, moves, random));
+		}
+		return match;
+	}
+}
@@ -0,0 +1,105 @@
+package server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection watching a game. Frames to be sent are shared read-only buffers, queued by reference and written
+ * by a virtual thread started when the queue is not empty, several frames per gathering write.
+ * A spectator that does not read fast enough is dropped rather than slowing down the feed.
+ */
+final class Spectator {
+	private static final int MAX_QUEUED = 64;
+	private static final int MAX_GATHERED = 16;
+
+	private final GatheringByteChannel channel;
+	private final Executor executor;
+	private final ConcurrentLinkedQueue<ByteBuffer> outbox = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicBoolean writing = new AtomicBoolean();
+	private volatile boolean finishing;
+	private volatile boolean closed;
+
+	Spectator(GatheringByteChannel channel, Executor executor) {
+		this.channel = Objects.requireNonNull(channel);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Queues a frame
+	 * @param frame View of a shared frame, owned by this spectator from now on
+	 */
+	void send(ByteBuffer frame) {
+		if (closed) {
+			return;
+		}
+		if (queued.incrementAndGet() > MAX_QUEUED) {
+			close(); // Spectateur trop lent
+			return;
+		}
+		outbox.add(frame);
+		if (writing.compareAndSet(false, true)) {
+			executor.execute(this::flush);
+		}
+	}
+
+	private void flush() {
+		ByteBuffer[] batch = new ByteBuffer[MAX_GATHERED];
+		try {
+			while (true) {
+				int count = 0;
+				ByteBuffer frame;
+				while (count < MAX_GATHERED && (frame = outbox.poll()) != null) {
+					batch[count++] = frame;
+				}
+				if (count == 0) {
+					if (finishing) {
+						close();
+						return;
+					}
+					writing.set(false);
+					if ((outbox.isEmpty() && !finishing) || !writing.compareAndSet(false, true)) {
+						return;
+					}
+					continue; // Trame arrivée entre le dernier poll et la fin de l'écriture
+				}
+				queued.addAndGet(-count);
+				while (batch[count - 1].hasRemaining()) {
+					channel.write(batch, 0, count);
+				}
+			}
+		} catch (IOException e) {
+			close();
+		}
+	}
+
+	/**
+	 * Closes the connection once the queued frames are written
+	 */
+	void finish() {
+		finishing = true;
+		if (writing.compareAndSet(false, true)) {
+			executor.execute(this::flush);
+		}
+	}
+
+	boolean isClosed() {
+		return closed;
+	}
+
+	void close() {
+		closed = true;
+		outbox.clear();
+		try {
+			channel.close();
+		} catch (IOException e) {
+			// Déjà fermée
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import core.game.Game;
+import core.game.Match;
+import core.game.event.GameEvent;
+import core.game.event.GameEventListener;
+import core.game.event.GameOver;
+import core.game.event.MarketRefreshed;
+import core.game.grid.Board;
+import core.game.grid.Tile;
+import core.game.player.Player;
+
+/**
+ * Live feed of a game for its spectators.
+ * - After each move, the session captures the boards of the players (immutable versions kept by
+ * {@link Game#getHistory(Player)}) and the market, without copying any grid
+ * - At each tick, the changes since the previous tick are encoded once in a {@link Protocol#DELTA} frame,
+ * several moves being coalesced into one frame
+ * - The frame is read-only and shared: each spectator only gets a view of it
+ *
+ * A spectator joining the game first gets a frame with the whole game, as a delta from empty boards.
+ * Except for {@link #capture()}, methods run on the ticker thread of the server.
+ */
+public final class SpectatorFeed implements GameEventListener {
+	private static final int HEADER_SIZE = 2 + 1 + 8;
+	private static final int MARKET_HEADER_SIZE = 2;
+	private static final int CELL_DELTA_SIZE = 4;
+	private static final int MARKET_DELTA_SIZE = 3;
+
+	private final Match match;
+	private final AtomicReference<Snapshot> latest = new AtomicReference<>();
+
+	// Etat du thread du ticker
+	private final List<Spectator> spectators = new ArrayList<>();
+	private Snapshot sent;
+	private boolean closed;
+
+	private record Snapshot(int turn, int currentPlayer, boolean over, Board[] boards, short[] market) {
+	}
+
+	/**
+	 * Constructor for SpectatorFeed, to be called by the session of the game
+	 * @param match Match being watched
+	 */
+	SpectatorFeed(Match match) {
+		this.match = match;
+		capture();
+		match.getGame().getEvents().subscribe(this);
+	}
+
+	@Override
+	public void onEvent(GameEvent event) {
+		if (event instanceof MarketRefreshed || event instanceof GameOver) {
+			capture(); // Fin d'un coup : le marché du joueur suivant est tiré, ou la partie est finie
+		}
+	}
+
+	/**
+	 * Captures the state of the game. Runs on the session of the game.
+	 */
+	void capture() {
+		Game game = match.getGame();
+		List<Player> players = match.getPlayers();
+		Board[] boards = new Board[players.size()];
+		for (int i = 0; i < boards.length; i++) {
+			boards[i] = game.getHistory(players.get(i)).current();
+		}
+		List<Tile> market = match.getMarket();
+		short[] cells = new short[market.size()];
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = Board.encode(market.get(i));
+		}
+		latest.set(new Snapshot(match.getTurn(), match.getCurrentPlayerIndex(), match.isOver(), boards, cells));
+	}
+
+	/**
+	 * Adds a spectator, who first gets the whole game
+	 * @param spectator New spectator
+	 */
+	void add(Spectator spectator) {
+		if (spectators.isEmpty()) {
+			sent = latest.get(); // Personne n'attend de différence depuis la dernière trame
+		}
+		spectator.send(encode(null, sent));
+		if (closed) {
+			spectator.finish(); // Partie déjà abandonnée : seulement son état final
+		} else {
+			spectators.add(spectator);
+		}
+	}
+
+	/**
+	 * Sends the changes since the previous tick to every spectator
+	 */
+	void tick() {
+		spectators.removeIf(Spectator::isClosed);
+		Snapshot current = latest.get();
+		if (current == sent || spectators.isEmpty()) {
+			return;
+		}
+		ByteBuffer frame = encode(sent, current);
+		sent = current;
+		for (Spectator spectator : spectators) {
+			spectator.send(frame.duplicate());
+		}
+	}
+
+	/**
+	 * Getter of the number of spectators
+	 * @return Number of spectators
+	 */
+	int getSpectatorCount() {
+		return spectators.size();
+	}
+
+	/**
+	 * Disconnects every spectator, once the game is dropped
+	 */
+	void close() {
+		tick();
+		closed = true;
+		spectators.forEach(Spectator::finish);
+		spectators.clear();
+		match.getGame().getEvents().unsubscribe(this);
+	}
+
+	/**
+	 * Encodes the changes between two states
+	 * @param previous State known by the spectators, null if they know nothing
+	 * @param current  State to be sent
+	 * @return Read-only frame, length included
+	 */
+	private static ByteBuffer encode(Snapshot previous, Snapshot current) {
+		int players = current.boards().length;
+		int size = current.boards()[0].getSize();
+		if (size * size > 0x100) {
+			throw new IllegalStateException("Grid too large for deltas: " + size);
+		}
+		int[][] changed = new int[players][];
+		int cellCount = 0;
+		for (int player = 0; player < players; player++) {
+			Board base = previous == null ? Board.empty(size) : previous.boards()[player];
+			changed[player] = current.boards()[player].differences(base);
+			cellCount += changed[player].length;
+		}
+		short[] market = current.market();
+		int marketCount = 0;
+		for (int slot = 0; slot < market.length; slot++) {
+			if (marketChanged(previous, market, slot)) {
+				marketCount++;
+			}
+		}
+
+		int length = HEADER_SIZE + CELL_DELTA_SIZE * cellCount + MARKET_HEADER_SIZE + MARKET_DELTA_SIZE * marketCount;
+		ByteBuffer frame = ByteBuffer.allocate(length);
+		frame.putShort((short) (length - Short.BYTES));
+		frame.put(Protocol.DELTA);
+		frame.putShort((short) current.turn());
+		frame.put((byte) current.currentPlayer());
+		frame.put((byte) (current.over() ? 1 : 0));
+		frame.put((byte) players);
+		frame.put((byte) size);
+		frame.putShort((short) cellCount);
+		for (int player = 0; player < players; player++) {
+			Board board = current.boards()[player];
+			for (int index : changed[player]) {
+				frame.put((byte) player);
+				frame.put((byte) index);
+				frame.putShort(board.getCell(index / size, index % size));
+			}
+		}
+		frame.put((byte) market.length);
+		frame.put((byte) marketCount);
+		for (int slot = 0; slot < market.length; slot++) {
+			if (marketChanged(previous, market, slot)) {
+				frame.put((byte) slot);
+				frame.putShort(market[slot]);
+			}
+		}
+		return frame.flip().asReadOnlyBuffer();
+	}
+
+	private static boolean marketChanged(Snapshot previous, short[] market, int slot) {
+		return previous == null || slot >= previous.market().length || previous.market()[slot] != market[slot];
+	}
+}
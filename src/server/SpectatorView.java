@@ -0,0 +1,116 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import core.game.grid.Board;
+import core.game.grid.Tile;
+
+/**
+ * Game as seen by a spectator, rebuilt from the {@link Protocol#DELTA} frames sent by the server.
+ * Boards are persistent: a delta only copies the paths to the cells it changes.
+ * Not thread-safe.
+ */
+public final class SpectatorView {
+	private Board[] boards = new Board[0];
+	private short[] market = new short[0];
+	private int turn;
+	private int currentPlayer;
+	private boolean over;
+	private int updates;
+
+	/**
+	 * Applies a delta
+	 * @param delta Payload of a {@link Protocol#DELTA} frame, after its code
+	 */
+	void apply(ByteBuffer delta) {
+		turn = Short.toUnsignedInt(delta.getShort());
+		currentPlayer = delta.get();
+		over = delta.get() != 0;
+		int players = delta.get();
+		int size = Byte.toUnsignedInt(delta.get());
+		if (boards.length != players) {
+			boards = new Board[players];
+			Arrays.fill(boards, Board.empty(size));
+		}
+		int cellCount = Short.toUnsignedInt(delta.getShort());
+		for (int i = 0; i < cellCount; i++) {
+			int player = delta.get();
+			int index = Byte.toUnsignedInt(delta.get());
+			boards[player] = boards[player].withCell(index / size, index % size, delta.getShort());
+		}
+		int marketSize = delta.get();
+		if (market.length != marketSize) {
+			market = Arrays.copyOf(market, marketSize);
+		}
+		int marketCount = delta.get();
+		for (int i = 0; i < marketCount; i++) {
+			int slot = delta.get();
+			market[slot] = delta.getShort();
+		}
+		updates++;
+	}
+
+	/**
+	 * Getter of the number of turns played so far, all players included
+	 * @return Number of turns
+	 */
+	public int getTurn() {
+		return turn;
+	}
+
+	/**
+	 * Getter of the index of the player who has to play
+	 * @return Index of the player
+	 */
+	public int getCurrentPlayer() {
+		return currentPlayer;
+	}
+
+	/**
+	 * Tells whether the game is over
+	 * @return true if the game is over
+	 */
+	public boolean isOver() {
+		return over;
+	}
+
+	/**
+	 * Getter of the number of players
+	 * @return Number of players, 0 before the first delta
+	 */
+	public int getPlayerCount() {
+		return boards.length;
+	}
+
+	/**
+	 * Getter of the board of a player
+	 * @param player Index of the player
+	 * @return Board
+	 */
+	public Board getBoard(int player) {
+		return boards[player];
+	}
+
+	/**
+	 * Getter of the tiles proposed to the current player
+	 * @return Market, taken tiles being null
+	 */
+	public List<Tile> getMarket() {
+		List<Tile> tiles = new ArrayList<>(market.length);
+		for (short cell : market) {
+			tiles.add(Board.decode(cell));
+		}
+		return tiles;
+	}
+
+	/**
+	 * Getter of the number of deltas applied
+	 * @return Number of deltas
+	 */
+	public int getUpdateCount() {
+		return updates;
+	}
+}
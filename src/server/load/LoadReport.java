@@ -0,0 +1,160 @@
+package server.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import core.game.metrics.ConcurrentHistogram;
+
+/**
+ * Results of a {@link LoadTest}: throughput, latency of each command and heap used over time.
+ */
+public final class LoadReport {
+	private static final long MEGABYTE = 1024 * 1024;
+
+	/**
+	 * Measure taken at regular intervals during the test
+	 *
+	 * @param elapsedMillis   Time since the start of the test
+	 * @param movesPerSecond  Throughput since the previous sample
+	 * @param heapBytes       Heap used by the process, server included when it runs in the same process
+	 * @param activeClients   Clients still playing
+	 */
+	public record Sample(long elapsedMillis, double movesPerSecond, long heapBytes, int activeClients) {
+	}
+
+	private final long elapsedNanos;
+	private final long games;
+	private final long moves;
+	private final long errors;
+	private final String firstError;
+	private final Map<LoadTest.Command, ConcurrentHistogram> latencies;
+	private final List<Sample> samples;
+
+	LoadReport(long elapsedNanos, long games, long moves, long errors, String firstError,
+			Map<LoadTest.Command, ConcurrentHistogram> latencies, List<Sample> samples) {
+		this.elapsedNanos = elapsedNanos;
+		this.games = games;
+		this.moves = moves;
+		this.errors = errors;
+		this.firstError = firstError;
+		this.latencies = Collections.unmodifiableMap(new EnumMap<>(latencies));
+		this.samples = List.copyOf(samples);
+	}
+
+	/**
+	 * Getter of the duration of the test
+	 * @return Duration in seconds
+	 */
+	public double getSeconds() {
+		return elapsedNanos / 1e9;
+	}
+
+	/**
+	 * Getter of the number of games played to the end
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return games;
+	}
+
+	/**
+	 * Getter of the number of moves played
+	 * @return Number of moves
+	 */
+	public long getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Getter of the number of games ended by an error (connection lost, unexpected answer...)
+	 * @return Number of errors
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Getter of the throughput over the whole test
+	 * @return Moves per second
+	 */
+	public double getMovesPerSecond() {
+		return elapsedNanos == 0 ? 0 : moves * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * Getter of the latencies of a command, as seen by the clients
+	 * @param command Command
+	 * @return Histogram in nanoseconds
+	 */
+	public ConcurrentHistogram getLatency(LoadTest.Command command) {
+		return latencies.get(command);
+	}
+
+	/**
+	 * Getter of the samples taken during the test
+	 * @return Samples, by time
+	 */
+	public List<Sample> getSamples() {
+		return samples;
+	}
+
+	/**
+	 * Getter of the highest heap used among the samples
+	 * @return Heap in bytes
+	 */
+	public long getPeakHeap() {
+		long peak = 0;
+		for (Sample sample : samples) {
+			peak = Math.max(peak, sample.heapBytes());
+		}
+		return peak;
+	}
+
+	/**
+	 * Checks the results against objectives
+	 * @param slo Objectives
+	 * @return Description of each objective that is not met, empty if all are met
+	 */
+	public List<String> violations(LoadSlo slo) {
+		List<String> violations = new ArrayList<>();
+		for (LoadTest.Command command : LoadTest.Command.values()) {
+			long p99 = latencies.get(command).percentile(99) / 1000;
+			if (p99 > slo.maxP99Micros()) {
+				violations.add("p99 " + command + " " + p99 + " us > " + slo.maxP99Micros() + " us");
+			}
+		}
+		if (getMovesPerSecond() < slo.minMovesPerSecond()) {
+			violations.add(String.format("débit %.0f coups/s < %.0f coups/s", getMovesPerSecond(), slo.minMovesPerSecond()));
+		}
+		if (getPeakHeap() / MEGABYTE > slo.maxHeapMegabytes()) {
+			violations.add("tas " + getPeakHeap() / MEGABYTE + " Mo > " + slo.maxHeapMegabytes() + " Mo");
+		}
+		double errorRate = games + errors == 0 ? 0 : (double) errors / (games + errors);
+		if (errorRate > slo.maxErrorRate()) {
+			violations.add(String.format("erreurs %.2f %% > %.2f %% (%s)", 100 * errorRate, 100 * slo.maxErrorRate(),
+					firstError));
+		}
+		return violations;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("%d parties, %d coups en %.1f s : %.0f coups/s, %d erreurs, tas max %d Mo%n", games,
+				moves, getSeconds(), getMovesPerSecond(), errors, getPeakHeap() / MEGABYTE));
+		builder.append(String.format("%-9s %9s %9s %9s %9s %9s %9s%n", "commande", "nombre", "p50 us", "p90 us",
+				"p99 us", "p99.9 us", "max us"));
+		for (LoadTest.Command command : LoadTest.Command.values()) {
+			ConcurrentHistogram latency = latencies.get(command);
+			if (latency.getCount() > 0) {
+				builder.append(String.format("%-9s %9d %9d %9d %9d %9d %9d%n", command, latency.getCount(),
+						latency.percentile(50) / 1000, latency.percentile(90) / 1000, latency.percentile(99) / 1000,
+						latency.percentile(99.9) / 1000, latency.getMax() / 1000));
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,34 @@
+package server.load;
+
+/**
+ * Service level objectives checked at the end of a load test, see {@link LoadReport#violations(LoadSlo)}.
+ *
+ * @param maxP99Micros       Highest 99th percentile of the latency of each command, in microseconds
+ * @param minMovesPerSecond  Lowest throughput, in moves per second over the whole test
+ * @param maxHeapMegabytes   Highest heap used, in megabytes
+ * @param maxErrorRate       Highest proportion of games ended by an error, between 0 and 1
+ */
+public record LoadSlo(long maxP99Micros, double minMovesPerSecond, long maxHeapMegabytes, double maxErrorRate) {
+
+	public LoadSlo {
+		if (maxP99Micros <= 0 || minMovesPerSecond < 0 || maxHeapMegabytes <= 0) {
+			throw new IllegalArgumentException("Invalid objectives");
+		}
+		if (maxErrorRate < 0 || maxErrorRate > 1) {
+			throw new IllegalArgumentException("Error rate must be between 0 and 1");
+		}
+	}
+
+	/**
+	 * Reads the objectives from the system properties {@code cascadia.slo.p99} (microseconds, 50000 by default),
+	 * {@code cascadia.slo.throughput} (moves per second, 0 by default), {@code cascadia.slo.heap} (megabytes,
+	 * 1024 by default) and {@code cascadia.slo.errors} (proportion of games, 0 by default)
+	 * @return Objectives
+	 */
+	public static LoadSlo fromProperties() {
+		return new LoadSlo(Long.parseLong(System.getProperty("cascadia.slo.p99", "50000")),
+				Double.parseDouble(System.getProperty("cascadia.slo.throughput", "0")),
+				Long.parseLong(System.getProperty("cascadia.slo.heap", "1024")),
+				Double.parseDouble(System.getProperty("cascadia.slo.errors", "0")));
+	}
+}
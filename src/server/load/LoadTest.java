@@ -0,0 +1,167 @@
+package server.load;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import core.game.Move;
+import core.game.metrics.ConcurrentHistogram;
+import server.GameClient;
+import server.GameServer;
+import server.GameState;
+
+/**
+ * Load generator for a {@link GameServer}: many simulated clients, one virtual thread each, play whole games
+ * through {@link GameClient} (each client plays every seat of its games) and time each request.
+ * Variants, numbers of players (2 to 4) and seeds are drawn from the seed of the test, so that a run can be
+ * repeated.
+ */
+public final class LoadTest {
+	/**
+	 * Requests timed by the clients
+	 */
+	public enum Command {
+		CONNECT, NEW_GAME, STATE, MOVES, PLAY
+	}
+
+	private final InetSocketAddress address;
+	private final int clients;
+	private final int gamesPerClient;
+	private final MovePolicy policy;
+	private final long seed;
+	private final Map<Command, ConcurrentHistogram> latencies = new EnumMap<>(Command.class);
+	private final LongAdder games = new LongAdder();
+	private final LongAdder moves = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicReference<String> firstError = new AtomicReference<>();
+
+	/**
+	 * Constructor for LoadTest
+	 * @param address        Address of the server
+	 * @param clients        Number of simulated clients, all connected at the same time
+	 * @param gamesPerClient Number of games played by each client, one after the other
+	 * @param policy         How clients choose their moves
+	 * @param seed           Seed of the test
+	 */
+	public LoadTest(InetSocketAddress address, int clients, int gamesPerClient, MovePolicy policy, long seed) {
+		if (clients <= 0 || gamesPerClient <= 0) {
+			throw new IllegalArgumentException("Numbers of clients and games must be positive");
+		}
+		this.address = Objects.requireNonNull(address);
+		this.clients = clients;
+		this.gamesPerClient = gamesPerClient;
+		this.policy = Objects.requireNonNull(policy);
+		this.seed = seed;
+		for (Command command : Command.values()) {
+			latencies.put(command, new ConcurrentHistogram());
+		}
+	}
+
+	/**
+	 * Runs the test until every client has played its games
+	 * @param interval Interval between samples
+	 * @param listener Called with each sample, on the sampling thread
+	 * @return Report
+	 * @throws InterruptedException if interrupted while waiting for the clients
+	 */
+	public LoadReport run(Duration interval, Consumer<? super LoadReport.Sample> listener) throws InterruptedException {
+		Objects.requireNonNull(listener);
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		List<LoadReport.Sample> samples = new ArrayList<>();
+		long start = System.nanoTime();
+		long[] previous = { start, 0 }; // Date et nombre de coups de l'échantillon précédent
+		Runnable sampling = () -> {
+			long now = System.nanoTime();
+			long played = moves.sum();
+			double rate = now == previous[0] ? 0 : (played - previous[1]) * 1e9 / (now - previous[0]);
+			previous[0] = now;
+			previous[1] = played;
+			LoadReport.Sample sample = new LoadReport.Sample((now - start) / 1_000_000, rate,
+					memory.getHeapMemoryUsage().getUsed(), active.get());
+			samples.add(sample);
+			listener.accept(sample);
+		};
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "load-sampler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = interval.toMillis();
+		sampler.scheduleAtFixedRate(sampling, period, period, TimeUnit.MILLISECONDS);
+		active.set(clients);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < clients; i++) {
+				int client = i;
+				executor.execute(() -> simulate(client));
+			}
+		} // Attend la fin de tous les clients
+		long elapsed = System.nanoTime() - start;
+		sampler.shutdown();
+		sampler.awaitTermination(1, TimeUnit.MINUTES);
+		sampling.run(); // Dernier échantillon, après les autres
+		return new LoadReport(elapsed, games.sum(), moves.sum(), errors.sum(), firstError.get(), latencies, samples);
+	}
+
+	private void simulate(int client) {
+		Random random = new Random(seed * 31 + client);
+		try {
+			long start = System.nanoTime();
+			try (GameClient connection = GameClient.connect(address)) {
+				record(Command.CONNECT, start);
+				for (int game = 0; game < gamesPerClient; game++) {
+					play(connection, random);
+					games.increment();
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			errors.increment();
+			firstError.compareAndSet(null, e.toString());
+		} finally {
+			active.decrementAndGet();
+		}
+	}
+
+	private void play(GameClient connection, Random random) throws IOException {
+		long start = System.nanoTime();
+		connection.newGame(1 + random.nextInt(3), 2 + random.nextInt(3), random.nextLong(), false);
+		record(Command.NEW_GAME, start);
+		int[] scores = null;
+		while (scores == null) {
+			GameState state = null;
+			if (policy.needsState()) {
+				start = System.nanoTime();
+				state = connection.state();
+				record(Command.STATE, start);
+			}
+			start = System.nanoTime();
+			List<Move> legal = connection.moves();
+			record(Command.MOVES, start);
+			Move move = policy.choose(legal, state, random);
+			start = System.nanoTime();
+			scores = connection.play(move);
+			record(Command.PLAY, start);
+			moves.increment();
+		}
+	}
+
+	private void record(Command command, long start) {
+		latencies.get(command).record(System.nanoTime() - start);
+	}
+}
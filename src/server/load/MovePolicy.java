@@ -0,0 +1,142 @@
+package server.load;
+
+import java.util.List;
+import java.util.Random;
+
+import core.game.Match;
+import core.game.Move;
+import core.game.eval.EndgameSolver;
+import core.game.grid.AllNeighbors;
+import core.game.grid.Board;
+import core.game.grid.Tile;
+import core.game.mechanics.Habitat;
+import server.GameState;
+
+/**
+ * How a simulated client chooses its moves among the legal ones.
+ */
+public enum MovePolicy {
+	/**
+	 * Any legal move, drawn at random
+	 */
+	RANDOM {
+		@Override
+		public Move choose(List<Move> moves, GameState state, Random random) {
+			return moves.get(random.nextInt(moves.size()));
+		}
+	},
+	/**
+	 * Move placing the tile next to the most cells of the same habitat, diagonals included as for the corridors of
+	 * square grids, ties drawn at random.
+	 * Needs the state of the game before each move, hence one more request per move.
+	 */
+	GREEDY {
+		@Override
+		public Move choose(List<Move> moves, GameState state, Random random) {
+			Board board = state.board();
+			Move best = null;
+			int bestScore = -1;
+			int ties = 0;
+			for (Move move : moves) {
+				Tile tile = state.market().get(move.tile());
+				int score = sameHabitatNeighbors(board, move.x(), move.y(), tile.getHabitat());
+				if (score > bestScore) {
+					best = move;
+					bestScore = score;
+					ties = 1;
+				} else if (score == bestScore && random.nextInt(++ties) == 0) {
+					best = move; // Tirage uniforme parmi les ex aequo
+				}
+			}
+			return best;
+		}
+
+		@Override
+		public boolean needsState() {
+			return true;
+		}
+	},
+	/**
+	 * Best move of the {@link EndgameSolver} over the last turns of the game, greedy move before.
+	 * The solver needs the whole match: clients only knowing the state of the game always play greedy moves.
+	 */
+	ENDGAME {
+		@Override
+		public Move choose(Match match, List<Move> moves, Random random) {
+			EndgameSolver solver = Endgame.SOLVER;
+			if (solver.canSolve(match)) {
+				return solver.solve(match).move();
+			}
+			return GREEDY.choose(match, moves, random);
+		}
+
+		@Override
+		public Move choose(List<Move> moves, GameState state, Random random) {
+			return GREEDY.choose(moves, state, random);
+		}
+
+		@Override
+		public boolean needsState() {
+			return true;
+		}
+	};
+
+	// Créé au premier coup joué par ENDGAME seulement
+	private static final class Endgame {
+		// Trois tours suffisent en simulation : un tour de plus multiplie le temps de recherche par vingt
+		private static final EndgameSolver SOLVER = new EndgameSolver(3, EndgameSolver.DEFAULT_SAMPLES, 1);
+	}
+
+	// Voisinage des grilles carrées et du terminal, celui des matchs simulés
+	private static final int[][] NEIGHBORS = new AllNeighbors().getNeighbors();
+
+	private static int sameHabitatNeighbors(Board board, int x, int y, Habitat habitat) {
+		int count = 0;
+		int size = board.getSize();
+		for (int[] offset : NEIGHBORS) {
+			int nx = x + offset[0];
+			int ny = y + offset[1];
+			if (nx >= 0 && ny >= 0 && nx < size && ny < size) {
+				short cell = board.getCell(nx, ny);
+				if (cell != 0 && Board.habitat(cell) == habitat) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Chooses a move
+	 * @param moves  Legal moves, not empty
+	 * @param state  State of the game with the grid of the current player, null if not {@link #needsState()}
+	 * @param random Random generator of the client
+	 * @return Chosen move
+	 */
+	public abstract Move choose(List<Move> moves, GameState state, Random random);
+
+	/**
+	 * Chooses a move in a match played locally
+	 * @param match  Match, not over
+	 * @param moves  Legal moves of the match, not empty
+	 * @param random Random generator of the player
+	 * @return Chosen move
+	 */
+	public Move choose(Match match, List<Move> moves, Random random) {
+		GameState state = null;
+		if (needsState()) {
+			int current = match.getCurrentPlayerIndex();
+			state = new GameState(match.getTurn(), current, false, current,
+					match.getGame().getHistory(match.getCurrentPlayer()).current(), match.getMarket());
+		}
+		return choose(moves, state, random);
+	}
+
+	/**
+	 * Tells whether the policy needs the state of the game
+	 * @return true if the client has to request the state before each move
+	 */
+	public boolean needsState() {
+		return false;
+	}
+}
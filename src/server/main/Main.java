@@ -0,0 +1,250 @@
+package server.main;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import core.game.Match;
+import core.game.eval.BoardEvaluator;
+import core.game.eval.BoardFeatures;
+import core.game.eval.EvaluatorTrainer;
+import core.game.eval.PositionBuffer;
+import core.game.grid.Board;
+import core.game.metrics.GameMetrics;
+import core.game.player.Player;
+import core.game.record.OutcomeExporter;
+import graphical.model.GameMode;
+import server.GameServer;
+import server.SimulationCoordinator;
+import server.SimulationExperiment;
+import server.SimulationResult;
+import server.SimulationWorker;
+import server.load.LoadReport;
+import server.load.LoadSlo;
+import server.load.LoadTest;
+import server.load.MovePolicy;
+import server.tournament.Tournament;
+
+public class Main {
+	/**
+	 * Runs a server until the end of the standard input.
+	 * 
+	 * @param args port (7845 by default), or {@code --load <clients> [<games per client>] [random|greedy]} to load
+	 *             a server started in the same process and check the objectives of {@link LoadSlo#fromProperties()},
+	 *             or {@code --simulate <variant> <random|greedy|endgame> <players> <games> [<local workers>]}
+	 *             to coordinate a simulation on port {@code cascadia.simulation.port} (7846 by default), or
+	 *             {@code --worker <host>:<port>} to work for a coordinator, or
+	 *             {@code --tournament <round-robin|swiss> <decks> [<rounds>]} to rank the move policies, or
+	 *             {@code --export <file> <variant> <random|greedy|endgame> <players> <games>} to write the outcomes and
+	 *             the moves of simulated games to a columnar file (see {@link OutcomeExporter}), or
+	 *             {@code --train-eval <file> <variant> <random|greedy|endgame> <players> <games> [<hidden units>]}
+	 *             to train a {@link BoardEvaluator} on the positions of simulated games
+	 * @throws IOException          if the server cannot be started
+	 * @throws InterruptedException if interrupted during a load test
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length > 1 && args[0].equals("--load")) {
+			load(Integer.parseInt(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : 1,
+					args.length > 3 ? MovePolicy.valueOf(args[3].toUpperCase(Locale.ROOT)) : MovePolicy.RANDOM);
+			return;
+		}
+		if (args.length > 4 && args[0].equals("--simulate")) {
+			simulate(new SimulationExperiment(Integer.parseInt(args[1]), MovePolicy.valueOf(args[2].toUpperCase(Locale.ROOT)),
+					Integer.parseInt(args[3]), 0, Long.parseLong(args[4])),
+					args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors());
+			return;
+		}
+		if (args.length > 1 && args[0].equals("--worker")) {
+			int colon = args[1].lastIndexOf(':');
+			SimulationWorker.run(new InetSocketAddress(args[1].substring(0, colon),
+					Integer.parseInt(args[1].substring(colon + 1))));
+			return;
+		}
+		if (args.length > 2 && args[0].equals("--tournament")) {
+			tournament(Tournament.Format.valueOf(args[1].replace('-', '_').toUpperCase(Locale.ROOT)),
+					Integer.parseInt(args[2]), args.length > 3 ? Integer.parseInt(args[3]) : 0);
+			return;
+		}
+		if (args.length > 5 && args[0].equals("--export")) {
+			export(Path.of(args[1]), new SimulationExperiment(Integer.parseInt(args[2]),
+					MovePolicy.valueOf(args[3].toUpperCase(Locale.ROOT)), Integer.parseInt(args[4]), 0,
+					Long.parseLong(args[5])));
+			return;
+		}
+		if (args.length > 5 && args[0].equals("--train-eval")) {
+			trainEvaluator(Path.of(args[1]), new SimulationExperiment(Integer.parseInt(args[2]),
+					MovePolicy.valueOf(args[3].toUpperCase(Locale.ROOT)), Integer.parseInt(args[4]), 0,
+					Long.parseLong(args[5])), args.length > 6 ? Integer.parseInt(args[6]) : 0);
+			return;
+		}
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 7845;
+		GameMetrics.global().registerMBeans();
+		try (GameServer server = new GameServer(port)) {
+			server.start();
+			System.out.println("Serveur Cascadia à l'écoute sur " + server.getAddress());
+			while (System.in.read() >= 0) {
+				// Arrêt à la fin de l'entrée standard
+			}
+		}
+	}
+
+	private static void simulate(SimulationExperiment experiment, int workers) throws IOException, InterruptedException {
+		int port = Integer.getInteger("cascadia.simulation.port", 7846);
+		try (SimulationCoordinator coordinator = new SimulationCoordinator(experiment, new InetSocketAddress(port),
+				SimulationWorker.BATCH * 8)) {
+			System.out.println("Coordinateur à l'écoute sur " + coordinator.getAddress() + ", " + workers
+					+ " travailleurs locaux");
+			coordinator.launchWorkers(workers);
+			long start = System.nanoTime();
+			long[] printed = { start };
+			SimulationResult result;
+			try {
+				result = coordinator.run(total -> {
+					long now = System.nanoTime();
+					if (now - printed[0] > 1_000_000_000L) {
+						printed[0] = now;
+						System.out.println(total.getGames() + " / " + experiment.games() + " parties");
+					}
+				});
+			} catch (IllegalStateException e) {
+				System.out.println("Simulation abandonnée : " + e.getMessage());
+				coordinator.close();
+				System.exit(1);
+				return;
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.println(result);
+			System.out.printf("%.1f s, %.0f parties/s, %d travailleurs perdus%n", seconds, result.getGames() / seconds,
+					coordinator.getFailures());
+		}
+	}
+
+	private interface MatchSink {
+		void accept(Match match) throws IOException;
+	}
+
+	private static void playAll(SimulationExperiment experiment, MatchSink sink) throws IOException, InterruptedException {
+		int threads = Runtime.getRuntime().availableProcessors();
+		AtomicLong next = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<Void>> running = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			running.add(executor.submit(() -> {
+				long game;
+				while ((game = next.getAndIncrement()) < experiment.games()) {
+					sink.accept(SimulationWorker.play(experiment.variant(), experiment.policy(), experiment.players(),
+							experiment.firstSeed() + game));
+				}
+				return null;
+			}));
+		}
+		executor.shutdown();
+		try {
+			for (Future<Void> future : running) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IOException("Simulation failed", e.getCause());
+		}
+	}
+
+	private static void export(Path path, SimulationExperiment experiment) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		try (OutcomeExporter exporter = OutcomeExporter.create(path)) {
+			playAll(experiment, exporter::add);
+			System.out.printf("%d parties et %d coups écrits dans %s en %.1f s%n", exporter.getRowCount(),
+					exporter.getTurnCount(), path, (System.nanoTime() - start) / 1e9);
+		}
+	}
+
+	private static void trainEvaluator(Path path, SimulationExperiment experiment, int hidden)
+			throws IOException, InterruptedException {
+		int gridSize = new Match(experiment.variant(), experiment.players(), 0, false, GameMode.TERMINAL,
+				GameMetrics.disabled()).getCurrentGrid().getSize();
+		long start = System.nanoTime();
+		try (PositionBuffer buffer = new PositionBuffer(gridSize, experiment.games() * experiment.players() * 48)) {
+			playAll(experiment, match -> {
+				for (Player player : match.getPlayers()) {
+					buffer.append(match.getGame().getHistory(player), player.getTotalScore());
+				}
+			});
+			System.out.printf("%d positions de %d parties en %.1f s%n", buffer.size(), experiment.games(),
+					(System.nanoTime() - start) / 1e9);
+			EvaluatorTrainer trainer = new EvaluatorTrainer(hidden, 64, hidden == 0 ? 0.01f : 0.003f, 1);
+			BoardEvaluator evaluator = trainer.train(buffer, 20_000);
+			evaluator.write(path);
+			System.out.printf("Évaluateur écrit dans %s, erreur quadratique %.2f points²%n", path, trainer.getLoss());
+			benchmark(evaluator, SimulationWorker.play(experiment.variant(), experiment.policy(), experiment.players(),
+					experiment.firstSeed()));
+		}
+	}
+
+	private static void benchmark(BoardEvaluator evaluator, Match match) {
+		Board board = match.getGame().getHistory(match.getPlayers().get(0)).current();
+		int size = board.getSize();
+		short[] cells = new short[size * size];
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				cells[x * size + y] = board.getCell(x, y);
+			}
+		}
+		BoardFeatures features = new BoardFeatures(size);
+		float[] values = new float[BoardFeatures.COUNT];
+		float[] activations = new float[evaluator.getHidden()];
+		int runs = 1_000_000;
+		double estimate = 0;
+		long start = 0;
+		for (int i = 0; i < 2 * runs; i++) {
+			if (i == runs) {
+				start = System.nanoTime(); // Après la compilation à la volée
+				estimate = 0;
+			}
+			features.extract(cells, values);
+			estimate += evaluator.evaluate(values, activations);
+		}
+		System.out.printf("%.0f ns par grille (estimation %.1f, score %d)%n", (System.nanoTime() - start) / (double) runs,
+				estimate / runs, match.getPlayers().get(0).getTotalScore());
+	}
+
+	private static void tournament(Tournament.Format format, int decks, int rounds) throws InterruptedException {
+		Tournament tournament = new Tournament(format, decks, 0, Runtime.getRuntime().availableProcessors());
+		for (MovePolicy policy : MovePolicy.values()) {
+			tournament.register(policy.name().toLowerCase(Locale.ROOT), policy);
+		}
+		long start = System.nanoTime();
+		tournament.run(rounds);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.print(tournament);
+		System.out.printf("%d parties en %.1f s%n", tournament.getGamesPlayed(), seconds);
+	}
+
+	private static void load(int clients, int games, MovePolicy policy) throws IOException, InterruptedException {
+		LoadSlo slo = LoadSlo.fromProperties();
+		LoadReport report;
+		try (GameServer server = new GameServer(0)) {
+			server.start();
+			System.out.println(clients + " clients x " + games + " parties (" + policy + ") sur " + server.getAddress());
+			LoadTest test = new LoadTest(server.getAddress(), clients, games, policy, 1);
+			report = test.run(Duration.ofSeconds(1), sample -> System.out.printf("%6.1f s %8.0f coups/s %6d Mo %6d clients%n",
+					sample.elapsedMillis() / 1000.0, sample.movesPerSecond(), sample.heapBytes() / (1024 * 1024),
+					sample.activeClients()));
+		}
+		System.out.print(report);
+		List<String> violations = report.violations(slo);
+		for (String violation : violations) {
+			System.out.println("Objectif non tenu : " + violation);
+		}
+		if (!violations.isEmpty()) {
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package server.tournament;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import core.game.metrics.ConcurrentHistogram;
+import core.game.metrics.RunningStats;
+import core.game.player.Player;
+import server.load.MovePolicy;
+
+/**
+ * Results of a policy registered in a {@link Tournament}, folded game after game: no game is kept.
+ * Games are folded concurrently by the threads of the tournament; points are only given between rounds.
+ */
+public final class EntrantStats {
+	private final String name;
+	private final MovePolicy policy;
+	private final RunningStats[] scores = new RunningStats[4]; // Par variante, de 1 à 3
+	private final ConcurrentHistogram wildlife = new ConcurrentHistogram();
+	private final ConcurrentHistogram habitat = new ConcurrentHistogram();
+	private final ConcurrentHistogram bonus = new ConcurrentHistogram();
+	private final LongAdder games = new LongAdder();
+	private final LongAdder wins = new LongAdder();
+	private final LongAdder draws = new LongAdder();
+	private double points;
+	private int byes;
+
+	EntrantStats(String name, MovePolicy policy) {
+		this.name = Objects.requireNonNull(name);
+		this.policy = Objects.requireNonNull(policy);
+		for (int variant = 1; variant < scores.length; variant++) {
+			scores[variant] = new RunningStats();
+		}
+	}
+
+	/**
+	 * Folds a game
+	 * @param variant Game variant
+	 * @param player  Seat of this entrant, scores calculated
+	 * @param outcome 1 if won, 0 if drawn, -1 if lost
+	 */
+	void record(int variant, Player player, int outcome) {
+		scores[variant].add(player.getTotalScore());
+		wildlife.record(player.getWildlifeScore());
+		habitat.record(player.getHabitatScore());
+		bonus.record(player.getBonusPoints());
+		games.increment();
+		if (outcome > 0) {
+			wins.increment();
+		} else if (outcome == 0) {
+			draws.increment();
+		}
+	}
+
+	void addPoints(double won) {
+		points += won;
+	}
+
+	void addBye() {
+		byes++;
+		points++;
+	}
+
+	/**
+	 * Getter of the name of the entrant
+	 * @return Name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Getter of the policy of the entrant
+	 * @return Policy
+	 */
+	public MovePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Getter of the tournament points: 1 per match won, 0.5 per match drawn, 1 per bye
+	 * @return Points
+	 */
+	public double getPoints() {
+		return points;
+	}
+
+	/**
+	 * Getter of the number of rounds without opponent
+	 * @return Number of byes
+	 */
+	public int getByes() {
+		return byes;
+	}
+
+	/**
+	 * Getter of the number of games played
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return games.sum();
+	}
+
+	/**
+	 * Getter of the proportion of games won
+	 * @return Win rate between 0 and 1
+	 */
+	public double getWinRate() {
+		long played = games.sum();
+		return played == 0 ? 0 : (double) wins.sum() / played;
+	}
+
+	/**
+	 * Getter of the proportion of games drawn
+	 * @return Draw rate between 0 and 1
+	 */
+	public double getDrawRate() {
+		long played = games.sum();
+		return played == 0 ? 0 : (double) draws.sum() / played;
+	}
+
+	/**
+	 * Getter of the total scores in a variant
+	 * @param variant Game variant (1 to 3)
+	 * @return Mean and variance of the scores
+	 */
+	public RunningStats getScores(int variant) {
+		return scores[variant];
+	}
+
+	/**
+	 * Getter of the wildlife scores
+	 * @return Histogram of the scores
+	 */
+	public ConcurrentHistogram getWildlifeScores() {
+		return wildlife;
+	}
+
+	/**
+	 * Getter of the habitat scores
+	 * @return Histogram of the scores
+	 */
+	public ConcurrentHistogram getHabitatScores() {
+		return habitat;
+	}
+
+	/**
+	 * Getter of the majority bonus points
+	 * @return Histogram of the points
+	 */
+	public ConcurrentHistogram getBonusPoints() {
+		return bonus;
+	}
+}
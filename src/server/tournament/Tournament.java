@@ -0,0 +1,246 @@
+package server.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import core.game.Match;
+import core.game.player.Player;
+import server.SimulationWorker;
+import server.load.MovePolicy;
+
+/**
+ * Tournament between move policies, two by two.
+ * - A match between two entrants is played on the same decks (one per seed) in every variant, each deck twice
+ * with the seats swapped, so that neither entrant benefits from playing first
+ * - The entrant winning more games of a match gets 1 point, 0.5 each if they won as many
+ * - Round robin: every entrant meets every other once. Swiss: each round pairs entrants with close points who did
+ * not meet yet; when their number is odd, the lowest ranked among those with the fewest byes gets a bye (1 point)
+ *
+ * The games of a round are played in parallel by a fixed number of threads, each one taking the next game from
+ * a shared counter, and folded into the {@link EntrantStats} of both entrants as soon as they are over.
+ */
+public final class Tournament {
+	/**
+	 * How entrants are paired
+	 */
+	public enum Format {
+		ROUND_ROBIN, SWISS
+	}
+
+	private static final int VARIANTS = 3;
+
+	private final Format format;
+	private final int decks;
+	private final long firstSeed;
+	private final int threads;
+	private final List<EntrantStats> entrants = new ArrayList<>();
+	private final Map<EntrantStats, Set<EntrantStats>> met = new IdentityHashMap<>();
+	private final AtomicLong gamesPlayed = new AtomicLong();
+
+	/**
+	 * Constructor for Tournament
+	 * @param format    How entrants are paired
+	 * @param decks     Number of decks of each match, each one played twice in every variant
+	 * @param firstSeed Seed of the first deck
+	 * @param threads   Number of threads playing the games
+	 */
+	public Tournament(Format format, int decks, long firstSeed, int threads) {
+		this.format = Objects.requireNonNull(format);
+		if (decks <= 0 || threads <= 0) {
+			throw new IllegalArgumentException("Numbers of decks and threads must be positive");
+		}
+		this.decks = decks;
+		this.firstSeed = firstSeed;
+		this.threads = threads;
+	}
+
+	/**
+	 * Registers an entrant
+	 * @param name   Name of the entrant, unique
+	 * @param policy Policy of the entrant
+	 * @return Results of the entrant, filled by {@link #run(int)}
+	 */
+	public EntrantStats register(String name, MovePolicy policy) {
+		for (EntrantStats entrant : entrants) {
+			if (entrant.getName().equals(name)) {
+				throw new IllegalArgumentException("Entrant already registered: " + name);
+			}
+		}
+		EntrantStats entrant = new EntrantStats(name, policy);
+		entrants.add(entrant);
+		met.put(entrant, new HashSet<>());
+		return entrant;
+	}
+
+	/**
+	 * Plays the tournament
+	 * @param rounds Number of rounds of a Swiss tournament, 0 for enough rounds to rank the entrants
+	 *               (log2 of their number); ignored in round robin
+	 * @return Standings, see {@link #getStandings()}
+	 * @throws InterruptedException if interrupted while waiting for the games
+	 */
+	public List<EntrantStats> run(int rounds) throws InterruptedException {
+		if (entrants.size() < 2) {
+			throw new IllegalStateException("At least two entrants are needed");
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			if (format == Format.ROUND_ROBIN) {
+				List<EntrantStats[]> pairings = new ArrayList<>();
+				for (int i = 0; i < entrants.size(); i++) {
+					for (int j = i + 1; j < entrants.size(); j++) {
+						pairings.add(new EntrantStats[] { entrants.get(i), entrants.get(j) });
+					}
+				}
+				playRound(pairings, executor);
+			} else {
+				int count = rounds > 0 ? rounds : 32 - Integer.numberOfLeadingZeros(entrants.size() - 1);
+				for (int round = 0; round < count; round++) {
+					playRound(pairSwiss(), executor);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return getStandings();
+	}
+
+	private List<EntrantStats[]> pairSwiss() {
+		List<EntrantStats> ranked = getStandings();
+		if (ranked.size() % 2 != 0) {
+			EntrantStats bye = ranked.getLast();
+			for (EntrantStats entrant : ranked.reversed()) {
+				if (entrant.getByes() < bye.getByes()) {
+					bye = entrant; // Le moins bien classé parmi ceux qui ont eu le moins d'exemptions
+				}
+			}
+			bye.addBye();
+			ranked.remove(bye);
+		}
+		List<EntrantStats[]> pairings = new ArrayList<>();
+		boolean[] paired = new boolean[ranked.size()];
+		for (int i = 0; i < ranked.size(); i++) {
+			if (paired[i]) {
+				continue;
+			}
+			EntrantStats entrant = ranked.get(i);
+			int opponent = -1;
+			for (int j = i + 1; j < ranked.size(); j++) {
+				if (!paired[j] && (opponent < 0 || !met.get(entrant).contains(ranked.get(j)))) {
+					opponent = j; // Premier adversaire libre, à défaut d'un adversaire jamais rencontré
+					if (!met.get(entrant).contains(ranked.get(j))) {
+						break;
+					}
+				}
+			}
+			paired[i] = true;
+			paired[opponent] = true;
+			pairings.add(new EntrantStats[] { entrant, ranked.get(opponent) });
+		}
+		return pairings;
+	}
+
+	private void playRound(List<EntrantStats[]> pairings, ExecutorService executor) throws InterruptedException {
+		long gamesPerPairing = (long) VARIANTS * decks;
+		long total = pairings.size() * gamesPerPairing;
+		AtomicLong next = new AtomicLong();
+		AtomicLongArray won = new AtomicLongArray(2 * pairings.size());
+		Callable<Void> worker = () -> {
+			long task;
+			while ((task = next.getAndIncrement()) < total) {
+				int pairing = (int) (task / gamesPerPairing);
+				int variant = 1 + (int) (task % gamesPerPairing / decks);
+				long seed = firstSeed + task % decks;
+				EntrantStats[] sides = pairings.get(pairing);
+				for (int first = 0; first < 2; first++) { // Même paquet, places échangées
+					EntrantStats a = sides[first];
+					EntrantStats b = sides[1 - first];
+					Match match = SimulationWorker.play(variant, List.of(a.getPolicy(), b.getPolicy()), seed);
+					Player playerA = match.getPlayers().get(0);
+					Player playerB = match.getPlayers().get(1);
+					int outcome = Integer.compare(playerA.getTotalScore(), playerB.getTotalScore());
+					a.record(variant, playerA, outcome);
+					b.record(variant, playerB, -outcome);
+					if (outcome != 0) {
+						won.incrementAndGet(2 * pairing + (outcome > 0 ? first : 1 - first));
+					}
+					gamesPlayed.incrementAndGet();
+				}
+			}
+			return null;
+		};
+		List<Future<Void>> running = new ArrayList<>(threads);
+		for (int i = 0; i < threads; i++) {
+			running.add(executor.submit(worker));
+		}
+		try {
+			for (Future<Void> future : running) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Game failed", e.getCause());
+		}
+		for (int pairing = 0; pairing < pairings.size(); pairing++) {
+			EntrantStats[] sides = pairings.get(pairing);
+			int compared = Long.compare(won.get(2 * pairing), won.get(2 * pairing + 1));
+			sides[0].addPoints(compared > 0 ? 1 : compared == 0 ? 0.5 : 0);
+			sides[1].addPoints(compared < 0 ? 1 : compared == 0 ? 0.5 : 0);
+			met.get(sides[0]).add(sides[1]);
+			met.get(sides[1]).add(sides[0]);
+		}
+	}
+
+	/**
+	 * Getter of the number of games played so far
+	 * @return Number of games
+	 */
+	public long getGamesPlayed() {
+		return gamesPlayed.get();
+	}
+
+	/**
+	 * Getter of the standings
+	 * @return Entrants by decreasing points, then win rate
+	 */
+	public List<EntrantStats> getStandings() {
+		List<EntrantStats> standings = new ArrayList<>(entrants);
+		standings.sort(Comparator.comparingDouble(EntrantStats::getPoints)
+				.thenComparingDouble(EntrantStats::getWinRate).reversed());
+		return standings;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("%-12s %6s %7s %6s %6s %15s %15s %15s %11s %11s %11s%n", "joueur", "points",
+				"parties", "vict.", "nuls", "famille", "intermédiaire", "standard", "faune", "habitats", "bonus"));
+		for (EntrantStats entrant : getStandings()) {
+			builder.append(String.format("%-12s %6.1f %7d %5.1f%% %5.1f%%", entrant.getName(), entrant.getPoints(),
+					entrant.getGames(), 100 * entrant.getWinRate(), 100 * entrant.getDrawRate()));
+			for (int variant = 1; variant <= VARIANTS; variant++) {
+				builder.append(String.format(" %7.2f ± %5.2f", entrant.getScores(variant).getMean(),
+						entrant.getScores(variant).getStandardDeviation()));
+			}
+			builder.append(String.format(" %4.1f [%2d-%2d] %4.1f [%2d-%2d] %4.1f [%2d-%2d]%n",
+					entrant.getWildlifeScores().getMean(), entrant.getWildlifeScores().percentile(10),
+					entrant.getWildlifeScores().percentile(90), entrant.getHabitatScores().getMean(),
+					entrant.getHabitatScores().percentile(10), entrant.getHabitatScores().percentile(90),
+					entrant.getBonusPoints().getMean(), entrant.getBonusPoints().percentile(10),
+					entrant.getBonusPoints().percentile(90)));
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,259 @@
+package terminal.main;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import core.game.Match;
+import core.game.Move;
+import core.game.Notation;
+import core.game.eval.EndgameSolver;
+import core.game.grid.Tile;
+import core.game.player.Player;
+import core.game.record.MoveLog;
+
+/**
+ * Line protocol letting an external program drive games of Cascadia, in the manner of UCI for chess engines.
+ * Started by {@code Main --engine}, it reads commands on the standard input and answers on the standard output.
+ *
+ * Commands, one per line:
+ * - {@code cascadia}: answers {@code id name Cascadia}, {@code id protocol 1} then {@code cascadiaok}
+ * - {@code isready}: answers {@code readyok}
+ * - {@code newgame [variant <1-3>] [players <1-4>] [seed <n>] [redraw3] [record <file>]}: starts a new game,
+ * recorded in the given file if any (see {@link MoveLog}), no answer. A move that cannot be recorded stops the
+ * record with {@code info string record stopped: <reason>}, the game going on
+ * - {@code position [<player>]}: answers {@code position turn <t> player <p> grid <grid>}, for the grid of the
+ * current player or of the given one (players are numbered from 1)
+ * - {@code market}: answers {@code market <tile> <tile> ...}, {@code -} marking a taken tile
+ * - {@code moves}: answers {@code moves <move> <move> ...}, all legal moves of the current player
+ * - {@code go}: answers {@code bestmove <move>}, a move of the built-in player, or {@code bestmove none}. Over the
+ * last {@link EndgameSolver#DEFAULT_TURNS} turns, the move is searched until the end of the game and preceded by
+ * {@code info score <margin> nodes <n>}: expected margin of the player over its best opponent, positions searched
+ * - {@code move <move>}: plays a move for the current player, no answer unless it is illegal
+ * ({@code illegal <move> <reason>}) or ends the game ({@code gameover scores <s1> <s2> ... winner <p|none>})
+ * - {@code quit}
+ *
+ * Tiles, grids and moves use the compact notations of {@link Notation} and {@link Move}.
+ * Errors are reported as {@code info string <message>}.
+ *
+ * Answers are buffered and only flushed when no further command is already waiting in the input,
+ * so that a program sending commands in batches gets its answers in one write.
+ */
+public class EngineProtocol {
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final BufferedReader in;
+	private final BufferedWriter out;
+	private EndgameSolver solver; // Créé au premier go qui peut être résolu
+	private Match match;
+	private MoveLog log;
+
+	/**
+	 * Constructor for EngineProtocol
+	 * @param in  Stream of commands
+	 * @param out Stream of answers
+	 */
+	public EngineProtocol(Reader in, Writer out) {
+		this.in = new BufferedReader(Objects.requireNonNull(in), BUFFER_SIZE);
+		this.out = new BufferedWriter(Objects.requireNonNull(out), BUFFER_SIZE);
+	}
+
+	/**
+	 * Reads and executes commands until {@code quit} or the end of input
+	 * @throws IOException if a stream fails
+	 */
+	public void run() throws IOException {
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (!execute(line.strip())) {
+					break;
+				}
+				if (!in.ready()) {
+					out.flush(); // Plus rien en attente : on répond avant de bloquer sur la lecture
+				}
+			}
+		} finally {
+			if (solver != null) {
+				solver.close();
+			}
+			closeLog();
+			out.flush();
+		}
+	}
+
+	private boolean execute(String line) throws IOException {
+		if (line.isEmpty()) {
+			return true;
+		}
+		String[] words = line.split("\\s+");
+		try {
+			switch (words[0]) {
+			case "cascadia" -> {
+				answer("id name Cascadia");
+				answer("id protocol 1");
+				answer("cascadiaok");
+			}
+			case "isready" -> answer("readyok");
+			case "newgame" -> newGame(words);
+			case "position" -> position(words);
+			case "market" -> market();
+			case "moves" -> moves();
+			case "go" -> go();
+			case "move" -> move(words);
+			case "quit" -> {
+				return false;
+			}
+			default -> answer("info string unknown command: " + words[0]);
+			}
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			answer("info string " + e.getMessage());
+		}
+		return true;
+	}
+
+	private void newGame(String[] words) throws IOException {
+		int variant = 1;
+		int players = 2;
+		long seed = ThreadLocalRandom.current().nextLong();
+		boolean redrawFor3 = false;
+		Path record = null;
+		for (int i = 1; i < words.length; i++) {
+			switch (words[i]) {
+			case "variant" -> variant = Integer.parseInt(argument(words, ++i));
+			case "players" -> players = Integer.parseInt(argument(words, ++i));
+			case "seed" -> seed = Long.parseLong(argument(words, ++i));
+			case "redraw3" -> redrawFor3 = true;
+			case "record" -> record = Path.of(argument(words, ++i));
+			default -> throw new IllegalArgumentException("unknown newgame option: " + words[i]);
+			}
+		}
+		closeLog();
+		match = new Match(variant, players, seed, redrawFor3);
+		if (record != null) {
+			try {
+				log = MoveLog.record(record, match);
+			} catch (IOException e) {
+				answer("info string record stopped: " + e.getMessage()); // Partie jouée sans enregistrement
+			}
+		}
+	}
+
+	private void closeLog() throws IOException {
+		if (log != null) {
+			MoveLog closed = log;
+			log = null;
+			closed.close();
+		}
+	}
+
+	private static String argument(String[] words, int index) {
+		if (index >= words.length) {
+			throw new IllegalArgumentException("missing value for " + words[index - 1]);
+		}
+		return words[index];
+	}
+
+	private Match match() {
+		if (match == null) {
+			throw new IllegalStateException("no game, send newgame first");
+		}
+		return match;
+	}
+
+	private void position(String[] words) throws IOException {
+		Match current = match();
+		int player = words.length > 1 ? Integer.parseInt(words[1]) - 1 : current.getCurrentPlayerIndex();
+		if (player < 0 || player >= current.getPlayers().size()) {
+			throw new IllegalArgumentException("no such player: " + (player + 1));
+		}
+		answer("position turn " + current.getTurn() + " player " + (player + 1) + " grid "
+				+ Notation.format(current.getGame().getGridForPlayer(current.getPlayers().get(player))));
+	}
+
+	private void market() throws IOException {
+		StringBuilder builder = new StringBuilder("market");
+		for (Tile tile : match().getMarket()) {
+			builder.append(' ').append(Notation.format(tile));
+		}
+		answer(builder.toString());
+	}
+
+	private void moves() throws IOException {
+		StringBuilder builder = new StringBuilder("moves");
+		for (Move move : match().legalMoves()) {
+			builder.append(' ').append(move);
+		}
+		answer(builder.toString());
+	}
+
+	private void go() throws IOException {
+		Match current = match();
+		EndgameSolver.Solution solution = null;
+		if (!current.isOver() && EndgameSolver.remainingTurns(current) <= EndgameSolver.DEFAULT_TURNS) {
+			if (solver == null) {
+				solver = new EndgameSolver(EndgameSolver.DEFAULT_TURNS, EndgameSolver.DEFAULT_SAMPLES,
+						Runtime.getRuntime().availableProcessors());
+			}
+			solution = solver.canSolve(current) ? solver.solve(current) : null;
+		}
+		if (solution != null) {
+			answer("info score " + solution.margin() + " nodes " + solution.nodes());
+			answer("bestmove " + solution.move());
+			return;
+		}
+		List<Move> moves = current.legalMoves();
+		answer("bestmove " + (moves.isEmpty() ? "none" : moves.get(0).toString()));
+	}
+
+	private void move(String[] words) throws IOException {
+		Match current = match();
+		Move move = Move.parse(argument(words, 1));
+		String reason = current.check(move);
+		if (reason != null) {
+			answer("illegal " + move + " " + reason);
+			return;
+		}
+		current.play(move);
+		if (log != null && log.getFailure() != null) {
+			answer("info string record stopped: " + log.getFailure().getMessage());
+			try {
+				closeLog();
+			} catch (IOException e) {
+				// Enregistrement déjà signalé comme arrêté
+			}
+		}
+		if (current.isOver()) {
+			gameOver(current.getPlayers());
+		}
+	}
+
+	private void gameOver(List<Player> players) throws IOException {
+		StringBuilder builder = new StringBuilder("gameover scores");
+		int best = Integer.MIN_VALUE;
+		int winner = -1;
+		for (int i = 0; i < players.size(); i++) {
+			int score = players.get(i).getTotalScore();
+			builder.append(' ').append(score);
+			if (score > best) {
+				best = score;
+				winner = i;
+			} else if (score == best) {
+				winner = -1; // Égalité
+			}
+		}
+		builder.append(" winner ").append(winner < 0 ? "none" : String.valueOf(winner + 1));
+		answer(builder.toString());
+	}
+
+	private void answer(String line) throws IOException {
+		out.write(line);
+		out.newLine();
+	}
+}
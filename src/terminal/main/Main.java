@@ -1,6 +1,15 @@
 package terminal.main;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
 import core.game.*;
+import core.game.metrics.GameMetrics;
+import core.game.player.Player;
+import core.game.record.GameReplay;
 import graphical.model.GameMode;
 
 /**
@@ -10,12 +19,42 @@ public class Main {
 	/**
 	 * Main method of Cascadia.
 	 * 
-	 * @param args Not used
+	 * @param args {@code --engine} to be driven by another program, see {@link EngineProtocol}, or
+	 *             {@code --replay <file> [<turn>]} to print the grids of a recorded game at a given turn
 	 */
 	public static void main(String[] args) {
+		GameMetrics.global().registerMBeans();
+		if (args.length > 0 && args[0].equals("--engine")) {
+			try {
+				new EngineProtocol(new InputStreamReader(System.in),
+						new OutputStreamWriter(System.out, System.out.charset())).run();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return;
+		}
+		if (args.length > 1 && args[0].equals("--replay")) {
+			replay(Path.of(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : -1);
+			return;
+		}
 		Game game = new Game();
 		game.addPlayer("Joueur 1", GameMode.TERMINAL);
 		game.addPlayer("Joueur 2", GameMode.TERMINAL);
 		game.startGame();
 	}
+
+	private static void replay(Path path, int turn) {
+		GameReplay replay;
+		try {
+			replay = GameReplay.load(path);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		Match match = replay.replay(turn < 0 ? replay.getMoveCount() : turn);
+		System.out.println(replay.getHeader() + ", " + replay.getMoveCount() + " coups");
+		for (Player player : match.getPlayers()) {
+			System.out.println(player.getName() + " : " + Notation.format(match.getGame().getGridForPlayer(player))
+					+ (match.isOver() ? " score " + player.getTotalScore() : ""));
+		}
+	}
 }
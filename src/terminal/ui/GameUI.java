@@ -7,21 +7,80 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import core.game.Game;
+import core.game.Match;
+import core.game.Move;
+import core.game.event.GameEvent;
+import core.game.event.GameEventListener;
+import core.game.event.GameOver;
+import core.game.event.MarketRefreshed;
+import core.game.event.MovePlayed;
+import core.game.event.TilePlaced;
+import core.game.event.TokenPlaced;
+import core.game.event.TurnEnded;
+import core.game.eval.EndgameSolver;
+import core.game.grid.AllNeighbors;
 import core.game.grid.Grid;
+import core.game.grid.NeighborStrategy;
 import core.game.grid.Tile;
+import core.game.mechanics.Wildlife;
 import core.game.player.Player;
 import graphical.model.GameMode;
 
 /**
  * Manages User interface.
+ * Subscribed to the events of the game by the terminal game loop, see {@link Game#startGame()}.
  */
-public class GameUI {
+public class GameUI implements GameEventListener {
+	private static final int CELL_WIDTH = 18; // Largeur d'une case, séparateur compris
+	private static final int HABITAT_LENGTH = 8; // Longueur d'affichage pour le nom de l'habitat
+
 	private Game game;
+	private final boolean pinnedGrid = System.console() != null
+			&& Boolean.parseBoolean(System.getProperty("cascadia.ansi", "true"));
+	private TerminalRenderer renderer;
+	private boolean redrawFor3;
+	private int turnsPlayed; // Tous joueurs confondus
+	private EndgameSolver solver; // Créé au premier conseil de fin de partie
 
 	public GameUI(Game game) {
 		this.game = game;
 	}
 
+	@Override
+	public void onEvent(GameEvent event) {
+		switch (event) {
+		case MarketRefreshed market -> {
+			System.out.println(market.player() + " :");
+			displayTileChoices(market.tiles());
+			displayGrid(market.grid());
+			displayEndgameHint(market.tiles());
+		}
+		case TilePlaced tile -> {
+			if (tile.placed()) {
+				System.out.println(tile.player() + " a placé une tuile en (" + tile.y() + ", " + tile.x() + ").");
+				displayGrid(tile.grid());
+			} else {
+				System.out.println("Placement impossible. Case déjà occupée ou inaccessible.");
+			}
+		}
+		case TokenPlaced token -> {
+			if (token.placed()) {
+				System.out.println(token.player() + " a ajouté un " + token.wildlife() + " sur la tuile en (" + token.y()
+						+ ", " + token.x() + ").");
+			} else if (token.grid().getTile(token.x(), token.y()) == null) {
+				System.out.println("Il n'y a pas de tuile à cet emplacement.");
+			} else {
+				System.out.println("Impossible d'ajouter le jeton faune sur cette tuile.");
+			}
+		}
+		case MovePlayed move -> {
+			// Les placements sont déjà affichés par TilePlaced et TokenPlaced
+		}
+		case TurnEnded turn -> turnsPlayed++; // Le tour suivant affiche la nouvelle grille
+		case GameOver gameOver -> displayScores(gameOver.players(), gameOver.grids());
+		}
+	}
+
 	/**
 	 * Displays the starting menu.
 	 */
@@ -57,7 +116,35 @@ public class GameUI {
 	 */
 	public boolean askForRedrawPreference() {
 		System.out.println("Voulez-vous repiocher si 3 jetons animaux sont identiques ? (o/n)");
-		return "o".equalsIgnoreCase(IO.readln(""));
+		redrawFor3 = "o".equalsIgnoreCase(IO.readln(""));
+		return redrawFor3;
+	}
+
+	/**
+	 * Displays the best move of the current player once the game is close enough to its end to be solved,
+	 * see {@link EndgameSolver}
+	 * 
+	 * @param market Tiles offered to the current player
+	 */
+	private void displayEndgameHint(List<Tile> market) {
+		Match match = Match.inProgress(game, GameMode.TERMINAL, redrawFor3, market, turnsPlayed);
+		if (EndgameSolver.remainingTurns(match) > EndgameSolver.DEFAULT_TURNS) {
+			return; // Trop tôt : le solveur et sa table ne sont pas encore créés
+		}
+		if (solver == null) {
+			solver = new EndgameSolver(EndgameSolver.DEFAULT_TURNS, EndgameSolver.DEFAULT_SAMPLES,
+					Runtime.getRuntime().availableProcessors());
+		}
+		if (!solver.canSolve(match)) {
+			return;
+		}
+		EndgameSolver.Solution solution = solver.solve(match);
+		if (solution == null) {
+			return; // Aucun coup légal
+		}
+		Move move = solution.move();
+		System.out.println("Conseil de fin de partie : tuile " + (move.tile() + 1) + " en (" + move.y() + ", " + move.x()
+				+ "), jeton en (" + move.wildlifeY() + ", " + move.wildlifeX() + ")");
 	}
 
 	/**
@@ -69,20 +156,119 @@ public class GameUI {
 	public void displayEndGame(List<Player> players, Map<Player, Grid> playerGrids) {
 		Objects.requireNonNull(players, "players cannot be null");
 		Objects.requireNonNull(playerGrids, "playerGrids cannot be null");
+		game.calculateAllPlayersScores(players, playerGrids, GameMode.TERMINAL); // Publie GameOver
+	}
 
+	private void displayScores(List<Player> players, Map<Player, Grid> playerGrids) {
+		if (renderer != null) {
+			renderer.close();
+		}
+		if (solver != null) {
+			solver.close();
+			solver = null;
+		}
 		System.out.println("\u001B[32m--------------Fin de jeu--------------------\u001B[0m");
 
 		for (Player player : players) {
-			playerGrids.get(player).displayGrid();
+			Grid grid = playerGrids.get(player);
+			drawGrid(rendererFor(grid), grid);
+			renderer.renderInline();
 		}
 
-		game.calculateAllPlayersScores(players, playerGrids, GameMode.TERMINAL);
 		displayScorePanel(players);
 
 		Player winner = determineWinner(players);
 		printWinner(winner);
 	}
 
+	/**
+	 * Displays a grid. On an interactive terminal, the grid stays at the top of the screen and
+	 * only the cells that changed since the previous display are redrawn.
+	 * 
+	 * @param grid Grid to be displayed
+	 */
+	public void displayGrid(Grid grid) {
+		Objects.requireNonNull(grid, "grid cannot be null");
+		TerminalRenderer frame = rendererFor(grid);
+		drawGrid(frame, grid);
+		if (pinnedGrid) {
+			if (!frame.isOpen()) {
+				frame.open();
+			}
+			frame.render();
+		} else {
+			frame.renderInline();
+		}
+	}
+
+	private TerminalRenderer rendererFor(Grid grid) {
+		if (renderer == null || renderer.getRows() != grid.getSize() + 1) {
+			if (renderer != null) {
+				renderer.close();
+			}
+			renderer = new TerminalRenderer(System.out, grid.getSize() + 1, grid.getSize() * CELL_WIDTH);
+		}
+		return renderer;
+	}
+
+	private static void drawGrid(TerminalRenderer frame, Grid grid) {
+		NeighborStrategy strategy = new AllNeighbors(); // Verifie en 8
+		frame.clear();
+		int column = frame.put(0, 0, "Grille ", TerminalRenderer.PLAIN);
+		column = frame.put(0, column, grid.getPlayerOnGrid(), TerminalRenderer.PLAIN);
+		frame.put(0, column, " :", TerminalRenderer.PLAIN);
+		for (int i = 0; i < grid.getSize(); i++) {
+			for (int j = 0; j < grid.getSize(); j++) {
+				int row = i + 1;
+				int start = j * CELL_WIDTH;
+				Tile tile = grid.getTile(i, j);
+				if (tile != null) { // Si une tuile est placée
+					drawTile(frame, row, start, tile);
+				} else if (grid.nonEmptyNeighbor(i, j, strategy)) {
+					// Case vide mais voisine à une tuile non vide
+					column = frame.put(row, start, "<", TerminalRenderer.AVAILABLE);
+					column = frame.fill(row, column, ' ', CELL_WIDTH - 3, TerminalRenderer.AVAILABLE);
+					frame.put(row, column, ">", TerminalRenderer.AVAILABLE);
+				} else {
+					// Case vide et non voisine
+					column = frame.put(row, start, "[", TerminalRenderer.PLAIN);
+					column = frame.fill(row, column, ' ', CELL_WIDTH - 3, TerminalRenderer.PLAIN);
+					frame.put(row, column, "]", TerminalRenderer.PLAIN);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Draws a placed tile: its habitat, then its wildlife token or the wildlives it accepts
+	 */
+	private static void drawTile(TerminalRenderer frame, int row, int start, Tile tile) {
+		int column = frame.put(row, start, "[", TerminalRenderer.PLAIN);
+		column = frame.put(row, column, tile.getHabitat().name(), TerminalRenderer.PLAIN);
+		column = frame.fill(row, column, ' ', start + 1 + HABITAT_LENGTH - column, TerminalRenderer.PLAIN);
+		if (!tile.getWildlife().isEmpty()) {
+			Wildlife animal = tile.getWildlife().get(0);
+			column = frame.put(row, column, "(  ", TerminalRenderer.WILDLIFE);
+			column = frame.fill(row, column, animal.name().charAt(0), 1, TerminalRenderer.WILDLIFE);
+			column = frame.put(row, column, "  )", TerminalRenderer.WILDLIFE);
+		} else {
+			List<Wildlife> authorized = tile.getAuthorizedWildlife();
+			int letters = Math.max(0, authorized.size() * 2 - 1);
+			int margin = (5 - letters) / 2;
+			column = frame.put(row, column, "[", TerminalRenderer.PLAIN);
+			column = frame.fill(row, column, ' ', margin, TerminalRenderer.PLAIN);
+			for (int k = 0; k < authorized.size(); k++) {
+				if (k > 0) {
+					column = frame.put(row, column, ",", TerminalRenderer.PLAIN);
+				}
+				column = frame.fill(row, column, authorized.get(k).name().charAt(0), 1, TerminalRenderer.PLAIN);
+			}
+			column = frame.fill(row, column, ' ', margin, TerminalRenderer.PLAIN);
+			column = frame.put(row, column, "]", TerminalRenderer.PLAIN);
+		}
+		frame.put(row, column, "]", TerminalRenderer.PLAIN);
+	}
+
 	private void displayScorePanel(List<Player> players) {
 		System.out.println("\n________SCORE________|" + createHeaderRow(players));
 		System.out.println(" Total jetons faune  |" + createScoreRow(players, Player::getWildlifeScore));
@@ -0,0 +1,278 @@
+package terminal.ui;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Text frame composed in memory and sent to an ANSI terminal.
+ * - The frame is drawn into a reusable char buffer, with a style per character
+ * - {@link #render()} only sends the characters that changed since the previous frame, each run
+ * being reached with a cursor-positioning sequence, and flushes once per frame
+ * - {@link #renderInline()} prints the whole frame at the cursor, for terminals (or pipes) that
+ * do not understand cursor moves
+ *
+ * Once {@link #open()} is called, the frame stays at the top of the screen and a scrolling region
+ * below it keeps the usual questions and messages of the game.
+ */
+public class TerminalRenderer {
+	public static final byte PLAIN = 0;
+	public static final byte AVAILABLE = 1;
+	public static final byte WILDLIFE = 2;
+
+	private static final String ESCAPE = "\u001B[";
+	private static final String[] STYLES = { ESCAPE + "0m", ESCAPE + "0;1;32m", ESCAPE + "0;33m" };
+	private static final int MERGE_GAP = 8; // Plus court de réécrire quelques caractères que de repositionner le curseur
+
+	private final Writer out;
+	private final int rows;
+	private final int columns;
+	private final char[] frame;
+	private final byte[] styles;
+	private final char[] shown;
+	private final byte[] shownStyles;
+	private char[] output = new char[4096];
+	private int length;
+	private boolean open;
+
+	/**
+	 * Constructor for TerminalRenderer
+	 * @param out     Stream of the terminal
+	 * @param rows    Height of frame
+	 * @param columns Width of frame
+	 */
+	public TerminalRenderer(PrintStream out, int rows, int columns) {
+		Objects.requireNonNull(out);
+		if (rows <= 0 || columns <= 0) {
+			throw new IllegalArgumentException("Frame size must be positive");
+		}
+		this.out = new OutputStreamWriter(out, out.charset());
+		this.rows = rows;
+		this.columns = columns;
+		this.frame = new char[rows * columns];
+		this.styles = new byte[rows * columns];
+		this.shown = new char[rows * columns];
+		this.shownStyles = new byte[rows * columns];
+		clear();
+	}
+
+	/**
+	 * Getter of frame height
+	 * @return Number of rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Getter of frame width
+	 * @return Number of columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Tells whether the frame is pinned at the top of the screen
+	 * @return true between {@link #open()} and {@link #close()}
+	 */
+	public boolean isOpen() {
+		return open;
+	}
+
+	/**
+	 * Erases the frame being composed
+	 */
+	public void clear() {
+		Arrays.fill(frame, ' ');
+		Arrays.fill(styles, PLAIN);
+	}
+
+	/**
+	 * Writes text in the frame being composed. Characters beyond the frame are ignored.
+	 * @param row    Row of the first character
+	 * @param column Column of the first character
+	 * @param text   Text to be written
+	 * @param style  {@link #PLAIN}, {@link #AVAILABLE} or {@link #WILDLIFE}
+	 * @return Column following the text
+	 */
+	public int put(int row, int column, CharSequence text, byte style) {
+		if (style < 0 || style >= STYLES.length) {
+			throw new IllegalArgumentException("Unknown style: " + style);
+		}
+		if (row < 0 || row >= rows) {
+			return column + text.length();
+		}
+		for (int i = 0; i < text.length(); i++, column++) {
+			if (column >= 0 && column < columns) {
+				frame[row * columns + column] = text.charAt(i);
+				styles[row * columns + column] = style;
+			}
+		}
+		return column;
+	}
+
+	/**
+	 * Writes a repeated character in the frame being composed.
+	 * @param row    Row of the first character
+	 * @param column Column of the first character
+	 * @param c      Character to be written
+	 * @param count  Number of characters
+	 * @param style  {@link #PLAIN}, {@link #AVAILABLE} or {@link #WILDLIFE}
+	 * @return Column following the characters
+	 */
+	public int fill(int row, int column, char c, int count, byte style) {
+		for (int i = 0; i < count; i++, column++) {
+			if (row >= 0 && row < rows && column >= 0 && column < columns) {
+				frame[row * columns + column] = c;
+				styles[row * columns + column] = style;
+			}
+		}
+		return column;
+	}
+
+	/**
+	 * Pins the frame at the top of the screen: clears the screen and restricts scrolling to the lines below the frame.
+	 * The next {@link #render()} sends the whole frame.
+	 */
+	public void open() {
+		length = 0;
+		append(ESCAPE).append("2J");
+		append(ESCAPE).append(rows + 2).append('r'); // Zone de défilement sous le cadre, une ligne d'écart
+		append(ESCAPE).append(rows + 2).append(";1H");
+		Arrays.fill(shown, '\0'); // Tout est différent du prochain cadre
+		open = true;
+		flush();
+	}
+
+	/**
+	 * Gives the whole screen back to scrolling, the cursor being left at the bottom.
+	 */
+	public void close() {
+		if (!open) {
+			return;
+		}
+		length = 0;
+		append(ESCAPE).append('r');
+		append(ESCAPE).append("999;1H\n");
+		open = false;
+		flush();
+	}
+
+	/**
+	 * Sends the changes of the frame since the previous render, then flushes once.
+	 * Nothing is sent if the frame did not change.
+	 * @throws IllegalStateException if the frame is not open
+	 */
+	public void render() {
+		if (!open) {
+			throw new IllegalStateException("Renderer is not open");
+		}
+		length = 0;
+		append("\u001B7"); // Sauvegarde du curseur de la zone de défilement
+		int headerLength = length;
+		byte current = -1;
+		for (int row = 0; row < rows; row++) {
+			int start = row * columns;
+			int column = 0;
+			while (column < columns) {
+				if (!changed(start + column)) {
+					column++;
+					continue;
+				}
+				int end = column + 1; // Fin exclue du bloc modifié, en fusionnant les petits écarts
+				for (int next = end; next < columns && next - end <= MERGE_GAP; next++) {
+					if (changed(start + next)) {
+						end = next + 1;
+					}
+				}
+				append(ESCAPE).append(row + 1).append(';').append(column + 1).append('H');
+				for (int i = start + column; i < start + end; i++) {
+					if (styles[i] != current) {
+						current = styles[i];
+						append(STYLES[current]);
+					}
+					append(frame[i]);
+					shown[i] = frame[i];
+					shownStyles[i] = styles[i];
+				}
+				column = end;
+			}
+		}
+		if (length == headerLength) {
+			return;
+		}
+		if (current != PLAIN) {
+			append(STYLES[PLAIN]);
+		}
+		append("\u001B8");
+		flush();
+	}
+
+	/**
+	 * Prints the whole frame at the cursor position, then flushes once.
+	 * Trailing blanks of each row are not printed.
+	 */
+	public void renderInline() {
+		length = 0;
+		for (int row = 0; row < rows; row++) {
+			int start = row * columns;
+			int end = start + columns;
+			while (end > start && frame[end - 1] == ' ' && styles[end - 1] == PLAIN) {
+				end--;
+			}
+			byte current = PLAIN;
+			for (int i = start; i < end; i++) {
+				if (styles[i] != current) {
+					current = styles[i];
+					append(STYLES[current]);
+				}
+				append(frame[i]);
+			}
+			if (current != PLAIN) {
+				append(STYLES[PLAIN]);
+			}
+			append(System.lineSeparator());
+		}
+		flush();
+	}
+
+	private boolean changed(int index) {
+		return frame[index] != shown[index] || styles[index] != shownStyles[index];
+	}
+
+	private TerminalRenderer append(char c) {
+		if (length == output.length) {
+			output = Arrays.copyOf(output, output.length * 2);
+		}
+		output[length++] = c;
+		return this;
+	}
+
+	private TerminalRenderer append(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			append(text.charAt(i));
+		}
+		return this;
+	}
+
+	private TerminalRenderer append(int value) {
+		if (value >= 10) {
+			append(value / 10);
+		}
+		return append((char) ('0' + value % 10));
+	}
+
+	private void flush() {
+		try {
+			out.write(output, 0, length);
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}